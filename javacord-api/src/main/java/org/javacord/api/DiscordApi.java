@@ -26,12 +26,20 @@ import org.javacord.api.entity.user.User;
 import org.javacord.api.entity.user.UserStatus;
 import org.javacord.api.entity.webhook.Webhook;
 import org.javacord.api.listener.GloballyAttachableListenerManager;
+import org.javacord.api.util.NonThrowingAutoCloseable;
 import org.javacord.api.util.concurrent.ThreadPool;
+import org.javacord.api.util.event.EventDispatchStatistics;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.rest.CachedRestResource;
+import org.javacord.api.util.rest.RatelimitBucketInformation;
+import org.javacord.api.util.rest.RestRequestPriority;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -70,6 +78,42 @@ public interface DiscordApi extends GloballyAttachableListenerManager {
      */
     ThreadPool getThreadPool();
 
+    /**
+     * Gets the meter registry Javacord reports its metrics to.
+     * This is the registry that was set with {@link DiscordApiBuilder#setMeterRegistry(MeterRegistry)}, or an
+     * in-memory registry if none was set. All meters of this instance have a {@code shard} tag with the current
+     * shard, as the registry is shared by all shards that were logged in with the same builder.
+     *
+     * @return The meter registry Javacord reports its metrics to.
+     */
+    MeterRegistry getMeterRegistry();
+
+    /**
+     * Gets the round-trip time of the latest heartbeat that was acknowledged by the gateway.
+     *
+     * @return The latest gateway latency.
+     */
+    Optional<Duration> getLatestGatewayLatency();
+
+    /**
+     * Gets a snapshot of all ratelimit buckets which currently have queued rest requests.
+     * Besides this snapshot, the rest requests are also reported to the {@link #getMeterRegistry() meter registry},
+     * and you can listen to delayed requests and hit ratelimits with a
+     * {@link org.javacord.api.listener.rest.RatelimitDelayListener} or
+     * {@link org.javacord.api.listener.rest.RatelimitHitListener}.
+     *
+     * @return A snapshot of all ratelimit buckets with queued requests.
+     */
+    Collection<RatelimitBucketInformation> getRatelimitBuckets();
+
+    /**
+     * Gets statistics about the dispatching of events to listeners, e.g. the amount of queued listener calls per
+     * server or the slowest listeners.
+     *
+     * @return Statistics about the dispatching of events.
+     */
+    EventDispatchStatistics getEventDispatchStatistics();
+
     /**
      * Gets a utility class to interact with uncached messages.
      *
@@ -309,6 +353,118 @@ public interface DiscordApi extends GloballyAttachableListenerManager {
      */
     int getReconnectDelay(int attempt);
 
+    /**
+     * Sets whether the cache should be reconciled instead of purged if a session could not be resumed.
+     * If enabled, existing servers, channels and roles are kept and updated with the data Discord sends after
+     * reconnecting, and only actual changes are dispatched as events. Listeners attached to these objects and
+     * references you hold to them remain valid.
+     * If disabled, the whole cache is purged and rebuilt, which was the only behavior in earlier versions.
+     * By default it is disabled.
+     *
+     * @param cacheReconciliationEnabled Whether the cache should be reconciled on reconnect.
+     */
+    void setCacheReconciliationOnReconnectEnabled(boolean cacheReconciliationEnabled);
+
+    /**
+     * Checks whether the cache is reconciled instead of purged if a session could not be resumed.
+     *
+     * @return Whether the cache is reconciled on reconnect.
+     * @see #setCacheReconciliationOnReconnectEnabled(boolean)
+     */
+    boolean isCacheReconciliationOnReconnectEnabled();
+
+    /**
+     * Sets how long the responses of the given rest resource are cached.
+     * Requests for the same resource within this time are answered from the cache without contacting Discord.
+     * Cached responses are invalidated early if Discord tells us about a change of the resource, or if the resource
+     * is modified with this api instance.
+     * Identical requests that are sent at the same time are always combined into a single request, even if the
+     * duration is zero.
+     * By default, the duration is zero for all resources, so nothing is cached.
+     *
+     * @param resource The rest resource.
+     * @param duration How long the responses of the resource are cached. Must not be negative.
+     */
+    void setRestResponseCacheDuration(CachedRestResource resource, Duration duration);
+
+    /**
+     * Gets how long the responses of the given rest resource are cached.
+     *
+     * @param resource The rest resource.
+     * @return How long the responses of the resource are cached.
+     * @see #setRestResponseCacheDuration(CachedRestResource, Duration)
+     */
+    Duration getRestResponseCacheDuration(CachedRestResource resource);
+
+    /**
+     * Sets how many files are downloaded from the same host at the same time.
+     * This affects downloads of attachments and icons. Further downloads wait until a running download finished.
+     * The default is 8.
+     *
+     * @param maxDownloadsPerHost The maximum amount of concurrent downloads per host. Must be positive.
+     */
+    void setMaxConcurrentDownloadsPerHost(int maxDownloadsPerHost);
+
+    /**
+     * Gets how many files are downloaded from the same host at the same time.
+     *
+     * @return The maximum amount of concurrent downloads per host.
+     * @see #setMaxConcurrentDownloadsPerHost(int)
+     */
+    int getMaxConcurrentDownloadsPerHost();
+
+    /**
+     * Sets the directory in which downloaded icons, like avatars and custom emojis, are cached.
+     * The files are stored by the hash of their content, so identical icons are only stored once. Javacord never
+     * deletes files from the directory. By default, no directory is set and downloads are not cached.
+     *
+     * @param directory The directory of the cache or {@code null} to disable the cache.
+     */
+    void setDownloadCacheDirectory(Path directory);
+
+    /**
+     * Gets the directory in which downloaded icons are cached.
+     *
+     * @return The directory of the cache.
+     * @see #setDownloadCacheDirectory(Path)
+     */
+    Optional<Path> getDownloadCacheDirectory();
+
+    /**
+     * Sets how many REST requests per second are sent at most.
+     * Requests are paced to stay below this budget, instead of running into Discord's global ratelimit. The budget is
+     * shared by all shards that use the same token. The default is 50 requests per second.
+     *
+     * @param requestsPerSecond The amount of requests per second. Must be positive.
+     */
+    void setGlobalRatelimitRequestsPerSecond(int requestsPerSecond);
+
+    /**
+     * Gets how many REST requests per second are sent at most.
+     *
+     * @return The amount of requests per second.
+     * @see #setGlobalRatelimitRequestsPerSecond(int)
+     */
+    int getGlobalRatelimitRequestsPerSecond();
+
+    /**
+     * Sets the priority of all REST requests that are created by the current thread until the returned auto-closeable
+     * is closed.
+     * Requests are created when a method is called, so requests of callbacks that run on other threads keep the
+     * default priority {@link RestRequestPriority#INTERACTIVE}.
+     *
+     * <p>The recommended usage is:
+     * <pre>
+     * <code>try (NonThrowingAutoCloseable priority = api.useRestRequestPriority(RestRequestPriority.BACKGROUND)) {
+     *     messages.forEach(message -&gt; message.edit("..."));
+     * }</code>
+     * </pre>
+     *
+     * @param priority The priority.
+     * @return An auto-closeable that restores the previous priority of the current thread.
+     */
+    NonThrowingAutoCloseable useRestRequestPriority(RestRequestPriority priority);
+
     /**
      * Gets the application info of the bot.
      * The method only works for bot accounts.
@@ -633,6 +789,20 @@ public interface DiscordApi extends GloballyAttachableListenerManager {
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * Gets a collection with all users whose name starts with the given prefix.
+     * This method is case insensitive!
+     *
+     * @param prefix The prefix of the names.
+     * @return A collection with all users whose name starts with the given prefix.
+     */
+    default Collection<User> getCachedUsersByNamePrefixIgnoreCase(String prefix) {
+        return Collections.unmodifiableList(
+                getCachedUsers().stream()
+                        .filter(user -> user.getName().regionMatches(true, 0, prefix, 0, prefix.length()))
+                        .collect(Collectors.toList()));
+    }
+
     /**
      * Gets a collection with all users with the given nickname on the given server.
      * This method is case sensitive!
@@ -2,7 +2,12 @@ package org.javacord.api;
 
 import org.javacord.api.event.server.ServerBecomesAvailableEvent;
 import org.javacord.api.internal.DiscordApiBuilderDelegate;
+import org.javacord.api.util.gateway.FileIdentifyScheduler;
+import org.javacord.api.util.gateway.IdentifyScheduler;
 import org.javacord.api.util.internal.DelegateFactory;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.rest.RatelimitCoordinator;
+import org.javacord.api.util.rest.RestTransportConfiguration;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -133,6 +138,58 @@ public class DiscordApiBuilder {
         return this;
     }
 
+    /**
+     * Sets the meter registry Javacord reports its metrics to, e.g. gateway latencies or handler execution times.
+     * By default, the metrics are kept in an in-memory registry which you can get with
+     * {@link DiscordApi#getMeterRegistry()}. If you log in several shards with this builder, they share the registry
+     * and their meters are told apart by the {@code shard} tag.
+     *
+     * @param meterRegistry The meter registry to report the metrics to.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setMeterRegistry(MeterRegistry meterRegistry) {
+        delegate.setMeterRegistry(meterRegistry);
+        return this;
+    }
+
+    /**
+     * Sets the coordinator that shares ratelimit information with other processes that use the same token.
+     * By default, ratelimit information is only shared by the shards of the same JVM.
+     *
+     * @param ratelimitCoordinator The ratelimit coordinator.
+     * @return The current instance in order to chain call methods.
+     * @see org.javacord.api.util.rest.TcpRatelimitCoordinator
+     */
+    public DiscordApiBuilder setRatelimitCoordinator(RatelimitCoordinator ratelimitCoordinator) {
+        delegate.setRatelimitCoordinator(ratelimitCoordinator);
+        return this;
+    }
+
+    /**
+     * Sets the scheduler that decides when shards may identify.
+     * By default, identifies are only coordinated between the shards of the same JVM. If several processes log in
+     * shards with the same token, they have to share a scheduler, e.g. a {@link FileIdentifyScheduler}.
+     *
+     * @param identifyScheduler The identify scheduler.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setIdentifyScheduler(IdentifyScheduler identifyScheduler) {
+        delegate.setIdentifyScheduler(identifyScheduler);
+        return this;
+    }
+
+    /**
+     * Sets the configuration of the HTTP client that sends the REST requests, e.g. its protocols, timeouts and
+     * connection pool. Every shard that is logged in with this builder gets its own client.
+     *
+     * @param restTransportConfiguration The REST transport configuration.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setRestTransportConfiguration(RestTransportConfiguration restTransportConfiguration) {
+        delegate.setRestTransportConfiguration(restTransportConfiguration);
+        return this;
+    }
+
     /**
      * Retrieves the recommended shards count from the Discord API and sets it in this builder.
      * Sharding allows you to split your bot into several independent instances.
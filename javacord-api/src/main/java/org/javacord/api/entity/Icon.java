@@ -5,6 +5,7 @@ import org.javacord.api.entity.message.Messageable;
 import java.awt.image.BufferedImage;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -50,4 +51,13 @@ public interface Icon {
      */
     CompletableFuture<BufferedImage> asBufferedImage();
 
+    /**
+     * Downloads the icon into the given file.
+     * The icon is written to the file while it is downloaded, without keeping it in memory.
+     *
+     * @param target The file to download to. It is replaced if it already exists.
+     * @return The file.
+     */
+    CompletableFuture<Path> downloadTo(Path target);
+
 }
@@ -1,7 +1,9 @@
 package org.javacord.api.entity.channel;
 
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.message.CoalescingMessageSender;
 import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessagePurge;
 import org.javacord.api.entity.message.MessageSet;
 import org.javacord.api.entity.message.Messageable;
 import org.javacord.api.entity.permission.PermissionType;
@@ -14,6 +16,8 @@ import org.javacord.api.util.cache.MessageCache;
 import org.javacord.api.util.event.ListenerManager;
 import org.javacord.api.util.logging.ExceptionLogger;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -146,6 +150,9 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      * <p>Any occurring exceptions including ratelimit exceptions are given to the provided {@code exceptionHandler} or
      * ignored if it is {@code null}.
      *
+     * <p>Continuous typing indicators of the same channel are shared, so only a single typing request is sent per
+     * refresh, no matter how many of them are active at the same time.
+     *
      * @param exceptionHandler The handler that exceptions are given to.
      * @param delay The delay to wait until the first typing indicator is sent.
      * @param timeUnit The time unit of the delay value.
@@ -193,6 +200,17 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
         };
     }
 
+    /**
+     * Creates a sender that merges many small texts into few messages in this channel.
+     * Texts are buffered for the given window and sent together in messages of up to 2000 characters, which avoids
+     * running into the ratelimit of the channel when many lines are sent within a short time.
+     * The sender should be created once and reused for all texts of the channel.
+     *
+     * @param window How long texts are buffered before they are sent.
+     * @return A new coalescing message sender for this channel.
+     */
+    CoalescingMessageSender createCoalescingSender(Duration window);
+
     /**
      * Deletes multiple messages at once.
      * Any message given that is invalid will count towards the minimum and maximum message count
@@ -313,6 +331,41 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
         return deleteMessages(Arrays.stream(messages).mapToLong(Message::getId).toArray());
     }
 
+    /**
+     * Deletes all messages in this channel that meet the given condition.
+     * The message history is scanned from the newest to the oldest message in the background. Matching messages are
+     * bulk deleted in batches of 100 as soon as a batch is full, messages older than two weeks are deleted with
+     * individual delete requests. The messages are not kept in memory, so this also works for very large channels.
+     *
+     * @param condition The condition that a message has to meet to be deleted.
+     * @return The progress of the purge.
+     * @see #purgeMessages(Instant, Predicate)
+     */
+    default MessagePurge purgeMessages(Predicate<? super Message> condition) {
+        return purgeMessages(Instant.EPOCH, condition);
+    }
+
+    /**
+     * Deletes all messages in this channel that were created after the given instant and meet the given condition.
+     * The message history is scanned from the newest message until the given instant in the background. Matching
+     * messages are bulk deleted in batches of 100 as soon as a batch is full, messages older than two weeks are
+     * deleted with individual delete requests. The messages are not kept in memory, so this also works for very
+     * large channels.
+     *
+     * <p>For example, the messages of a user from the last two days can be deleted like this:
+     * <pre>
+     * <code>channel.purgeMessages(Instant.now().minus(2, ChronoUnit.DAYS),
+     *         message -&gt; message.getAuthor().getId() == userId)
+     *         .getCompletionFuture()
+     *         .thenAccept(purge -&gt; System.out.println("Deleted " + purge.getDeletedCount() + " messages"));</code>
+     * </pre>
+     *
+     * @param since Only messages that were created after this instant are deleted.
+     * @param condition The condition that a message has to meet to be deleted.
+     * @return The progress of the purge.
+     */
+    MessagePurge purgeMessages(Instant since, Predicate<? super Message> condition);
+
     /**
      * Gets a message by its id.
      *
@@ -382,6 +435,23 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      */
     Stream<Message> getMessagesAsStream();
 
+    /**
+     * Gets a stream of messages in this channel sorted from newest to oldest.
+     *
+     * <p>The messages are retrieved in batches synchronously from Discord,
+     * so consider not using this method from a listener directly.
+     *
+     * <p>Messages that are not cached already are only added to the message cache if {@code cacheMessages} is
+     * {@code true}. Exports of large channels should not cache the messages, as they would otherwise push the
+     * recent messages out of the cache. Uncached messages are not updated by events. As such a stream usually
+     * consumes the whole history, the next batch is requested while the current one is consumed.
+     *
+     * @param cacheMessages Whether the messages should be added to the message cache.
+     * @return The stream.
+     * @see #getMessagesAsStream()
+     */
+    Stream<Message> getMessagesAsStream(boolean cacheMessages);
+
     /**
      * Gets up to a given amount of messages in this channel before a given message in any channel.
      *
@@ -0,0 +1,46 @@
+package org.javacord.api.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends many small texts to a channel as few messages as possible.
+ *
+ * <p>Texts are buffered for a short window and then sent together as a single message, separated by new lines.
+ * While a message is being sent, further texts are collected for the next message. A message never exceeds the limit
+ * of 2000 characters, so the throughput of a channel depends on the amount of text instead of the amount of sends.
+ * The future of every text completes with the message that contains it:
+ * <pre>
+ * <code>CoalescingMessageSender log = channel.createCoalescingSender(Duration.ofMillis(250));
+ * log.send("Player joined");
+ * log.send("Player scored").thenAccept(message -&gt; ...);</code>
+ * </pre>
+ *
+ * <p>A sender should be created once per channel and reused, as the texts of different senders are not merged.
+ *
+ * @see TextChannel#createCoalescingSender(java.time.Duration)
+ */
+public interface CoalescingMessageSender {
+
+    /**
+     * Gets the channel the messages are sent to.
+     *
+     * @return The channel the messages are sent to.
+     */
+    TextChannel getChannel();
+
+    /**
+     * Queues a text to be sent with the next message.
+     *
+     * @param text The text. Must not be empty or longer than 2000 characters.
+     * @return The message that contains the text.
+     */
+    CompletableFuture<Message> send(String text);
+
+    /**
+     * Sends the pending texts immediately instead of waiting for the window to end.
+     */
+    void flush();
+
+}
@@ -4,6 +4,7 @@ import org.javacord.api.entity.DiscordEntity;
 
 import java.awt.image.BufferedImage;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -85,4 +86,14 @@ public interface MessageAttachment extends DiscordEntity {
      */
     CompletableFuture<BufferedImage> downloadAsImage();
 
+    /**
+     * Downloads the attachment into the given file.
+     * The attachment is written to the file while it is downloaded, without keeping it in memory. If a download to
+     * the same file failed before, the download is resumed.
+     *
+     * @param target The file to download to. It is replaced if it already exists.
+     * @return The file.
+     */
+    CompletableFuture<Path> downloadTo(Path target);
+
 }
@@ -0,0 +1,81 @@
+package org.javacord.api.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The progress and the results of sending a {@link MessageTemplate} to many channels.
+ *
+ * @see MessageTemplate#broadcast(java.util.Collection, int)
+ */
+public interface MessageBroadcast {
+
+    /**
+     * Gets the amount of channels of the broadcast.
+     *
+     * @return The amount of channels.
+     */
+    int getChannelCount();
+
+    /**
+     * Gets the amount of messages that were sent successfully so far.
+     *
+     * @return The amount of sent messages.
+     */
+    int getSentCount();
+
+    /**
+     * Gets the amount of messages that could not be sent so far.
+     *
+     * @return The amount of failed messages.
+     */
+    int getFailedCount();
+
+    /**
+     * Gets the amount of messages that were not sent yet.
+     *
+     * @return The amount of pending messages.
+     */
+    default int getPendingCount() {
+        return getChannelCount() - getSentCount() - getFailedCount();
+    }
+
+    /**
+     * Gets the messages that were sent successfully so far.
+     *
+     * @return The sent messages by their channel.
+     */
+    Map<TextChannel, Message> getSentMessages();
+
+    /**
+     * Gets the reasons why messages could not be sent so far.
+     *
+     * @return The exceptions of the failed messages by their channel.
+     */
+    Map<TextChannel, Throwable> getFailures();
+
+    /**
+     * Cancels the broadcast.
+     * Messages that are already being sent are not affected, the messages for the remaining channels are not sent.
+     */
+    void cancel();
+
+    /**
+     * Checks whether the broadcast was cancelled.
+     *
+     * @return Whether the broadcast was cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Gets a future that completes when the broadcast finished or, if it was cancelled, when the messages that were
+     * already being sent are done. The future never completes exceptionally, failures are reported by
+     * {@link #getFailures()}.
+     *
+     * @return The broadcast, once it completed.
+     */
+    CompletableFuture<MessageBroadcast> getCompletionFuture();
+
+}
@@ -328,4 +328,15 @@ public class MessageBuilder {
         return delegate.send(messageable);
     }
 
+    /**
+     * Creates an immutable template of the message, which can be sent to many channels.
+     * The message is serialized only once, later changes of this builder do not affect the template.
+     *
+     * @return The template.
+     * @throws IllegalStateException If the message has attachments, as they can not be shared by many messages.
+     */
+    public MessageTemplate toTemplate() {
+        return delegate.toTemplate();
+    }
+
 }
@@ -0,0 +1,64 @@
+package org.javacord.api.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The progress of deleting the messages of a channel that match a condition.
+ *
+ * @see TextChannel#purgeMessages(java.time.Instant, java.util.function.Predicate)
+ */
+public interface MessagePurge {
+
+    /**
+     * Gets the channel of the purge.
+     *
+     * @return The channel of the purge.
+     */
+    TextChannel getChannel();
+
+    /**
+     * Gets the amount of messages that were checked against the condition so far.
+     *
+     * @return The amount of scanned messages.
+     */
+    int getScannedCount();
+
+    /**
+     * Gets the amount of messages that were deleted successfully so far.
+     *
+     * @return The amount of deleted messages.
+     */
+    int getDeletedCount();
+
+    /**
+     * Gets the amount of messages that could not be deleted so far.
+     *
+     * @return The amount of failed deletions.
+     */
+    int getFailedCount();
+
+    /**
+     * Cancels the purge.
+     * Deletions that were already requested are not affected, but no further messages are scanned.
+     */
+    void cancel();
+
+    /**
+     * Checks whether the purge was cancelled.
+     *
+     * @return Whether the purge was cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Gets a future that completes when all matching messages were deleted or, if the purge was cancelled, when the
+     * deletions that were already requested are done. Failed deletions are only counted by
+     * {@link #getFailedCount()}, the future only completes exceptionally if the message history could not be read.
+     *
+     * @return The purge, once it completed.
+     */
+    CompletableFuture<MessagePurge> getCompletionFuture();
+
+}
@@ -0,0 +1,61 @@
+package org.javacord.api.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An immutable message that is serialized once and can be sent to many channels.
+ * Use {@link MessageBuilder#toTemplate()} to create a template.
+ *
+ * <p>Sending a template does not build and serialize the message again, which makes it the preferred way to send
+ * the same announcement to a large amount of channels:
+ * <pre>
+ * <code>MessageTemplate announcement = new MessageBuilder()
+ *         .append("Hello everyone!")
+ *         .toTemplate();
+ * announcement.broadcast(channels).getCompletionFuture().thenAccept(broadcast -&gt;
+ *         System.out.println("Failed to send " + broadcast.getFailedCount() + " messages"));</code>
+ * </pre>
+ */
+public interface MessageTemplate {
+
+    /**
+     * The default maximum amount of messages of a broadcast that are sent at the same time.
+     */
+    int DEFAULT_MAX_CONCURRENT_BROADCAST_REQUESTS = 10;
+
+    /**
+     * Sends the message to the given channel.
+     *
+     * @param channel The channel in which the message should be sent.
+     * @return The sent message.
+     */
+    CompletableFuture<Message> send(TextChannel channel);
+
+    /**
+     * Sends the message to all given channels.
+     * At most {@value #DEFAULT_MAX_CONCURRENT_BROADCAST_REQUESTS} messages are sent at the same time.
+     *
+     * @param channels The channels in which the message should be sent.
+     * @return The broadcast, which can be used to follow its progress.
+     * @see #broadcast(Collection, int)
+     */
+    default MessageBroadcast broadcast(Collection<? extends TextChannel> channels) {
+        return broadcast(channels, DEFAULT_MAX_CONCURRENT_BROADCAST_REQUESTS);
+    }
+
+    /**
+     * Sends the message to all given channels.
+     * The messages are sent with the {@link org.javacord.api.util.rest.RestRequestPriority#BACKGROUND background}
+     * priority, so other requests of the bot are not delayed by a large broadcast. Every channel has its own
+     * ratelimit bucket, so the messages are spread over many buckets and only limited by the global ratelimit.
+     *
+     * @param channels The channels in which the message should be sent. Every channel gets the message only once.
+     * @param maxConcurrentRequests The maximum amount of messages that are sent at the same time. Must be positive.
+     * @return The broadcast, which can be used to follow its progress.
+     */
+    MessageBroadcast broadcast(Collection<? extends TextChannel> channels, int maxConcurrentRequests);
+
+}
@@ -6,6 +6,7 @@ import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.MessageBuilder;
 import org.javacord.api.entity.message.MessageDecoration;
+import org.javacord.api.entity.message.MessageTemplate;
 import org.javacord.api.entity.message.Messageable;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.api.entity.user.User;
@@ -215,4 +216,12 @@ public interface MessageBuilderDelegate {
      */
     CompletableFuture<Message> send(Messageable messageable);
 
+    /**
+     * Creates an immutable template of the message, which can be sent to many channels.
+     *
+     * @return The template.
+     * @throws IllegalStateException If the message has attachments.
+     */
+    MessageTemplate toTemplate();
+
 }
@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The class represents a Discord server, sometimes also called guild.
@@ -482,6 +483,50 @@ public interface Server extends DiscordEntity, Nameable, UpdatableFromCache<Serv
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * Gets a collection with all members whose name starts with the given prefix.
+     * This method is case insensitive!
+     *
+     * @param prefix The prefix of the names.
+     * @return A collection with all members whose name starts with the given prefix.
+     */
+    default Collection<User> getMembersByNamePrefixIgnoreCase(String prefix) {
+        return Collections.unmodifiableList(
+                getMembers().stream()
+                        .filter(user -> user.getName().regionMatches(true, 0, prefix, 0, prefix.length()))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets a collection with all members whose nickname on this server starts with the given prefix.
+     * This method is case insensitive!
+     *
+     * @param prefix The prefix of the nicknames.
+     * @return A collection with all members whose nickname on this server starts with the given prefix.
+     */
+    default Collection<User> getMembersByNicknamePrefixIgnoreCase(String prefix) {
+        return Collections.unmodifiableList(
+                getMembers().stream()
+                        .filter(user -> user.getNickname(this)
+                                .map(nickname -> nickname.regionMatches(true, 0, prefix, 0, prefix.length()))
+                                .orElse(false))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets a collection with all members whose display name on this server starts with the given prefix.
+     * This method is case insensitive! It is meant for autocompletion, like the member list of the client.
+     *
+     * @param prefix The prefix of the display names.
+     * @return A collection with all members whose display name on this server starts with the given prefix.
+     */
+    default Collection<User> getMembersByDisplayNamePrefixIgnoreCase(String prefix) {
+        return Collections.unmodifiableList(
+                getMembers().stream()
+                        .filter(user -> user.getDisplayName(this).regionMatches(true, 0, prefix, 0, prefix.length()))
+                        .collect(Collectors.toList()));
+    }
+
     /**
      * Gets a sorted list (by position) with all roles of the server.
      *
@@ -1614,6 +1659,44 @@ public interface Server extends DiscordEntity, Nameable, UpdatableFromCache<Serv
      */
     CompletableFuture<AuditLog> getAuditLogBefore(int limit, AuditLogEntry before, AuditLogActionType type);
 
+    /**
+     * Gets a stream of the audit log entries of this server sorted from newest to oldest.
+     *
+     * <p>The entries are retrieved lazily in batches synchronously from Discord, so the stream can be stopped
+     * early without requesting the whole audit log. Consider not using this method from a listener directly.
+     *
+     * @return The stream.
+     * @see #getAuditLog(int)
+     */
+    Stream<AuditLogEntry> getAuditLogAsStream();
+
+    /**
+     * Gets a stream of the audit log entries of this server with the given action type sorted from newest to oldest.
+     * The entries are filtered by Discord.
+     *
+     * <p>The entries are retrieved lazily in batches synchronously from Discord, so the stream can be stopped
+     * early without requesting the whole audit log. Consider not using this method from a listener directly.
+     *
+     * @param type The action type of the entries.
+     * @return The stream.
+     * @see #getAuditLog(int, AuditLogActionType)
+     */
+    Stream<AuditLogEntry> getAuditLogAsStream(AuditLogActionType type);
+
+    /**
+     * Gets a stream of the audit log entries of this server sorted from newest to oldest.
+     * The entries are filtered by Discord. Discord can not filter by the target of an entry, use
+     * {@link Stream#filter(java.util.function.Predicate)} for this.
+     *
+     * <p>The entries are retrieved lazily in batches synchronously from Discord, so the stream can be stopped
+     * early without requesting the whole audit log. Consider not using this method from a listener directly.
+     *
+     * @param type The action type of the entries or {@code null} to get the entries of all action types.
+     * @param user The user who performed the actions or {@code null} to get the entries of all users.
+     * @return The stream.
+     */
+    Stream<AuditLogEntry> getAuditLogAsStream(AuditLogActionType type, User user);
+
     /**
      * Checks if a user has a given permission.
      * Remember, that some permissions affect others!
@@ -0,0 +1,105 @@
+package org.javacord.api.entity.webhook;
+
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.entity.webhook.internal.WebhookClientDelegate;
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.internal.DelegateFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class can be used to execute webhooks.
+ *
+ * <p>A client only needs the id and the token of the webhook. It does not log in and does not connect to the
+ * gateway, so it is well suited to ship logs or notifications to a channel:
+ * <pre>
+ * <code>try (WebhookClient client = new WebhookClient(webhookId, webhookToken)) {
+ *     client.queueLine("Something happened");
+ *     client.queueLine("Something else happened").join();
+ * }</code>
+ * </pre>
+ *
+ * <p>Queued lines and embeds are batched: While a message of the webhook is being sent or the webhook is
+ * ratelimited, further lines and embeds are collected and sent together in a single message of up to 2000
+ * characters and 10 embeds.
+ */
+public class WebhookClient implements NonThrowingAutoCloseable {
+
+    /**
+     * The webhook client delegate used by this instance.
+     */
+    private final WebhookClientDelegate delegate;
+
+    /**
+     * Creates a new webhook client that does not need a bot account.
+     * The client must be closed to free its resources.
+     *
+     * @param webhookId The id of the webhook.
+     * @param webhookToken The token of the webhook.
+     */
+    public WebhookClient(long webhookId, String webhookToken) {
+        delegate = DelegateFactory.createWebhookClientDelegate(webhookId, webhookToken);
+    }
+
+    /**
+     * Creates a new webhook client for a webhook of a logged in account.
+     * The client uses the api instance of the webhook.
+     *
+     * @param webhook The webhook. It must have a token.
+     * @throws IllegalArgumentException If the webhook has no token.
+     */
+    public WebhookClient(Webhook webhook) {
+        delegate = DelegateFactory.createWebhookClientDelegate(webhook);
+    }
+
+    /**
+     * Sends a message with the given content.
+     *
+     * @param content The content of the message. Must not be longer than 2000 characters.
+     * @return A future to check if the message was sent successfully.
+     */
+    public CompletableFuture<Void> execute(String content) {
+        return delegate.execute(content);
+    }
+
+    /**
+     * Sends a message with the given embeds.
+     *
+     * @param embeds The embeds of the message. At most 10 embeds are allowed.
+     * @return A future to check if the message was sent successfully.
+     */
+    public CompletableFuture<Void> execute(EmbedBuilder... embeds) {
+        return delegate.execute(embeds);
+    }
+
+    /**
+     * Queues a line to be sent with the next batch.
+     *
+     * @param line The line. Must not be longer than 2000 characters.
+     * @return A future to check if the batch of the line was sent successfully.
+     */
+    public CompletableFuture<Void> queueLine(String line) {
+        return delegate.queueLine(line);
+    }
+
+    /**
+     * Queues an embed to be sent with the next batch.
+     *
+     * @param embed The embed.
+     * @return A future to check if the batch of the embed was sent successfully.
+     */
+    public CompletableFuture<Void> queueEmbed(EmbedBuilder embed) {
+        return delegate.queueEmbed(embed);
+    }
+
+    /**
+     * Closes the client.
+     * Lines and embeds that are already queued are still sent. Clients that were created for a {@link Webhook}
+     * do not close the api instance of the webhook.
+     */
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.javacord.api.entity.webhook.internal;
+
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.entity.webhook.WebhookClient;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class is internally used by the {@link WebhookClient} to execute webhooks.
+ * You usually don't want to interact with this object.
+ */
+public interface WebhookClientDelegate {
+
+    /**
+     * Sends a message with the given content.
+     *
+     * @param content The content of the message.
+     * @return A future to check if the message was sent successfully.
+     */
+    CompletableFuture<Void> execute(String content);
+
+    /**
+     * Sends a message with the given embeds.
+     *
+     * @param embeds The embeds of the message.
+     * @return A future to check if the message was sent successfully.
+     */
+    CompletableFuture<Void> execute(EmbedBuilder... embeds);
+
+    /**
+     * Queues a line to be sent with the next batch.
+     *
+     * @param line The line.
+     * @return A future to check if the batch of the line was sent successfully.
+     */
+    CompletableFuture<Void> queueLine(String line);
+
+    /**
+     * Queues an embed to be sent with the next batch.
+     *
+     * @param embed The embed.
+     * @return A future to check if the batch of the embed was sent successfully.
+     */
+    CompletableFuture<Void> queueEmbed(EmbedBuilder embed);
+
+    /**
+     * Closes the client.
+     */
+    void close();
+
+}
@@ -0,0 +1,37 @@
+package org.javacord.api.event.rest;
+
+import org.javacord.api.event.Event;
+import org.javacord.api.util.rest.RatelimitBucketInformation;
+import org.javacord.api.util.rest.RestRequestInformation;
+
+import java.time.Duration;
+
+/**
+ * A ratelimit delay event.
+ * It is dispatched every time a rest request has to wait for its ratelimit bucket before it can be sent.
+ * Frequent delays are a sign that the bucket is saturated.
+ */
+public interface RatelimitDelayEvent extends Event {
+
+    /**
+     * Gets the request that is delayed.
+     *
+     * @return The request that is delayed.
+     */
+    RestRequestInformation getRequest();
+
+    /**
+     * Gets the bucket of the request.
+     *
+     * @return The bucket of the request.
+     */
+    RatelimitBucketInformation getBucket();
+
+    /**
+     * Gets the time the request is delayed.
+     *
+     * @return The time the request is delayed.
+     */
+    Duration getDelay();
+
+}
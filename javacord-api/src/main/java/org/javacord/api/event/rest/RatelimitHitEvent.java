@@ -0,0 +1,36 @@
+package org.javacord.api.event.rest;
+
+import org.javacord.api.event.Event;
+import org.javacord.api.util.rest.RestRequestInformation;
+
+import java.time.Duration;
+
+/**
+ * A ratelimit hit event.
+ * It is dispatched every time Discord answers a rest request with a 429 response. The request is retried
+ * automatically.
+ */
+public interface RatelimitHitEvent extends Event {
+
+    /**
+     * Gets the request that hit the ratelimit.
+     *
+     * @return The request that hit the ratelimit.
+     */
+    RestRequestInformation getRequest();
+
+    /**
+     * Checks whether the global ratelimit was hit, which affects all requests of the account.
+     *
+     * @return Whether the global ratelimit was hit.
+     */
+    boolean isGlobal();
+
+    /**
+     * Gets the time Discord asked us to wait before retrying.
+     *
+     * @return The time to wait before retrying.
+     */
+    Duration getRetryAfter();
+
+}
@@ -3,6 +3,10 @@ package org.javacord.api.internal;
 import org.javacord.api.AccountType;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.DiscordApiBuilder;
+import org.javacord.api.util.gateway.IdentifyScheduler;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.rest.RatelimitCoordinator;
+import org.javacord.api.util.rest.RestTransportConfiguration;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -50,6 +54,37 @@ public interface DiscordApiBuilderDelegate {
      */
     void setWaitForServersOnStartup(boolean waitForServersOnStartup);
 
+    /**
+     * Sets the meter registry.
+     *
+     * @param meterRegistry The meter registry to set.
+     * @see DiscordApiBuilder#setMeterRegistry(MeterRegistry)
+     */
+    void setMeterRegistry(MeterRegistry meterRegistry);
+
+    /**
+     * Sets the ratelimit coordinator.
+     *
+     * @param ratelimitCoordinator The ratelimit coordinator to set.
+     * @see DiscordApiBuilder#setRatelimitCoordinator(RatelimitCoordinator)
+     */
+    void setRatelimitCoordinator(RatelimitCoordinator ratelimitCoordinator);
+
+    /**
+     * Sets the identify scheduler.
+     *
+     * @param identifyScheduler The identify scheduler to set.
+     * @see DiscordApiBuilder#setIdentifyScheduler(IdentifyScheduler)
+     */
+    void setIdentifyScheduler(IdentifyScheduler identifyScheduler);
+
+    /**
+     * Sets the configuration of the HTTP client that sends the REST requests.
+     *
+     * @param restTransportConfiguration The REST transport configuration.
+     */
+    void setRestTransportConfiguration(RestTransportConfiguration restTransportConfiguration);
+
     /**
      * Logs the bot in.
      *
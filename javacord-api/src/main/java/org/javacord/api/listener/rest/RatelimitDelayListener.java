@@ -0,0 +1,19 @@
+package org.javacord.api.listener.rest;
+
+import org.javacord.api.event.rest.RatelimitDelayEvent;
+import org.javacord.api.listener.GloballyAttachableListener;
+
+/**
+ * This listener listens to rest requests that are delayed to not hit a ratelimit.
+ */
+@FunctionalInterface
+public interface RatelimitDelayListener extends GloballyAttachableListener {
+
+    /**
+     * This method is called every time a rest request is delayed to not hit a ratelimit.
+     *
+     * @param event The event.
+     */
+    void onRatelimitDelay(RatelimitDelayEvent event);
+
+}
@@ -0,0 +1,19 @@
+package org.javacord.api.listener.rest;
+
+import org.javacord.api.event.rest.RatelimitHitEvent;
+import org.javacord.api.listener.GloballyAttachableListener;
+
+/**
+ * This listener listens to rest requests that hit a ratelimit.
+ */
+@FunctionalInterface
+public interface RatelimitHitListener extends GloballyAttachableListener {
+
+    /**
+     * This method is called every time a rest request hits a ratelimit.
+     *
+     * @param event The event.
+     */
+    void onRatelimitHit(RatelimitHitEvent event);
+
+}
@@ -0,0 +1,61 @@
+package org.javacord.api.util.event;
+
+import org.javacord.api.entity.server.Server;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics about the dispatching of events to listeners.
+ * Events of the same server are dispatched sequentially, so a slow listener delays all following events of its
+ * server. These statistics help to find such listeners. More metrics, like the time between queuing and starting a
+ * listener, are reported to the {@link org.javacord.api.DiscordApi#getMeterRegistry() meter registry}.
+ */
+public interface EventDispatchStatistics {
+
+    /**
+     * Gets the amount of listener calls that are queued in all queues.
+     *
+     * @return The amount of queued listener calls.
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the amount of listener calls that are queued for the given server.
+     *
+     * @param server The server.
+     * @return The amount of queued listener calls for the server.
+     */
+    int getQueueSize(Server server);
+
+    /**
+     * Gets the amount of listener calls that are queued for server-independent events, e.g. private messages or
+     * connection events.
+     *
+     * @return The amount of queued listener calls for server-independent events.
+     */
+    int getGlobalQueueSize();
+
+    /**
+     * Gets the amount of queued listener calls for all servers which currently have queued listener calls.
+     *
+     * @return The amount of queued listener calls per server.
+     */
+    Map<Server, Integer> getServerQueueSizes();
+
+    /**
+     * Gets the execution statistics of all listener classes which were called so far.
+     *
+     * @return The execution statistics of all listener classes.
+     */
+    List<ListenerExecutionStatistics> getListenerExecutionStatistics();
+
+    /**
+     * Gets the execution statistics of the listener classes with the longest maximum execution time.
+     *
+     * @param limit The maximum amount of listener classes to return.
+     * @return The execution statistics of the slowest listener classes, starting with the slowest one.
+     */
+    List<ListenerExecutionStatistics> getSlowestListeners(int limit);
+
+}
@@ -0,0 +1,59 @@
+package org.javacord.api.util.event;
+
+import org.javacord.api.entity.server.Server;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Execution statistics of a listener class.
+ */
+public interface ListenerExecutionStatistics {
+
+    /**
+     * Gets the class of the listener.
+     *
+     * @return The class of the listener.
+     */
+    Class<?> getListenerClass();
+
+    /**
+     * Gets how often listeners of the class were called.
+     *
+     * @return How often listeners of the class were called.
+     */
+    long getExecutionCount();
+
+    /**
+     * Gets the total execution time of all calls.
+     *
+     * @return The total execution time of all calls.
+     */
+    Duration getTotalExecutionTime();
+
+    /**
+     * Gets the average execution time of a call.
+     *
+     * @return The average execution time of a call.
+     */
+    default Duration getAverageExecutionTime() {
+        long executionCount = getExecutionCount();
+        return executionCount == 0 ? Duration.ZERO : getTotalExecutionTime().dividedBy(executionCount);
+    }
+
+    /**
+     * Gets the longest execution time of a call.
+     *
+     * @return The longest execution time of a call.
+     */
+    Duration getMaxExecutionTime();
+
+    /**
+     * Gets the server whose event was handled by the call with the longest execution time.
+     * It's not present if the event was not server-dependent.
+     *
+     * @return The server of the slowest call.
+     */
+    Optional<Server> getMaxExecutionTimeServer();
+
+}
@@ -0,0 +1,54 @@
+package org.javacord.api.util.gateway;
+
+import org.javacord.api.util.gateway.internal.FileIdentifySchedulerDelegate;
+import org.javacord.api.util.internal.DelegateFactory;
+
+import java.nio.file.Path;
+
+/**
+ * An identify scheduler that coordinates the shards of several processes on the same machine with file locks.
+ *
+ * <p>Every rate limit bucket has a file in the given directory. A shard holds the lock of its bucket's file from
+ * {@link #awaitIdentify(String, int, int)} until it identified, and the file stores the time of the last identify.
+ * If a process dies while holding a lock, the operating system releases it. All processes have to use the same
+ * directory, and schedulers of the same process may share it:
+ * <pre>
+ * <code>DiscordApi api = new DiscordApiBuilder()
+ *         .setToken("...")
+ *         .setIdentifyScheduler(new FileIdentifyScheduler(Paths.get("/tmp/my-bot-identify")))
+ *         .login().join();</code>
+ * </pre>
+ */
+public class FileIdentifyScheduler implements IdentifyScheduler {
+
+    /**
+     * The file identify scheduler delegate used by this instance.
+     */
+    private final FileIdentifySchedulerDelegate delegate;
+
+    /**
+     * Creates a new file identify scheduler.
+     *
+     * @param directory The directory of the lock files. It is created if it does not exist.
+     * @throws java.io.UncheckedIOException If the directory could not be created.
+     */
+    public FileIdentifyScheduler(Path directory) {
+        delegate = DelegateFactory.createFileIdentifySchedulerDelegate(directory);
+    }
+
+    @Override
+    public void awaitIdentify(String account, int shard, int maxConcurrency) {
+        delegate.awaitIdentify(account, shard, maxConcurrency);
+    }
+
+    @Override
+    public void identified(String account, int shard, int maxConcurrency) {
+        delegate.identified(account, shard, maxConcurrency);
+    }
+
+    @Override
+    public void cancelled(String account, int shard, int maxConcurrency) {
+        delegate.cancelled(account, shard, maxConcurrency);
+    }
+
+}
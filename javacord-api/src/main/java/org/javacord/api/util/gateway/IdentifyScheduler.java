@@ -0,0 +1,51 @@
+package org.javacord.api.util.gateway;
+
+/**
+ * A scheduler that decides when a shard may identify with the gateway.
+ *
+ * <p>Discord allows one identify per 5 seconds and rate limit bucket. Bots with a {@code max_concurrency} greater
+ * than one have that many buckets, and a shard uses the bucket {@code shard % maxConcurrency}. All shards of an
+ * account have to use the same scheduler, or they step on each other's identify window and get their session
+ * invalidated.
+ *
+ * <p>By default, all shards of the same JVM share a scheduler that keeps the identify windows in memory. A
+ * {@link FileIdentifyScheduler} coordinates several processes on the same machine.
+ *
+ * <p>Accounts are identified by a hash of their token, never by the token itself.
+ *
+ * @see org.javacord.api.DiscordApiBuilder#setIdentifyScheduler(IdentifyScheduler)
+ */
+public interface IdentifyScheduler {
+
+    /**
+     * Waits until the given shard may identify and reserves its bucket.
+     * Every call must be followed by exactly one call of {@link #identified(String, int, int)} or
+     * {@link #cancelled(String, int, int)}.
+     *
+     * @param account The account of the shard.
+     * @param shard The shard.
+     * @param maxConcurrency The amount of rate limit buckets of the account.
+     */
+    void awaitIdentify(String account, int shard, int maxConcurrency);
+
+    /**
+     * Tells the scheduler that the shard sent its identify.
+     * This frees the bucket and starts its identify window.
+     *
+     * @param account The account of the shard.
+     * @param shard The shard.
+     * @param maxConcurrency The amount of rate limit buckets of the account.
+     */
+    void identified(String account, int shard, int maxConcurrency);
+
+    /**
+     * Tells the scheduler that the shard did not identify, e.g. because it resumed its session.
+     * This frees the bucket without starting a new identify window.
+     *
+     * @param account The account of the shard.
+     * @param shard The shard.
+     * @param maxConcurrency The amount of rate limit buckets of the account.
+     */
+    void cancelled(String account, int shard, int maxConcurrency);
+
+}
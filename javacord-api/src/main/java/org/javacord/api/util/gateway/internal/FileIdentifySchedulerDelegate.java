@@ -0,0 +1,11 @@
+package org.javacord.api.util.gateway.internal;
+
+import org.javacord.api.util.gateway.FileIdentifyScheduler;
+import org.javacord.api.util.gateway.IdentifyScheduler;
+
+/**
+ * This class is internally used by the {@link FileIdentifyScheduler} to lock the files.
+ * You usually don't want to interact with this object.
+ */
+public interface FileIdentifySchedulerDelegate extends IdentifyScheduler {
+}
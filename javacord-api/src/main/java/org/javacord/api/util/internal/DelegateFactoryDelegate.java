@@ -28,11 +28,18 @@ import org.javacord.api.entity.server.internal.ServerUpdaterDelegate;
 import org.javacord.api.entity.server.invite.internal.InviteBuilderDelegate;
 import org.javacord.api.entity.webhook.Webhook;
 import org.javacord.api.entity.webhook.internal.WebhookBuilderDelegate;
+import org.javacord.api.entity.webhook.internal.WebhookClientDelegate;
 import org.javacord.api.entity.webhook.internal.WebhookUpdaterDelegate;
 import org.javacord.api.internal.AccountUpdaterDelegate;
 import org.javacord.api.internal.DiscordApiBuilderDelegate;
 import org.javacord.api.util.exception.DiscordExceptionValidator;
+import org.javacord.api.util.gateway.internal.FileIdentifySchedulerDelegate;
 import org.javacord.api.util.logging.internal.ExceptionLoggerDelegate;
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorDelegate;
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorServerDelegate;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * This class is internally used by the {@link DelegateFactory} to create delegate instances.
@@ -212,6 +219,49 @@ public interface DelegateFactoryDelegate {
      */
     WebhookUpdaterDelegate createWebhookUpdaterDelegate(Webhook webhook);
 
+    /**
+     * Creates a new webhook client delegate that does not need a bot account.
+     *
+     * @param webhookId The id of the webhook.
+     * @param webhookToken The token of the webhook.
+     * @return A new webhook client delegate.
+     */
+    WebhookClientDelegate createWebhookClientDelegate(long webhookId, String webhookToken);
+
+    /**
+     * Creates a new webhook client delegate.
+     *
+     * @param webhook The webhook to execute.
+     * @return A new webhook client delegate.
+     */
+    WebhookClientDelegate createWebhookClientDelegate(Webhook webhook);
+
+    /**
+     * Creates a new tcp ratelimit coordinator delegate.
+     *
+     * @param host The host of the server.
+     * @param port The port of the server.
+     * @return A new tcp ratelimit coordinator delegate.
+     */
+    TcpRatelimitCoordinatorDelegate createTcpRatelimitCoordinatorDelegate(String host, int port);
+
+    /**
+     * Creates and starts a new tcp ratelimit coordinator server delegate.
+     *
+     * @param port The port to listen on, or {@code 0} to pick a free port.
+     * @return A new tcp ratelimit coordinator server delegate.
+     * @throws IOException If the server socket could not be opened.
+     */
+    TcpRatelimitCoordinatorServerDelegate createTcpRatelimitCoordinatorServerDelegate(int port) throws IOException;
+
+    /**
+     * Creates a new file identify scheduler delegate.
+     *
+     * @param directory The directory of the lock files.
+     * @return A new file identify scheduler delegate.
+     */
+    FileIdentifySchedulerDelegate createFileIdentifySchedulerDelegate(Path directory);
+
     /**
      * Creates a new exception logger delegate.
      *
@@ -0,0 +1,29 @@
+package org.javacord.api.util.metrics;
+
+/**
+ * A meter that counts occurrences or amounts, e.g. received packets or bytes.
+ */
+public interface Counter extends Meter {
+
+    /**
+     * Increments the counter by the given amount.
+     *
+     * @param amount The amount to add.
+     */
+    void increment(long amount);
+
+    /**
+     * Increments the counter by one.
+     */
+    default void increment() {
+        increment(1);
+    }
+
+    /**
+     * Gets the current count.
+     *
+     * @return The current count.
+     */
+    long getCount();
+
+}
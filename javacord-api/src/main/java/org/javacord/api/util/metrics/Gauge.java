@@ -0,0 +1,15 @@
+package org.javacord.api.util.metrics;
+
+/**
+ * A meter that samples a value on demand, e.g. the size of a queue.
+ */
+public interface Gauge extends Meter {
+
+    /**
+     * Gets the current value.
+     *
+     * @return The current value.
+     */
+    double getValue();
+
+}
@@ -0,0 +1,24 @@
+package org.javacord.api.util.metrics;
+
+import java.util.Map;
+
+/**
+ * A named and tagged measurement, e.g. a counter or a timer.
+ */
+public interface Meter {
+
+    /**
+     * Gets the name of the meter.
+     *
+     * @return The name of the meter.
+     */
+    String getName();
+
+    /**
+     * Gets the tags of the meter.
+     *
+     * @return The tags of the meter.
+     */
+    Map<String, String> getTags();
+
+}
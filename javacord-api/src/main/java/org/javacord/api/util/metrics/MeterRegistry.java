@@ -0,0 +1,60 @@
+package org.javacord.api.util.metrics;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * A registry which creates and holds the meters Javacord reports its metrics to.
+ * You can set your own implementation with {@link org.javacord.api.DiscordApiBuilder#setMeterRegistry(MeterRegistry)},
+ * e.g. to bridge the metrics to a monitoring library.
+ *
+ * <p>Tags are given as alternating keys and values, e.g. {@code counter("javacord.gateway.dispatches", "type",
+ * "MESSAGE_CREATE")}. Asking for a meter with the same name and tags multiple times must return the same meter.
+ * Implementations must be thread-safe.
+ */
+public interface MeterRegistry {
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name The name of the counter.
+     * @param tags The tags of the counter as alternating keys and values.
+     * @return The counter.
+     */
+    Counter counter(String name, String... tags);
+
+    /**
+     * Gets or creates a timer.
+     *
+     * @param name The name of the timer.
+     * @param tags The tags of the timer as alternating keys and values.
+     * @return The timer.
+     */
+    Timer timer(String name, String... tags);
+
+    /**
+     * Gets or creates a gauge.
+     * If a gauge with the given name and tags already exists, it keeps its value supplier.
+     *
+     * @param name The name of the gauge.
+     * @param valueSupplier The supplier of the value of the gauge.
+     * @param tags The tags of the gauge as alternating keys and values.
+     * @return The gauge.
+     */
+    Gauge gauge(String name, Supplier<? extends Number> valueSupplier, String... tags);
+
+    /**
+     * Removes a meter from the registry.
+     *
+     * @param meter The meter to remove.
+     */
+    void remove(Meter meter);
+
+    /**
+     * Gets all meters of the registry.
+     *
+     * @return All meters of the registry.
+     */
+    Collection<Meter> getMeters();
+
+}
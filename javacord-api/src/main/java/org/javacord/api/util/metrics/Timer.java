@@ -0,0 +1,57 @@
+package org.javacord.api.util.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A meter that records the distribution of durations, e.g. latencies or execution times.
+ */
+public interface Timer extends Meter {
+
+    /**
+     * Records a duration.
+     *
+     * @param amount The amount of the duration.
+     * @param unit The unit of the amount.
+     */
+    void record(long amount, TimeUnit unit);
+
+    /**
+     * Records a duration.
+     *
+     * @param duration The duration to record.
+     */
+    default void record(Duration duration) {
+        record(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the amount of recorded durations.
+     *
+     * @return The amount of recorded durations.
+     */
+    long getCount();
+
+    /**
+     * Gets the sum of all recorded durations.
+     *
+     * @return The sum of all recorded durations.
+     */
+    Duration getTotalTime();
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return The longest recorded duration.
+     */
+    Duration getMax();
+
+    /**
+     * Gets an approximation of the given percentile of the recorded durations.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 1}, e.g. {@code 0.99}.
+     * @return The approximated percentile.
+     */
+    Duration getPercentile(double percentile);
+
+}
@@ -0,0 +1,55 @@
+package org.javacord.api.util.rest;
+
+/**
+ * The rest resources whose responses can be cached.
+ *
+ * @see org.javacord.api.DiscordApi#setRestResponseCacheDuration(CachedRestResource, java.time.Duration)
+ */
+public enum CachedRestResource {
+
+    /**
+     * A single user, requested by {@code DiscordApi#getUserById(long)}.
+     */
+    USER,
+
+    /**
+     * A single invite, requested by {@code DiscordApi#getInviteByCode(String)}.
+     */
+    INVITE,
+
+    /**
+     * A single webhook, requested by {@code DiscordApi#getWebhookById(long)}.
+     */
+    WEBHOOK,
+
+    /**
+     * The webhooks of a server, requested by {@code Server#getWebhooks()}.
+     */
+    SERVER_WEBHOOKS,
+
+    /**
+     * The webhooks of a channel, requested by {@code TextChannel#getWebhooks()}.
+     */
+    CHANNEL_WEBHOOKS,
+
+    /**
+     * The invites of a server, requested by {@code Server#getInvites()}.
+     */
+    SERVER_INVITES,
+
+    /**
+     * The invites of a channel, requested by {@code ServerChannel#getInvites()}.
+     */
+    CHANNEL_INVITES,
+
+    /**
+     * The bans of a server, requested by {@code Server#getBans()}.
+     */
+    BANS,
+
+    /**
+     * The application info, requested by {@code DiscordApi#getApplicationInfo()}.
+     */
+    APPLICATION_INFO
+
+}
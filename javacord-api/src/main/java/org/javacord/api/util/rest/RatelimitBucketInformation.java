@@ -0,0 +1,63 @@
+package org.javacord.api.util.rest;
+
+import org.javacord.api.DiscordApi;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A snapshot of a ratelimit bucket which currently has queued rest requests.
+ */
+public interface RatelimitBucketInformation {
+
+    /**
+     * Gets the discord api instance the bucket belongs to.
+     *
+     * @return The discord api instance the bucket belongs to.
+     */
+    DiscordApi getApi();
+
+    /**
+     * Gets the url of the endpoint of the bucket, e.g. {@code https://discordapp.com/api/v6/channels/%s/messages}.
+     * The url is not present for the bucket that is shared by all endpoints without a dedicated ratelimit.
+     *
+     * @return The url of the endpoint of the bucket.
+     */
+    Optional<String> getEndpointUrl();
+
+    /**
+     * Gets the major url parameter of the bucket, e.g. the id of a channel.
+     *
+     * @return The major url parameter of the bucket.
+     */
+    Optional<String> getMajorUrlParameter();
+
+    /**
+     * Gets the amount of requests that are queued in the bucket, including the one that is currently executed.
+     *
+     * @return The amount of queued requests.
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the amount of requests that can be sent before the bucket is exhausted.
+     *
+     * @return The amount of remaining requests.
+     */
+    int getRemaining();
+
+    /**
+     * Gets the time that requests of the bucket have to wait until they can be sent.
+     *
+     * @return The time until requests can be sent.
+     */
+    Duration getTimeUntilAvailable();
+
+    /**
+     * Gets the time the oldest request of the bucket is already waiting.
+     *
+     * @return The time the oldest request is already waiting.
+     */
+    Optional<Duration> getOldestRequestWaitTime();
+
+}
@@ -0,0 +1,56 @@
+package org.javacord.api.util.rest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A coordinator that shares ratelimit information between everything that sends requests with the same token.
+ *
+ * <p>Every process keeps its own ratelimit buckets. Before a request is sent, the coordinator is asked for a slot of
+ * the request's bucket, and after the response was received, the slot is released together with the ratelimit
+ * information of the response. A coordinator that is shared by several processes lets them learn the ratelimits
+ * from each other, instead of each process running into them on its own.
+ *
+ * <p>By default, all shards of the same JVM share a coordinator that keeps the ratelimit information in memory. A
+ * {@link TcpRatelimitCoordinator} connects to a {@link TcpRatelimitCoordinatorServer} to coordinate several
+ * processes on the same machine.
+ *
+ * <p>Accounts are identified by a hash of their token, never by the token itself. Neither accounts nor buckets
+ * contain whitespace. Timestamps use the local clock.
+ *
+ * @see org.javacord.api.DiscordApiBuilder#setRatelimitCoordinator(RatelimitCoordinator)
+ */
+public interface RatelimitCoordinator {
+
+    /**
+     * Tries to acquire a slot for a single request to the given bucket.
+     * If the returned duration is zero, the slot was acquired and must be released with
+     * {@link #release(String, String, int, Instant)} once the response was received. Otherwise, the caller waits
+     * for the returned duration and tries again.
+     *
+     * @param account The account that sends the request.
+     * @param bucket The bucket of the request.
+     * @return The duration to wait before trying again, or zero if the slot was acquired.
+     */
+    Duration acquire(String account, String bucket);
+
+    /**
+     * Releases a slot that was acquired with {@link #acquire(String, String)}.
+     *
+     * @param account The account that sent the request.
+     * @param bucket The bucket of the request.
+     * @param remaining The remaining requests of the bucket, as reported by the response.
+     * @param reset The time the bucket resets, as reported by the response, or {@code null} if there is no response
+     *              or it did not contain ratelimit information.
+     */
+    void release(String account, String bucket, int remaining, Instant reset);
+
+    /**
+     * Publishes that the given account hit the global ratelimit.
+     *
+     * @param account The account that hit the global ratelimit.
+     * @param reset The time the global ratelimit resets.
+     */
+    void setGlobalRatelimitReset(String account, Instant reset);
+
+}
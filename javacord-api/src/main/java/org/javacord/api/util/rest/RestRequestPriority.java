@@ -0,0 +1,23 @@
+package org.javacord.api.util.rest;
+
+/**
+ * The priority of a rest request.
+ * Requests with a higher priority are sent first when requests are waiting for the same ratelimit.
+ *
+ * @see org.javacord.api.DiscordApi#useRestRequestPriority(RestRequestPriority)
+ */
+public enum RestRequestPriority {
+
+    /**
+     * The default priority, meant for requests someone is waiting for, e.g. replies to commands.
+     */
+    INTERACTIVE,
+
+    /**
+     * A lower priority for bulk jobs, e.g. editing thousands of messages.
+     * Background requests only get a limited share of the global request budget and are delayed while interactive
+     * requests to the same bucket are waiting.
+     */
+    BACKGROUND
+
+}
@@ -0,0 +1,248 @@
+package org.javacord.api.util.rest;
+
+import java.time.Duration;
+
+/**
+ * The configuration of the HTTP client that sends the REST requests to Discord.
+ *
+ * <p>Javacord sends every request of a ratelimit bucket on its own thread, so the amount of parallel requests is
+ * limited by the amount of busy buckets. With HTTP/1.1 every parallel request needs its own connection, and
+ * connections that are not kept in the pool have to do a new TLS handshake for the next burst. With HTTP/2 all
+ * requests share a single connection. The configuration is read when a shard is logged in:
+ * <pre>
+ * <code>DiscordApi api = new DiscordApiBuilder()
+ *         .setToken("...")
+ *         .setRestTransportConfiguration(new RestTransportConfiguration()
+ *                 .setMaxIdleConnections(50)
+ *                 .setReadTimeout(Duration.ofSeconds(30)))
+ *         .login().join();</code>
+ * </pre>
+ */
+public class RestTransportConfiguration {
+
+    private boolean preferHttp2 = true;
+    private int maxConcurrentRequests = 64;
+    private int maxConcurrentRequestsPerHost = 64;
+    private int maxIdleConnections = 32;
+    private Duration keepAlive = Duration.ofMinutes(5);
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration writeTimeout = Duration.ofSeconds(10);
+    private Object httpClient = null;
+
+    /**
+     * Sets whether HTTP/2 should be used if the server and the JVM support it.
+     * If disabled, only HTTP/1.1 is used. The default is {@code true}.
+     *
+     * @param preferHttp2 Whether HTTP/2 should be used.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setPreferHttp2(boolean preferHttp2) {
+        this.preferHttp2 = preferHttp2;
+        return this;
+    }
+
+    /**
+     * Checks whether HTTP/2 should be used if the server and the JVM support it.
+     *
+     * @return Whether HTTP/2 should be used.
+     */
+    public boolean isPreferHttp2() {
+        return preferHttp2;
+    }
+
+    /**
+     * Sets the maximum amount of asynchronous requests that are executed at the same time.
+     * The default is {@code 64}.
+     *
+     * @param maxConcurrentRequests The maximum amount of asynchronous requests.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("The maximum amount of concurrent requests must be positive");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of asynchronous requests that are executed at the same time.
+     *
+     * @return The maximum amount of asynchronous requests.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets the maximum amount of asynchronous requests to the same host that are executed at the same time.
+     * All REST requests go to the same host, so the default is {@code 64} instead of the usual {@code 5}.
+     *
+     * @param maxConcurrentRequestsPerHost The maximum amount of asynchronous requests per host.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setMaxConcurrentRequestsPerHost(int maxConcurrentRequestsPerHost) {
+        if (maxConcurrentRequestsPerHost < 1) {
+            throw new IllegalArgumentException("The maximum amount of concurrent requests per host must be positive");
+        }
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of asynchronous requests to the same host that are executed at the same time.
+     *
+     * @return The maximum amount of asynchronous requests per host.
+     */
+    public int getMaxConcurrentRequestsPerHost() {
+        return maxConcurrentRequestsPerHost;
+    }
+
+    /**
+     * Sets the maximum amount of idle connections that are kept open for later requests.
+     * It should be about as high as the amount of ratelimit buckets that are usually busy at the same time.
+     * The default is {@code 32}.
+     *
+     * @param maxIdleConnections The maximum amount of idle connections.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setMaxIdleConnections(int maxIdleConnections) {
+        if (maxIdleConnections < 0) {
+            throw new IllegalArgumentException("The maximum amount of idle connections must not be negative");
+        }
+        this.maxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of idle connections that are kept open for later requests.
+     *
+     * @return The maximum amount of idle connections.
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets how long idle connections are kept open. It must be positive. The default is 5 minutes.
+     *
+     * @param keepAlive How long idle connections are kept open.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setKeepAlive(Duration keepAlive) {
+        if (checkDuration(keepAlive, "keep alive").isZero()) {
+            throw new IllegalArgumentException("The keep alive must be positive");
+        }
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    /**
+     * Gets how long idle connections are kept open.
+     *
+     * @return How long idle connections are kept open.
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the timeout for connecting to Discord. Zero means no timeout. The default is 10 seconds.
+     *
+     * @param connectTimeout The connect timeout.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = checkDuration(connectTimeout, "connect timeout");
+        return this;
+    }
+
+    /**
+     * Gets the timeout for connecting to Discord.
+     *
+     * @return The connect timeout.
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the timeout for reading from a connection. Zero means no timeout. The default is 10 seconds.
+     *
+     * @param readTimeout The read timeout.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setReadTimeout(Duration readTimeout) {
+        this.readTimeout = checkDuration(readTimeout, "read timeout");
+        return this;
+    }
+
+    /**
+     * Gets the timeout for reading from a connection.
+     *
+     * @return The read timeout.
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the timeout for writing to a connection. Zero means no timeout. The default is 10 seconds.
+     *
+     * @param writeTimeout The write timeout.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setWriteTimeout(Duration writeTimeout) {
+        this.writeTimeout = checkDuration(writeTimeout, "write timeout");
+        return this;
+    }
+
+    /**
+     * Gets the timeout for writing to a connection.
+     *
+     * @return The write timeout.
+     */
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Sets the HTTP client that the client of Javacord is derived from, e.g. to share its connection pool or to
+     * add a proxy. It has to be an {@code okhttp3.OkHttpClient} of the OkHttp version that Javacord uses.
+     * The protocol and timeout settings of this configuration are applied on top of it, while its dispatcher and
+     * connection pool are kept. Javacord does not shut it down on disconnect. By default, Javacord creates its own
+     * client.
+     *
+     * @param httpClient The OkHttp client or {@code null} to create a new one.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestTransportConfiguration setHttpClient(Object httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /**
+     * Gets the HTTP client that the client of Javacord is derived from.
+     *
+     * @return The OkHttp client or {@code null} if Javacord creates its own client.
+     */
+    public Object getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Checks that the given duration is not negative.
+     *
+     * @param duration The duration to check.
+     * @param name The name of the duration for the exception message.
+     * @return The duration.
+     */
+    private static Duration checkDuration(Duration duration, String name) {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException("The " + name + " must not be null or negative");
+        }
+        return duration;
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.javacord.api.util.rest;
+
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.internal.DelegateFactory;
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorDelegate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A ratelimit coordinator that connects to a {@link TcpRatelimitCoordinatorServer}.
+ *
+ * <p>All processes that connect to the same server share their ratelimit information. If the server can not be
+ * reached, requests are not coordinated and only the ratelimits known to the own process are respected, until the
+ * server is available again. Reconnects are attempted with a growing cooldown of up to 30 seconds, so an unreachable
+ * server does not delay the requests. After the coordinator was closed, requests are no longer coordinated.
+ */
+public class TcpRatelimitCoordinator implements RatelimitCoordinator, NonThrowingAutoCloseable {
+
+    /**
+     * The tcp ratelimit coordinator delegate used by this instance.
+     */
+    private final TcpRatelimitCoordinatorDelegate delegate;
+
+    /**
+     * Creates a new coordinator that connects to a server on the local machine.
+     *
+     * @param port The port of the server.
+     */
+    public TcpRatelimitCoordinator(int port) {
+        this("localhost", port);
+    }
+
+    /**
+     * Creates a new coordinator that connects to the given server.
+     * The connection is established lazily with the first request.
+     *
+     * @param host The host of the server.
+     * @param port The port of the server.
+     */
+    public TcpRatelimitCoordinator(String host, int port) {
+        delegate = DelegateFactory.createTcpRatelimitCoordinatorDelegate(host, port);
+    }
+
+    @Override
+    public Duration acquire(String account, String bucket) {
+        return delegate.acquire(account, bucket);
+    }
+
+    @Override
+    public void release(String account, String bucket, int remaining, Instant reset) {
+        delegate.release(account, bucket, remaining, reset);
+    }
+
+    @Override
+    public void setGlobalRatelimitReset(String account, Instant reset) {
+        delegate.setGlobalRatelimitReset(account, reset);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.javacord.api.util.rest;
+
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.internal.DelegateFactory;
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorServerDelegate;
+
+import java.io.IOException;
+
+/**
+ * A server that lets {@link TcpRatelimitCoordinator}s of several processes on the same machine share their ratelimit
+ * information.
+ *
+ * <p>The server only accepts connections from the loopback interface and keeps the ratelimit information in
+ * memory. It can run in one of the bot's processes or in a process of its own:
+ * <pre>
+ * <code>TcpRatelimitCoordinatorServer server = new TcpRatelimitCoordinatorServer(4200);
+ * DiscordApi api = new DiscordApiBuilder()
+ *         .setToken("...")
+ *         .setRatelimitCoordinator(new TcpRatelimitCoordinator(4200))
+ *         .login().join();</code>
+ * </pre>
+ *
+ * <p>The protocol is line based. Every command is answered with a single line:
+ * <ul>
+ *     <li>{@code ACQUIRE <account> <bucket>} is answered with the milliseconds to wait, {@code 0} if acquired.</li>
+ *     <li>{@code RELEASE <account> <bucket> <remaining> <reset millis or -1>} is answered with {@code OK}.</li>
+ *     <li>{@code GLOBAL <account> <reset millis>} is answered with {@code OK}.</li>
+ * </ul>
+ * Malformed commands are answered with {@code ERROR}.
+ */
+public class TcpRatelimitCoordinatorServer implements NonThrowingAutoCloseable {
+
+    /**
+     * The tcp ratelimit coordinator server delegate used by this instance.
+     */
+    private final TcpRatelimitCoordinatorServerDelegate delegate;
+
+    /**
+     * Creates and starts a new server.
+     *
+     * @param port The port to listen on, or {@code 0} to pick a free port.
+     * @throws IOException If the server socket could not be opened.
+     */
+    public TcpRatelimitCoordinatorServer(int port) throws IOException {
+        delegate = DelegateFactory.createTcpRatelimitCoordinatorServerDelegate(port);
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The port the server listens on.
+     */
+    public int getPort() {
+        return delegate.getPort();
+    }
+
+    /**
+     * Stops the server and closes all connections.
+     */
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+}
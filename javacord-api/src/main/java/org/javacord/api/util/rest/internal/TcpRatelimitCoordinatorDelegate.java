@@ -0,0 +1,12 @@
+package org.javacord.api.util.rest.internal;
+
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.rest.RatelimitCoordinator;
+import org.javacord.api.util.rest.TcpRatelimitCoordinator;
+
+/**
+ * This class is internally used by the {@link TcpRatelimitCoordinator} to talk to the server.
+ * You usually don't want to interact with this object.
+ */
+public interface TcpRatelimitCoordinatorDelegate extends RatelimitCoordinator, NonThrowingAutoCloseable {
+}
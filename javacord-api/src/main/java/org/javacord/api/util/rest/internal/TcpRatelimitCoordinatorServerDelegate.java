@@ -0,0 +1,19 @@
+package org.javacord.api.util.rest.internal;
+
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.rest.TcpRatelimitCoordinatorServer;
+
+/**
+ * This class is internally used by the {@link TcpRatelimitCoordinatorServer} to answer the commands of the clients.
+ * You usually don't want to interact with this object.
+ */
+public interface TcpRatelimitCoordinatorServerDelegate extends NonThrowingAutoCloseable {
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The port the server listens on.
+     */
+    int getPort();
+
+}
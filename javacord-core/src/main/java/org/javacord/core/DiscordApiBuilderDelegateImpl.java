@@ -6,9 +6,15 @@ import org.apache.logging.log4j.Logger;
 import org.javacord.api.AccountType;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.internal.DiscordApiBuilderDelegate;
+import org.javacord.api.util.gateway.IdentifyScheduler;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.rest.RatelimitCoordinator;
+import org.javacord.api.util.rest.RestTransportConfiguration;
 import org.javacord.core.util.gateway.DiscordWebSocketAdapter;
 import org.javacord.core.util.logging.LoggerUtil;
 import org.javacord.core.util.logging.PrivacyProtectionLogger;
+import org.javacord.core.util.metrics.MeterRegistryImpl;
+import org.javacord.core.util.ratelimit.RatelimitManager;
 import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestMethod;
 import org.javacord.core.util.rest.RestRequest;
@@ -64,6 +70,27 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
      */
     private volatile boolean waitForServersOnStartup = true;
 
+    /**
+     * The meter registry Javacord reports its metrics to.
+     * It is shared by all shards that are logged in with this builder.
+     */
+    private volatile MeterRegistry meterRegistry = new MeterRegistryImpl();
+
+    /**
+     * The coordinator that shares ratelimit information with other processes.
+     */
+    private volatile RatelimitCoordinator ratelimitCoordinator = RatelimitManager.DEFAULT_COORDINATOR;
+
+    /**
+     * The scheduler that decides when shards may identify.
+     */
+    private volatile IdentifyScheduler identifyScheduler = DiscordWebSocketAdapter.DEFAULT_IDENTIFY_SCHEDULER;
+
+    /**
+     * The configuration of the http client for REST requests.
+     */
+    private volatile RestTransportConfiguration restTransportConfiguration = new RestTransportConfiguration();
+
     @Override
     public CompletableFuture<DiscordApi> login() {
         logger.debug("Creating shard {} of {}", currentShard.get() + 1, totalShards.get());
@@ -74,8 +101,9 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
         }
         try (CloseableThreadContext.Instance closeableThreadContextInstance =
                      CloseableThreadContext.put("shard", Integer.toString(currentShard.get()))) {
-            new DiscordApiImpl(
-                    accountType, token, currentShard.get(), totalShards.get(), waitForServersOnStartup, future);
+            new DiscordApiImpl(accountType, token, currentShard.get(), totalShards.get(), waitForServersOnStartup,
+                               meterRegistry, ratelimitCoordinator, identifyScheduler, restTransportConfiguration,
+                               future);
         }
         return future;
     }
@@ -157,6 +185,28 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
         this.waitForServersOnStartup = waitForServersOnStartup;
     }
 
+    @Override
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "The meter registry must not be null!");
+    }
+
+    @Override
+    public void setRatelimitCoordinator(RatelimitCoordinator ratelimitCoordinator) {
+        this.ratelimitCoordinator =
+                Objects.requireNonNull(ratelimitCoordinator, "The ratelimit coordinator must not be null!");
+    }
+
+    @Override
+    public void setIdentifyScheduler(IdentifyScheduler identifyScheduler) {
+        this.identifyScheduler = Objects.requireNonNull(identifyScheduler, "The identify scheduler must not be null!");
+    }
+
+    @Override
+    public void setRestTransportConfiguration(RestTransportConfiguration restTransportConfiguration) {
+        this.restTransportConfiguration = Objects.requireNonNull(
+                restTransportConfiguration, "The rest transport configuration must not be null!");
+    }
+
     @Override
     public CompletableFuture<Void> setRecommendedTotalShards() {
         CompletableFuture<Void> future = new CompletableFuture<>();
@@ -177,6 +227,8 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
                 .execute(RestRequestResult::getJsonBody)
                 .thenAccept(resultJson -> {
                     DiscordWebSocketAdapter.setGateway(resultJson.get("url").asText());
+                    DiscordWebSocketAdapter.setMaxIdentifyConcurrency(
+                            resultJson.path("session_start_limit").path("max_concurrency").asInt(1));
                     setTotalShards(resultJson.get("shards").asInt());
                     retryAttempt.set(0);
                     future.complete(null);
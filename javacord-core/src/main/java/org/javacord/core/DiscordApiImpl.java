@@ -3,12 +3,9 @@ package org.javacord.core;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.OkHttpClient;
-import okhttp3.logging.HttpLoggingInterceptor;
-import okhttp3.logging.HttpLoggingInterceptor.Level;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.AccountType;
 import org.javacord.api.DiscordApi;
-import org.javacord.api.Javacord;
 import org.javacord.api.entity.ApplicationInfo;
 import org.javacord.api.entity.activity.Activity;
 import org.javacord.api.entity.activity.ActivityType;
@@ -26,10 +23,20 @@ import org.javacord.api.entity.user.UserStatus;
 import org.javacord.api.entity.webhook.Webhook;
 import org.javacord.api.listener.GloballyAttachableListener;
 import org.javacord.api.listener.ObjectAttachableListener;
+import org.javacord.api.util.NonThrowingAutoCloseable;
 import org.javacord.api.util.concurrent.ThreadPool;
+import org.javacord.api.util.event.EventDispatchStatistics;
 import org.javacord.api.util.event.ListenerManager;
+import org.javacord.api.util.gateway.IdentifyScheduler;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.rest.CachedRestResource;
+import org.javacord.api.util.rest.RatelimitBucketInformation;
+import org.javacord.api.util.rest.RatelimitCoordinator;
+import org.javacord.api.util.rest.RestRequestPriority;
+import org.javacord.api.util.rest.RestTransportConfiguration;
 import org.javacord.core.entity.activity.ActivityImpl;
 import org.javacord.core.entity.activity.ApplicationInfoImpl;
+import org.javacord.core.entity.channel.TypingIndicatorCoordinator;
 import org.javacord.core.entity.emoji.CustomEmojiImpl;
 import org.javacord.core.entity.emoji.KnownCustomEmojiImpl;
 import org.javacord.core.entity.message.MessageImpl;
@@ -42,26 +49,38 @@ import org.javacord.core.entity.webhook.WebhookImpl;
 import org.javacord.core.listener.InternalGloballyAttachableListenerManager;
 import org.javacord.core.util.ClassHelper;
 import org.javacord.core.util.Cleanupable;
+import org.javacord.core.util.cache.NameIndex;
 import org.javacord.core.util.concurrent.ThreadPoolImpl;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.event.EventDispatcher;
 import org.javacord.core.util.event.ListenerManagerImpl;
 import org.javacord.core.util.gateway.DiscordWebSocketAdapter;
+import org.javacord.core.util.gateway.ServerIngestionStage;
+import org.javacord.core.util.io.DownloadManager;
 import org.javacord.core.util.logging.LoggerUtil;
+import org.javacord.core.util.metrics.MeterRegistryImpl;
+import org.javacord.core.util.metrics.TaggedMeterRegistry;
+import org.javacord.core.util.ratelimit.RatelimitBucket;
 import org.javacord.core.util.ratelimit.RatelimitManager;
+import org.javacord.core.util.rest.HttpClientFactory;
 import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestMethod;
 import org.javacord.core.util.rest.RestRequest;
+import org.javacord.core.util.rest.RestResponseCache;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +93,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -96,6 +116,16 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     private final OkHttpClient httpClient;
 
+    /**
+     * Whether the http client was created for this instance and has to be shut down on disconnect.
+     */
+    private final boolean ownsHttpClient;
+
+    /**
+     * The download manager for files from Discord's CDN.
+     */
+    private final DownloadManager downloadManager;
+
     /**
      * The event dispatcher.
      */
@@ -109,7 +139,12 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
     /**
      * The ratelimit manager for this bot.
      */
-    private final RatelimitManager ratelimitManager = new RatelimitManager(this);
+    private final RatelimitManager ratelimitManager;
+
+    /**
+     * The cache for responses of rest requests.
+     */
+    private final RestResponseCache restResponseCache = new RestResponseCache(this);
 
     /**
      * The utility class to interact with uncached messages.
@@ -131,6 +166,16 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     private final String token;
 
+    /**
+     * A hash of the token, to identify the account to other processes without revealing the token.
+     */
+    private final String tokenHash;
+
+    /**
+     * The scheduler that decides when this shard may identify.
+     */
+    private final IdentifyScheduler identifyScheduler;
+
     /**
      * Whether the {@link #disconnect()} method has been called before or not.
      */
@@ -171,6 +216,11 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     private volatile Function<Integer, Integer> reconnectDelayProvider;
 
+    /**
+     * Whether the cache should be reconciled instead of purged if a session could not be resumed.
+     */
+    private volatile boolean cacheReconciliationOnReconnectEnabled = false;
+
     /**
      * The current shard of the bot.
      */
@@ -186,6 +236,16 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     private final boolean waitForServersOnStartup;
 
+    /**
+     * The meter registry Javacord reports its metrics to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The meter registry which adds the shard tag to all meters.
+     */
+    private final TaggedMeterRegistry shardMeterRegistry;
+
     /**
      * The user of the connected account.
      */
@@ -218,6 +278,11 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     private final Map<Reference<? extends User>, Long> userIdByRef = Collections.synchronizedMap(new WeakHashMap<>());
 
+    /**
+     * A case-insensitive index of the names of all cached users.
+     */
+    private final NameIndex userNameIndex = new NameIndex();
+
     /**
      * The queue that is notified if a user became weakly-reachable.
      */
@@ -233,6 +298,22 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     private final ConcurrentHashMap<Long, Server> nonReadyServers = new ConcurrentHashMap<>();
 
+    /**
+     * The stage that builds the servers of guild create packets in parallel.
+     */
+    private final ServerIngestionStage serverIngestionStage =
+            new ServerIngestionStage(this, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The coordinator which shares the continuous typing indicators of a channel.
+     */
+    private final TypingIndicatorCoordinator typingIndicatorCoordinator = new TypingIndicatorCoordinator(this);
+
+    /**
+     * A set with the ids of all servers that were kept on reconnect and wait for their data to be reconciled.
+     */
+    private final Set<Long> serversPendingReconciliation = ConcurrentHashMap.newKeySet();
+
     /**
      * A map which contains all group channels.
      */
@@ -241,7 +322,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
     /**
      * A set with all unavailable servers.
      */
-    private final HashSet<Long> unavailableServers = new HashSet<>();
+    private final Set<Long> unavailableServers = ConcurrentHashMap.newKeySet();
 
     /**
      * A map with all known custom emoji.
@@ -286,6 +367,25 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
             Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>>>>>
             objectListeners = Collections.synchronizedMap(new ConcurrentHashMap<>());
 
+    /**
+     * Immutable copies of the globally attachable listeners, which are replaced whenever a listener is added or
+     * removed. The key is the class of the listener.
+     */
+    private final Map<Class<? extends GloballyAttachableListener>, List<GloballyAttachableListener>>
+            listenerSnapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Immutable copies of the object listeners, which are replaced whenever a listener is added or removed.
+     * The key of the outer map is the class which the listener was registered to (e.g. Message.class).
+     * The key of the first inner map is the class of the listener.
+     * The key of the second inner map is the id of the object.
+     *
+     * <p>The listener class is looked up before the object id, so a dispatch for a listener class that isn't attached
+     * to any object of the given class does not have to box the id.
+     */
+    private final Map<Class<?>, Map<Class<? extends ObjectAttachableListener>,
+            Map<Long, List<ObjectAttachableListener>>>> objectListenerSnapshots = new ConcurrentHashMap<>();
+
     /**
      * Creates a new discord api instance that can be used for auto-ratelimited REST calls,
      * but does not connect to the Discord WebSocket.
@@ -293,7 +393,8 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      * @param token The token used to connect without any account type specific prefix.
      */
     public DiscordApiImpl(String token) {
-        this(AccountType.BOT, token, 0, 1, false, null);
+        this(AccountType.BOT, token, 0, 1, false, new MeterRegistryImpl(), RatelimitManager.DEFAULT_COORDINATOR,
+                DiscordWebSocketAdapter.DEFAULT_IDENTIFY_SCHEDULER, new RestTransportConfiguration(), null);
     }
 
     /**
@@ -305,6 +406,10 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      * @param totalShards  The total amount of shards.
      * @param waitForServersOnStartup Whether Javacord should wait for all servers
      *                                to become available on startup or not.
+     * @param meterRegistry The meter registry Javacord reports its metrics to.
+     * @param ratelimitCoordinator The coordinator that shares ratelimit information with other processes.
+     * @param identifyScheduler The scheduler that decides when this shard may identify.
+     * @param restTransportConfiguration The configuration of the http client for REST requests.
      * @param ready The future which will be completed when the connection to Discord was successful.
      */
     public DiscordApiImpl(
@@ -313,25 +418,28 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
             int currentShard,
             int totalShards,
             boolean waitForServersOnStartup,
+            MeterRegistry meterRegistry,
+            RatelimitCoordinator ratelimitCoordinator,
+            IdentifyScheduler identifyScheduler,
+            RestTransportConfiguration restTransportConfiguration,
             CompletableFuture<DiscordApi> ready
     ) {
         this.accountType = accountType;
         this.token = token;
+        this.tokenHash = hashToken(token);
+        this.identifyScheduler = identifyScheduler;
         this.currentShard = currentShard;
         this.totalShards = totalShards;
         this.waitForServersOnStartup = waitForServersOnStartup;
+        this.meterRegistry = meterRegistry;
+        this.shardMeterRegistry = new TaggedMeterRegistry(meterRegistry, "shard", String.valueOf(currentShard));
+        this.ratelimitManager = new RatelimitManager(this, ratelimitCoordinator);
         this.reconnectDelayProvider = x ->
                 (int) Math.round(Math.pow(x, 1.5) - (1 / (1 / (0.1 * x) + 1)) * Math.pow(x, 1.5)) + (currentShard * 6);
 
-        this.httpClient = new OkHttpClient.Builder()
-                .addInterceptor(chain -> chain.proceed(chain.request()
-                        .newBuilder()
-                        .addHeader("User-Agent", Javacord.USER_AGENT)
-                        .build()))
-                .addInterceptor(
-                        new HttpLoggingInterceptor(LoggerUtil.getLogger(OkHttpClient.class)::trace).setLevel(Level.BODY)
-                )
-                .build();
+        this.httpClient = HttpClientFactory.create(restTransportConfiguration);
+        this.ownsHttpClient = HttpClientFactory.isOwnClient(restTransportConfiguration);
+        this.downloadManager = new DownloadManager(this);
         this.eventDispatcher = new EventDispatcher(this);
 
         if (ready != null) {
@@ -374,8 +482,8 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
                             userRef != null;
                             userRef = usersCleanupQueue.poll()) {
                         Long userId = userIdByRef.remove(userRef);
-                        if (userId != null) {
-                            users.remove(userId, userRef);
+                        if (userId != null && users.remove(userId, userRef)) {
+                            userNameIndex.remove(userId);
                         }
                     }
                 } catch (Throwable t) {
@@ -441,6 +549,24 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
         return ratelimitManager;
     }
 
+    /**
+     * Gets the download manager for files from Discord's CDN.
+     *
+     * @return The download manager.
+     */
+    public DownloadManager getDownloadManager() {
+        return downloadManager;
+    }
+
+    /**
+     * Gets the cache for responses of rest requests.
+     *
+     * @return The cache for responses of rest requests.
+     */
+    public RestResponseCache getRestResponseCache() {
+        return restResponseCache;
+    }
+
     /**
      * Gets the object mapper used by this api instance.
      *
@@ -462,6 +588,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
                     .map(Cleanupable.class::cast)
                     .forEach(Cleanupable::cleanup);
             users.clear();
+            userNameIndex.clear();
         }
         userIdByRef.clear();
         servers.values().stream()
@@ -473,12 +600,48 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
                 .forEach(Cleanupable::cleanup);
         groupChannels.clear();
         unavailableServers.clear();
+        serversPendingReconciliation.clear();
         customEmojis.clear();
         messages.clear();
         messageIdByRef.clear();
         timeOffset = null;
     }
 
+    /**
+     * Prepares the cache to be reconciled with the data of a new session instead of being purged.
+     * All cached servers are kept, but are considered unavailable until their data was reconciled.
+     * This method is only meant to be called after receiving a READY packet.
+     */
+    public void prepareCacheReconciliation() {
+        unavailableServers.clear();
+        serversPendingReconciliation.clear();
+        getAllServers().forEach(server -> {
+            serversPendingReconciliation.add(server.getId());
+            unavailableServers.add(server.getId());
+        });
+        timeOffset = null;
+    }
+
+    /**
+     * Checks whether the server with the given id was kept on reconnect and still waits for its data to be reconciled.
+     *
+     * @param serverId The id of the server.
+     * @return Whether the server waits for its data to be reconciled.
+     */
+    public boolean isServerPendingReconciliation(long serverId) {
+        return serversPendingReconciliation.contains(serverId);
+    }
+
+    /**
+     * Marks the reconciliation of the server with the given id as done and makes the server available again.
+     *
+     * @param serverId The id of the server.
+     */
+    public void completeServerReconciliation(long serverId) {
+        serversPendingReconciliation.remove(serverId);
+        removeUnavailableServerFromCache(serverId);
+    }
+
     /**
      * Gets a collection with all servers, including ready and not ready ones.
      *
@@ -526,6 +689,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      * @param serverId The id of the server to remove.
      */
     public void removeServerFromCache(long serverId) {
+        serversPendingReconciliation.remove(serverId);
         servers.computeIfPresent(serverId, (key, server) -> {
             ((Cleanupable) server).cleanup();
             return null;
@@ -551,10 +715,24 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
 
             WeakReference<User> result = new WeakReference<>(user, usersCleanupQueue);
             userIdByRef.put(result, key);
+            userNameIndex.put(key, user.getName());
             return result;
         });
     }
 
+    /**
+     * Updates the name indexes after the name of the user changed.
+     *
+     * @param user The user whose name changed.
+     */
+    public void updateUserName(User user) {
+        if (getCachedUserById(user.getId()).orElse(null) == user) {
+            userNameIndex.put(user.getId(), user.getName());
+        }
+        servers.values().forEach(server -> ((ServerImpl) server).updateMemberName(user));
+        nonReadyServers.values().forEach(server -> ((ServerImpl) server).updateMemberName(user));
+    }
+
     /**
      * Adds a group channel to the cache.
      *
@@ -697,9 +875,22 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      * @return The message for the given json object.
      */
     public Message getOrCreateMessage(TextChannel channel, JsonNode data) {
+        return getOrCreateMessage(channel, data, true);
+    }
+
+    /**
+     * Gets or creates a new message object.
+     *
+     * @param channel The channel of the message.
+     * @param data The data of the message.
+     * @param cacheMessage Whether a newly created message object should be added to the message cache.
+     *                     Bulk scans of the message history should not flood the cache with messages.
+     * @return The message for the given json data.
+     */
+    public Message getOrCreateMessage(TextChannel channel, JsonNode data, boolean cacheMessage) {
         long id = Long.parseLong(data.get("id").asText());
         synchronized (messages) {
-            return getCachedMessageById(id).orElseGet(() -> new MessageImpl(this, channel, data));
+            return getCachedMessageById(id).orElseGet(() -> new MessageImpl(this, channel, data, cacheMessage));
         }
     }
 
@@ -747,13 +938,54 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
     @SuppressWarnings("unchecked")
     public <T extends ObjectAttachableListener> ListenerManager<T> addObjectListener(
             Class<?> objectClass, long objectId, Class<T> listenerClass, T listener) {
-        Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>> listeners =
-                objectListeners
-                        .computeIfAbsent(objectClass, key -> new ConcurrentHashMap<>())
-                        .computeIfAbsent(objectId, key -> new ConcurrentHashMap<>())
-                        .computeIfAbsent(listenerClass, c -> Collections.synchronizedMap(new LinkedHashMap<>()));
-        return (ListenerManager<T>) listeners.computeIfAbsent(
-                listener, key -> new ListenerManagerImpl<>(this, listener, listenerClass, objectClass, objectId));
+        synchronized (objectListeners) {
+            Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>> listeners =
+                    objectListeners
+                            .computeIfAbsent(objectClass, key -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(objectId, key -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(listenerClass, c -> Collections.synchronizedMap(new LinkedHashMap<>()));
+            ListenerManager<T> listenerManager = (ListenerManager<T>) listeners.computeIfAbsent(
+                    listener, key -> new ListenerManagerImpl<>(this, listener, listenerClass, objectClass, objectId));
+            updateObjectListenerSnapshot(objectClass, objectId, listenerClass, listeners);
+            return listenerManager;
+        }
+    }
+
+    /**
+     * Replaces the immutable copy of the object listeners of the given class attached to the given object.
+     * Must only be called while holding the lock of {@link #objectListeners}.
+     *
+     * @param objectClass The class of the object.
+     * @param objectId The id of the object.
+     * @param listenerClass The listener class.
+     * @param listeners The listeners of the given class attached to the given object.
+     */
+    private void updateObjectListenerSnapshot(
+            Class<?> objectClass, long objectId, Class<? extends ObjectAttachableListener> listenerClass,
+            Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>> listeners) {
+        if (listeners.isEmpty()) {
+            Map<Class<? extends ObjectAttachableListener>, Map<Long, List<ObjectAttachableListener>>> snapshots =
+                    objectListenerSnapshots.get(objectClass);
+            if (snapshots == null) {
+                return;
+            }
+            Map<Long, List<ObjectAttachableListener>> classSnapshots = snapshots.get(listenerClass);
+            if (classSnapshots == null) {
+                return;
+            }
+            classSnapshots.remove(objectId);
+            if (classSnapshots.isEmpty()) {
+                snapshots.remove(listenerClass);
+                if (snapshots.isEmpty()) {
+                    objectListenerSnapshots.remove(objectClass);
+                }
+            }
+        } else {
+            objectListenerSnapshots
+                    .computeIfAbsent(objectClass, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(listenerClass, key -> new ConcurrentHashMap<>())
+                    .put(objectId, Collections.unmodifiableList(new ArrayList<>(listeners.keySet())));
+        }
     }
 
     /**
@@ -792,6 +1024,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
                 return;
             }
             classListeners.remove(listener);
+            updateObjectListenerSnapshot(objectClass, objectId, listenerClass, classListeners);
             listenerManager.removed();
             // Clean it up
             if (classListeners.isEmpty()) {
@@ -838,6 +1071,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
 
     /**
      * Gets all object listeners of the given class.
+     * The returned list is an immutable copy that is shared between all callers until a listener is added or removed.
      *
      * @param objectClass The class of the object.
      * @param objectId The id of the object.
@@ -848,13 +1082,20 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
     @SuppressWarnings("unchecked")
     public <T extends ObjectAttachableListener> List<T> getObjectListeners(
             Class<?> objectClass, long objectId, Class<T> listenerClass) {
-        return Collections.unmodifiableList((List<T>) Optional.ofNullable(objectClass)
-                .map(objectListeners::get)
-                .map(objectListener -> objectListener.get(objectId))
-                .map(listeners -> listeners.get(listenerClass))
-                .map(Map::keySet)
-                .map(ArrayList::new)
-                .orElseGet(ArrayList::new));
+        if (objectClass == null) {
+            return Collections.emptyList();
+        }
+        Map<Class<? extends ObjectAttachableListener>, Map<Long, List<ObjectAttachableListener>>> snapshots =
+                objectListenerSnapshots.get(objectClass);
+        if (snapshots == null) {
+            return Collections.emptyList();
+        }
+        Map<Long, List<ObjectAttachableListener>> classSnapshots = snapshots.get(listenerClass);
+        if (classSnapshots == null) {
+            return Collections.emptyList();
+        }
+        List<ObjectAttachableListener> listeners = classSnapshots.get(objectId);
+        return (listeners == null) ? Collections.emptyList() : (List<T>) listeners;
     }
 
     @Override
@@ -872,6 +1113,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
 
     /**
      * Gets all globally attachable listeners of the given class.
+     * The returned list is an immutable copy that is shared between all callers until a listener is added or removed.
      *
      * @param listenerClass The class of the listener.
      * @param <T> The class of the listener.
@@ -879,11 +1121,11 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
      */
     @SuppressWarnings("unchecked")
     public <T extends GloballyAttachableListener> List<T> getListeners(Class<T> listenerClass) {
-        return Collections.unmodifiableList((List<T>) Optional.ofNullable(listenerClass)
-                .map(listeners::get)
-                .map(Map::keySet)
-                .map(ArrayList::new)
-                .orElseGet(ArrayList::new));
+        if (listenerClass == null) {
+            return Collections.emptyList();
+        }
+        List<GloballyAttachableListener> classListeners = listenerSnapshots.get(listenerClass);
+        return (classListeners == null) ? Collections.emptyList() : (List<T>) classListeners;
     }
 
     @Override
@@ -901,11 +1143,81 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
         return token;
     }
 
+    /**
+     * Gets a hash of the token.
+     * It identifies the account to other processes, e.g. a ratelimit coordinator, without revealing the token.
+     *
+     * @return A hash of the token.
+     */
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    /**
+     * Gets the scheduler that decides when this shard may identify.
+     *
+     * @return The identify scheduler.
+     */
+    public IdentifyScheduler getIdentifyScheduler() {
+        return identifyScheduler;
+    }
+
+    /**
+     * Hashes the given token.
+     *
+     * @param token The token.
+     * @return The hex encoded SHA-256 hash of the token.
+     */
+    private static String hashToken(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(token).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public ThreadPool getThreadPool() {
         return threadPool;
     }
 
+    @Override
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * Gets the meter registry which adds the shard tag to all meters.
+     * All internal metrics should be reported to this registry.
+     *
+     * @return The meter registry of this shard.
+     */
+    public MeterRegistry getShardMeterRegistry() {
+        return shardMeterRegistry;
+    }
+
+    @Override
+    public Optional<Duration> getLatestGatewayLatency() {
+        return Optional.ofNullable(websocketAdapter).flatMap(DiscordWebSocketAdapter::getLatestGatewayLatency);
+    }
+
+    @Override
+    public Collection<RatelimitBucketInformation> getRatelimitBuckets() {
+        return ratelimitManager.getBucketInformation();
+    }
+
+    @Override
+    public EventDispatchStatistics getEventDispatchStatistics() {
+        return eventDispatcher;
+    }
+
     @Override
     public UncachedMessageUtil getUncachedMessageUtil() {
         return uncachedMessageUtil;
@@ -925,6 +1237,24 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
         return websocketAdapter;
     }
 
+    /**
+     * Gets the stage which builds the servers of guild create packets in parallel.
+     *
+     * @return The server ingestion stage.
+     */
+    public ServerIngestionStage getServerIngestionStage() {
+        return serverIngestionStage;
+    }
+
+    /**
+     * Gets the coordinator which shares the continuous typing indicators of a channel.
+     *
+     * @return The typing indicator coordinator.
+     */
+    public TypingIndicatorCoordinator getTypingIndicatorCoordinator() {
+        return typingIndicatorCoordinator;
+    }
+
     @Override
     public AccountType getAccountType() {
         return accountType;
@@ -1078,8 +1408,10 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
                     // shutdown thread pool if within one minute no disconnect event was dispatched
                     threadPool.getDaemonScheduler().schedule(threadPool::shutdown, 1, TimeUnit.MINUTES);
                 }
-                httpClient.dispatcher().executorService().shutdown();
-                httpClient.connectionPool().evictAll();
+                if (ownsHttpClient) {
+                    httpClient.dispatcher().executorService().shutdown();
+                    httpClient.connectionPool().evictAll();
+                }
             }
             disconnectCalled = true;
         }
@@ -1098,6 +1430,61 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
         return reconnectDelayProvider.apply(attempt);
     }
 
+    @Override
+    public void setCacheReconciliationOnReconnectEnabled(boolean cacheReconciliationEnabled) {
+        this.cacheReconciliationOnReconnectEnabled = cacheReconciliationEnabled;
+    }
+
+    @Override
+    public boolean isCacheReconciliationOnReconnectEnabled() {
+        return cacheReconciliationOnReconnectEnabled;
+    }
+
+    @Override
+    public void setRestResponseCacheDuration(CachedRestResource resource, Duration duration) {
+        restResponseCache.setDuration(resource, duration);
+    }
+
+    @Override
+    public Duration getRestResponseCacheDuration(CachedRestResource resource) {
+        return restResponseCache.getDuration(resource);
+    }
+
+    @Override
+    public void setMaxConcurrentDownloadsPerHost(int maxDownloadsPerHost) {
+        downloadManager.setMaxDownloadsPerHost(maxDownloadsPerHost);
+    }
+
+    @Override
+    public int getMaxConcurrentDownloadsPerHost() {
+        return downloadManager.getMaxDownloadsPerHost();
+    }
+
+    @Override
+    public void setDownloadCacheDirectory(Path directory) {
+        downloadManager.setCacheDirectory(directory);
+    }
+
+    @Override
+    public Optional<Path> getDownloadCacheDirectory() {
+        return downloadManager.getCacheDirectory();
+    }
+
+    @Override
+    public void setGlobalRatelimitRequestsPerSecond(int requestsPerSecond) {
+        RatelimitBucket.setGlobalRequestsPerSecond(this, requestsPerSecond);
+    }
+
+    @Override
+    public int getGlobalRatelimitRequestsPerSecond() {
+        return RatelimitBucket.getGlobalRequestsPerSecond(this);
+    }
+
+    @Override
+    public NonThrowingAutoCloseable useRestRequestPriority(RestRequestPriority priority) {
+        return RestRequest.usePriority(priority);
+    }
+
     @Override
     public CompletableFuture<ApplicationInfo> getApplicationInfo() {
         return new RestRequest<ApplicationInfo>(this, RestMethod.GET, RestEndpoint.SELF_INFO)
@@ -1119,6 +1506,7 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
     @Override
     public CompletableFuture<Invite> getInviteByCode(String code) {
         return new RestRequest<Invite>(this, RestMethod.GET, RestEndpoint.INVITE)
+                .setUrlParameters(code)
                 .addQueryParameter("with_counts", "false")
                 .execute(result -> new InviteImpl(this, result.getJsonBody()));
     }
@@ -1146,6 +1534,79 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
         return Optional.ofNullable(users.get(id)).map(Reference::get);
     }
 
+    @Override
+    public Collection<User> getCachedUsersByName(String name) {
+        return getCachedUsersByIds(userNameIndex.get(name), user -> user.getName().equals(name));
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByNameIgnoreCase(String name) {
+        return getCachedUsersByIds(userNameIndex.get(name), user -> true);
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByNamePrefixIgnoreCase(String prefix) {
+        return getCachedUsersByIds(userNameIndex.getByPrefix(prefix), user -> true);
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByNickname(String nickname, Server server) {
+        // Only members have a nickname, and all members are cached
+        if (server == null) {
+            return Collections.unmodifiableList(new ArrayList<>());
+        }
+        return server.getMembersByNickname(nickname);
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByNicknameIgnoreCase(String nickname, Server server) {
+        if (server == null) {
+            return Collections.unmodifiableList(new ArrayList<>());
+        }
+        return server.getMembersByNicknameIgnoreCase(nickname);
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByDisplayName(String displayName, Server server) {
+        // The display name of users that are not a member of the server is their name
+        if (server == null) {
+            return Collections.unmodifiableList(new ArrayList<>());
+        }
+        List<User> result = new ArrayList<>(server.getMembersByDisplayName(displayName));
+        getCachedUsersByName(displayName).stream()
+                .filter(user -> !server.getMemberById(user.getId()).isPresent())
+                .forEach(result::add);
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByDisplayNameIgnoreCase(String displayName, Server server) {
+        if (server == null) {
+            return Collections.unmodifiableList(new ArrayList<>());
+        }
+        List<User> result = new ArrayList<>(server.getMembersByDisplayNameIgnoreCase(displayName));
+        getCachedUsersByNameIgnoreCase(displayName).stream()
+                .filter(user -> !server.getMemberById(user.getId()).isPresent())
+                .forEach(result::add);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Gets the cached users with the given ids that meet the given condition.
+     *
+     * @param userIds The ids of the users, usually from the name index.
+     * @param condition The condition that the users have to meet.
+     * @return The users.
+     */
+    private Collection<User> getCachedUsersByIds(List<Long> userIds, Predicate<User> condition) {
+        return Collections.unmodifiableList(userIds.stream()
+                .map(this::getCachedUserById)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .filter(condition)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public CompletableFuture<User> getUserById(long id) {
         return getCachedUserById(id)
@@ -1214,9 +1675,15 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
     @Override
     @SuppressWarnings("unchecked")
     public <T extends GloballyAttachableListener> ListenerManager<T> addListener(Class<T> listenerClass, T listener) {
-        return (ListenerManager<T>) listeners
-                .computeIfAbsent(listenerClass, key -> Collections.synchronizedMap(new LinkedHashMap<>()))
-                .computeIfAbsent(listener, key -> new ListenerManagerImpl<>(this, listener, listenerClass));
+        synchronized (listeners) {
+            Map<GloballyAttachableListener, ListenerManagerImpl<? extends GloballyAttachableListener>> classListeners =
+                    listeners.computeIfAbsent(listenerClass, key -> Collections.synchronizedMap(new LinkedHashMap<>()));
+            ListenerManager<T> listenerManager = (ListenerManager<T>) classListeners.computeIfAbsent(
+                    listener, key -> new ListenerManagerImpl<>(this, listener, listenerClass));
+            listenerSnapshots.put(
+                    listenerClass, Collections.unmodifiableList(new ArrayList<>(classListeners.keySet())));
+            return listenerManager;
+        }
     }
 
     @Override
@@ -1232,6 +1699,12 @@ public class DiscordApiImpl implements DiscordApi, InternalGloballyAttachableLis
                 return;
             }
             classListeners.remove(listener);
+            if (classListeners.isEmpty()) {
+                listenerSnapshots.remove(listenerClass);
+            } else {
+                listenerSnapshots.put(
+                        listenerClass, Collections.unmodifiableList(new ArrayList<>(classListeners.keySet())));
+            }
             listenerManager.removed();
             // Clean it up
             if (classListeners.isEmpty()) {
@@ -2,11 +2,13 @@ package org.javacord.core.entity;
 
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.Icon;
+import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.FileContainer;
 
 import java.awt.image.BufferedImage;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -51,16 +53,23 @@ public class IconImpl implements Icon {
 
     @Override
     public CompletableFuture<byte[]> asByteArray() {
-        return new FileContainer(getUrl()).asByteArray((this).getApi());
+        return new FileContainer(this).asByteArray(getApi());
     }
 
     @Override
     public CompletableFuture<InputStream> asInputStream() {
-        return new FileContainer(getUrl()).asInputStream((this).getApi());
+        return new FileContainer(this).asInputStream(getApi());
     }
 
     @Override
     public CompletableFuture<BufferedImage> asBufferedImage() {
-        return new FileContainer(getUrl()).asBufferedImage((this).getApi());
+        return new FileContainer(this).asBufferedImage(getApi());
     }
+
+    @Override
+    public CompletableFuture<Path> downloadTo(Path target) {
+        // Icons never change their url, so they may be served from the download cache
+        return ((DiscordApiImpl) getApi()).getDownloadManager().downloadTo(getUrl(), target, true);
+    }
+
 }
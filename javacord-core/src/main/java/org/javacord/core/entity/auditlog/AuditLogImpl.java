@@ -13,7 +13,9 @@ import org.javacord.core.entity.webhook.WebhookImpl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The implementation of {@link AuditLog}.
@@ -31,14 +33,14 @@ public class AuditLogImpl implements AuditLog {
     private final Server server;
 
     /**
-     * A collection with all involved webhooks.
+     * All involved webhooks. The key is the id of the webhook.
      */
-    private final Collection<Webhook> involvedWebhooks = new ArrayList<>();
+    private final Map<Long, Webhook> involvedWebhooks = new LinkedHashMap<>();
 
     /**
-     * A collection with all involved users.
+     * All involved users. The key is the id of the user.
      */
-    private final Collection<User> involvedUsers = new ArrayList<>();
+    private final Map<Long, User> involvedUsers = new LinkedHashMap<>();
 
     /**
      * A list with all entries.
@@ -62,18 +64,12 @@ public class AuditLogImpl implements AuditLog {
      */
     public void addEntries(JsonNode data) {
         for (JsonNode webhookJson : data.get("webhooks")) {
-            boolean alreadyAdded = involvedWebhooks.stream()
-                    .anyMatch(webhook -> webhook.getId() == webhookJson.get("id").asLong());
-            if (!alreadyAdded) {
-                involvedWebhooks.add(new WebhookImpl(api, webhookJson));
-            }
+            involvedWebhooks.computeIfAbsent(
+                    webhookJson.get("id").asLong(), id -> new WebhookImpl(api, webhookJson));
         }
         for (JsonNode userJson : data.get("users")) {
-            boolean alreadyAdded = involvedUsers.stream()
-                    .anyMatch(user -> user.getId() == userJson.get("id").asLong());
-            if (!alreadyAdded) {
-                involvedUsers.add(((DiscordApiImpl) api).getOrCreateUser(userJson));
-            }
+            involvedUsers.computeIfAbsent(
+                    userJson.get("id").asLong(), id -> ((DiscordApiImpl) api).getOrCreateUser(userJson));
         }
         for (JsonNode entry : data.get("audit_log_entries")) {
             entries.add(new AuditLogEntryImpl(this, entry));
@@ -92,12 +88,12 @@ public class AuditLogImpl implements AuditLog {
 
     @Override
     public Collection<Webhook> getInvolvedWebhooks() {
-        return Collections.unmodifiableCollection(involvedWebhooks);
+        return Collections.unmodifiableCollection(involvedWebhooks.values());
     }
 
     @Override
     public Collection<User> getInvolvedUsers() {
-        return Collections.unmodifiableCollection(involvedUsers);
+        return Collections.unmodifiableCollection(involvedUsers.values());
     }
 
     @Override
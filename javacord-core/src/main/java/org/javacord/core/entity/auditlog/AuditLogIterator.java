@@ -0,0 +1,109 @@
+package org.javacord.core.entity.auditlog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.javacord.api.entity.auditlog.AuditLogActionType;
+import org.javacord.api.entity.auditlog.AuditLogEntry;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
+import org.javacord.core.util.rest.RestEndpoint;
+import org.javacord.core.util.rest.RestMethod;
+import org.javacord.core.util.rest.RestRequest;
+import org.javacord.core.util.rest.RestRequestResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator that walks through the audit log of a server page by page, from the newest to the oldest entry.
+ *
+ * <p>Pages are only requested when the previous page is consumed, so consumers that stop early do not request the
+ * whole audit log. Every page is its own {@link AuditLogImpl} with the users and webhooks involved in its entries,
+ * which keeps the memory usage independent of the size of the audit log.
+ */
+public class AuditLogIterator implements Iterator<AuditLogEntry> {
+
+    /**
+     * The maximum amount of entries Discord returns per request.
+     */
+    private static final int PAGE_SIZE = 100;
+
+    private final Server server;
+    private final AuditLogActionType type;
+    private final User user;
+
+    /**
+     * The entries of the current page that were not returned yet, from newest to oldest.
+     */
+    private final Deque<AuditLogEntry> entries = new ArrayDeque<>(PAGE_SIZE);
+
+    /**
+     * The id of the oldest entry that was requested so far or {@code -1} if no page was requested yet.
+     */
+    private long before = -1;
+    private boolean hasMorePages = true;
+
+    /**
+     * Creates a new audit log iterator.
+     *
+     * @param server The server of the audit log.
+     * @param type Only get entries with this action type, or {@code null} to get entries of all action types.
+     * @param user Only get entries of actions that were performed by this user, or {@code null} to get the
+     *             entries of all users.
+     */
+    public AuditLogIterator(Server server, AuditLogActionType type, User user) {
+        this.server = server;
+        this.type = type;
+        this.user = user;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        ensureEntriesAvailable();
+        return !entries.isEmpty();
+    }
+
+    @Override
+    public synchronized AuditLogEntry next() {
+        ensureEntriesAvailable();
+        AuditLogEntry entry = entries.poll();
+        if (entry == null) {
+            throw new NoSuchElementException();
+        }
+        return entry;
+    }
+
+    /**
+     * Requests the next page, if the current page is exhausted.
+     */
+    private void ensureEntriesAvailable() {
+        if (!entries.isEmpty() || !hasMorePages) {
+            return;
+        }
+        RestRequest<JsonNode> request =
+                new RestRequest<JsonNode>(server.getApi(), RestMethod.GET, RestEndpoint.AUDIT_LOG)
+                        .setUrlParameters(server.getIdAsString())
+                        .addQueryParameter("limit", String.valueOf(PAGE_SIZE));
+        if (before != -1) {
+            request.addQueryParameter("before", Long.toUnsignedString(before));
+        }
+        if (type != null) {
+            request.addQueryParameter("action_type", String.valueOf(type.getValue()));
+        }
+        if (user != null) {
+            request.addQueryParameter("user_id", user.getIdAsString());
+        }
+
+        JsonNode data = request.execute(RestRequestResult::getJsonBody).join();
+        AuditLogImpl page = new AuditLogImpl(server);
+        page.addEntries(data);
+        entries.addAll(page.getEntries());
+        // Discord only returns less than a full page if there are no more entries
+        hasMorePages = page.getEntries().size() >= PAGE_SIZE;
+        if (!page.getEntries().isEmpty()) {
+            before = page.getEntries().get(page.getEntries().size() - 1).getId();
+        }
+    }
+
+}
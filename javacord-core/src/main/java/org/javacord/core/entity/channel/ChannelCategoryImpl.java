@@ -2,18 +2,14 @@ package org.javacord.core.entity.channel;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.javacord.api.entity.DiscordEntity;
-import org.javacord.api.entity.channel.Categorizable;
 import org.javacord.api.entity.channel.ChannelCategory;
 import org.javacord.api.entity.channel.ServerChannel;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.listener.channel.server.InternalChannelCategoryAttachableListenerManager;
 
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * The implementation of {@link ChannelCategory}.
@@ -49,17 +45,7 @@ public class ChannelCategoryImpl extends ServerChannelImpl
 
     @Override
     public List<ServerChannel> getChannels() {
-        return Collections.unmodifiableList(
-                ((ServerImpl) getServer()).getUnorderedChannels().stream()
-                        .filter(channel -> channel.asCategorizable()
-                                .flatMap(Categorizable::getCategory)
-                                .map(this::equals)
-                                .orElse(false))
-                        .sorted(Comparator
-                                        .<ServerChannel>comparingInt(channel -> channel.getType().getId())
-                                        .thenComparingInt(ServerChannel::getRawPosition)
-                                        .thenComparingLong(ServerChannel::getId))
-                        .collect(Collectors.toList()));
+        return ((ServerImpl) getServer()).getChannelsOfCategory(getId());
     }
 
     @Override
@@ -5,10 +5,15 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.CoalescingMessageSender;
 import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessagePurge;
 import org.javacord.api.entity.message.MessageSet;
 import org.javacord.api.entity.webhook.Webhook;
+import org.javacord.api.util.NonThrowingAutoCloseable;
 import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.entity.message.CoalescingMessageSenderImpl;
+import org.javacord.core.entity.message.MessagePurgeImpl;
 import org.javacord.core.entity.message.MessageSetImpl;
 import org.javacord.core.entity.webhook.WebhookImpl;
 import org.javacord.core.listener.channel.InternalTextChannelAttachableListenerManager;
@@ -16,11 +21,15 @@ import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestMethod;
 import org.javacord.core.util.rest.RestRequest;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -36,6 +45,13 @@ public interface InternalTextChannel extends TextChannel, InternalTextChannelAtt
                 .execute(result -> null);
     }
 
+    @Override
+    default NonThrowingAutoCloseable typeContinuouslyAfter(
+            long delay, TimeUnit timeUnit, Consumer<Throwable> exceptionHandler) {
+        return ((DiscordApiImpl) getApi()).getTypingIndicatorCoordinator()
+                .startTyping(this, delay, timeUnit, exceptionHandler);
+    }
+
     @Override
     default CompletableFuture<Void> bulkDelete(long... messageIds) {
         ObjectNode body = JsonNodeFactory.instance.objectNode();
@@ -50,6 +66,16 @@ public interface InternalTextChannel extends TextChannel, InternalTextChannelAtt
                 .execute(result -> null);
     }
 
+    @Override
+    default CoalescingMessageSender createCoalescingSender(Duration window) {
+        return new CoalescingMessageSenderImpl(this, window);
+    }
+
+    @Override
+    default MessagePurge purgeMessages(Instant since, Predicate<? super Message> condition) {
+        return new MessagePurgeImpl(this, since, condition);
+    }
+
     @Override
     default CompletableFuture<Message> getMessageById(long id) {
         return getApi().getCachedMessageById(id)
@@ -91,6 +117,11 @@ public interface InternalTextChannel extends TextChannel, InternalTextChannelAtt
         return MessageSetImpl.getMessagesAsStream(this);
     }
 
+    @Override
+    default Stream<Message> getMessagesAsStream(boolean cacheMessages) {
+        return MessageSetImpl.getMessagesAsStream(this, cacheMessages);
+    }
+
     @Override
     default CompletableFuture<MessageSet> getMessagesBefore(int limit, long before) {
         return MessageSetImpl.getMessagesBefore(this, limit, before);
@@ -7,13 +7,15 @@ import org.javacord.api.entity.channel.ServerVoiceChannel;
 import org.javacord.api.entity.user.User;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.entity.server.ServerImpl;
+import org.javacord.core.entity.server.VoiceState;
 import org.javacord.core.listener.channel.server.voice.InternalServerVoiceChannelAttachableListenerManager;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -39,8 +41,9 @@ public class ServerVoiceChannelImpl extends ServerChannelImpl
 
     /**
      * The ids of the connected users of this server voice channel.
+     * This is derived from the voice states of the server, see {@link ServerImpl#setVoiceState(long, VoiceState)}.
      */
-    private final Collection<Long> connectedUsers = new ArrayList<>();
+    private final Set<Long> connectedUsers = ConcurrentHashMap.newKeySet();
 
     /**
      * Creates a new server voice channel object.
@@ -85,6 +88,7 @@ public class ServerVoiceChannelImpl extends ServerChannelImpl
 
     /**
      * Adds the user with the given id to the list of connected users.
+     * This should only be called by the server when the voice state of the user changes.
      *
      * @param userId The id of the user to add.
      */
@@ -94,6 +98,7 @@ public class ServerVoiceChannelImpl extends ServerChannelImpl
 
     /**
      * Removes the user with the given id from the list of connected users.
+     * This should only be called by the server when the voice state of the user changes.
      *
      * @param userId The id of the user to remove.
      */
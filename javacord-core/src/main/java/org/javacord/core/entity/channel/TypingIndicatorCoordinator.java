@@ -0,0 +1,263 @@
+package org.javacord.core.entity.channel;
+
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.logging.ExceptionLogger;
+import org.javacord.core.DiscordApiImpl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This class shares the typing indicators of all continuous typers of a channel.
+ *
+ * <p>Every call of {@link TextChannel#typeContinuouslyAfter(long, TimeUnit, Consumer)} registers a typer for the
+ * channel. As long as at least one typer is active, a single typing request is sent per refresh interval, no matter
+ * how many typers there are. Once the last typer is closed, no further typing requests are sent for the channel.
+ */
+public class TypingIndicatorCoordinator {
+
+    /**
+     * The interval in which the typing indicator is refreshed.
+     * Discord displays the typing indicator for 10 seconds.
+     */
+    private static final long REFRESH_INTERVAL_NANOS = 8_000_000_000L;
+
+    /**
+     * The discord api instance.
+     */
+    private final DiscordApiImpl api;
+
+    /**
+     * The typing indicators of all channels with at least one active typer. The key is the channel id.
+     */
+    private final ConcurrentHashMap<Long, ChannelTypingIndicator> typingIndicators = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new typing indicator coordinator.
+     *
+     * @param api The discord api instance.
+     */
+    public TypingIndicatorCoordinator(DiscordApiImpl api) {
+        this.api = api;
+    }
+
+    /**
+     * Registers a typer that displays the typing indicator in the given channel, starting delayed.
+     *
+     * @param channel The channel to type in.
+     * @param delay The delay to wait until the typer becomes active.
+     * @param timeUnit The time unit of the delay value.
+     * @param exceptionHandler The handler that exceptions of typing requests are given to. May be {@code null}.
+     * @return An auto-closable to unregister the typer.
+     */
+    public NonThrowingAutoCloseable startTyping(
+            TextChannel channel, long delay, TimeUnit timeUnit, Consumer<Throwable> exceptionHandler) {
+        Typer typer = new Typer(exceptionHandler);
+        if (delay <= 0) {
+            activate(channel, typer);
+        } else {
+            typer.setActivation(api.getThreadPool().getScheduler().schedule(
+                    () -> activate(channel, typer), delay, timeUnit));
+        }
+        return () -> stopTyping(channel.getId(), typer);
+    }
+
+    /**
+     * Notifies the coordinator that a message of the connected account was sent to the channel with the given id.
+     * Sending a message removes the typing indicator, so it is sent again right away if there are active typers.
+     *
+     * @param channelId The id of the channel.
+     */
+    public void handleMessageSent(long channelId) {
+        typingIndicators.computeIfPresent(channelId, (id, typingIndicator) -> {
+            typingIndicator.restart();
+            return typingIndicator;
+        });
+    }
+
+    /**
+     * Activates a typer.
+     *
+     * @param channel The channel to type in.
+     * @param typer The typer.
+     */
+    private void activate(TextChannel channel, Typer typer) {
+        typingIndicators.compute(channel.getId(), (id, typingIndicator) -> {
+            if (typer.isClosed()) {
+                return typingIndicator;
+            }
+            if (typingIndicator == null) {
+                typingIndicator = new ChannelTypingIndicator(channel);
+            }
+            typingIndicator.addTyper(typer);
+            return typingIndicator;
+        });
+    }
+
+    /**
+     * Closes a typer.
+     *
+     * @param channelId The id of the channel.
+     * @param typer The typer.
+     */
+    private void stopTyping(long channelId, Typer typer) {
+        typer.close();
+        typingIndicators.computeIfPresent(channelId, (id, typingIndicator) -> {
+            typingIndicator.removeTyper(typer);
+            return typingIndicator.hasTypers() ? typingIndicator : null;
+        });
+    }
+
+    /**
+     * The shared typing indicator of a single channel.
+     * All methods except {@link #sendTyping()} are only called while the channel's entry of the coordinator's map is
+     * locked.
+     */
+    private class ChannelTypingIndicator {
+
+        private final TextChannel channel;
+        private final Set<Typer> typers = ConcurrentHashMap.newKeySet();
+        private Future<?> refreshTask;
+
+        /**
+         * Creates a new channel typing indicator.
+         *
+         * @param channel The channel.
+         */
+        private ChannelTypingIndicator(TextChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Adds a typer and starts sending typing requests if it is the first one.
+         *
+         * @param typer The typer to add.
+         */
+        private void addTyper(Typer typer) {
+            typers.add(typer);
+            if (refreshTask == null) {
+                restart();
+            }
+        }
+
+        /**
+         * Removes a typer and stops sending typing requests if it was the last one.
+         *
+         * @param typer The typer to remove.
+         */
+        private void removeTyper(Typer typer) {
+            typers.remove(typer);
+            if (typers.isEmpty() && refreshTask != null) {
+                refreshTask.cancel(false);
+                refreshTask = null;
+            }
+        }
+
+        /**
+         * Checks if there are any active typers.
+         *
+         * @return Whether there are any active typers.
+         */
+        private boolean hasTypers() {
+            return !typers.isEmpty();
+        }
+
+        /**
+         * Sends a typing request immediately and starts a new refresh interval.
+         */
+        private void restart() {
+            if (refreshTask != null) {
+                refreshTask.cancel(false);
+            }
+            refreshTask = api.getThreadPool().getScheduler().scheduleWithFixedDelay(
+                    this::sendTyping, 0, REFRESH_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Sends a single typing request and passes failures to the exception handlers of the active typers.
+         */
+        private void sendTyping() {
+            try {
+                channel.type().exceptionally(throwable -> {
+                    typers.forEach(typer -> typer.handleException(throwable));
+                    return null;
+                });
+            } catch (Throwable t) {
+                ExceptionLogger.getConsumer().accept(t);
+            }
+        }
+
+    }
+
+    /**
+     * A single continuous typer.
+     */
+    private static class Typer {
+
+        private final Consumer<Throwable> exceptionHandler;
+        private volatile boolean closed = false;
+        private volatile Future<?> activation;
+
+        /**
+         * Creates a new typer.
+         *
+         * @param exceptionHandler The handler that exceptions are given to. May be {@code null}.
+         */
+        private Typer(Consumer<Throwable> exceptionHandler) {
+            this.exceptionHandler = exceptionHandler;
+        }
+
+        /**
+         * Sets the scheduled activation of the typer.
+         *
+         * @param activation The scheduled activation.
+         */
+        private void setActivation(Future<?> activation) {
+            this.activation = activation;
+            if (closed) {
+                activation.cancel(false);
+            }
+        }
+
+        /**
+         * Checks if the typer was closed.
+         *
+         * @return Whether the typer was closed.
+         */
+        private boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Closes the typer.
+         */
+        private void close() {
+            closed = true;
+            Future<?> activation = this.activation;
+            if (activation != null) {
+                activation.cancel(false);
+            }
+        }
+
+        /**
+         * Passes an exception to the exception handler of the typer, if any.
+         *
+         * @param throwable The exception.
+         */
+        private void handleException(Throwable throwable) {
+            if (exceptionHandler != null) {
+                try {
+                    exceptionHandler.accept(throwable);
+                } catch (Throwable t) {
+                    ExceptionLogger.getConsumer().accept(t);
+                }
+            }
+        }
+
+    }
+
+}
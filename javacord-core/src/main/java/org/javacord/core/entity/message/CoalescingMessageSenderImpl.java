@@ -0,0 +1,85 @@
+package org.javacord.core.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.CoalescingMessageSender;
+import org.javacord.api.entity.message.Message;
+import org.javacord.core.util.concurrent.BatchQueue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The implementation of {@link CoalescingMessageSender}.
+ */
+public class CoalescingMessageSenderImpl implements CoalescingMessageSender {
+
+    /**
+     * The maximum length of the content of a message.
+     */
+    private static final int MAX_CONTENT_LENGTH = 2000;
+
+    private final TextChannel channel;
+
+    /**
+     * The texts that were not sent yet. Each batch becomes a single message.
+     */
+    private final BatchQueue<String, Message> pendingTexts;
+
+    /**
+     * Creates a new coalescing message sender.
+     *
+     * @param channel The channel to send the messages to.
+     * @param window How long texts are buffered before they are sent. Must not be negative.
+     */
+    public CoalescingMessageSenderImpl(TextChannel channel, Duration window) {
+        this.channel = channel;
+        pendingTexts = new BatchQueue<>(MessageBatch::new, channel.getApi().getThreadPool().getScheduler(), window);
+    }
+
+    @Override
+    public TextChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public CompletableFuture<Message> send(String text) {
+        if (text == null || text.isEmpty() || text.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException(
+                    "The text must not be empty and not be longer than " + MAX_CONTENT_LENGTH + " characters");
+        }
+        return pendingTexts.queue(text);
+    }
+
+    @Override
+    public void flush() {
+        pendingTexts.flush();
+    }
+
+    /**
+     * The texts of a single message, separated by new lines.
+     */
+    private class MessageBatch implements BatchQueue.Batch<String, Message> {
+
+        private final StringBuilder content = new StringBuilder();
+
+        @Override
+        public boolean add(String text) {
+            int separatorLength = content.length() == 0 ? 0 : 1;
+            if (content.length() + separatorLength + text.length() > MAX_CONTENT_LENGTH) {
+                return false;
+            }
+            if (separatorLength > 0) {
+                content.append('\n');
+            }
+            content.append(text);
+            return true;
+        }
+
+        @Override
+        public CompletableFuture<Message> send() {
+            return channel.sendMessage(content.toString());
+        }
+
+    }
+
+}
@@ -6,12 +6,14 @@ import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.DiscordEntity;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.MessageAttachment;
+import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.FileContainer;
 import org.javacord.core.util.logging.LoggerUtil;
 
 import java.awt.image.BufferedImage;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -148,6 +150,11 @@ public class MessageAttachmentImpl implements MessageAttachment {
         return new FileContainer(getUrl()).asBufferedImage(getApi());
     }
 
+    @Override
+    public CompletableFuture<Path> downloadTo(Path target) {
+        return ((DiscordApiImpl) getApi()).getDownloadManager().downloadTo(getUrl(), target, false);
+    }
+
     @Override
     public boolean equals(Object o) {
         return (this == o)
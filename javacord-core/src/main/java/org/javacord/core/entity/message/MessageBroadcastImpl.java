@@ -0,0 +1,129 @@
+package org.javacord.core.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessageBroadcast;
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.rest.RestRequestPriority;
+import org.javacord.core.util.rest.RestRequest;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The implementation of {@link MessageBroadcast}.
+ */
+public class MessageBroadcastImpl implements MessageBroadcast {
+
+    private final MessageTemplateImpl template;
+    private final int channelCount;
+    private final int maxConcurrentRequests;
+
+    /**
+     * The channels that did not get the message yet. {@link #sendNext()} takes the next channel whenever a request
+     * finished.
+     */
+    private final Iterator<TextChannel> remainingChannels;
+    private int runningRequests = 0;
+
+    private final Map<TextChannel, Message> sentMessages = new ConcurrentHashMap<>();
+    private final Map<TextChannel, Throwable> failures = new ConcurrentHashMap<>();
+    private final CompletableFuture<MessageBroadcast> completionFuture = new CompletableFuture<>();
+    private volatile boolean cancelled = false;
+
+    /**
+     * Creates and starts a new broadcast.
+     *
+     * @param template The template to send.
+     * @param channels The channels in which the message should be sent.
+     * @param maxConcurrentRequests The maximum amount of messages that are sent at the same time.
+     */
+    public MessageBroadcastImpl(
+            MessageTemplateImpl template, Collection<? extends TextChannel> channels, int maxConcurrentRequests) {
+        this.template = template;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        Collection<TextChannel> distinctChannels = new LinkedHashSet<>(channels);
+        channelCount = distinctChannels.size();
+        remainingChannels = distinctChannels.iterator();
+        sendNext();
+    }
+
+    /**
+     * Starts sending messages while there are free slots, and completes the broadcast if everything is done.
+     */
+    private synchronized void sendNext() {
+        while (runningRequests < maxConcurrentRequests && !cancelled && remainingChannels.hasNext()) {
+            TextChannel channel = remainingChannels.next();
+            runningRequests++;
+            CompletableFuture<Message> future;
+            // Every channel has its own bucket, but all messages of the broadcast count towards the global ratelimit
+            try (NonThrowingAutoCloseable priority = RestRequest.usePriority(RestRequestPriority.BACKGROUND)) {
+                future = template.send(channel);
+            } catch (Throwable t) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(t);
+            }
+            future.whenComplete((message, throwable) -> {
+                if (throwable != null) {
+                    failures.put(channel, throwable);
+                } else {
+                    sentMessages.put(channel, message);
+                }
+                synchronized (this) {
+                    runningRequests--;
+                }
+                sendNext();
+            });
+        }
+        if (runningRequests == 0 && (cancelled || !remainingChannels.hasNext())) {
+            completionFuture.complete(this);
+        }
+    }
+
+    @Override
+    public int getChannelCount() {
+        return channelCount;
+    }
+
+    @Override
+    public int getSentCount() {
+        return sentMessages.size();
+    }
+
+    @Override
+    public int getFailedCount() {
+        return failures.size();
+    }
+
+    @Override
+    public Map<TextChannel, Message> getSentMessages() {
+        return Collections.unmodifiableMap(sentMessages);
+    }
+
+    @Override
+    public Map<TextChannel, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        sendNext();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public CompletableFuture<MessageBroadcast> getCompletionFuture() {
+        return completionFuture;
+    }
+
+}
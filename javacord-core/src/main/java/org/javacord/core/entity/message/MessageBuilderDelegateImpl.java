@@ -10,6 +10,7 @@ import org.javacord.api.entity.Mentionable;
 import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.MessageDecoration;
+import org.javacord.api.entity.message.MessageTemplate;
 import org.javacord.api.entity.message.Messageable;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.api.entity.message.internal.MessageBuilderDelegate;
@@ -26,6 +27,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -227,16 +229,7 @@ public class MessageBuilderDelegateImpl implements MessageBuilderDelegate {
 
     @Override
     public CompletableFuture<Message> send(TextChannel channel) {
-        ObjectNode body = JsonNodeFactory.instance.objectNode()
-                .put("content", toString() == null ? "" : toString())
-                .put("tts", tts);
-        body.putArray("mentions");
-        if (embed != null) {
-            ((EmbedBuilderDelegateImpl) embed.getDelegate()).toJsonNode(body.putObject("embed"));
-        }
-        if (nonce != null) {
-            body.put("nonce", nonce);
-        }
+        ObjectNode body = toJsonNode();
 
         RestRequest<Message> request = new RestRequest<Message>(channel.getApi(), RestMethod.POST, RestEndpoint.MESSAGE)
                 .setUrlParameters(channel.getIdAsString());
@@ -255,16 +248,18 @@ public class MessageBuilderDelegateImpl implements MessageBuilderDelegate {
                                 ((EmbedBuilderDelegateImpl) embed.getDelegate()).getRequiredAttachments());
                     }
                     Collections.reverse(tempAttachments);
-                    for (int i = 0; i < tempAttachments.size(); i++) {
-                        byte[] bytes = tempAttachments.get(i).asByteArray(channel.getApi()).join();
-
-                        String mediaType = URLConnection
-                                .guessContentTypeFromName(tempAttachments.get(i).getFileTypeOrName());
+                    // Start all downloads before waiting for any of them
+                    List<CompletableFuture<RequestBody>> fileBodies = new ArrayList<>();
+                    for (FileContainer attachment : tempAttachments) {
+                        String mediaType = URLConnection.guessContentTypeFromName(attachment.getFileTypeOrName());
                         if (mediaType == null) {
                             mediaType = "application/octet-stream";
                         }
+                        fileBodies.add(attachment.asRequestBody(channel.getApi(), MediaType.parse(mediaType)));
+                    }
+                    for (int i = 0; i < tempAttachments.size(); i++) {
                         multipartBodyBuilder.addFormDataPart("file" + i, tempAttachments.get(i).getFileTypeOrName(),
-                                RequestBody.create(MediaType.parse(mediaType), bytes));
+                                fileBodies.get(i).join());
                     }
 
                     request.setMultipartBody(multipartBodyBuilder.build());
@@ -289,6 +284,33 @@ public class MessageBuilderDelegateImpl implements MessageBuilderDelegate {
         }
     }
 
+    @Override
+    public MessageTemplate toTemplate() {
+        if (!attachments.isEmpty() || (embed != null && embed.requiresAttachments())) {
+            throw new IllegalStateException("Message templates can not have attachments");
+        }
+        return new MessageTemplateImpl(toJsonNode().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates the json body of the message, without attachments.
+     *
+     * @return The json body of the message.
+     */
+    private ObjectNode toJsonNode() {
+        ObjectNode body = JsonNodeFactory.instance.objectNode()
+                .put("content", toString() == null ? "" : toString())
+                .put("tts", tts);
+        body.putArray("mentions");
+        if (embed != null) {
+            ((EmbedBuilderDelegateImpl) embed.getDelegate()).toJsonNode(body.putObject("embed"));
+        }
+        if (nonce != null) {
+            body.put("nonce", nonce);
+        }
+        return body;
+    }
+
     @Override
     public String toString() {
         return strBuilder.toString();
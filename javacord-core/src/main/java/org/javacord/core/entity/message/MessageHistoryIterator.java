@@ -0,0 +1,127 @@
+package org.javacord.core.entity.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.core.DiscordApiImpl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An iterator that walks through the message history of a channel page by page.
+ *
+ * <p>If prefetching is enabled, the request for the following page is sent as soon as a page arrives, so the next page
+ * is usually already available when the consumer finished processing the current one. Otherwise, a page is only
+ * requested when the consumer needs it.
+ */
+class MessageHistoryIterator implements Iterator<Message> {
+
+    /**
+     * The maximum amount of messages Discord returns per request.
+     */
+    static final int PAGE_SIZE = 100;
+
+    private final DiscordApiImpl api;
+    private final TextChannel channel;
+    private final boolean older;
+    private final boolean cacheMessages;
+    private final boolean prefetch;
+
+    /**
+     * The json of the messages of the current page that were not returned yet, in the order the history is walked.
+     */
+    private final Deque<JsonNode> messageJsons = new ArrayDeque<>(PAGE_SIZE);
+
+    /**
+     * The id of the message the next page follows, or {@code -1} for the newest or oldest message of the channel.
+     */
+    private long nextReferenceMessageId;
+
+    /**
+     * The prefetched request of the next page or {@code null} if the next page was not requested yet.
+     */
+    private CompletableFuture<List<JsonNode>> nextPage = null;
+    private boolean hasMorePages = true;
+
+    /**
+     * Creates a new message history iterator.
+     *
+     * @param channel The channel of the messages.
+     * @param before Get messages before the message with this id.
+     * @param after Get messages after the message with this id.
+     * @param cacheMessages Whether new message objects should be added to the message cache.
+     * @param prefetch Whether the next page should be requested while the current page is consumed. Only useful if
+     *                 the whole history is consumed, as the prefetched page is wasted if the consumer stops early.
+     */
+    MessageHistoryIterator(TextChannel channel, long before, long after, boolean cacheMessages, boolean prefetch) {
+        this.api = (DiscordApiImpl) channel.getApi();
+        this.channel = channel;
+        // before was set or both were not set
+        this.older = (before != -1) || (after == -1);
+        this.cacheMessages = cacheMessages;
+        this.prefetch = prefetch;
+        nextReferenceMessageId = older ? before : after;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        ensureMessagesAvailable();
+        return !messageJsons.isEmpty();
+    }
+
+    @Override
+    public synchronized Message next() {
+        ensureMessagesAvailable();
+        JsonNode messageJson = messageJsons.poll();
+        if (messageJson == null) {
+            throw new NoSuchElementException();
+        }
+        return api.getOrCreateMessage(channel, messageJson, cacheMessages);
+    }
+
+    /**
+     * Waits for the next page, if the current page is exhausted, and prefetches the page after it if enabled.
+     */
+    private void ensureMessagesAvailable() {
+        if (!messageJsons.isEmpty() || !hasMorePages) {
+            return;
+        }
+        if (nextPage == null) {
+            // The first page is requested lazily, like the stream itself
+            nextPage = requestPage(nextReferenceMessageId);
+        }
+        List<JsonNode> page = nextPage.join();
+        nextPage = null;
+        messageJsons.addAll(page);
+        // Discord only returns less than a full page if there are no more messages
+        hasMorePages = page.size() == PAGE_SIZE;
+        if (hasMorePages) {
+            nextReferenceMessageId = page.get(page.size() - 1).get("id").asLong();
+            if (prefetch) {
+                nextPage = requestPage(nextReferenceMessageId);
+            }
+        }
+    }
+
+    /**
+     * Requests the page that follows the message with the given id.
+     *
+     * @param referenceMessageId The id of the last message of the previous page or {@code -1} for the first page.
+     * @return The sorted messages of the page.
+     */
+    private CompletableFuture<List<JsonNode>> requestPage(long referenceMessageId) {
+        return MessageSetImpl.requestAsSortedJsonNodesAsync(
+                channel,
+                PAGE_SIZE,
+                older ? referenceMessageId : -1,
+                older ? -1 : referenceMessageId,
+                older
+        );
+    }
+
+}
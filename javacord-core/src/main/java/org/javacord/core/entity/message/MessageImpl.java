@@ -126,6 +126,18 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
      * @param data The json data of the message.
      */
     public MessageImpl(DiscordApiImpl api, TextChannel channel, JsonNode data) {
+        this(api, channel, data, true);
+    }
+
+    /**
+     * Creates a new message object.
+     *
+     * @param api The discord api instance.
+     * @param channel The channel of the message.
+     * @param data The json data of the message.
+     * @param cacheMessage Whether the message should be added to the message cache.
+     */
+    public MessageImpl(DiscordApiImpl api, TextChannel channel, JsonNode data, boolean cacheMessage) {
         this.api = api;
         this.channel = channel;
 
@@ -144,8 +156,10 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
         Long webhookId = data.has("webhook_id") ? data.get("webhook_id").asLong() : null;
         author = new MessageAuthorImpl(this, webhookId, data.get("author"));
 
-        MessageCacheImpl cache = (MessageCacheImpl) channel.getMessageCache();
-        cache.addMessage(this);
+        if (cacheMessage) {
+            MessageCacheImpl cache = (MessageCacheImpl) channel.getMessageCache();
+            cache.addMessage(this);
+        }
 
         if (data.has("embeds")) {
             for (JsonNode embedJson : data.get("embeds")) {
@@ -0,0 +1,195 @@
+package org.javacord.core.entity.message;
+
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessagePurge;
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.rest.RestRequestPriority;
+import org.javacord.core.util.logging.LoggerUtil;
+import org.javacord.core.util.rest.RestRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * The implementation of {@link MessagePurge}.
+ *
+ * <p>The message history is streamed from the newest to the oldest message without caching the messages. Matching
+ * messages are collected into batches of 100 that are bulk deleted as soon as they are full. Messages that are too old
+ * for the bulk delete endpoint are deleted one by one. As only a limited amount of deletions may be running at the
+ * same time, the memory usage does not depend on the size of the channel.
+ */
+public class MessagePurgeImpl implements MessagePurge {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(MessagePurgeImpl.class);
+
+    /**
+     * The maximum amount of messages that can be deleted with a single bulk delete request.
+     */
+    private static final int MAX_BULK_DELETE_SIZE = 100;
+
+    /**
+     * The maximum age of messages that can be bulk deleted, with a safety margin for the time until the batch is sent.
+     */
+    private static final Duration MAX_BULK_DELETE_AGE = Duration.ofDays(14).minusMinutes(5);
+
+    /**
+     * The maximum amount of delete requests that are running at the same time.
+     * All of them share the ratelimit of the channel, so more requests would only fill the queue.
+     */
+    private static final int MAX_CONCURRENT_REQUESTS = 5;
+
+    private final TextChannel channel;
+    private final Instant since;
+    private final Predicate<? super Message> condition;
+
+    private final Semaphore requestPermits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+    private final AtomicInteger scannedCount = new AtomicInteger();
+    private final AtomicInteger deletedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final CompletableFuture<MessagePurge> completionFuture = new CompletableFuture<>();
+    private volatile boolean cancelled = false;
+
+    /**
+     * Creates and starts a new purge.
+     *
+     * @param channel The channel of the messages.
+     * @param since Only messages that were created after this instant are deleted.
+     * @param condition The condition that a message has to meet to be deleted.
+     */
+    public MessagePurgeImpl(TextChannel channel, Instant since, Predicate<? super Message> condition) {
+        if (since == null || condition == null) {
+            throw new IllegalArgumentException("The instant and the condition must not be null");
+        }
+        this.channel = channel;
+        this.since = since;
+        this.condition = condition;
+        channel.getApi().getThreadPool().getExecutorService().submit(this::run);
+    }
+
+    /**
+     * Scans the message history and deletes the matching messages.
+     */
+    private void run() {
+        List<Long> batch = new ArrayList<>(MAX_BULK_DELETE_SIZE);
+        try {
+            MessageHistoryIterator history = new MessageHistoryIterator(channel, -1, -1, false, true);
+            while (!cancelled && history.hasNext()) {
+                Message message = history.next();
+                if (!message.getCreationTimestamp().isAfter(since)) {
+                    // The history is sorted from newest to oldest, so no other message can match
+                    break;
+                }
+                scannedCount.incrementAndGet();
+                if (!condition.test(message)) {
+                    continue;
+                }
+                Instant bulkDeleteLimit = Instant.now().minus(MAX_BULK_DELETE_AGE);
+                if (message.getCreationTimestamp().isAfter(bulkDeleteLimit)) {
+                    batch.add(message.getId());
+                    if (batch.size() == MAX_BULK_DELETE_SIZE) {
+                        deleteBatch(batch);
+                        batch = new ArrayList<>(MAX_BULK_DELETE_SIZE);
+                    }
+                } else {
+                    // All following messages are even older, so the batch will not grow anymore
+                    deleteBatch(batch);
+                    batch = new ArrayList<>(MAX_BULK_DELETE_SIZE);
+                    deleteBatch(Collections.singletonList(message.getId()));
+                }
+            }
+            deleteBatch(batch);
+            // Wait for the running requests
+            requestPermits.acquire(MAX_CONCURRENT_REQUESTS);
+            completionFuture.complete(this);
+        } catch (Throwable t) {
+            if (t instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.debug("Failed to purge messages in {}", channel, t);
+            completionFuture.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Deletes the messages with the given ids, waiting for a free request slot first.
+     * A single message is deleted with a normal delete request, as bulk deletes need at least two messages.
+     *
+     * @param messageIds The ids of the messages to delete.
+     * @throws InterruptedException If the thread got interrupted while waiting for a free request slot.
+     */
+    private void deleteBatch(List<Long> messageIds) throws InterruptedException {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        requestPermits.acquire();
+        CompletableFuture<Void> future;
+        // A purge can queue thousands of deletions, while someone is waiting for the other requests of the bot
+        try (NonThrowingAutoCloseable priority = RestRequest.usePriority(RestRequestPriority.BACKGROUND)) {
+            if (messageIds.size() == 1) {
+                future = Message.delete(channel.getApi(), channel.getId(), messageIds.get(0));
+            } else {
+                future = channel.bulkDelete(messageIds.stream().mapToLong(Long::longValue).toArray());
+            }
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+        future.whenComplete((nothing, throwable) -> {
+            if (throwable != null) {
+                logger.debug("Failed to delete {} messages in {}", messageIds.size(), channel, throwable);
+                failedCount.addAndGet(messageIds.size());
+            } else {
+                deletedCount.addAndGet(messageIds.size());
+            }
+            requestPermits.release();
+        });
+    }
+
+    @Override
+    public TextChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public int getScannedCount() {
+        return scannedCount.get();
+    }
+
+    @Override
+    public int getDeletedCount() {
+        return deletedCount.get();
+    }
+
+    @Override
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public CompletableFuture<MessagePurge> getCompletionFuture() {
+        return completionFuture;
+    }
+
+}
@@ -10,11 +10,13 @@ import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestMethod;
 import org.javacord.core.util.rest.RestRequest;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableSet;
@@ -249,6 +251,21 @@ public class MessageSetImpl implements MessageSet {
         return getMessagesAsStream(channel, -1, -1);
     }
 
+    /**
+     * Gets a stream of messages in the given channel sorted from newest to oldest.
+     *
+     * <p>The messages are retrieved in batches synchronously from Discord,
+     * so consider not using this method from a listener directly.
+     *
+     * @param channel The channel of the messages.
+     * @param cacheMessages Whether new message objects should be added to the message cache.
+     * @return The stream.
+     * @see #getMessages(TextChannel, int)
+     */
+    public static Stream<Message> getMessagesAsStream(TextChannel channel, boolean cacheMessages) {
+        return getMessagesAsStream(channel, -1, -1, cacheMessages);
+    }
+
     /**
      * Gets a stream of messages in the given channel sorted from newest to oldest.
      *
@@ -263,45 +280,30 @@ public class MessageSetImpl implements MessageSet {
      * @see #getMessages(TextChannel, int, long, long)
      */
     private static Stream<Message> getMessagesAsStream(TextChannel channel, long before, long after) {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<Message>() {
-            private final DiscordApiImpl api = ((DiscordApiImpl) channel.getApi());
-            // before was set or both were not set
-            private final boolean older = (before != -1) || (after == -1);
-            private final boolean newer = after != -1;
-            private long referenceMessageId = older ? before : after;
-            private final List<JsonNode> messageJsons = Collections.synchronizedList(new ArrayList<>());
-
-            private void ensureMessagesAvailable() {
-                if (messageJsons.isEmpty()) {
-                    synchronized (messageJsons) {
-                        if (messageJsons.isEmpty()) {
-                            messageJsons.addAll(requestAsSortedJsonNodes(
-                                    channel,
-                                    100,
-                                    older ? referenceMessageId : -1,
-                                    newer ? referenceMessageId : -1,
-                                    older
-                            ));
-                            if (!messageJsons.isEmpty()) {
-                                referenceMessageId = messageJsons.get(messageJsons.size() - 1).get("id").asLong();
-                            }
-                        }
-                    }
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                ensureMessagesAvailable();
-                return !messageJsons.isEmpty();
-            }
+        return getMessagesAsStream(channel, before, after, true);
+    }
 
-            @Override
-            public Message next() {
-                ensureMessagesAvailable();
-                return api.getOrCreateMessage(channel, messageJsons.remove(0));
-            }
-        }, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false);
+    /**
+     * Gets a stream of messages in the given channel sorted from newest to oldest.
+     *
+     * <p>The messages are retrieved in batches synchronously from Discord, so consider not using this method from a
+     * listener directly. If the messages are not cached, the stream is meant to export the whole channel, so the next
+     * batch is requested in the background while the current one is consumed. Other streams usually stop early and
+     * only request a batch when they need it.
+     *
+     * @param channel The channel of the messages.
+     * @param before Get messages before the message with this id.
+     * @param after Get messages after the message with this id.
+     * @param cacheMessages Whether new message objects should be added to the message cache.
+     *
+     * @return The stream.
+     * @see #getMessages(TextChannel, int, long, long)
+     */
+    private static Stream<Message> getMessagesAsStream(
+            TextChannel channel, long before, long after, boolean cacheMessages) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new MessageHistoryIterator(channel, before, after, cacheMessages, !cacheMessages),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false);
     }
 
     /**
@@ -568,70 +570,60 @@ public class MessageSetImpl implements MessageSet {
             private final AtomicBoolean nextIsOlder = new AtomicBoolean();
             private long olderReferenceMessageId = around;
             private long newerReferenceMessageId = around - 1;
-            private final List<JsonNode> olderMessageJsons = Collections.synchronizedList(new ArrayList<>());
-            private final List<JsonNode> newerMessageJsons = Collections.synchronizedList(new ArrayList<>());
+            private final Deque<JsonNode> olderMessageJsons = new ArrayDeque<>();
+            private final Deque<JsonNode> newerMessageJsons = new ArrayDeque<>();
             private final AtomicBoolean hasMoreOlderMessages = new AtomicBoolean(true);
             private final AtomicBoolean hasMoreNewerMessages = new AtomicBoolean(true);
 
             private void ensureMessagesAvailable() {
                 if (olderMessageJsons.isEmpty() && hasMoreOlderMessages.get()) {
-                    synchronized (olderMessageJsons) {
-                        if (olderMessageJsons.isEmpty() && hasMoreOlderMessages.get()) {
-                            olderMessageJsons.addAll(requestAsSortedJsonNodes(
-                                    channel,
-                                    100,
-                                    olderReferenceMessageId,
-                                    -1,
-                                    true
-                            ));
-                            if (olderMessageJsons.isEmpty()) {
-                                hasMoreOlderMessages.set(false);
-                            } else {
-                                olderReferenceMessageId =
-                                        olderMessageJsons.get(olderMessageJsons.size() - 1).get("id").asLong();
-                            }
-                        }
+                    olderMessageJsons.addAll(requestAsSortedJsonNodes(
+                            channel,
+                            100,
+                            olderReferenceMessageId,
+                            -1,
+                            true
+                    ));
+                    if (olderMessageJsons.isEmpty()) {
+                        hasMoreOlderMessages.set(false);
+                    } else {
+                        olderReferenceMessageId = olderMessageJsons.getLast().get("id").asLong();
                     }
                 }
                 if (newerMessageJsons.isEmpty() && hasMoreNewerMessages.get()) {
-                    synchronized (newerMessageJsons) {
-                        if (newerMessageJsons.isEmpty() && hasMoreNewerMessages.get()) {
-                            newerMessageJsons.addAll(requestAsSortedJsonNodes(
-                                    channel,
-                                    100,
-                                    -1,
-                                    newerReferenceMessageId,
-                                    false
-                            ));
-                            if (newerMessageJsons.isEmpty()) {
-                                hasMoreNewerMessages.set(false);
-                            } else {
-                                newerReferenceMessageId =
-                                        newerMessageJsons.get(newerMessageJsons.size() - 1).get("id").asLong();
-                                if (firstBatch.getAndSet(false)) {
-                                    nextIsOlder.set(newerMessageJsons.get(0).get("id").asLong() != around);
-                                }
-                            }
+                    newerMessageJsons.addAll(requestAsSortedJsonNodes(
+                            channel,
+                            100,
+                            -1,
+                            newerReferenceMessageId,
+                            false
+                    ));
+                    if (newerMessageJsons.isEmpty()) {
+                        hasMoreNewerMessages.set(false);
+                    } else {
+                        newerReferenceMessageId = newerMessageJsons.getLast().get("id").asLong();
+                        if (firstBatch.getAndSet(false)) {
+                            nextIsOlder.set(newerMessageJsons.getFirst().get("id").asLong() != around);
                         }
                     }
                 }
             }
 
             @Override
-            public boolean hasNext() {
+            public synchronized boolean hasNext() {
                 ensureMessagesAvailable();
                 return !(olderMessageJsons.isEmpty() && newerMessageJsons.isEmpty());
             }
 
             @Override
-            public Message next() {
+            public synchronized Message next() {
                 ensureMessagesAvailable();
                 boolean nextIsOlder = this.nextIsOlder.get();
                 this.nextIsOlder.set(!nextIsOlder);
                 JsonNode messageJson =
                         ((nextIsOlder && !olderMessageJsons.isEmpty()) || newerMessageJsons.isEmpty())
-                        ? olderMessageJsons.remove(0)
-                        : newerMessageJsons.remove(0);
+                        ? olderMessageJsons.poll()
+                        : newerMessageJsons.poll();
                 return api.getOrCreateMessage(channel, messageJson);
             }
         }, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false);
@@ -774,10 +766,26 @@ public class MessageSetImpl implements MessageSet {
      */
     private static List<JsonNode> requestAsSortedJsonNodes(
             TextChannel channel, int limit, long before, long after, boolean reversed) {
-        List<JsonNode> messageJsonNodes = requestAsJsonNodes(channel, limit, before, after);
-        Comparator<JsonNode> idComparator = Comparator.comparingLong(jsonNode -> jsonNode.get("id").asLong());
-        messageJsonNodes.sort(reversed ? idComparator.reversed() : idComparator);
-        return messageJsonNodes;
+        return requestAsSortedJsonNodesAsync(channel, limit, before, after, reversed).join();
+    }
+
+    /**
+     * Requests the messages from Discord, sorted by their id, without waiting for the response.
+     *
+     * @param channel The channel of which to get messages from.
+     * @param limit The limit of messages to get.
+     * @param before Get messages before the message with this id.
+     * @param after Get messages after the message with this id.
+     * @param reversed If {@code true}, get from oldest to newest, otherwise from newest to oldest.
+     * @return The JSON nodes.
+     */
+    static CompletableFuture<List<JsonNode>> requestAsSortedJsonNodesAsync(
+            TextChannel channel, int limit, long before, long after, boolean reversed) {
+        return requestAsJsonNodesAsync(channel, limit, before, after).thenApply(messageJsonNodes -> {
+            Comparator<JsonNode> idComparator = Comparator.comparingLong(jsonNode -> jsonNode.get("id").asLong());
+            messageJsonNodes.sort(reversed ? idComparator.reversed() : idComparator);
+            return messageJsonNodes;
+        });
     }
 
     /**
@@ -790,6 +798,20 @@ public class MessageSetImpl implements MessageSet {
      * @return The JSON nodes.
      */
     private static List<JsonNode> requestAsJsonNodes(TextChannel channel, int limit, long before, long after) {
+        return requestAsJsonNodesAsync(channel, limit, before, after).join();
+    }
+
+    /**
+     * Requests the messages from Discord without waiting for the response.
+     *
+     * @param channel The channel of which to get messages from.
+     * @param limit The limit of messages to get.
+     * @param before Get messages before the message with this id.
+     * @param after Get messages after the message with this id.
+     * @return The JSON nodes.
+     */
+    private static CompletableFuture<List<JsonNode>> requestAsJsonNodesAsync(
+            TextChannel channel, int limit, long before, long after) {
         RestRequest<List<JsonNode>> restRequest =
                 new RestRequest<List<JsonNode>>(channel.getApi(), RestMethod.GET, RestEndpoint.MESSAGE)
                 .setUrlParameters(channel.getIdAsString());
@@ -808,7 +830,7 @@ public class MessageSetImpl implements MessageSet {
             List<JsonNode> messageJsonNodes = new ArrayList<>();
             result.getJsonBody().iterator().forEachRemaining(messageJsonNodes::add);
             return messageJsonNodes;
-        }).join();
+        });
     }
 
     @Override
@@ -0,0 +1,51 @@
+package org.javacord.core.entity.message;
+
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessageBroadcast;
+import org.javacord.api.entity.message.MessageTemplate;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.util.rest.RestEndpoint;
+import org.javacord.core.util.rest.RestMethod;
+import org.javacord.core.util.rest.RestRequest;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The implementation of {@link MessageTemplate}.
+ */
+public class MessageTemplateImpl implements MessageTemplate {
+
+    /**
+     * The UTF-8 encoded json body of the message. It is shared by all requests and never modified.
+     */
+    private final byte[] body;
+
+    /**
+     * Creates a new message template.
+     *
+     * @param body The UTF-8 encoded json body of the message. It must not be modified afterwards.
+     */
+    public MessageTemplateImpl(byte[] body) {
+        this.body = body;
+    }
+
+    @Override
+    public CompletableFuture<Message> send(TextChannel channel) {
+        return new RestRequest<Message>(channel.getApi(), RestMethod.POST, RestEndpoint.MESSAGE)
+                .setUrlParameters(channel.getIdAsString())
+                .setBody(body)
+                .execute(result -> ((DiscordApiImpl) channel.getApi())
+                        .getOrCreateMessage(channel, result.getJsonBody()));
+    }
+
+    @Override
+    public MessageBroadcast broadcast(Collection<? extends TextChannel> channels, int maxConcurrentRequests) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("The maximum amount of concurrent requests must be positive");
+        }
+        return new MessageBroadcastImpl(this, channels, maxConcurrentRequests);
+    }
+
+}
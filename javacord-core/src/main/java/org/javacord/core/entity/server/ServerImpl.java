@@ -33,6 +33,7 @@ import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.entity.IconImpl;
 import org.javacord.core.entity.activity.ActivityImpl;
 import org.javacord.core.entity.auditlog.AuditLogImpl;
+import org.javacord.core.entity.auditlog.AuditLogIterator;
 import org.javacord.core.entity.channel.ChannelCategoryImpl;
 import org.javacord.core.entity.channel.ServerTextChannelImpl;
 import org.javacord.core.entity.channel.ServerVoiceChannelImpl;
@@ -42,6 +43,7 @@ import org.javacord.core.entity.user.UserImpl;
 import org.javacord.core.entity.webhook.WebhookImpl;
 import org.javacord.core.listener.server.InternalServerAttachableListenerManager;
 import org.javacord.core.util.Cleanupable;
+import org.javacord.core.util.cache.NameIndex;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.logging.LoggerUtil;
 import org.javacord.core.util.rest.RestEndpoint;
@@ -57,17 +59,24 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The implementation of {@link Server}.
@@ -185,34 +194,49 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
     private final ConcurrentHashMap<Long, ServerChannel> channels = new ConcurrentHashMap<>();
 
     /**
-     * A map with all members of the server.
+     * The version of the channel order. It is incremented whenever a channel is added or removed or a channel changes
+     * its position or category.
      */
-    private final ConcurrentHashMap<Long, User> members = new ConcurrentHashMap<>();
+    private final AtomicInteger channelOrderVersion = new AtomicInteger();
 
     /**
-     * A map with all nicknames. The key is the user id.
+     * The latest snapshot of the sorted channels.
      */
-    private final ConcurrentHashMap<Long, String> nicknames = new ConcurrentHashMap<>();
+    private volatile ChannelSnapshot channelSnapshot;
+
+    /**
+     * The version of the role order. It is incremented whenever a role is added or removed or a role changes its
+     * position.
+     */
+    private final AtomicInteger roleOrderVersion = new AtomicInteger();
+
+    /**
+     * The latest snapshot of the sorted roles.
+     */
+    private volatile RoleSnapshot roleSnapshot;
 
     /**
-     * A set with all members that are self-muted.
+     * A map with all members of the server.
      */
-    private final Set<Long> selfMuted = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<Long, User> members = new ConcurrentHashMap<>();
 
     /**
-     * A set with all members that are self-deafened.
+     * A map with all nicknames. The key is the user id.
      */
-    private final Set<Long> selfDeafened = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<Long, String> nicknames = new ConcurrentHashMap<>();
 
     /**
-     * A set with all members that are muted.
+     * Case-insensitive indexes of the names, nicknames and display names of the members.
      */
-    private final Set<Long> muted = new ConcurrentSkipListSet<>();
+    private final NameIndex memberNameIndex = new NameIndex();
+    private final NameIndex nicknameIndex = new NameIndex();
+    private final NameIndex displayNameIndex = new NameIndex();
 
     /**
-     * A set with all members that are deafened.
+     * A map with the voice states of all members that are connected to a voice channel, muted or deafened.
+     * The key is the user id.
      */
-    private final Set<Long> deafened = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<Long, VoiceState> voiceStates = new ConcurrentHashMap<>();
 
     /**
      * A map with all joinedAt instants. The key is the user id.
@@ -224,6 +248,11 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      */
     private final Collection<KnownCustomEmoji> customEmojis = new ArrayList<>();
 
+    /**
+     * The json data of the server, until its members, emojis and presences were added by {@link #addToCache()}.
+     */
+    private JsonNode unpublishedData;
+
     /**
      * Creates a new server object.
      *
@@ -231,6 +260,21 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      * @param data The json data of the server.
      */
     public ServerImpl(DiscordApiImpl api, JsonNode data) {
+        this(api, data, true);
+    }
+
+    /**
+     * Creates a new server object.
+     * If the server is not added to the cache, this constructor only touches the server itself, so servers can be
+     * created in parallel. Members, emojis and presences are shared with the rest of the api, e.g. through the user
+     * cache, so they are only added together with the server by {@link #addToCache()}.
+     *
+     * @param api The discord api instance.
+     * @param data The json data of the server.
+     * @param addToCache Whether the server should be added to the cache. If not, {@link #addToCache()} has to be
+     *                   called once the server should become visible.
+     */
+    public ServerImpl(DiscordApiImpl api, JsonNode data, boolean addToCache) {
         this.api = api;
 
         id = Long.parseLong(data.get("id").asText());
@@ -286,23 +330,29 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
                 Role role = new RoleImpl(api, this, roleJson);
                 this.roles.put(role.getId(), role);
             }
-        }
-
-        if (data.has("members")) {
-            addMembers(data.get("members"));
+            invalidateRoleOrder();
         }
 
         if (data.hasNonNull("voice_states")) {
             for (JsonNode voiceStateJson : data.get("voice_states")) {
-                ServerVoiceChannelImpl channel =
-                        (ServerVoiceChannelImpl) getVoiceChannelById(voiceStateJson.get("channel_id").asLong())
-                                .orElseThrow(AssertionError::new);
-                channel.addConnectedUser(voiceStateJson.get("user_id").asLong());
+                setVoiceState(voiceStateJson.get("user_id").asLong(), VoiceState.fromJson(voiceStateJson));
             }
         }
 
-        if ((isLarge() || api.getAccountType() == AccountType.CLIENT) && getMembers().size() < getMemberCount()) {
-            api.getWebSocketAdapter().queueRequestGuildMembers(this);
+        unpublishedData = data;
+        if (addToCache) {
+            addToCache();
+        }
+    }
+
+    /**
+     * Adds the members, emojis and presences of the server.
+     *
+     * @param data The json data of the server.
+     */
+    private void addSharedData(JsonNode data) {
+        if (data.has("members")) {
+            addMembers(data.get("members"));
         }
 
         if (data.has("emojis")) {
@@ -332,8 +382,21 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
                 }
             }
         }
+    }
 
+    /**
+     * Adds the server with its members, emojis and presences to the cache and requests its missing members if
+     * necessary.
+     * This has to be called exactly once for servers that were not added to the cache by the constructor, from the
+     * thread that handles the packets.
+     */
+    public void addToCache() {
+        addSharedData(unpublishedData);
+        unpublishedData = null;
         api.addServerToCache(this);
+        if ((isLarge() || api.getAccountType() == AccountType.CLIENT) && getMembers().size() < getMemberCount()) {
+            api.getWebSocketAdapter().queueRequestGuildMembers(this);
+        }
     }
 
     /**
@@ -495,6 +558,7 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      */
     public void addChannelToCache(ServerChannel channel) {
         ServerChannel oldChannel = channels.put(channel.getId(), channel);
+        invalidateChannelOrder();
         if ((oldChannel instanceof Cleanupable) && (oldChannel != channel)) {
             ((Cleanupable) oldChannel).cleanup();
         }
@@ -512,6 +576,63 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
             }
             return null;
         });
+        invalidateChannelOrder();
+    }
+
+    /**
+     * Marks the sorted channel views as outdated.
+     * This must be called whenever a channel changes its position or category.
+     */
+    public void invalidateChannelOrder() {
+        channelOrderVersion.incrementAndGet();
+    }
+
+    /**
+     * Marks the sorted role view as outdated.
+     * This must be called whenever a role changes its position.
+     */
+    public void invalidateRoleOrder() {
+        roleOrderVersion.incrementAndGet();
+    }
+
+    /**
+     * Gets the current channel snapshot, rebuilding it if the channel order changed.
+     *
+     * @return The current channel snapshot.
+     */
+    private ChannelSnapshot getChannelSnapshot() {
+        ChannelSnapshot snapshot = channelSnapshot;
+        int version = channelOrderVersion.get();
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new ChannelSnapshot(version, channels.values());
+            channelSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the current role snapshot, rebuilding it if the role order changed.
+     *
+     * @return The current role snapshot.
+     */
+    private RoleSnapshot getRoleSnapshot() {
+        RoleSnapshot snapshot = roleSnapshot;
+        int version = roleOrderVersion.get();
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new RoleSnapshot(version, roles.values());
+            roleSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets a sorted list with all channels in the given category.
+     *
+     * @param categoryId The id of the category.
+     * @return A sorted list with all channels in the given category.
+     */
+    public List<ServerChannel> getChannelsOfCategory(long categoryId) {
+        return getChannelSnapshot().categoryChannels.getOrDefault(categoryId, Collections.emptyList());
     }
 
     /**
@@ -521,6 +642,7 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      */
     public void removeRole(long roleId) {
         roles.remove(roleId);
+        invalidateRoleOrder();
     }
 
     /**
@@ -553,6 +675,7 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
             return getRoleById(id).orElseGet(() -> {
                 Role role = new RoleImpl(api, this, data);
                 this.roles.put(role.getId(), role);
+                invalidateRoleOrder();
                 return role;
             });
         }
@@ -569,7 +692,12 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         int type = data.get("type").asInt();
         synchronized (this) {
             if (type == 4) {
-                return getChannelCategoryById(id).orElseGet(() -> new ChannelCategoryImpl(api, this, data));
+                return getChannelCategoryById(id).orElseGet(() -> {
+                    ChannelCategory channel = new ChannelCategoryImpl(api, this, data);
+                    // The category of the channel is only known after it was added to the cache
+                    invalidateChannelOrder();
+                    return channel;
+                });
             }
         }
         // Invalid channel type
@@ -587,7 +715,12 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         int type = data.get("type").asInt();
         synchronized (this) {
             if (type == 0) {
-                return getTextChannelById(id).orElseGet(() -> new ServerTextChannelImpl(api, this, data));
+                return getTextChannelById(id).orElseGet(() -> {
+                    ServerTextChannel channel = new ServerTextChannelImpl(api, this, data);
+                    // The category of the channel is only known after it was added to the cache
+                    invalidateChannelOrder();
+                    return channel;
+                });
             }
         }
         // Invalid channel type
@@ -605,7 +738,12 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         int type = data.get("type").asInt();
         synchronized (this) {
             if (type == 2) {
-                return getVoiceChannelById(id).orElseGet(() -> new ServerVoiceChannelImpl(api, this, data));
+                return getVoiceChannelById(id).orElseGet(() -> {
+                    ServerVoiceChannel channel = new ServerVoiceChannelImpl(api, this, data);
+                    // The category of the channel is only known after it was added to the cache
+                    invalidateChannelOrder();
+                    return channel;
+                });
             }
         }
         // Invalid channel type
@@ -621,10 +759,10 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         long userId = user.getId();
         members.remove(userId);
         nicknames.remove(userId);
-        selfMuted.remove(userId);
-        selfDeafened.remove(userId);
-        muted.remove(userId);
-        deafened.remove(userId);
+        memberNameIndex.remove(userId);
+        nicknameIndex.remove(userId);
+        displayNameIndex.remove(userId);
+        setVoiceState(userId, VoiceState.NONE);
         getRoles().forEach(role -> ((RoleImpl) role).removeUserFromCache(user));
         joinedAtTimestamps.remove(userId);
     }
@@ -647,11 +785,13 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         if (member.hasNonNull("nick")) {
             nicknames.put(user.getId(), member.get("nick").asText());
         }
-        if (member.hasNonNull("mute")) {
-            setMuted(user.getId(), member.get("mute").asBoolean());
-        }
-        if (member.hasNonNull("deaf")) {
-            setDeafened(user.getId(), member.get("deaf").asBoolean());
+        memberNameIndex.put(user.getId(), user.getName());
+        nicknameIndex.put(user.getId(), nicknames.get(user.getId()));
+        displayNameIndex.put(user.getId(), getDisplayName(user));
+        if (member.hasNonNull("mute") || member.hasNonNull("deaf")) {
+            updateVoiceState(user.getId(), voiceState -> voiceState
+                    .withMuted(member.path("mute").asBoolean(voiceState.isMuted()))
+                    .withDeafened(member.path("deaf").asBoolean(voiceState.isDeafened())));
         }
 
         for (JsonNode roleIds : member.get("roles")) {
@@ -670,6 +810,15 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         }
     }
 
+    /**
+     * Sets the member count.
+     *
+     * @param memberCount The member count to set.
+     */
+    public void setMemberCount(int memberCount) {
+        this.memberCount.set(memberCount);
+    }
+
     /**
      * Increments the member count.
      */
@@ -685,62 +834,68 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      */
     public void setNickname(User user, String nickname) {
         nicknames.compute(user.getId(), (key, value) -> nickname);
+        if (members.containsKey(user.getId())) {
+            nicknameIndex.put(user.getId(), nickname);
+            displayNameIndex.put(user.getId(), getDisplayName(user));
+        }
     }
 
     /**
-     * Sets the self-muted state of the user with the given id.
+     * Updates the name indexes after the name of the user changed.
      *
-     * @param userId The id of the user.
-     * @param muted Whether the user with the given id is self-muted or not.
+     * @param user The user whose name changed.
      */
-    public void setSelfMuted(long userId, boolean muted) {
-        if (muted) {
-            selfMuted.add(userId);
-        } else {
-            selfMuted.remove(userId);
+    public void updateMemberName(User user) {
+        if (members.containsKey(user.getId())) {
+            memberNameIndex.put(user.getId(), user.getName());
+            displayNameIndex.put(user.getId(), getDisplayName(user));
         }
     }
 
     /**
-     * Sets the self-deafened state of the user with the given id.
+     * Gets the voice state of the user with the given id.
      *
      * @param userId The id of the user.
-     * @param deafened Whether the user with the given id is self-deafened or not.
+     * @return The voice state of the user with the given id.
      */
-    public void setSelfDeafened(long userId, boolean deafened) {
-        if (deafened) {
-            selfDeafened.add(userId);
-        } else {
-            selfDeafened.remove(userId);
-        }
+    public VoiceState getVoiceState(long userId) {
+        return voiceStates.getOrDefault(userId, VoiceState.NONE);
     }
 
     /**
-     * Sets the muted state of the user with the given id.
+     * Sets the voice state of the user with the given id.
+     * This also moves the user between the connected users of the voice channels.
      *
      * @param userId The id of the user.
-     * @param muted Whether the user with the given id is muted or not.
+     * @param voiceState The new voice state.
+     * @return The previous voice state of the user with the given id.
      */
-    public void setMuted(long userId, boolean muted) {
-        if (muted) {
-            this.muted.add(userId);
-        } else {
-            this.muted.remove(userId);
-        }
+    public VoiceState setVoiceState(long userId, VoiceState voiceState) {
+        return updateVoiceState(userId, oldVoiceState -> voiceState);
     }
 
     /**
-     * Sets the deafened state of the user with the given id.
+     * Updates the voice state of the user with the given id atomically.
      *
      * @param userId The id of the user.
-     * @param deafened Whether the user with the given id is deafened or not.
-     */
-    public void setDeafened(long userId, boolean deafened) {
-        if (deafened) {
-            this.deafened.add(userId);
-        } else {
-            this.deafened.remove(userId);
-        }
+     * @param updater A function that calculates the new voice state from the previous one.
+     * @return The previous voice state of the user with the given id.
+     */
+    private VoiceState updateVoiceState(long userId, UnaryOperator<VoiceState> updater) {
+        AtomicReference<VoiceState> previousVoiceState = new AtomicReference<>();
+        voiceStates.compute(userId, (key, value) -> {
+            VoiceState oldVoiceState = (value == null) ? VoiceState.NONE : value;
+            VoiceState newVoiceState = updater.apply(oldVoiceState);
+            previousVoiceState.set(oldVoiceState);
+            if (oldVoiceState.getChannelId() != newVoiceState.getChannelId()) {
+                getVoiceChannelById(oldVoiceState.getChannelId())
+                        .ifPresent(channel -> ((ServerVoiceChannelImpl) channel).removeConnectedUser(userId));
+                getVoiceChannelById(newVoiceState.getChannelId())
+                        .ifPresent(channel -> ((ServerVoiceChannelImpl) channel).addConnectedUser(userId));
+            }
+            return newVoiceState.isEmpty() ? null : newVoiceState;
+        });
+        return previousVoiceState.get();
     }
 
     /**
@@ -797,24 +952,30 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         return Optional.ofNullable(nicknames.get(user.getId()));
     }
 
+    @Override
+    public Optional<ServerVoiceChannel> getConnectedVoiceChannel(long userId) {
+        VoiceState voiceState = getVoiceState(userId);
+        return voiceState.isConnected() ? getVoiceChannelById(voiceState.getChannelId()) : Optional.empty();
+    }
+
     @Override
     public boolean isSelfMuted(long userId) {
-        return selfMuted.contains(userId);
+        return getVoiceState(userId).isSelfMuted();
     }
 
     @Override
     public boolean isSelfDeafened(long userId) {
-        return selfDeafened.contains(userId);
+        return getVoiceState(userId).isSelfDeafened();
     }
 
     @Override
     public boolean isMuted(long userId) {
-        return muted.contains(userId);
+        return getVoiceState(userId).isMuted();
     }
 
     @Override
     public boolean isDeafened(long userId) {
-        return deafened.contains(userId);
+        return getVoiceState(userId).isDeafened();
     }
 
     @Override
@@ -949,12 +1110,72 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
     }
 
     @Override
-    public List<Role> getRoles() {
-        return Collections.unmodifiableList(roles.values().stream()
-                .sorted(Comparator.comparingInt(Role::getPosition))
+    public Collection<User> getMembersByName(String name) {
+        return getMembersByIds(memberNameIndex.get(name), user -> user.getName().equals(name));
+    }
+
+    @Override
+    public Collection<User> getMembersByNameIgnoreCase(String name) {
+        return getMembersByIds(memberNameIndex.get(name), user -> true);
+    }
+
+    @Override
+    public Collection<User> getMembersByNickname(String nickname) {
+        return getMembersByIds(nicknameIndex.get(nickname),
+                user -> getNickname(user).map(nickname::equals).orElse(false));
+    }
+
+    @Override
+    public Collection<User> getMembersByNicknameIgnoreCase(String nickname) {
+        return getMembersByIds(nicknameIndex.get(nickname), user -> true);
+    }
+
+    @Override
+    public Collection<User> getMembersByDisplayName(String displayName) {
+        return getMembersByIds(displayNameIndex.get(displayName),
+                user -> getDisplayName(user).equals(displayName));
+    }
+
+    @Override
+    public Collection<User> getMembersByDisplayNameIgnoreCase(String displayName) {
+        return getMembersByIds(displayNameIndex.get(displayName), user -> true);
+    }
+
+    @Override
+    public Collection<User> getMembersByNamePrefixIgnoreCase(String prefix) {
+        return getMembersByIds(memberNameIndex.getByPrefix(prefix), user -> true);
+    }
+
+    @Override
+    public Collection<User> getMembersByNicknamePrefixIgnoreCase(String prefix) {
+        return getMembersByIds(nicknameIndex.getByPrefix(prefix), user -> true);
+    }
+
+    @Override
+    public Collection<User> getMembersByDisplayNamePrefixIgnoreCase(String prefix) {
+        return getMembersByIds(displayNameIndex.getByPrefix(prefix), user -> true);
+    }
+
+    /**
+     * Gets the members with the given ids that meet the given condition.
+     *
+     * @param userIds The ids of the members, usually from a name index.
+     * @param condition The condition that the members have to meet.
+     * @return The members.
+     */
+    private Collection<User> getMembersByIds(List<Long> userIds, Predicate<User> condition) {
+        return Collections.unmodifiableList(userIds.stream()
+                .map(members::get)
+                .filter(Objects::nonNull)
+                .filter(condition)
                 .collect(Collectors.toList()));
     }
 
+    @Override
+    public List<Role> getRoles() {
+        return getRoleSnapshot().roles;
+    }
+
     @Override
     public Optional<Role> getRoleById(long id) {
         return Optional.ofNullable(roles.get(id));
@@ -1143,6 +1364,22 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         return future;
     }
 
+    @Override
+    public Stream<AuditLogEntry> getAuditLogAsStream() {
+        return getAuditLogAsStream(null, null);
+    }
+
+    @Override
+    public Stream<AuditLogEntry> getAuditLogAsStream(AuditLogActionType type) {
+        return getAuditLogAsStream(type, null);
+    }
+
+    @Override
+    public Stream<AuditLogEntry> getAuditLogAsStream(AuditLogActionType type, User user) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new AuditLogIterator(this, type, user),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false);
+    }
+
     @Override
     public Collection<KnownCustomEmoji> getCustomEmojis() {
         return Collections.unmodifiableCollection(new ArrayList<>(customEmojis));
@@ -1150,47 +1387,22 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
 
     @Override
     public List<ServerChannel> getChannels() {
-        List<ServerChannel> channels = this.channels.values().stream()
-                .filter(channel -> channel.asCategorizable()
-                        .map(categorizable -> !categorizable.getCategory().isPresent())
-                        .orElse(false))
-                .sorted(Comparator
-                                .<ServerChannel>comparingInt(channel -> channel.getType().getId())
-                                .thenComparingInt(ServerChannel::getRawPosition)
-                                .thenComparingLong(ServerChannel::getId))
-                .collect(Collectors.toList());
-        getChannelCategories().forEach(category -> {
-            channels.add(category);
-            channels.addAll(category.getChannels());
-        });
-        return Collections.unmodifiableList(channels);
+        return getChannelSnapshot().channels;
     }
 
     @Override
     public List<ChannelCategory> getChannelCategories() {
-        return Collections.unmodifiableList(getUnorderedChannels().stream()
-                .filter(channel -> channel instanceof ChannelCategory)
-                .sorted(Comparator.comparingInt(ServerChannel::getRawPosition).thenComparingLong(ServerChannel::getId))
-                .map(channel -> (ChannelCategory) channel)
-                .collect(Collectors.toList()));
+        return getChannelSnapshot().channelCategories;
     }
 
     @Override
     public List<ServerTextChannel> getTextChannels() {
-        return Collections.unmodifiableList(getUnorderedChannels().stream()
-                .filter(channel -> channel instanceof ServerTextChannel)
-                .sorted(Comparator.comparingInt(ServerChannel::getRawPosition).thenComparingLong(ServerChannel::getId))
-                .map(channel -> (ServerTextChannel) channel)
-                .collect(Collectors.toList()));
+        return getChannelSnapshot().textChannels;
     }
 
     @Override
     public List<ServerVoiceChannel> getVoiceChannels() {
-        return Collections.unmodifiableList(getUnorderedChannels().stream()
-                .filter(channel -> channel instanceof ServerVoiceChannel)
-                .sorted(Comparator.comparingInt(ServerChannel::getRawPosition).thenComparingLong(ServerChannel::getId))
-                .map(channel -> (ServerVoiceChannel) channel)
-                .collect(Collectors.toList()));
+        return getChannelSnapshot().voiceChannels;
     }
 
     @Override
@@ -1224,4 +1436,109 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         return String.format("Server (id: %s, name: %s)", getIdAsString(), getName());
     }
 
+    /**
+     * An immutable snapshot of the sorted channels of a server.
+     */
+    private static class ChannelSnapshot {
+
+        /**
+         * The order in which channels are listed within a category (or without one).
+         */
+        private static final Comparator<ServerChannel> CATEGORIZED_CHANNEL_ORDER = Comparator
+                .<ServerChannel>comparingInt(channel -> channel.getType().getId())
+                .thenComparingInt(ServerChannel::getRawPosition)
+                .thenComparingLong(ServerChannel::getId);
+
+        /**
+         * The order in which channels of the same type are listed.
+         */
+        private static final Comparator<ServerChannel> CHANNEL_ORDER = Comparator
+                .comparingInt(ServerChannel::getRawPosition)
+                .thenComparingLong(ServerChannel::getId);
+
+        private final int version;
+        private final List<ServerChannel> channels;
+        private final List<ChannelCategory> channelCategories;
+        private final List<ServerTextChannel> textChannels;
+        private final List<ServerVoiceChannel> voiceChannels;
+        private final Map<Long, List<ServerChannel>> categoryChannels;
+
+        /**
+         * Creates a new channel snapshot.
+         *
+         * @param version The version of the channel order the snapshot is based on.
+         * @param unorderedChannels All channels of the server.
+         */
+        private ChannelSnapshot(int version, Collection<ServerChannel> unorderedChannels) {
+            this.version = version;
+
+            List<ServerChannel> uncategorizedChannels = new ArrayList<>();
+            List<ChannelCategory> channelCategories = new ArrayList<>();
+            List<ServerTextChannel> textChannels = new ArrayList<>();
+            List<ServerVoiceChannel> voiceChannels = new ArrayList<>();
+            Map<Long, List<ServerChannel>> categoryChannels = new HashMap<>();
+            for (ServerChannel channel : unorderedChannels) {
+                if (channel instanceof ChannelCategory) {
+                    channelCategories.add((ChannelCategory) channel);
+                } else if (channel instanceof ServerTextChannel) {
+                    textChannels.add((ServerTextChannel) channel);
+                } else if (channel instanceof ServerVoiceChannel) {
+                    voiceChannels.add((ServerVoiceChannel) channel);
+                }
+                channel.asCategorizable().ifPresent(categorizable -> {
+                    Optional<ChannelCategory> category = categorizable.getCategory();
+                    if (category.isPresent()) {
+                        categoryChannels.computeIfAbsent(category.get().getId(), id -> new ArrayList<>()).add(channel);
+                    } else {
+                        uncategorizedChannels.add(channel);
+                    }
+                });
+            }
+            channelCategories.sort(CHANNEL_ORDER);
+            textChannels.sort(CHANNEL_ORDER);
+            voiceChannels.sort(CHANNEL_ORDER);
+            uncategorizedChannels.sort(CATEGORIZED_CHANNEL_ORDER);
+            categoryChannels.replaceAll((id, channelsOfCategory) -> {
+                channelsOfCategory.sort(CATEGORIZED_CHANNEL_ORDER);
+                return Collections.unmodifiableList(channelsOfCategory);
+            });
+
+            List<ServerChannel> channels = new ArrayList<>(uncategorizedChannels);
+            for (ChannelCategory category : channelCategories) {
+                channels.add(category);
+                channels.addAll(categoryChannels.getOrDefault(category.getId(), Collections.emptyList()));
+            }
+
+            this.channels = Collections.unmodifiableList(channels);
+            this.channelCategories = Collections.unmodifiableList(channelCategories);
+            this.textChannels = Collections.unmodifiableList(textChannels);
+            this.voiceChannels = Collections.unmodifiableList(voiceChannels);
+            this.categoryChannels = categoryChannels;
+        }
+
+    }
+
+    /**
+     * An immutable snapshot of the sorted roles of a server.
+     */
+    private static class RoleSnapshot {
+
+        private final int version;
+        private final List<Role> roles;
+
+        /**
+         * Creates a new role snapshot.
+         *
+         * @param version The version of the role order the snapshot is based on.
+         * @param unorderedRoles All roles of the server.
+         */
+        private RoleSnapshot(int version, Collection<Role> unorderedRoles) {
+            this.version = version;
+            List<Role> roles = new ArrayList<>(unorderedRoles);
+            roles.sort(Comparator.comparingInt(Role::getPosition));
+            this.roles = Collections.unmodifiableList(roles);
+        }
+
+    }
+
 }
@@ -0,0 +1,209 @@
+package org.javacord.core.entity.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The voice state of a member of a server.
+ * Instances of this class are immutable, every change creates a new instance.
+ */
+public final class VoiceState {
+
+    /**
+     * The voice state of a member that is neither connected, nor muted or deafened.
+     */
+    public static final VoiceState NONE = new VoiceState(-1, null, false, false, false, false);
+
+    /**
+     * The id of the connected voice channel or {@code -1} if the member isn't connected.
+     */
+    private final long channelId;
+
+    /**
+     * The voice session id.
+     */
+    private final String sessionId;
+
+    /**
+     * Whether the member is self-muted.
+     */
+    private final boolean selfMuted;
+
+    /**
+     * Whether the member is self-deafened.
+     */
+    private final boolean selfDeafened;
+
+    /**
+     * Whether the member is muted by the server.
+     */
+    private final boolean muted;
+
+    /**
+     * Whether the member is deafened by the server.
+     */
+    private final boolean deafened;
+
+    /**
+     * Creates a new voice state.
+     *
+     * @param channelId The id of the connected voice channel or {@code -1} if the member isn't connected.
+     * @param sessionId The voice session id.
+     * @param selfMuted Whether the member is self-muted.
+     * @param selfDeafened Whether the member is self-deafened.
+     * @param muted Whether the member is muted by the server.
+     * @param deafened Whether the member is deafened by the server.
+     */
+    private VoiceState(long channelId, String sessionId, boolean selfMuted, boolean selfDeafened, boolean muted,
+                       boolean deafened) {
+        this.channelId = channelId;
+        this.sessionId = sessionId;
+        this.selfMuted = selfMuted;
+        this.selfDeafened = selfDeafened;
+        this.muted = muted;
+        this.deafened = deafened;
+    }
+
+    /**
+     * Creates a voice state from the json data of a voice state.
+     *
+     * @param data The json data of the voice state.
+     * @return The voice state.
+     */
+    public static VoiceState fromJson(JsonNode data) {
+        boolean connected = data.hasNonNull("channel_id");
+        // The session id of a disconnected member is meaningless
+        return new VoiceState(
+                connected ? data.get("channel_id").asLong() : -1,
+                connected && data.hasNonNull("session_id") ? data.get("session_id").asText() : null,
+                data.path("self_mute").asBoolean(),
+                data.path("self_deaf").asBoolean(),
+                data.path("mute").asBoolean(),
+                data.path("deaf").asBoolean());
+    }
+
+    /**
+     * Gets the id of the connected voice channel.
+     *
+     * @return The id of the connected voice channel or {@code -1} if the member isn't connected.
+     */
+    public long getChannelId() {
+        return channelId;
+    }
+
+    /**
+     * Checks if the member is connected to a voice channel.
+     *
+     * @return Whether the member is connected to a voice channel.
+     */
+    public boolean isConnected() {
+        return channelId != -1;
+    }
+
+    /**
+     * Gets the voice session id.
+     *
+     * @return The voice session id.
+     */
+    public Optional<String> getSessionId() {
+        return Optional.ofNullable(sessionId);
+    }
+
+    /**
+     * Checks if the member is self-muted.
+     *
+     * @return Whether the member is self-muted.
+     */
+    public boolean isSelfMuted() {
+        return selfMuted;
+    }
+
+    /**
+     * Checks if the member is self-deafened.
+     *
+     * @return Whether the member is self-deafened.
+     */
+    public boolean isSelfDeafened() {
+        return selfDeafened;
+    }
+
+    /**
+     * Checks if the member is muted by the server.
+     *
+     * @return Whether the member is muted by the server.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Checks if the member is deafened by the server.
+     *
+     * @return Whether the member is deafened by the server.
+     */
+    public boolean isDeafened() {
+        return deafened;
+    }
+
+    /**
+     * Checks if this voice state doesn't hold any information, i.e. equals {@link #NONE}.
+     *
+     * @return Whether this voice state doesn't hold any information.
+     */
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+
+
+    /**
+     * Creates a copy of this voice state with the given muted state.
+     *
+     * @param muted Whether the member is muted by the server.
+     * @return The new voice state.
+     */
+    public VoiceState withMuted(boolean muted) {
+        return new VoiceState(channelId, sessionId, selfMuted, selfDeafened, muted, deafened);
+    }
+
+    /**
+     * Creates a copy of this voice state with the given deafened state.
+     *
+     * @param deafened Whether the member is deafened by the server.
+     * @return The new voice state.
+     */
+    public VoiceState withDeafened(boolean deafened) {
+        return new VoiceState(channelId, sessionId, selfMuted, selfDeafened, muted, deafened);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VoiceState)) {
+            return false;
+        }
+        VoiceState that = (VoiceState) o;
+        return channelId == that.channelId
+                && Objects.equals(sessionId, that.sessionId)
+                && selfMuted == that.selfMuted
+                && selfDeafened == that.selfDeafened
+                && muted == that.muted
+                && deafened == that.deafened;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(channelId, sessionId, selfMuted, selfDeafened, muted, deafened);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("VoiceState (channel id: %d, self-muted: %b, self-deafened: %b, muted: %b, "
+                + "deafened: %b)", channelId, selfMuted, selfDeafened, muted, deafened);
+    }
+
+}
@@ -140,6 +140,7 @@ public class UserImpl implements User, Cleanupable, InternalUserAttachableListen
      */
     public void setName(String name) {
         this.name = name;
+        api.updateUserName(this);
     }
 
     /**
@@ -0,0 +1,234 @@
+package org.javacord.core.entity.webhook;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.entity.webhook.Webhook;
+import org.javacord.api.entity.webhook.internal.WebhookClientDelegate;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.entity.message.embed.EmbedBuilderDelegateImpl;
+import org.javacord.core.util.concurrent.BatchQueue;
+import org.javacord.core.util.rest.RestEndpoint;
+import org.javacord.core.util.rest.RestMethod;
+import org.javacord.core.util.rest.RestRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The implementation of {@link WebhookClientDelegate}.
+ */
+public class WebhookClientDelegateImpl implements WebhookClientDelegate {
+
+    /**
+     * The maximum length of the content of a message.
+     */
+    private static final int MAX_CONTENT_LENGTH = 2000;
+
+    /**
+     * The maximum amount of embeds of a webhook message.
+     */
+    private static final int MAX_EMBEDS = 10;
+
+    /**
+     * The api instance that sends the requests.
+     */
+    private final DiscordApiImpl api;
+
+    /**
+     * Whether the api instance was created for this client and must be disconnected when it is closed.
+     */
+    private final boolean ownsApi;
+
+    private final String webhookId;
+    private final String webhookToken;
+
+    /**
+     * The queued lines and embeds. They are sent as soon as the previous batch was sent, so a webhook that is
+     * ratelimited sends fewer but fuller messages.
+     */
+    private final BatchQueue<QueuedPart, Void> queuedParts = new BatchQueue<>(WebhookBatch::new);
+
+    /**
+     * Creates a new webhook client delegate with an own REST-only api instance.
+     *
+     * @param webhookId The id of the webhook.
+     * @param webhookToken The token of the webhook.
+     */
+    public WebhookClientDelegateImpl(long webhookId, String webhookToken) {
+        if (webhookToken == null) {
+            throw new IllegalArgumentException("The webhook token must not be null");
+        }
+        // The webhook token is never sent as authorization, it only separates the global ratelimit budget
+        this.api = new DiscordApiImpl(webhookToken);
+        this.ownsApi = true;
+        this.webhookId = Long.toUnsignedString(webhookId);
+        this.webhookToken = webhookToken;
+    }
+
+    /**
+     * Creates a new webhook client delegate that uses the api instance of the webhook.
+     *
+     * @param webhook The webhook to execute.
+     */
+    public WebhookClientDelegateImpl(Webhook webhook) {
+        this.api = (DiscordApiImpl) webhook.getApi();
+        this.ownsApi = false;
+        this.webhookId = webhook.getIdAsString();
+        this.webhookToken = webhook.getToken()
+                .orElseThrow(() -> new IllegalArgumentException("The webhook has no token"));
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(String content) {
+        checkLine(content);
+        return executeWebhook(JsonNodeFactory.instance.objectNode().put("content", content));
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(EmbedBuilder... embeds) {
+        if (embeds.length > MAX_EMBEDS) {
+            throw new IllegalArgumentException("A webhook message can not have more than " + MAX_EMBEDS + " embeds");
+        }
+        ObjectNode body = JsonNodeFactory.instance.objectNode();
+        ArrayNode embedsJson = body.putArray("embeds");
+        for (EmbedBuilder embed : embeds) {
+            embedsJson.add(toJsonNode(embed));
+        }
+        return executeWebhook(body);
+    }
+
+    @Override
+    public CompletableFuture<Void> queueLine(String line) {
+        checkLine(line);
+        return queue(new QueuedPart(line, null));
+    }
+
+    @Override
+    public CompletableFuture<Void> queueEmbed(EmbedBuilder embed) {
+        return queue(new QueuedPart(null, toJsonNode(embed)));
+    }
+
+    @Override
+    public void close() {
+        queuedParts.close().thenRun(() -> {
+            if (ownsApi) {
+                api.disconnect();
+            }
+        });
+    }
+
+    /**
+     * Queues a line or an embed and sends it, if no other batch is being sent.
+     *
+     * @param part The line or embed.
+     * @return A future that completes when the batch of the part was sent.
+     */
+    private CompletableFuture<Void> queue(QueuedPart part) {
+        try {
+            return queuedParts.queue(part);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("The webhook client is closed", e);
+        }
+    }
+
+    /**
+     * Executes the webhook.
+     *
+     * @param body The body of the message.
+     * @return A future to check if the message was sent successfully.
+     */
+    private CompletableFuture<Void> executeWebhook(ObjectNode body) {
+        return new RestRequest<Void>(api, RestMethod.POST, RestEndpoint.WEBHOOK_EXECUTE)
+                .setUrlParameters(webhookId, webhookToken)
+                .includeAuthorizationHeader(false)
+                .setBody(body)
+                .execute(result -> null);
+    }
+
+    /**
+     * Checks that the given line fits into a message.
+     *
+     * @param line The line to check.
+     */
+    private static void checkLine(String line) {
+        if (line == null || line.isEmpty() || line.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException(
+                    "The content must not be empty and not be longer than " + MAX_CONTENT_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * Converts the given embed to json.
+     *
+     * @param embed The embed.
+     * @return The embed as json.
+     */
+    private static ObjectNode toJsonNode(EmbedBuilder embed) {
+        if (embed.requiresAttachments()) {
+            throw new IllegalArgumentException("Webhook clients can not send embeds with attachments");
+        }
+        return ((EmbedBuilderDelegateImpl) embed.getDelegate()).toJsonNode(JsonNodeFactory.instance.objectNode());
+    }
+
+    /**
+     * A queued line or embed.
+     */
+    private static class QueuedPart {
+
+        private final String line;
+        private final ObjectNode embed;
+
+        /**
+         * Creates a new queued part.
+         *
+         * @param line The line or {@code null} if it is an embed.
+         * @param embed The embed or {@code null} if it is a line.
+         */
+        private QueuedPart(String line, ObjectNode embed) {
+            this.line = line;
+            this.embed = embed;
+        }
+
+    }
+
+    /**
+     * The lines and embeds of a single webhook message.
+     */
+    private class WebhookBatch implements BatchQueue.Batch<QueuedPart, Void> {
+
+        private final StringBuilder content = new StringBuilder();
+        private final ObjectNode body = JsonNodeFactory.instance.objectNode();
+        private final ArrayNode embeds = body.putArray("embeds");
+
+        @Override
+        public boolean add(QueuedPart part) {
+            if (part.line != null) {
+                int separatorLength = content.length() == 0 ? 0 : 1;
+                if (content.length() + separatorLength + part.line.length() > MAX_CONTENT_LENGTH) {
+                    return false;
+                }
+                if (separatorLength > 0) {
+                    content.append('\n');
+                }
+                content.append(part.line);
+            } else {
+                if (embeds.size() >= MAX_EMBEDS) {
+                    return false;
+                }
+                embeds.add(part.embed);
+            }
+            return true;
+        }
+
+        @Override
+        public CompletableFuture<Void> send() {
+            if (content.length() > 0) {
+                body.put("content", content.toString());
+            }
+            return executeWebhook(body);
+        }
+
+    }
+
+}
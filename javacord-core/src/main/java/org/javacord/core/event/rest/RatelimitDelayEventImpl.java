@@ -0,0 +1,59 @@
+package org.javacord.core.event.rest;
+
+import org.javacord.api.event.rest.RatelimitDelayEvent;
+import org.javacord.api.util.rest.RatelimitBucketInformation;
+import org.javacord.api.util.rest.RestRequestInformation;
+import org.javacord.core.event.EventImpl;
+
+import java.time.Duration;
+
+/**
+ * The implementation of {@link RatelimitDelayEvent}.
+ */
+public class RatelimitDelayEventImpl extends EventImpl implements RatelimitDelayEvent {
+
+    /**
+     * The request that is delayed.
+     */
+    private final RestRequestInformation request;
+
+    /**
+     * The bucket of the request.
+     */
+    private final RatelimitBucketInformation bucket;
+
+    /**
+     * The time the request is delayed.
+     */
+    private final Duration delay;
+
+    /**
+     * Creates a new ratelimit delay event.
+     *
+     * @param request The request that is delayed.
+     * @param bucket The bucket of the request.
+     * @param delay The time the request is delayed.
+     */
+    public RatelimitDelayEventImpl(RestRequestInformation request, RatelimitBucketInformation bucket, Duration delay) {
+        super(request.getApi());
+        this.request = request;
+        this.bucket = bucket;
+        this.delay = delay;
+    }
+
+    @Override
+    public RestRequestInformation getRequest() {
+        return request;
+    }
+
+    @Override
+    public RatelimitBucketInformation getBucket() {
+        return bucket;
+    }
+
+    @Override
+    public Duration getDelay() {
+        return delay;
+    }
+
+}
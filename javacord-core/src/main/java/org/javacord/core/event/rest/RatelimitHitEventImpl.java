@@ -0,0 +1,58 @@
+package org.javacord.core.event.rest;
+
+import org.javacord.api.event.rest.RatelimitHitEvent;
+import org.javacord.api.util.rest.RestRequestInformation;
+import org.javacord.core.event.EventImpl;
+
+import java.time.Duration;
+
+/**
+ * The implementation of {@link RatelimitHitEvent}.
+ */
+public class RatelimitHitEventImpl extends EventImpl implements RatelimitHitEvent {
+
+    /**
+     * The request that hit the ratelimit.
+     */
+    private final RestRequestInformation request;
+
+    /**
+     * Whether the global ratelimit was hit.
+     */
+    private final boolean global;
+
+    /**
+     * The time to wait before retrying.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Creates a new ratelimit hit event.
+     *
+     * @param request The request that hit the ratelimit.
+     * @param global Whether the global ratelimit was hit.
+     * @param retryAfter The time to wait before retrying.
+     */
+    public RatelimitHitEventImpl(RestRequestInformation request, boolean global, Duration retryAfter) {
+        super(request.getApi());
+        this.request = request;
+        this.global = global;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public RestRequestInformation getRequest() {
+        return request;
+    }
+
+    @Override
+    public boolean isGlobal() {
+        return global;
+    }
+
+    @Override
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -28,12 +28,16 @@ import org.javacord.api.entity.server.internal.ServerUpdaterDelegate;
 import org.javacord.api.entity.server.invite.internal.InviteBuilderDelegate;
 import org.javacord.api.entity.webhook.Webhook;
 import org.javacord.api.entity.webhook.internal.WebhookBuilderDelegate;
+import org.javacord.api.entity.webhook.internal.WebhookClientDelegate;
 import org.javacord.api.entity.webhook.internal.WebhookUpdaterDelegate;
 import org.javacord.api.internal.AccountUpdaterDelegate;
 import org.javacord.api.internal.DiscordApiBuilderDelegate;
 import org.javacord.api.util.exception.DiscordExceptionValidator;
+import org.javacord.api.util.gateway.internal.FileIdentifySchedulerDelegate;
 import org.javacord.api.util.internal.DelegateFactoryDelegate;
 import org.javacord.api.util.logging.internal.ExceptionLoggerDelegate;
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorDelegate;
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorServerDelegate;
 import org.javacord.core.AccountUpdaterDelegateImpl;
 import org.javacord.core.DiscordApiBuilderDelegateImpl;
 import org.javacord.core.DiscordApiImpl;
@@ -56,9 +60,16 @@ import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.entity.server.ServerUpdaterDelegateImpl;
 import org.javacord.core.entity.server.invite.InviteBuilderDelegateImpl;
 import org.javacord.core.entity.webhook.WebhookBuilderDelegateImpl;
+import org.javacord.core.entity.webhook.WebhookClientDelegateImpl;
 import org.javacord.core.entity.webhook.WebhookUpdaterDelegateImpl;
 import org.javacord.core.util.exception.DiscordExceptionValidatorImpl;
+import org.javacord.core.util.gateway.FileIdentifySchedulerDelegateImpl;
 import org.javacord.core.util.logging.ExceptionLoggerDelegateImpl;
+import org.javacord.core.util.ratelimit.TcpRatelimitCoordinatorDelegateImpl;
+import org.javacord.core.util.ratelimit.TcpRatelimitCoordinatorServerDelegateImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * The implementation of {@link DelegateFactoryDelegate}.
@@ -175,6 +186,32 @@ public class DelegateFactoryDelegateImpl implements DelegateFactoryDelegate {
         return new WebhookUpdaterDelegateImpl(webhook);
     }
 
+    @Override
+    public WebhookClientDelegate createWebhookClientDelegate(long webhookId, String webhookToken) {
+        return new WebhookClientDelegateImpl(webhookId, webhookToken);
+    }
+
+    @Override
+    public WebhookClientDelegate createWebhookClientDelegate(Webhook webhook) {
+        return new WebhookClientDelegateImpl(webhook);
+    }
+
+    @Override
+    public TcpRatelimitCoordinatorDelegate createTcpRatelimitCoordinatorDelegate(String host, int port) {
+        return new TcpRatelimitCoordinatorDelegateImpl(host, port);
+    }
+
+    @Override
+    public TcpRatelimitCoordinatorServerDelegate createTcpRatelimitCoordinatorServerDelegate(int port)
+            throws IOException {
+        return new TcpRatelimitCoordinatorServerDelegateImpl(port);
+    }
+
+    @Override
+    public FileIdentifySchedulerDelegate createFileIdentifySchedulerDelegate(Path directory) {
+        return new FileIdentifySchedulerDelegateImpl(directory);
+    }
+
     @Override
     public ExceptionLoggerDelegate createExceptionLoggerDelegate() {
         return new ExceptionLoggerDelegateImpl();
@@ -1,22 +1,25 @@
 package org.javacord.core.util;
 
-import org.apache.logging.log4j.Logger;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
 import org.javacord.api.DiscordApi;
-import org.javacord.api.Javacord;
 import org.javacord.api.entity.Icon;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.util.io.DownloadManager;
 import org.javacord.core.util.io.FileUtils;
-import org.javacord.core.util.logging.LoggerUtil;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -26,11 +29,6 @@ import java.util.concurrent.CompletionException;
  */
 public class FileContainer {
 
-    /**
-     * The logger of this class.
-     */
-    private static final Logger logger = LoggerUtil.getLogger(FileContainer.class);
-
     /**
      * The file as buffered image.
      */
@@ -206,22 +204,18 @@ public class FileContainer {
                 future.complete(fileAsByteArray);
                 return future;
             }
+            if (fileAsIcon != null || fileAsUrl != null) {
+                return downloadManager(api).downloadAsByteArray(getUrl(), fileAsIcon != null);
+            }
             if (fileAsBufferedImage != null
                     || fileAsFile != null
                     || fileAsIcon != null
                     || fileAsUrl != null
                     || fileAsInputStream != null) {
                 asInputStream(api).thenApply(stream -> {
-                    try (
-                            InputStream in = new BufferedInputStream(stream);
-                            ByteArrayOutputStream out = new ByteArrayOutputStream()
-                    ) {
-                        byte[] buf = new byte[1024];
-                        int n;
-                        while (-1 != (n = in.read(buf))) {
-                            out.write(buf, 0, n);
-                        }
-                        return out.toByteArray();
+                    // Okio reads into pooled segments and copies the content only once into the final array
+                    try (Source source = Okio.source(stream)) {
+                        return Okio.buffer(source).readByteArray();
                     } catch (IOException e) {
                         throw new CompletionException(e);
                     }
@@ -241,6 +235,32 @@ public class FileContainer {
         return future;
     }
 
+    /**
+     * Gets a request body that uploads the file.
+     *
+     * <p>Files are streamed into the request without loading them into the heap. Input streams can only be read once,
+     * so their content is kept while it is streamed into the request, and a retried request uploads it again. Buffered
+     * images are encoded and urls are downloaded asynchronously, so the downloads of several containers run
+     * concurrently.
+     *
+     * @param api The discord api instance.
+     * @param mediaType The media type of the file.
+     * @return The request body for the file.
+     */
+    public CompletableFuture<RequestBody> asRequestBody(DiscordApi api, MediaType mediaType) {
+        if (fileAsFile != null) {
+            // Streamed from the file system with a known content length
+            return CompletableFuture.completedFuture(RequestBody.create(mediaType, fileAsFile));
+        }
+        if (fileAsByteArray != null) {
+            return CompletableFuture.completedFuture(RequestBody.create(mediaType, fileAsByteArray));
+        }
+        if (fileAsInputStream != null) {
+            return CompletableFuture.completedFuture(new InputStreamRequestBody(mediaType, fileAsInputStream));
+        }
+        return asByteArray(api).thenApply(bytes -> RequestBody.create(mediaType, bytes));
+    }
+
     /**
      * Gets the input stream for the file.
      *
@@ -261,21 +281,7 @@ public class FileContainer {
                 return future;
             }
             if (fileAsIcon != null || fileAsUrl != null) {
-                URL url = fileAsUrl == null ? fileAsIcon.getUrl() : fileAsUrl;
-                api.getThreadPool().getExecutorService().submit(() -> {
-                    try {
-                        logger.debug("Trying to download file from {}", url);
-                        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-                        conn.setRequestMethod("GET");
-                        conn.setRequestProperty("Content-Type", "application/json; charset=utf-8");
-                        conn.setRequestProperty("User-Agent", Javacord.USER_AGENT);
-                        future.complete(conn.getInputStream());
-                        logger.debug("Downloaded file from {} (content length: {})", url, conn.getContentLength());
-                    } catch (Throwable t) {
-                        future.completeExceptionally(t);
-                    }
-                });
-                return future;
+                return downloadManager(api).downloadAsInputStream(getUrl(), fileAsIcon != null);
             }
             if (fileAsByteArray != null) {
                 future.complete(new ByteArrayInputStream(fileAsByteArray));
@@ -292,6 +298,26 @@ public class FileContainer {
         return future;
     }
 
+    /**
+     * Gets the url of the file, if it is an icon or url.
+     *
+     * @return The url of the file.
+     */
+    private URL getUrl() {
+        return fileAsUrl == null ? fileAsIcon.getUrl() : fileAsUrl;
+    }
+
+    /**
+     * Gets the download manager of the given api instance.
+     * Icons never change their url, so they may be served from the download cache.
+     *
+     * @param api The discord api instance.
+     * @return The download manager.
+     */
+    private static DownloadManager downloadManager(DiscordApi api) {
+        return ((DiscordApiImpl) api).getDownloadManager();
+    }
+
     /**
      * Gets the file as {@link BufferedImage}.
      *
@@ -310,4 +336,82 @@ public class FileContainer {
                 });
     }
 
+    /**
+     * A request body that streams an input stream into the request.
+     *
+     * <p>Everything that is read from the stream is kept in a buffer, so the body can be written again if the request
+     * is retried, e.g. after a ratelimit or a failed connection. If a write fails, the next write continues to read the
+     * stream after the buffered content.
+     */
+    private static class InputStreamRequestBody extends RequestBody {
+
+        /**
+         * The amount of bytes that is read from the stream at once, which is the size of an Okio segment.
+         */
+        private static final long READ_SIZE = 8192;
+
+        private final MediaType mediaType;
+        private final InputStream inputStream;
+        private final Source source;
+
+        /**
+         * The content that was already read from the stream.
+         */
+        private final Buffer readContent = new Buffer();
+
+        /**
+         * Whether the stream was read completely and closed.
+         */
+        private boolean exhausted = false;
+
+        /**
+         * Creates a new input stream request body.
+         *
+         * @param mediaType The media type of the content.
+         * @param inputStream The input stream with the content.
+         */
+        private InputStreamRequestBody(MediaType mediaType, InputStream inputStream) {
+            this.mediaType = mediaType;
+            this.inputStream = inputStream;
+            source = Okio.source(inputStream);
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public synchronized long contentLength() throws IOException {
+            if (exhausted) {
+                return readContent.size();
+            }
+            if (inputStream instanceof FileInputStream) {
+                // A known length allows a fixed length multipart body instead of chunked encoding
+                FileInputStream fileInputStream = (FileInputStream) inputStream;
+                return readContent.size()
+                        + fileInputStream.getChannel().size() - fileInputStream.getChannel().position();
+            }
+            return -1;
+        }
+
+        @Override
+        public synchronized void writeTo(BufferedSink sink) throws IOException {
+            // Copying between buffers shares the segments instead of copying the bytes
+            readContent.copyTo(sink.buffer(), 0, readContent.size());
+            sink.emitCompleteSegments();
+            if (exhausted) {
+                return;
+            }
+            long read;
+            while ((read = source.read(readContent, READ_SIZE)) != -1) {
+                readContent.copyTo(sink.buffer(), readContent.size() - read, read);
+                sink.emitCompleteSegments();
+            }
+            exhausted = true;
+            source.close();
+        }
+
+    }
+
 }
@@ -0,0 +1,146 @@
+package org.javacord.core.util.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A case-insensitive index from names to the ids of the entities with this name.
+ *
+ * <p>Names are case-folded the same way {@link String#equalsIgnoreCase(String)} compares them, so exact lookups
+ * are a single map access and prefix lookups are a range scan. The index only stores ids, so it does not keep
+ * entities from being garbage collected.
+ */
+public class NameIndex {
+
+    /**
+     * The ids of the entities by their case-folded name. It is sorted, so all names with the same prefix are next to
+     * each other.
+     */
+    private final NavigableMap<String, Set<Long>> idsByName = new TreeMap<>();
+
+    /**
+     * The case-folded names of the indexed entities. The key is the id of the entity.
+     */
+    private final Map<Long, String> namesById = new HashMap<>();
+
+    /**
+     * Sets the name of an entity.
+     *
+     * @param id The id of the entity.
+     * @param name The name of the entity or {@code null} to remove it from the index.
+     */
+    public synchronized void put(long id, String name) {
+        if (name == null) {
+            remove(id);
+            return;
+        }
+        String foldedName = fold(name);
+        String oldName = namesById.put(id, foldedName);
+        if (foldedName.equals(oldName)) {
+            return;
+        }
+        if (oldName != null) {
+            removeId(oldName, id);
+        }
+        idsByName.computeIfAbsent(foldedName, key -> new LinkedHashSet<>()).add(id);
+    }
+
+    /**
+     * Removes an entity from the index.
+     *
+     * @param id The id of the entity.
+     */
+    public synchronized void remove(long id) {
+        String oldName = namesById.remove(id);
+        if (oldName != null) {
+            removeId(oldName, id);
+        }
+    }
+
+    /**
+     * Removes all entities from the index.
+     */
+    public synchronized void clear() {
+        idsByName.clear();
+        namesById.clear();
+    }
+
+    /**
+     * Gets the ids of all entities with the given name, ignoring the case.
+     *
+     * @param name The name. No entity has the name {@code null}.
+     * @return The ids of the entities.
+     */
+    public synchronized List<Long> get(String name) {
+        if (name == null) {
+            return Collections.emptyList();
+        }
+        Set<Long> ids = idsByName.get(fold(name));
+        return ids == null ? Collections.emptyList() : new ArrayList<>(ids);
+    }
+
+    /**
+     * Gets the ids of all entities with a name that starts with the given prefix, ignoring the case.
+     * The ids are sorted by the case-folded names of the entities.
+     *
+     * @param prefix The prefix of the name. No entity has a name that starts with {@code null}.
+     * @return The ids of the entities.
+     */
+    public synchronized List<Long> getByPrefix(String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+        String foldedPrefix = fold(prefix);
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<String, Set<Long>> entry : idsByName.tailMap(foldedPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            result.addAll(entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Removes the id from the entities with the given case-folded name.
+     *
+     * @param foldedName The case-folded name.
+     * @param id The id of the entity.
+     */
+    private void removeId(String foldedName, long id) {
+        Set<Long> ids = idsByName.get(foldedName);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByName.remove(foldedName);
+            }
+        }
+    }
+
+    /**
+     * Case-folds the given name.
+     * Two names are equal after folding if and only if {@link String#equalsIgnoreCase(String)} returns
+     * {@code true} for them. Since Java 9, supplementary characters are compared by code point, so they are folded
+     * as a whole instead of by their surrogates.
+     *
+     * @param name The name to fold.
+     * @return The case-folded name.
+     */
+    public static String fold(String name) {
+        StringBuilder foldedName = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); ) {
+            int codePoint = name.codePointAt(i);
+            foldedName.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return foldedName.toString();
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.javacord.core.util.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A queue that merges parts, e.g. lines of text, into batches that are sent as a single request.
+ *
+ * <p>Only one batch is sent at a time. Parts that are queued while a batch is being sent are collected for the next
+ * batch, so a ratelimited destination receives fewer but fuller batches. Parts are sent in the order they were queued,
+ * and a batch ends at the first part that does not fit into it anymore.
+ *
+ * <p>With a window, parts are additionally held back for the duration of the window after the first of them was
+ * queued, unless they already fill a whole batch.
+ *
+ * @param <P> The type of the parts.
+ * @param <R> The type of the result of sending a batch.
+ */
+public class BatchQueue<P, R> {
+
+    private final Supplier<? extends Batch<P, R>> batchFactory;
+    private final ScheduledExecutorService scheduler;
+    private final Duration window;
+
+    /**
+     * The parts that were not sent yet, in the order they were queued.
+     */
+    private final Deque<QueuedPart<P, R>> queuedParts = new ArrayDeque<>();
+
+    /**
+     * The batch of the first queued parts, or {@code null} if no part is queued.
+     * It is filled as parts are queued, so a full batch is detected without iterating over the queued parts.
+     */
+    private Batch<P, R> nextBatch = null;
+    private int nextBatchSize = 0;
+    private boolean nextBatchFull = false;
+
+    private boolean flushScheduled = false;
+    private boolean sending = false;
+    private boolean closed = false;
+    private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+    /**
+     * Creates a new batch queue that sends parts as soon as no other batch is being sent.
+     *
+     * @param batchFactory Creates empty batches.
+     */
+    public BatchQueue(Supplier<? extends Batch<P, R>> batchFactory) {
+        this(batchFactory, null, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new batch queue that holds parts back for the given window.
+     *
+     * @param batchFactory Creates empty batches.
+     * @param scheduler The scheduler that sends the parts after the window. Not used if the window is zero.
+     * @param window How long parts are held back before they are sent. Must not be negative.
+     */
+    public BatchQueue(
+            Supplier<? extends Batch<P, R>> batchFactory, ScheduledExecutorService scheduler, Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("The window must not be negative");
+        }
+        this.batchFactory = batchFactory;
+        this.scheduler = scheduler;
+        this.window = window;
+    }
+
+    /**
+     * Queues a part.
+     *
+     * @param part The part. It must fit into an empty batch.
+     * @return The result of the batch that contains the part.
+     * @throws IllegalStateException If the queue is closed.
+     */
+    public synchronized CompletableFuture<R> queue(P part) {
+        if (closed) {
+            throw new IllegalStateException("The queue is closed");
+        }
+        QueuedPart<P, R> queuedPart = new QueuedPart<>(part);
+        queuedParts.add(queuedPart);
+        addToNextBatch(part);
+        if (sending) {
+            return queuedPart.future;
+        }
+        if (nextBatchFull || window.isZero()) {
+            // A full batch does not get any better by waiting
+            sendNextBatch();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(() -> {
+                synchronized (this) {
+                    flushScheduled = false;
+                    sendNextBatch();
+                }
+            }, window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return queuedPart.future;
+    }
+
+    /**
+     * Sends the queued parts immediately instead of waiting for the window to end.
+     */
+    public synchronized void flush() {
+        sendNextBatch();
+    }
+
+    /**
+     * Closes the queue. Parts that were already queued are still sent.
+     *
+     * @return A future that completes when all queued parts were sent.
+     */
+    public synchronized CompletableFuture<Void> close() {
+        closed = true;
+        completeCloseFutureIfDone();
+        return closeFuture;
+    }
+
+    /**
+     * Adds the given part to the next batch, unless the next batch is already full.
+     *
+     * @param part The part.
+     */
+    private void addToNextBatch(P part) {
+        if (nextBatchFull) {
+            return;
+        }
+        if (nextBatch == null) {
+            nextBatch = batchFactory.get();
+        }
+        if (nextBatch.add(part)) {
+            nextBatchSize++;
+        } else {
+            nextBatchFull = true;
+        }
+    }
+
+    /**
+     * Sends the next batch, if no other batch is being sent.
+     */
+    private synchronized void sendNextBatch() {
+        if (sending || queuedParts.isEmpty()) {
+            return;
+        }
+        Batch<P, R> batch = nextBatch;
+        List<CompletableFuture<R>> futures = new ArrayList<>(nextBatchSize);
+        for (int i = 0; i < nextBatchSize; i++) {
+            futures.add(queuedParts.poll().future);
+        }
+        nextBatch = null;
+        nextBatchSize = 0;
+        nextBatchFull = false;
+        for (QueuedPart<P, R> queuedPart : queuedParts) {
+            addToNextBatch(queuedPart.part);
+            if (nextBatchFull) {
+                break;
+            }
+        }
+
+        sending = true;
+        CompletableFuture<R> batchFuture;
+        try {
+            batchFuture = batch.send();
+        } catch (Throwable t) {
+            batchFuture = new CompletableFuture<>();
+            batchFuture.completeExceptionally(t);
+        }
+        batchFuture.whenComplete((result, throwable) -> {
+            synchronized (this) {
+                sending = false;
+                // The parts of the meantime already waited for this batch
+                sendNextBatch();
+                completeCloseFutureIfDone();
+            }
+            futures.forEach(future -> {
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Completes the close future, once the queue is closed and all queued parts were sent.
+     */
+    private void completeCloseFutureIfDone() {
+        if (closed && !sending && queuedParts.isEmpty()) {
+            closeFuture.complete(null);
+        }
+    }
+
+    /**
+     * A batch of parts that is sent as a single request.
+     *
+     * @param <P> The type of the parts.
+     * @param <R> The type of the result of sending the batch.
+     */
+    public interface Batch<P, R> {
+
+        /**
+         * Adds a part to the batch, if it still fits.
+         * The first part of a batch must always fit.
+         *
+         * @param part The part.
+         * @return Whether the part was added.
+         */
+        boolean add(P part);
+
+        /**
+         * Sends the batch. It is only called once.
+         *
+         * @return The result of sending the batch.
+         */
+        CompletableFuture<R> send();
+
+    }
+
+    /**
+     * A part that was not sent yet.
+     *
+     * @param <P> The type of the part.
+     * @param <R> The type of the result of sending the batch of the part.
+     */
+    private static class QueuedPart<P, R> {
+
+        private final P part;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        /**
+         * Creates a new queued part.
+         *
+         * @param part The part.
+         */
+        private QueuedPart(P part) {
+            this.part = part;
+        }
+
+    }
+
+}
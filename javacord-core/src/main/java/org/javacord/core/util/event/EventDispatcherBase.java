@@ -2,12 +2,18 @@ package org.javacord.core.util.event;
 
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.util.event.EventDispatchStatistics;
+import org.javacord.api.util.event.ListenerExecutionStatistics;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.metrics.Timer;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.util.logging.LoggerUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -15,16 +21,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * This class is the base for the class used to dispatch events.
  */
-public abstract class EventDispatcherBase {
+public abstract class EventDispatcherBase implements EventDispatchStatistics {
 
     /**
      * The logger of this class.
@@ -59,7 +67,7 @@ public abstract class EventDispatcherBase {
     /**
      * This map which holds a queue for every object (usually a server) with tasks to call the waiting listeners.
      */
-    private final Map<DispatchQueueSelector, Queue<Runnable>> queuedListenerTasks =
+    private final Map<DispatchQueueSelector, Queue<ListenerTask>> queuedListenerTasks =
             Collections.synchronizedMap(new HashMap<>());
 
     /**
@@ -75,6 +83,19 @@ public abstract class EventDispatcherBase {
     private final Map<AtomicReference<Future<?>>, Object[]> activeListeners =
             Collections.synchronizedMap(new HashMap<>());
 
+    /**
+     * The execution statistics of all listener classes which were called so far.
+     */
+    private final Map<Class<?>, ListenerExecutionStatisticsImpl> listenerExecutionStatistics =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The timers for the time between queuing and starting a listener task, by the type of the queue.
+     */
+    private final Timer serverDispatchLatencyTimer;
+    private final Timer globalDispatchLatencyTimer;
+    private final Timer connectionDispatchLatencyTimer;
+
     /**
      * Creates a new event dispatcher.
      *
@@ -83,6 +104,13 @@ public abstract class EventDispatcherBase {
     protected EventDispatcherBase(DiscordApiImpl api) {
         this.api = api;
         queuedListenerTasks.put(null, new ConcurrentLinkedQueue<>());
+        MeterRegistry meterRegistry = api.getShardMeterRegistry();
+        serverDispatchLatencyTimer = meterRegistry.timer("javacord.events.dispatch.latency", "queue", "server");
+        globalDispatchLatencyTimer = meterRegistry.timer("javacord.events.dispatch.latency", "queue", "global");
+        connectionDispatchLatencyTimer =
+                meterRegistry.timer("javacord.events.dispatch.latency", "queue", "connection");
+        meterRegistry.gauge("javacord.events.queued", this::getQueueSize);
+        meterRegistry.gauge("javacord.events.queued.global", this::getGlobalQueueSize);
         api.getThreadPool().getScheduler().scheduleAtFixedRate(() -> {
             try {
                 if (!executionTimeCheckingEnabled) {
@@ -159,6 +187,30 @@ public abstract class EventDispatcherBase {
         executionTimeCheckingEnabled = enable;
     }
 
+    /**
+     * Appends listeners to a list of listeners that are going to be dispatched.
+     * Neither of the given lists is modified. As long as at most one of them is non-empty, no new list is created.
+     *
+     * @param listeners The listeners collected so far.
+     * @param additionalListeners The listeners to append.
+     * @param <T> The type of the listener.
+     * @return A list with the listeners of both lists.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> List<T> appendListeners(List<T> listeners, List<? extends T> additionalListeners) {
+        if (additionalListeners.isEmpty()) {
+            return listeners;
+        }
+        if (listeners.isEmpty()) {
+            // Both lists are only read, so the cast is safe
+            return (List<T>) additionalListeners;
+        }
+        List<T> combinedListeners = new ArrayList<>(listeners.size() + additionalListeners.size());
+        combinedListeners.addAll(listeners);
+        combinedListeners.addAll(additionalListeners);
+        return combinedListeners;
+    }
+
     /**
      * Dispatches an event to the given listeners using the provided consumer.
      * Calling this method usually looks like this:
@@ -179,10 +231,13 @@ public abstract class EventDispatcherBase {
      * @param <T>           The type of the listener.
      */
     protected <T> void dispatchEvent(DispatchQueueSelector queueSelector, List<T> listeners, Consumer<T> consumer) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         api.getThreadPool().getSingleThreadExecutorService("Event Dispatch Queues Manager").submit(() -> {
             if (queueSelector != null) { // Object dependent listeners
                 // Don't allow adding of more events while there are unfinished object independent tasks
-                Queue<Runnable> objectIndependentQueue = queuedListenerTasks.get(null);
+                Queue<ListenerTask> objectIndependentQueue = queuedListenerTasks.get(null);
                 while (!objectIndependentQueue.isEmpty()) {
                     try {
                         synchronized (queuedListenerTasks) {
@@ -192,9 +247,11 @@ public abstract class EventDispatcherBase {
                     } catch (InterruptedException ignored) { }
                 }
             }
-            Queue<Runnable> queue = queuedListenerTasks.computeIfAbsent(
+            Queue<ListenerTask> queue = queuedListenerTasks.computeIfAbsent(
                     queueSelector, o -> new ConcurrentLinkedQueue<>());
-            listeners.forEach(listener -> queue.add(() -> consumer.accept(listener)));
+            long enqueueTime = System.nanoTime();
+            listeners.forEach(listener ->
+                    queue.add(new ListenerTask(listener.getClass(), enqueueTime, () -> consumer.accept(listener))));
             checkRunningListenersAndStartIfPossible(queueSelector);
         });
     }
@@ -215,7 +272,7 @@ public abstract class EventDispatcherBase {
             // if either
             // - running for object-independent tasks or
             // - running for object-dependent tasks, but queue is empty or not present
-            Queue<Runnable> queue = queueSelector == null ? null : queuedListenerTasks.get(queueSelector);
+            Queue<ListenerTask> queue = queueSelector == null ? null : queuedListenerTasks.get(queueSelector);
             if (queue == null || queue.isEmpty()) {
                 // if no object-independent tasks to be processed everything is fine, return
                 if (queuedListenerTasks.get(null).isEmpty()) {
@@ -238,7 +295,7 @@ public abstract class EventDispatcherBase {
                 queue = queuedListenerTasks.get(null);
             }
             DispatchQueueSelector finalQueueSelector = queueSelector;
-            Queue<Runnable> taskQueue = queue;
+            Queue<ListenerTask> taskQueue = queue;
             // if there is something to execute and there is task running already
             if (!queue.isEmpty() && runningListeners.add(finalQueueSelector)) {
                 AtomicReference<Future<?>> activeListener = new AtomicReference<>();
@@ -260,12 +317,21 @@ public abstract class EventDispatcherBase {
                         }
                     }
                     // Add the future to the list of active listeners
-                    activeListeners.put(activeListener, new Object[]{System.nanoTime(), finalQueueSelector});
+                    long startTime = System.nanoTime();
+                    activeListeners.put(activeListener, new Object[]{startTime, finalQueueSelector});
+                    ListenerTask task = taskQueue.poll();
+                    getDispatchLatencyTimer(finalQueueSelector)
+                            .record(startTime - task.enqueueTime, TimeUnit.NANOSECONDS);
                     try {
-                        taskQueue.poll().run();
+                        task.runnable.run();
                     } catch (Throwable t) {
                         logger.error("Unhandled exception in {}!", () -> getThreadType(finalQueueSelector), () -> t);
                     }
+                    listenerExecutionStatistics
+                            .computeIfAbsent(task.listenerClass, listenerClass -> new ListenerExecutionStatisticsImpl(
+                                    api, listenerClass, api.getShardMeterRegistry().timer(
+                                            "javacord.events.listener.execution", "listener", listenerClass.getName())))
+                            .record(System.nanoTime() - startTime, finalQueueSelector);
                     activeListeners.remove(activeListener);
                     runningListeners.remove(finalQueueSelector);
                     // Inform the dispatchEvent method that it maybe can queue new listeners now
@@ -278,6 +344,69 @@ public abstract class EventDispatcherBase {
         }
     }
 
+    @Override
+    public int getQueueSize() {
+        synchronized (queuedListenerTasks) {
+            return queuedListenerTasks.values().stream().mapToInt(Queue::size).sum();
+        }
+    }
+
+    @Override
+    public int getQueueSize(Server server) {
+        Queue<ListenerTask> queue = queuedListenerTasks.get(server);
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public int getGlobalQueueSize() {
+        synchronized (queuedListenerTasks) {
+            return queuedListenerTasks.entrySet().stream()
+                    .filter(entry -> !(entry.getKey() instanceof Server))
+                    .mapToInt(entry -> entry.getValue().size())
+                    .sum();
+        }
+    }
+
+    @Override
+    public Map<Server, Integer> getServerQueueSizes() {
+        Map<Server, Integer> queueSizes = new HashMap<>();
+        synchronized (queuedListenerTasks) {
+            queuedListenerTasks.forEach((queueSelector, queue) -> {
+                int queueSize = queue.size();
+                if (queueSelector instanceof Server && queueSize > 0) {
+                    queueSizes.put((Server) queueSelector, queueSize);
+                }
+            });
+        }
+        return Collections.unmodifiableMap(queueSizes);
+    }
+
+    @Override
+    public List<ListenerExecutionStatistics> getListenerExecutionStatistics() {
+        return Collections.unmodifiableList(new ArrayList<>(listenerExecutionStatistics.values()));
+    }
+
+    @Override
+    public List<ListenerExecutionStatistics> getSlowestListeners(int limit) {
+        return Collections.unmodifiableList(listenerExecutionStatistics.values().stream()
+                .sorted(Comparator.comparing(ListenerExecutionStatistics::getMaxExecutionTime).reversed())
+                .limit(limit)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the timer for the time between queuing and starting listener tasks of the given queue.
+     *
+     * @param queueSelector The queue selector.
+     * @return The timer for the queue.
+     */
+    private Timer getDispatchLatencyTimer(DispatchQueueSelector queueSelector) {
+        if (queueSelector instanceof Server) {
+            return serverDispatchLatencyTimer;
+        }
+        return queueSelector == null ? connectionDispatchLatencyTimer : globalDispatchLatencyTimer;
+    }
+
     /**
      * Gets the thread type used in log message for the given queue selector.
      *
@@ -296,4 +425,28 @@ public abstract class EventDispatcherBase {
         return threadType;
     }
 
+    /**
+     * A queued call of a listener.
+     */
+    private static class ListenerTask {
+
+        private final Class<?> listenerClass;
+        private final long enqueueTime;
+        private final Runnable runnable;
+
+        /**
+         * Creates a new listener task.
+         *
+         * @param listenerClass The class of the listener.
+         * @param enqueueTime The time the task was queued, as returned by {@link System#nanoTime()}.
+         * @param runnable The runnable that calls the listener.
+         */
+        private ListenerTask(Class<?> listenerClass, long enqueueTime, Runnable runnable) {
+            this.listenerClass = listenerClass;
+            this.enqueueTime = enqueueTime;
+            this.runnable = runnable;
+        }
+
+    }
+
 }
@@ -0,0 +1,119 @@
+package org.javacord.core.util.event;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.util.event.ListenerExecutionStatistics;
+import org.javacord.api.util.metrics.Timer;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The implementation of {@link ListenerExecutionStatistics}.
+ */
+public class ListenerExecutionStatisticsImpl implements ListenerExecutionStatistics {
+
+    private final DiscordApi api;
+    private final Class<?> listenerClass;
+    private final Timer executionTimer;
+
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+
+    /**
+     * The longest call so far. Its time and server are replaced together, so they always belong to the same call.
+     */
+    private final AtomicReference<MaxExecution> maxExecution = new AtomicReference<>(new MaxExecution(0, -1));
+
+    /**
+     * Creates new execution statistics for a listener class.
+     *
+     * @param api The discord api instance.
+     * @param listenerClass The class of the listener.
+     * @param executionTimer The timer the execution times are additionally reported to.
+     */
+    public ListenerExecutionStatisticsImpl(DiscordApi api, Class<?> listenerClass, Timer executionTimer) {
+        this.api = api;
+        this.listenerClass = listenerClass;
+        this.executionTimer = executionTimer;
+    }
+
+    /**
+     * Records a call of a listener.
+     *
+     * @param executionNanos The execution time of the call in nanoseconds.
+     * @param queueSelector The queue selector of the dispatched event.
+     */
+    public void record(long executionNanos, DispatchQueueSelector queueSelector) {
+        executionCount.increment();
+        totalExecutionNanos.add(executionNanos);
+        executionTimer.record(executionNanos, TimeUnit.NANOSECONDS);
+        MaxExecution currentMaxExecution = maxExecution.get();
+        if (executionNanos <= currentMaxExecution.nanos) {
+            return;
+        }
+        MaxExecution newMaxExecution = new MaxExecution(
+                executionNanos, (queueSelector instanceof Server) ? ((Server) queueSelector).getId() : -1);
+        while (executionNanos > currentMaxExecution.nanos
+                && !maxExecution.compareAndSet(currentMaxExecution, newMaxExecution)) {
+            currentMaxExecution = maxExecution.get();
+        }
+    }
+
+    @Override
+    public Class<?> getListenerClass() {
+        return listenerClass;
+    }
+
+    @Override
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    @Override
+    public Duration getTotalExecutionTime() {
+        return Duration.ofNanos(totalExecutionNanos.sum());
+    }
+
+    @Override
+    public Duration getMaxExecutionTime() {
+        return Duration.ofNanos(maxExecution.get().nanos);
+    }
+
+    @Override
+    public Optional<Server> getMaxExecutionTimeServer() {
+        long serverId = maxExecution.get().serverId;
+        return serverId == -1 ? Optional.empty() : api.getServerById(serverId);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ListenerExecutionStatistics (listener: %s, executions: %d, max execution time: %s)",
+                getListenerClass().getName(), getExecutionCount(), getMaxExecutionTime());
+    }
+
+    /**
+     * The execution time and server of a call.
+     */
+    private static class MaxExecution {
+
+        private final long nanos;
+        private final long serverId;
+
+        /**
+         * Creates a new max execution.
+         *
+         * @param nanos The execution time of the call in nanoseconds.
+         * @param serverId The id of the server of the call, or {@code -1} if it has no server.
+         */
+        private MaxExecution(long nanos, long serverId) {
+            this.nanos = nanos;
+            this.serverId = serverId;
+        }
+
+    }
+
+}
@@ -20,11 +20,14 @@ import org.javacord.api.entity.user.User;
 import org.javacord.api.event.connection.LostConnectionEvent;
 import org.javacord.api.event.connection.ReconnectEvent;
 import org.javacord.api.event.connection.ResumeEvent;
+import org.javacord.api.util.gateway.IdentifyScheduler;
+import org.javacord.api.util.metrics.Counter;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.metrics.Timer;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.event.connection.LostConnectionEventImpl;
 import org.javacord.core.event.connection.ReconnectEventImpl;
 import org.javacord.core.event.connection.ResumeEventImpl;
-import org.javacord.core.util.concurrent.ThreadFactory;
 import org.javacord.core.util.handler.ReadyHandler;
 import org.javacord.core.util.handler.ResumedHandler;
 import org.javacord.core.util.handler.channel.ChannelCreateHandler;
@@ -68,6 +71,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -77,12 +81,9 @@ import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -134,32 +135,41 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     // A reconnect attempt counter
     private final AtomicInteger reconnectAttempt = new AtomicInteger();
 
+    // The round-trip time of the heartbeats
+    private final HeartbeatLatency heartbeatLatency;
+
+    // The metrics of the gateway
+    private final Timer inflateTimer;
+    private final Timer parseTimer;
+    private final Counter compressedBytesReceivedCounter;
+    private final Counter uncompressedBytesReceivedCounter;
+    private final Counter bytesSentCounter;
+    private final Counter reconnectCounter;
+    private final Counter resumeCounter;
+    private final Map<String, Counter> dispatchCounters = new ConcurrentHashMap<>();
+
     // A queue which contains server ids for the "request guild members" packet
     private final BlockingQueue<Long> requestGuildMembersQueue = new LinkedBlockingQueue<>();
 
-    private static final Map<String, Long> lastIdentificationPerAccount = Collections.synchronizedMap(new HashMap<>());
-    private static final ConcurrentMap<String, Semaphore> connectionDelaySemaphorePerAccount =
-            new ConcurrentHashMap<>();
+    /**
+     * The queue for all commands that are sent to the gateway, except for heartbeats, identifies and resumes.
+     */
+    private final GatewayCommandQueue commandQueue;
 
-    static {
-        // This scheduler makes sure that the semaphores get released after a while if it failed in the listener
-        // for whatever reason. It's just a fail-safe.
-        Executors.newSingleThreadScheduledExecutor(
-                new ThreadFactory("Javacord - Connection Delay Semaphores Starvation Protector", true)
-        ).scheduleWithFixedDelay(() -> {
-            try {
-                connectionDelaySemaphorePerAccount.forEach((token, semaphore) -> {
-                    if ((semaphore.availablePermits() == 0)
-                            && (System.currentTimeMillis() - lastIdentificationPerAccount.getOrDefault(token, 0L)
-                            >= 15000)) {
-                        semaphore.release();
-                    }
-                });
-            } catch (Throwable t) {
-                logger.error("Failed to do the backup semaphore releasing!", t);
-            }
-        }, 10, 10, TimeUnit.SECONDS);
-    }
+    /**
+     * The identify scheduler that is shared by all shards of this JVM, unless a different one is configured.
+     */
+    public static final IdentifyScheduler DEFAULT_IDENTIFY_SCHEDULER = new LocalIdentifyScheduler();
+
+    /**
+     * The amount of identify rate limit buckets, as reported by the {@code max_concurrency} of the bot gateway.
+     */
+    private static volatile int maxIdentifyConcurrency = 1;
+
+    /**
+     * Whether this shard reserved its identify bucket and did not release it yet.
+     */
+    private final AtomicBoolean identifyReserved = new AtomicBoolean();
 
     /**
      * Creates a new discord websocket adapter.
@@ -169,6 +179,22 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     public DiscordWebSocketAdapter(DiscordApiImpl api) {
         this.api = api;
 
+        MeterRegistry meterRegistry = api.getShardMeterRegistry();
+        heartbeatLatency = new HeartbeatLatency(meterRegistry.timer("javacord.gateway.heartbeat.latency"));
+        inflateTimer = meterRegistry.timer("javacord.gateway.inflate");
+        parseTimer = meterRegistry.timer("javacord.gateway.parse");
+        compressedBytesReceivedCounter =
+                meterRegistry.counter("javacord.gateway.bytes.received", "encoding", "compressed");
+        uncompressedBytesReceivedCounter =
+                meterRegistry.counter("javacord.gateway.bytes.received", "encoding", "uncompressed");
+        bytesSentCounter = meterRegistry.counter("javacord.gateway.bytes.sent");
+        reconnectCounter = meterRegistry.counter("javacord.gateway.reconnects");
+        resumeCounter = meterRegistry.counter("javacord.gateway.resumes");
+
+        commandQueue = new GatewayCommandQueue(
+                api.getThreadPool().getSingleDaemonThreadExecutorService("Gateway Command Queue Consumer"),
+                meterRegistry, text -> getWebSocket().sendText(text));
+
         registerHandlers();
         connect();
 
@@ -207,7 +233,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                                 }
                                 logger.debug("Sending request guild members packet {}",
                                              requestGuildMembersPacket);
-                                getWebSocket().sendText(requestGuildMembersPacket.toString());
+                                commandQueue.queue(GatewayOpcode.REQUEST_GUILD_MEMBERS, null,
+                                                   requestGuildMembersPacket.toString());
                             });
                     Thread.sleep(1000);
                 } catch (InterruptedException ignored) {
@@ -264,6 +291,15 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         }
     }
 
+    /**
+     * Sets the amount of identify rate limit buckets.
+     *
+     * @param maxIdentifyConcurrency The {@code max_concurrency} as reported by the bot gateway.
+     */
+    public static void setMaxIdentifyConcurrency(int maxIdentifyConcurrency) {
+        DiscordWebSocketAdapter.maxIdentifyConcurrency = Math.max(1, maxIdentifyConcurrency);
+    }
+
     /**
      * Disconnects from the websocket.
      */
@@ -299,6 +335,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
             waitForIdentifyRateLimit();
             websocket.connect();
         } catch (Throwable t) {
+            releaseIdentifyRateLimit(false);
             logger.warn("An error occurred while connecting to websocket", t);
             if (reconnect) {
                 reconnectAttempt.incrementAndGet();
@@ -319,26 +356,42 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     }
 
     /**
-     * Identification is rate limited to once every 5 seconds,
+     * Identification is rate limited to once every 5 seconds per rate limit bucket,
      * so don't try to more often per account, even in different instances.
-     * This method waits for the identification rate limit to be over, then returns.
+     * This method waits for the identify scheduler to reserve the bucket of this shard, then returns.
+     * The bucket must be released with {@link #releaseIdentifyRateLimit(boolean)}.
      */
     private void waitForIdentifyRateLimit() {
-        String token = api.getPrefixedToken();
-        connectionDelaySemaphorePerAccount.computeIfAbsent(token, key -> new Semaphore(1)).acquireUninterruptibly();
-        for (long delay = 5100 - (System.currentTimeMillis() - lastIdentificationPerAccount.getOrDefault(token, 0L));
-                delay > 0;
-                delay = 5100 - (System.currentTimeMillis() - lastIdentificationPerAccount.getOrDefault(token, 0L))) {
-            logger.debug("Delaying connecting by {}ms", delay);
-            try {
-                Thread.sleep(delay);
-            } catch (InterruptedException ignored) { }
+        logger.debug("Waiting for the identify scheduler");
+        api.getIdentifyScheduler().awaitIdentify(api.getTokenHash(), api.getCurrentShard(), maxIdentifyConcurrency);
+        identifyReserved.set(true);
+    }
+
+    /**
+     * Releases the identify rate limit bucket of this shard, if it is reserved.
+     *
+     * @param identified Whether the shard sent an identify.
+     */
+    private void releaseIdentifyRateLimit(boolean identified) {
+        if (!identifyReserved.compareAndSet(true, false)) {
+            return;
+        }
+        IdentifyScheduler identifyScheduler = api.getIdentifyScheduler();
+        if (identified) {
+            identifyScheduler.identified(api.getTokenHash(), api.getCurrentShard(), maxIdentifyConcurrency);
+        } else {
+            identifyScheduler.cancelled(api.getTokenHash(), api.getCurrentShard(), maxIdentifyConcurrency);
         }
     }
 
     @Override
     public void onDisconnected(WebSocket websocket, WebSocketFrame serverCloseFrame,
                                WebSocketFrame clientCloseFrame, boolean closedByServer) {
+        // We might have been disconnected before we could identify
+        releaseIdentifyRateLimit(false);
+        // Queued commands wait for the next session
+        commandQueue.setSessionReady(false);
+
         Optional<WebSocketFrame> closeFrameOptional =
                 Optional.ofNullable(closedByServer ? serverCloseFrame : clientCloseFrame);
 
@@ -386,7 +439,9 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     @Override
     public void onTextMessage(WebSocket websocket, String text) throws Exception {
         ObjectMapper mapper = api.getObjectMapper();
+        long parseStart = System.nanoTime();
         JsonNode packet = mapper.readTree(text);
+        parseTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
 
         int op = packet.get("op").asInt();
         Optional<GatewayOpcode> opcode = GatewayOpcode.fromCode(op);
@@ -399,6 +454,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
             case DISPATCH:
                 lastSeq = packet.get("s").asInt();
                 String type = packet.get("t").asText();
+                dispatchCounters.computeIfAbsent(type, key ->
+                        api.getShardMeterRegistry().counter("javacord.gateway.dispatches", "type", key)).increment();
                 PacketHandler handler = handlers.get(type);
                 if (handler != null) {
                     handler.handlePacket(packet.get("d"));
@@ -411,14 +468,21 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 }
                 if (type.equals("RESUMED")) {
                     reconnectAttempt.set(0);
+                    resumeCounter.increment();
                     logger.debug("Received RESUMED packet");
+                    commandQueue.setSessionReady(true);
 
                     ResumeEvent resumeEvent = new ResumeEventImpl(api);
                     api.getEventDispatcher().dispatchResumeEvent(null, resumeEvent);
                 }
                 if (type.equals("READY")) {
                     reconnectAttempt.set(0);
+                    if (sessionId != null) {
+                        // There was a session before that could not be resumed
+                        reconnectCounter.increment();
+                    }
                     sessionId = packet.get("d").get("session_id").asText();
+                    commandQueue.setSessionReady(true);
                     // Discord sends us GUILD_CREATE packets after logging in. We will wait for them.
                     api.getThreadPool().getSingleThreadExecutorService("Startup Servers Wait Thread").submit(() -> {
                         boolean allUsersLoaded = false;
@@ -464,8 +528,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                                     WebSocketCloseReason.COMMANDED_RECONNECT.getCloseReason());
                 break;
             case INVALID_SESSION:
-                long fakeLastIdentificationTime = System.currentTimeMillis();
                 if (lastSentFrameWasIdentify.isMarked()) {
+                    // The identify scheduler waits for the identify window of the last identify to be over
                     logger.info("Hit identifying rate limit. Retrying in 5 seconds...");
                 } else {
                     // Invalid session :(
@@ -473,14 +537,17 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                     logger.info("Could not resume session. Reconnecting in {}.{} seconds...",
                             () -> 1 + zeroToFourSeconds / 1000,
                             () -> 1 + zeroToFourSeconds / 100 % 10);
-                    fakeLastIdentificationTime -= 4000 - zeroToFourSeconds;
+                    try {
+                        Thread.sleep(1000 + zeroToFourSeconds);
+                    } catch (InterruptedException ignored) { }
                 }
-                lastIdentificationPerAccount.put(api.getPrefixedToken(), fakeLastIdentificationTime);
                 waitForIdentifyRateLimit();
                 sendIdentify(websocket);
                 break;
             case HELLO:
                 logger.debug("Received HELLO packet");
+                // Discord counts the sent commands per connection
+                commandQueue.resetBudget();
 
                 JsonNode data = packet.get("d");
                 int heartbeatInterval = data.get("heartbeat_interval").asInt();
@@ -494,12 +561,13 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 if (sessionId == null) {
                     sendIdentify(websocket);
                 } else {
-                    connectionDelaySemaphorePerAccount.get(api.getPrefixedToken()).release();
+                    releaseIdentifyRateLimit(false);
                     sendResume(websocket);
                 }
                 break;
             case HEARTBEAT_ACK:
                 logger.debug("Heartbeat ACK received");
+                heartbeatLatency.heartbeatAcknowledged();
                 heartbeatAckReceived.set(true);
                 break;
             default:
@@ -510,6 +578,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
 
     @Override
     public void onBinaryMessage(WebSocket websocket, byte[] binary) throws Exception {
+        compressedBytesReceivedCounter.increment(binary.length);
+        long inflateStart = System.nanoTime();
         Inflater decompressor = new Inflater();
         decompressor.setInput(binary);
         ByteArrayOutputStream bos = new ByteArrayOutputStream(binary.length);
@@ -528,6 +598,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
             bos.close();
         } catch (IOException ignored) { }
         byte[] decompressedData = bos.toByteArray();
+        inflateTimer.record(System.nanoTime() - inflateStart, TimeUnit.NANOSECONDS);
+        uncompressedBytesReceivedCounter.increment(decompressedData.length);
         try {
             String message = new String(decompressedData, "UTF-8");
             logger.trace("onTextMessage: text='{}'", message);
@@ -537,6 +609,26 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         }
     }
 
+    @Override
+    public void onTextFrame(WebSocket websocket, WebSocketFrame frame) {
+        // Binary frames are counted after decompressing them
+        uncompressedBytesReceivedCounter.increment(frame.getPayloadLength());
+    }
+
+    @Override
+    public void onFrameSent(WebSocket websocket, WebSocketFrame frame) {
+        bytesSentCounter.increment(frame.getPayloadLength());
+    }
+
+    /**
+     * Gets the round-trip time of the latest heartbeat that was acknowledged by the gateway.
+     *
+     * @return The latest gateway latency.
+     */
+    public Optional<Duration> getLatestGatewayLatency() {
+        return heartbeatLatency.getLatestLatency();
+    }
+
     /**
      * Starts the heartbeat.
      *
@@ -573,7 +665,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         heartbeatPacket.put("d", lastSeq);
         WebSocketFrame heartbeatFrame = WebSocketFrame.createTextFrame(heartbeatPacket.toString());
         nextHeartbeatFrame.set(heartbeatFrame);
-        websocket.sendFrame(heartbeatFrame);
+        heartbeatLatency.heartbeatSent();
+        commandQueue.sendImmediately(GatewayOpcode.HEARTBEAT, () -> websocket.sendFrame(heartbeatFrame));
     }
 
     /**
@@ -589,7 +682,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 .put("session_id", sessionId)
                 .put("seq", lastSeq);
         logger.debug("Sending resume packet");
-        websocket.sendText(resumePacket.toString());
+        commandQueue.sendImmediately(GatewayOpcode.RESUME, () -> websocket.sendText(resumePacket.toString()));
     }
 
     /**
@@ -634,8 +727,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 } else {
                     // identify frame is actually sent => set the mark
                     if (lastSentFrameWasIdentify.compareAndSet(frame, null, false, true)) {
-                        lastIdentificationPerAccount.put(token, System.currentTimeMillis());
-                        connectionDelaySemaphorePerAccount.get(token).release();
+                        releaseIdentifyRateLimit(true);
                     }
                 }
             }
@@ -643,11 +735,11 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         identifyFrameListeners.add(identifyFrameListener);
         websocket.addListener(identifyFrameListener);
         logger.debug("Sending identify packet");
-        websocket.sendFrame(identifyFrame);
+        commandQueue.sendImmediately(GatewayOpcode.IDENTIFY, () -> websocket.sendFrame(identifyFrame));
     }
 
     /**
-     * Sends the voice state update packet.
+     * Queues the voice state update packet.
      *
      * @param server The server to send the voice state update for. Can be {@code null} if {@code channel} is given.
      * @param channel The channel to connect to or {@code null} to disconnect from voice.
@@ -670,8 +762,10 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 .put("channel_id", (channel == null) ? null : channel.getIdAsString())
                 .put("self_mute", (selfMuted == null) ? server.isSelfMuted(yourself) : selfMuted)
                 .put("self_deaf", (selfDeafened == null) ? server.isSelfDeafened(yourself) : selfDeafened);
-        logger.debug("Sending VOICE_STATE_UPDATE packet for channel {} on server {}", channel, server);
-        websocket.get().sendText(updateVoiceStatePacket.toString());
+        logger.debug("Queued VOICE_STATE_UPDATE packet for channel {} on server {}", channel, server);
+        // Only the latest voice state of a server matters
+        commandQueue.queue(GatewayOpcode.VOICE_STATE_UPDATE, "voice-state-" + server.getIdAsString(),
+                           updateVoiceStatePacket.toString());
     }
 
     /**
@@ -736,6 +830,37 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         handlers.put(handler.getType(), handler);
     }
 
+    /**
+     * Handles a packet with the handler for the given type in the current thread.
+     * This is used to replay parts of a packet through the regular handlers, e.g. when reconciling the cache.
+     *
+     * @param type The type of the packet.
+     * @param packet The packet (the "d"-object).
+     */
+    public void handlePacketInCurrentThread(String type, JsonNode packet) {
+        PacketHandler handler = handlers.get(type);
+        if (handler != null) {
+            handler.handlePacketInCurrentThread(packet);
+        } else {
+            logger.debug("Tried to handle packet of type {} without registered handler (packet: {})", type, packet);
+        }
+    }
+
+    /**
+     * Handles a packet with the handler for the given type like it was received from the websocket.
+     *
+     * @param type The type of the packet.
+     * @param packet The packet (the "d"-object).
+     */
+    public void handlePacket(String type, JsonNode packet) {
+        PacketHandler handler = handlers.get(type);
+        if (handler != null) {
+            handler.handlePacket(packet);
+        } else {
+            logger.debug("Tried to handle packet of type {} without registered handler (packet: {})", type, packet);
+        }
+    }
+
     /**
      * Gets the websocket of the adapter.
      *
@@ -755,7 +880,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     }
 
     /**
-     * Sends the update status packet.
+     * Queues the update status packet.
      */
     public void updateStatus() {
         Optional<Activity> activity = api.getActivity();
@@ -770,7 +895,8 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         activityJson.put("type", activity.map(g -> g.getType().getId()).orElse(0));
         activity.ifPresent(g -> g.getStreamingUrl().ifPresent(url -> activityJson.put("url", url)));
         logger.debug("Updating status (content: {})", updateStatus);
-        websocket.get().sendText(updateStatus.toString());
+        // Only the latest status matters
+        commandQueue.queue(GatewayOpcode.STATUS_UPDATE, "status", updateStatus.toString());
     }
 
     /**
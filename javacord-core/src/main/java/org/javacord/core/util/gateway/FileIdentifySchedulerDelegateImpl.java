@@ -0,0 +1,236 @@
+package org.javacord.core.util.gateway;
+
+import org.javacord.api.util.gateway.internal.FileIdentifySchedulerDelegate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The implementation of {@link FileIdentifySchedulerDelegate}.
+ *
+ * <p>File locks are held by the whole JVM, so all schedulers of this JVM that use the same directory share a
+ * {@link LockRegistry}. It serializes their shards before they lock a file.
+ */
+public class FileIdentifySchedulerDelegateImpl implements FileIdentifySchedulerDelegate {
+
+    /**
+     * The lock registries of all directories that are used by schedulers of this JVM. The key is the real path of the
+     * directory.
+     */
+    private static final Map<Path, LockRegistry> lockRegistries = new ConcurrentHashMap<>();
+
+    /**
+     * The directory of the lock files.
+     */
+    private final Path directory;
+
+    /**
+     * The lock registry of the directory.
+     */
+    private final LockRegistry lockRegistry;
+
+    /**
+     * Creates a new file identify scheduler delegate.
+     *
+     * @param directory The directory of the lock files. It is created if it does not exist.
+     */
+    public FileIdentifySchedulerDelegateImpl(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            this.directory = directory.toRealPath();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lockRegistry = lockRegistries.computeIfAbsent(this.directory, path -> new LockRegistry());
+    }
+
+    /**
+     * Creates a new file identify scheduler delegate that does not share its lock registry.
+     *
+     * @param directory The directory of the lock files. It must exist.
+     * @param localScheduler The scheduler that serializes the shards of this JVM.
+     */
+    FileIdentifySchedulerDelegateImpl(Path directory, LocalIdentifyScheduler localScheduler) {
+        this.directory = directory;
+        lockRegistry = new LockRegistry(localScheduler);
+    }
+
+    @Override
+    public void awaitIdentify(String account, int shard, int maxConcurrency) {
+        lockRegistry.localScheduler.awaitIdentify(account, shard, maxConcurrency);
+        String fileName = getFileName(account, shard, maxConcurrency);
+        // A shard of this JVM might have timed out without releasing its lock
+        releaseLock(fileName, lockRegistry.locks.get(fileName), false);
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(directory.resolve(fileName),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            HeldLock heldLock = new HeldLock(shard, channel.lock());
+            lockRegistry.locks.put(fileName, heldLock);
+            channel = null;
+            long delay = readLastIdentification(heldLock.lock.channel())
+                    + LocalIdentifyScheduler.IDENTIFY_INTERVAL_MILLIS - System.currentTimeMillis();
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            // Identifying without coordination is better than not identifying at all
+            releaseLock(fileName, getHeldLock(fileName, shard), false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // The channel is gone anyways
+                }
+            }
+        }
+    }
+
+    @Override
+    public void identified(String account, int shard, int maxConcurrency) {
+        String fileName = getFileName(account, shard, maxConcurrency);
+        releaseLock(fileName, getHeldLock(fileName, shard), true);
+        lockRegistry.localScheduler.identified(account, shard, maxConcurrency);
+    }
+
+    @Override
+    public void cancelled(String account, int shard, int maxConcurrency) {
+        String fileName = getFileName(account, shard, maxConcurrency);
+        releaseLock(fileName, getHeldLock(fileName, shard), false);
+        lockRegistry.localScheduler.cancelled(account, shard, maxConcurrency);
+    }
+
+    /**
+     * Gets the lock of the given file, if it is held for the given shard.
+     * If the reservation of the shard timed out, the lock might be held for another shard of the same bucket.
+     *
+     * @param fileName The name of the lock file.
+     * @param shard The shard.
+     * @return The lock or {@code null} if the lock is not held for the shard.
+     */
+    private HeldLock getHeldLock(String fileName, int shard) {
+        HeldLock heldLock = lockRegistry.locks.get(fileName);
+        return (heldLock != null && heldLock.shard == shard) ? heldLock : null;
+    }
+
+    /**
+     * Releases the given lock, if it is still held.
+     *
+     * @param fileName The name of the lock file.
+     * @param heldLock The lock to release. May be {@code null}.
+     * @param identified Whether the shard identified and the time should be stored.
+     */
+    private void releaseLock(String fileName, HeldLock heldLock, boolean identified) {
+        if (heldLock == null || !lockRegistry.locks.remove(fileName, heldLock)) {
+            return;
+        }
+        try (FileChannel channel = heldLock.lock.channel()) {
+            if (identified) {
+                ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+                buffer.putLong(System.currentTimeMillis()).flip();
+                channel.write(buffer, 0);
+                channel.force(false);
+            }
+            heldLock.lock.release();
+        } catch (IOException ignored) {
+            // Closing the channel releases the lock
+        }
+    }
+
+    /**
+     * Reads the time of the last identify from the given lock file.
+     *
+     * @param channel The channel of the lock file.
+     * @return The time of the last identify or {@code 0} if the file is empty.
+     * @throws IOException If reading the file failed.
+     */
+    private static long readLastIdentification(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                return 0;
+            }
+        }
+        buffer.flip();
+        return buffer.getLong();
+    }
+
+    /**
+     * Gets the name of the lock file of the given shard's bucket.
+     *
+     * @param account The account of the shard.
+     * @param shard The shard.
+     * @param maxConcurrency The amount of rate limit buckets of the account.
+     * @return The name of the lock file.
+     */
+    private static String getFileName(String account, int shard, int maxConcurrency) {
+        return account + "-" + LocalIdentifyScheduler.getBucket(shard, maxConcurrency) + ".lock";
+    }
+
+    /**
+     * The locks of a directory that are held by shards of this JVM.
+     */
+    private static class LockRegistry {
+
+        /**
+         * Serializes the shards of this JVM, so only one of them at a time locks the file of a bucket.
+         */
+        private final LocalIdentifyScheduler localScheduler;
+
+        /**
+         * The file locks that are currently held. The key is the name of the lock file.
+         */
+        private final Map<String, HeldLock> locks = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new lock registry.
+         */
+        private LockRegistry() {
+            this(new LocalIdentifyScheduler());
+        }
+
+        /**
+         * Creates a new lock registry.
+         *
+         * @param localScheduler The scheduler that serializes the shards of this JVM.
+         */
+        private LockRegistry(LocalIdentifyScheduler localScheduler) {
+            this.localScheduler = localScheduler;
+        }
+
+    }
+
+    /**
+     * A file lock and the shard it is held for.
+     */
+    private static class HeldLock {
+
+        private final int shard;
+        private final FileLock lock;
+
+        /**
+         * Creates a new held lock.
+         *
+         * @param shard The shard the lock is held for.
+         * @param lock The file lock.
+         */
+        private HeldLock(int shard, FileLock lock) {
+            this.shard = shard;
+            this.lock = lock;
+        }
+
+    }
+
+}
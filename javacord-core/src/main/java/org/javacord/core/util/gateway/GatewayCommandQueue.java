@@ -0,0 +1,249 @@
+package org.javacord.core.util.gateway;
+
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.util.metrics.Counter;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.metrics.Timer;
+import org.javacord.core.util.logging.LoggerUtil;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A queue for commands that are sent to the gateway.
+ *
+ * <p>Discord closes the connection of clients that send more than 120 commands per 60 seconds. Queued commands are
+ * sent with a budget that leaves some room for the commands that bypass the queue, i.e. heartbeats, identifies and
+ * resumes. Commands are only sent while the session is ready, so they survive reconnects.
+ *
+ * <p>Commands with a coalescing key supersede a still queued command with the same key, e.g. only the latest
+ * presence update is sent if the status is changed several times in a row.
+ */
+public class GatewayCommandQueue {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(GatewayCommandQueue.class);
+
+    /**
+     * The amount of commands that may be sent at once after a quiet period.
+     */
+    private static final int BURST_SIZE = 15;
+
+    /**
+     * The amount of queued commands that may be sent per minute once the burst is used up.
+     * Together with the burst, this leaves 5 commands per minute for commands that bypass the queue.
+     */
+    private static final int COMMANDS_PER_MINUTE = 100;
+
+    /**
+     * The time it takes to earn a single command in nanoseconds.
+     */
+    private static final long NANOS_PER_COMMAND = TimeUnit.MINUTES.toNanos(1) / COMMANDS_PER_MINUTE;
+
+    /**
+     * The queued commands in the order they are sent.
+     * The sender thread waits on the queue's monitor, so every change that may allow a command to be sent notifies it.
+     */
+    private final Deque<Command> commands = new ArrayDeque<>();
+
+    /**
+     * The queued commands that may be superseded. The key is the coalescing key.
+     */
+    private final Map<String, Command> coalescableCommands = new HashMap<>();
+
+    private long availableCommands = BURST_SIZE;
+    private long lastRefillNanos = System.nanoTime();
+    private boolean sessionReady = false;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<GatewayOpcode, Counter> sentCounters = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+    private final Timer waitTimer;
+
+    /**
+     * Creates a new gateway command queue and starts sending its commands.
+     *
+     * @param executorService The single thread executor that sends the commands.
+     * @param meterRegistry The meter registry of the shard.
+     * @param sender Sends the text of a command to the gateway.
+     */
+    public GatewayCommandQueue(ExecutorService executorService, MeterRegistry meterRegistry, Consumer<String> sender) {
+        this.meterRegistry = meterRegistry;
+        coalescedCounter = meterRegistry.counter("javacord.gateway.commands.coalesced");
+        waitTimer = meterRegistry.timer("javacord.gateway.commands.wait");
+        meterRegistry.gauge("javacord.gateway.commands.queued", this::getQueuedCommandCount);
+
+        executorService.submit(() -> {
+            while (!executorService.isShutdown()) {
+                try {
+                    Command command = takeCommand();
+                    if (command == null) {
+                        continue;
+                    }
+                    waitTimer.record(System.nanoTime() - command.queuedNanos, TimeUnit.NANOSECONDS);
+                    getSentCounter(command.opcode).increment();
+                    sender.accept(command.text);
+                } catch (InterruptedException ignored) {
+                } catch (Throwable t) {
+                    logger.error("Failed to send gateway command!", t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Queues a command.
+     *
+     * @param opcode The opcode of the command.
+     * @param coalescingKey The key of commands that supersede each other or {@code null}.
+     * @param text The text of the command.
+     */
+    public synchronized void queue(GatewayOpcode opcode, String coalescingKey, String text) {
+        if (coalescingKey != null) {
+            Command queuedCommand = coalescableCommands.get(coalescingKey);
+            if (queuedCommand != null) {
+                // Keep the position in the queue, so frequent updates are not starved
+                queuedCommand.text = text;
+                coalescedCounter.increment();
+                return;
+            }
+        }
+        Command command = new Command(opcode, coalescingKey, text);
+        commands.add(command);
+        if (coalescingKey != null) {
+            coalescableCommands.put(coalescingKey, command);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Sends a command immediately, bypassing the queue.
+     * The command is still taken from the budget, which may be overdrawn.
+     *
+     * @param opcode The opcode of the command.
+     * @param send Sends the command.
+     */
+    public void sendImmediately(GatewayOpcode opcode, Runnable send) {
+        synchronized (this) {
+            refill();
+            availableCommands--;
+        }
+        getSentCounter(opcode).increment();
+        send.run();
+    }
+
+    /**
+     * Sets whether the session is ready.
+     * Queued commands are only sent while the session is ready, as Discord rejects them before the identify or resume.
+     *
+     * @param sessionReady Whether the session is ready.
+     */
+    public synchronized void setSessionReady(boolean sessionReady) {
+        this.sessionReady = sessionReady;
+        notifyAll();
+    }
+
+    /**
+     * Resets the budget for a new connection, as Discord counts the commands per connection.
+     */
+    public synchronized void resetBudget() {
+        availableCommands = BURST_SIZE;
+        lastRefillNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    /**
+     * Gets the amount of queued commands.
+     *
+     * @return The amount of queued commands.
+     */
+    public synchronized int getQueuedCommandCount() {
+        return commands.size();
+    }
+
+    /**
+     * Gets the counter of sent commands with the given opcode.
+     *
+     * @param opcode The opcode.
+     * @return The counter.
+     */
+    private Counter getSentCounter(GatewayOpcode opcode) {
+        return sentCounters.computeIfAbsent(opcode, key ->
+                meterRegistry.counter("javacord.gateway.commands.sent", "opcode", key.name().toLowerCase()));
+    }
+
+    /**
+     * Waits until a command may be sent and removes it from the queue.
+     *
+     * @return The command or {@code null} if nothing could be sent for a minute.
+     * @throws InterruptedException If the thread got interrupted while waiting.
+     */
+    private synchronized Command takeCommand() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (true) {
+            refill();
+            long waitNanos = deadline - System.nanoTime();
+            if (waitNanos <= 0) {
+                return null;
+            }
+            if (sessionReady && !commands.isEmpty()) {
+                if (availableCommands > 0) {
+                    break;
+                }
+                waitNanos = Math.min(waitNanos, NANOS_PER_COMMAND - (System.nanoTime() - lastRefillNanos));
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, waitNanos));
+        }
+        availableCommands--;
+        Command command = commands.poll();
+        if (command.coalescingKey != null) {
+            coalescableCommands.remove(command.coalescingKey);
+        }
+        return command;
+    }
+
+    /**
+     * Adds the commands that were earned since the last refill to the budget.
+     */
+    private void refill() {
+        long earnedCommands = (System.nanoTime() - lastRefillNanos) / NANOS_PER_COMMAND;
+        if (earnedCommands > 0) {
+            availableCommands = Math.min(BURST_SIZE, availableCommands + earnedCommands);
+            lastRefillNanos += earnedCommands * NANOS_PER_COMMAND;
+        }
+    }
+
+    /**
+     * A queued command.
+     */
+    private static class Command {
+
+        private final GatewayOpcode opcode;
+        private final String coalescingKey;
+        private final long queuedNanos = System.nanoTime();
+        private String text;
+
+        /**
+         * Creates a new command.
+         *
+         * @param opcode The opcode of the command.
+         * @param coalescingKey The key of commands that supersede each other or {@code null}.
+         * @param text The text of the command.
+         */
+        private Command(GatewayOpcode opcode, String coalescingKey, String text) {
+            this.opcode = opcode;
+            this.coalescingKey = coalescingKey;
+            this.text = text;
+        }
+
+    }
+
+}
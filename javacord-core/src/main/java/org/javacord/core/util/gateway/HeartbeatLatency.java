@@ -0,0 +1,89 @@
+package org.javacord.core.util.gateway;
+
+import org.javacord.api.util.metrics.Timer;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the round-trip time of the heartbeats of a gateway connection.
+ *
+ * <p>Every heartbeat is measured at most once. An acknowledgement that arrives when no heartbeat is pending, e.g.
+ * a late duplicate, is not measured against a heartbeat that was already acknowledged.
+ */
+class HeartbeatLatency {
+
+    /**
+     * The time the pending heartbeat was sent in nanoseconds, or {@code -1} if no heartbeat is pending.
+     */
+    private final AtomicLong heartbeatSentNanos = new AtomicLong(-1);
+
+    /**
+     * The round-trip time of the latest acknowledged heartbeat in nanoseconds, or {@code -1} if there was none yet.
+     */
+    private volatile long latestLatencyNanos = -1;
+
+    /**
+     * The timer the round-trip times are reported to.
+     */
+    private final Timer latencyTimer;
+
+    /**
+     * The source of the current time in nanoseconds.
+     */
+    private final LongSupplier nanoTime;
+
+    /**
+     * Creates a new heartbeat latency.
+     *
+     * @param latencyTimer The timer the round-trip times are reported to.
+     */
+    HeartbeatLatency(Timer latencyTimer) {
+        this(latencyTimer, System::nanoTime);
+    }
+
+    /**
+     * Creates a new heartbeat latency with a custom time source.
+     *
+     * @param latencyTimer The timer the round-trip times are reported to.
+     * @param nanoTime The source of the current time in nanoseconds.
+     */
+    HeartbeatLatency(Timer latencyTimer, LongSupplier nanoTime) {
+        this.latencyTimer = latencyTimer;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Marks a heartbeat as sent.
+     */
+    void heartbeatSent() {
+        heartbeatSentNanos.set(nanoTime.getAsLong());
+    }
+
+    /**
+     * Measures the pending heartbeat, if there is one, because its acknowledgement was received.
+     */
+    void heartbeatAcknowledged() {
+        long sentNanos = heartbeatSentNanos.getAndSet(-1);
+        if (sentNanos == -1) {
+            return;
+        }
+        long latencyNanos = nanoTime.getAsLong() - sentNanos;
+        latestLatencyNanos = latencyNanos;
+        latencyTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the round-trip time of the latest acknowledged heartbeat.
+     *
+     * @return The round-trip time of the latest acknowledged heartbeat.
+     */
+    Optional<Duration> getLatestLatency() {
+        long latencyNanos = latestLatencyNanos;
+        return latencyNanos == -1 ? Optional.empty() : Optional.of(Duration.ofNanos(latencyNanos));
+    }
+
+}
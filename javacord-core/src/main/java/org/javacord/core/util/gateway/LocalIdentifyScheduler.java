@@ -0,0 +1,147 @@
+package org.javacord.core.util.gateway;
+
+import org.javacord.api.util.gateway.IdentifyScheduler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An identify scheduler that coordinates the shards of a single JVM.
+ */
+public class LocalIdentifyScheduler implements IdentifyScheduler {
+
+    /**
+     * The time between two identifies of the same bucket in milliseconds, with a small safety margin.
+     */
+    static final long IDENTIFY_INTERVAL_MILLIS = 5_100;
+
+    /**
+     * The default time after which a reserved bucket is freed, even if the shard never told the scheduler.
+     * This is a fail-safe for shards that got stuck while connecting.
+     */
+    private static final long DEFAULT_RESERVATION_TIMEOUT_MILLIS = 15_000;
+
+    /**
+     * The states of the buckets. The key is the account and the bucket.
+     */
+    private final Map<String, BucketState> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The time after which a reserved bucket is freed, even if the shard never told the scheduler.
+     */
+    private final long reservationTimeoutMillis;
+
+    /**
+     * Creates a new local identify scheduler.
+     */
+    public LocalIdentifyScheduler() {
+        this(DEFAULT_RESERVATION_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a new local identify scheduler with a custom reservation timeout.
+     *
+     * @param reservationTimeoutMillis The time after which a reserved bucket is freed, even if the shard never told
+     *                                 the scheduler.
+     */
+    LocalIdentifyScheduler(long reservationTimeoutMillis) {
+        this.reservationTimeoutMillis = reservationTimeoutMillis;
+    }
+
+    @Override
+    public void awaitIdentify(String account, int shard, int maxConcurrency) {
+        BucketState state = getBucketState(account, shard, maxConcurrency);
+        boolean interrupted = false;
+        synchronized (state) {
+            while (true) {
+                long now = System.currentTimeMillis();
+                long delay = state.lastIdentification + IDENTIFY_INTERVAL_MILLIS - now;
+                if (state.reserved) {
+                    delay = Math.max(delay, state.reservedSince + reservationTimeoutMillis - now);
+                }
+                if (delay <= 0) {
+                    break;
+                }
+                try {
+                    state.wait(delay);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            state.reserved = true;
+            state.reservingShard = shard;
+            state.reservedSince = System.currentTimeMillis();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void identified(String account, int shard, int maxConcurrency) {
+        BucketState state = getBucketState(account, shard, maxConcurrency);
+        synchronized (state) {
+            // A shard whose reservation timed out still used the identify window, but must not free the bucket
+            state.lastIdentification = System.currentTimeMillis();
+            state.release(shard);
+            state.notifyAll();
+        }
+    }
+
+    @Override
+    public void cancelled(String account, int shard, int maxConcurrency) {
+        BucketState state = getBucketState(account, shard, maxConcurrency);
+        synchronized (state) {
+            state.release(shard);
+            state.notifyAll();
+        }
+    }
+
+    /**
+     * Gets the state of the bucket of the given shard.
+     *
+     * @param account The account of the shard.
+     * @param shard The shard.
+     * @param maxConcurrency The amount of rate limit buckets of the account.
+     * @return The state of the bucket.
+     */
+    private BucketState getBucketState(String account, int shard, int maxConcurrency) {
+        return buckets.computeIfAbsent(account + ' ' + getBucket(shard, maxConcurrency), key -> new BucketState());
+    }
+
+    /**
+     * Gets the rate limit bucket of the given shard.
+     *
+     * @param shard The shard.
+     * @param maxConcurrency The amount of rate limit buckets of the account.
+     * @return The rate limit bucket.
+     */
+    static int getBucket(int shard, int maxConcurrency) {
+        return shard % Math.max(1, maxConcurrency);
+    }
+
+    /**
+     * The state of a single bucket. All fields are guarded by the state's monitor.
+     */
+    private static class BucketState {
+
+        private boolean reserved = false;
+        private int reservingShard = -1;
+        private long reservedSince = 0;
+        private long lastIdentification = 0;
+
+        /**
+         * Frees the bucket, if it is reserved by the given shard.
+         *
+         * @param shard The shard.
+         */
+        private void release(int shard) {
+            if (reservingShard == shard) {
+                reserved = false;
+                reservingShard = -1;
+            }
+        }
+
+    }
+
+}
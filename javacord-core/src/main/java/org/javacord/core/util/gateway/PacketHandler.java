@@ -3,10 +3,12 @@ package org.javacord.core.util.gateway;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.util.metrics.Timer;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.logging.LoggerUtil;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is extended by all PacketHandlers.
@@ -21,6 +23,7 @@ public abstract class PacketHandler {
     protected final DiscordApiImpl api;
     private final String type;
     private final boolean async;
+    private final Timer handlerTimer;
     private ExecutorService executorService;
 
     /**
@@ -34,6 +37,7 @@ public abstract class PacketHandler {
         this.api = (DiscordApiImpl) api;
         this.async = async;
         this.type = type;
+        handlerTimer = this.api.getShardMeterRegistry().timer("javacord.gateway.handler", "type", type);
         if (async) {
             executorService = api.getThreadPool().getSingleThreadExecutorService("Handlers Processor");
         }
@@ -47,23 +51,44 @@ public abstract class PacketHandler {
     public void handlePacket(final JsonNode packet) {
         if (async) {
             executorService.submit(() -> {
-                try {
-                    handle(packet);
-                } catch (Exception e) {
-                    logger.warn("Couldn't handle packet of type {}. Please contact the developer! (packet: {})",
-                            getType(), packet, e);
+                if (awaitsServerIngestion()) {
+                    api.getServerIngestionStage().publishAll();
                 }
+                handlePacketInCurrentThread(packet);
             });
         } else {
-            try {
-                handle(packet);
-            } catch (Exception e) {
-                logger.warn("Couldn't handle packet of type {}. Please contact the developer! (packet: {})",
-                        getType(), packet, e);
-            }
+            handlePacketInCurrentThread(packet);
         }
     }
 
+    /**
+     * Handles the packet in the current thread, no matter if the handler is asynchronous or not.
+     * This is used to handle packets that are derived from another packet while it is handled.
+     *
+     * @param packet The packet (the "d"-object).
+     */
+    public void handlePacketInCurrentThread(JsonNode packet) {
+        long start = System.nanoTime();
+        try {
+            handle(packet);
+        } catch (Exception e) {
+            logger.warn("Couldn't handle packet of type {}. Please contact the developer! (packet: {})",
+                    getType(), packet, e);
+        } finally {
+            handlerTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Checks whether asynchronously handled packets have to wait for all previously received servers to be published
+     * by the {@link ServerIngestionStage} before they are handled.
+     *
+     * @return Whether the packets have to wait for previously received servers.
+     */
+    protected boolean awaitsServerIngestion() {
+        return true;
+    }
+
     /**
      * This method is called by the super class to handle the packet.
      *
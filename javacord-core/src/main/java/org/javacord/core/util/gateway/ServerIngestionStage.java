@@ -0,0 +1,206 @@
+package org.javacord.core.util.gateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.Logger;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.entity.server.ServerImpl;
+import org.javacord.core.util.concurrent.ThreadFactory;
+import org.javacord.core.util.logging.LoggerUtil;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * This class builds servers from guild create packets on a bounded worker pool, while further packets are still
+ * arriving. This mainly speeds up the startup, where Discord sends a guild create packet for every server.
+ *
+ * <p>The workers only build the parts of a server that are private to it. Everything that is shared with the rest
+ * of the api, like its members in the user cache, is added when the server is published (see
+ * {@link ServerImpl#addToCache()}). The built servers are published in the same order as their packets were received.
+ * Publishing happens in the handlers processor thread, and every other packet waits for all previously received
+ * servers to be published before it is handled (see {@link PacketHandler#awaitsServerIngestion()}). Therefore packet
+ * handlers never see a difference to servers that were built one after another.
+ *
+ * <p>Except for the constructor, all methods of this class must only be called from the handlers processor thread.
+ */
+public class ServerIngestionStage {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(ServerIngestionStage.class);
+
+    /**
+     * The name of the thread that processes the packet handlers.
+     */
+    private static final String HANDLERS_PROCESSOR = "Handlers Processor";
+
+    private final DiscordApiImpl api;
+
+    /**
+     * The function that builds a server from a guild create packet.
+     */
+    private final Function<JsonNode, ServerImpl> serverFactory;
+
+    /**
+     * The amount of servers that are built at the same time.
+     */
+    private final int parallelism;
+
+    /**
+     * The maximum amount of servers that are built or wait to be published, before the next packet has to wait.
+     */
+    private final int maxPendingServers;
+
+    /**
+     * The executor that builds the servers.
+     */
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * The servers that are built or wait to be published, in the order their packets were received.
+     */
+    private final Deque<PendingServer> pendingServers = new ArrayDeque<>();
+
+    /**
+     * Creates a new server ingestion stage.
+     *
+     * @param api The discord api instance.
+     * @param parallelism The amount of servers that are built at the same time.
+     *                    With a parallelism of {@code 1}, all servers are built in the handlers processor thread.
+     */
+    public ServerIngestionStage(DiscordApiImpl api, int parallelism) {
+        this(api, parallelism, packet -> new ServerImpl(api, packet, false));
+    }
+
+    /**
+     * Creates a new server ingestion stage with a custom server factory.
+     *
+     * @param api The discord api instance.
+     * @param parallelism The amount of servers that are built at the same time.
+     * @param serverFactory The function that builds a server from a guild create packet.
+     */
+    ServerIngestionStage(DiscordApiImpl api, int parallelism, Function<JsonNode, ServerImpl> serverFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1!");
+        }
+        this.api = api;
+        this.serverFactory = serverFactory;
+        this.parallelism = parallelism;
+        maxPendingServers = parallelism * 2;
+        workers = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                         new ThreadFactory("Javacord - Server Ingestion Worker - %d", true));
+        // The workers are only needed in bursts, e.g. on startup
+        workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the amount of servers that are built at the same time.
+     *
+     * @return The amount of servers that are built at the same time.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Submits a guild create packet to be built into a server.
+     * The server is added to the cache and passed to the given consumer once all previously submitted servers were
+     * published.
+     *
+     * @param packet The guild create packet (the "d"-object).
+     * @param publisher A consumer that is called with the server in the handlers processor thread after it was added
+     *                  to the cache, e.g. to dispatch events.
+     */
+    public void submit(JsonNode packet, Consumer<ServerImpl> publisher) {
+        if (parallelism == 1) {
+            publishAll();
+            ServerImpl server = serverFactory.apply(packet);
+            server.addToCache();
+            publisher.accept(server);
+            return;
+        }
+
+        CompletableFuture<ServerImpl> server =
+                CompletableFuture.supplyAsync(() -> serverFactory.apply(packet), workers);
+        pendingServers.add(new PendingServer(packet, server, publisher));
+        server.whenComplete((builtServer, throwable) -> {
+            try {
+                api.getThreadPool().getSingleThreadExecutorService(HANDLERS_PROCESSOR).submit(this::publishCompleted);
+            } catch (RejectedExecutionException ignored) {
+                // The api got disconnected in the meantime
+            }
+        });
+
+        while (pendingServers.size() > maxPendingServers) {
+            publishNext();
+        }
+    }
+
+    /**
+     * Publishes all servers that are built, up to the first one that is still being built.
+     */
+    public void publishCompleted() {
+        while (!pendingServers.isEmpty() && pendingServers.peek().server.isDone()) {
+            publishNext();
+        }
+    }
+
+    /**
+     * Publishes all submitted servers, waiting for them to be built if necessary.
+     */
+    public void publishAll() {
+        while (!pendingServers.isEmpty()) {
+            publishNext();
+        }
+    }
+
+    /**
+     * Publishes the oldest submitted server, waiting for it to be built if necessary.
+     */
+    private void publishNext() {
+        PendingServer pendingServer = pendingServers.poll();
+        try {
+            ServerImpl server = pendingServer.server.join();
+            server.addToCache();
+            pendingServer.publisher.accept(server);
+        } catch (Exception e) {
+            logger.warn("Couldn't handle packet of type GUILD_CREATE. Please contact the developer! (packet: {})",
+                    pendingServer.packet, (e instanceof CompletionException) ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * A server that is built or waits to be published.
+     */
+    private static class PendingServer {
+
+        private final JsonNode packet;
+        private final CompletableFuture<ServerImpl> server;
+        private final Consumer<ServerImpl> publisher;
+
+        /**
+         * Creates a new pending server.
+         *
+         * @param packet The guild create packet.
+         * @param server A future that completes with the built server.
+         * @param publisher The consumer that is called after the server was added to the cache.
+         */
+        private PendingServer(JsonNode packet, CompletableFuture<ServerImpl> server,
+                              Consumer<ServerImpl> publisher) {
+            this.packet = packet;
+            this.server = server;
+            this.publisher = publisher;
+        }
+
+    }
+
+}
@@ -2,12 +2,19 @@ package org.javacord.core.util.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.event.server.ServerLeaveEvent;
 import org.javacord.core.entity.channel.GroupChannelImpl;
 import org.javacord.core.entity.channel.PrivateChannelImpl;
 import org.javacord.core.entity.server.ServerImpl;
+import org.javacord.core.event.server.ServerLeaveEventImpl;
+import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.gateway.PacketHandler;
 import org.javacord.core.util.logging.LoggerUtil;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * This class handles the ready packet.
  */
@@ -24,15 +31,39 @@ public class ReadyHandler extends PacketHandler {
 
     @Override
     public void handle(JsonNode packet) {
-        // Purge the cache first
-        api.purgeCache();
-
         JsonNode guilds = packet.get("guilds");
+
+        // Reconcile the cache if we were connected before, purge it otherwise
+        boolean reconcile = api.isCacheReconciliationOnReconnectEnabled() && (api.getYourself() != null);
+        if (reconcile) {
+            Set<Long> serverIds = new HashSet<>();
+            for (JsonNode guildJson : guilds) {
+                serverIds.add(guildJson.get("id").asLong());
+            }
+            for (Server server : api.getAllServers()) {
+                if (!serverIds.contains(server.getId())) {
+                    // We left the server while we were disconnected
+                    ServerLeaveEvent event = new ServerLeaveEventImpl(server);
+
+                    api.getEventDispatcher().dispatchServerLeaveEvent((DispatchQueueSelector) server, server, event);
+                    api.removeServerFromCache(server.getId());
+                }
+            }
+            api.prepareCacheReconciliation();
+        } else {
+            api.purgeCache();
+        }
+
         for (JsonNode guildJson : guilds) {
             if (guildJson.has("unavailable") && guildJson.get("unavailable").asBoolean()) {
                 api.addUnavailableServerToCache(guildJson.get("id").asLong());
                 continue;
             }
+            if (reconcile && api.isServerPendingReconciliation(guildJson.get("id").asLong())) {
+                // Reconcile in order with the other packets that might refer to the server
+                api.getWebSocketAdapter().handlePacket("GUILD_CREATE", guildJson);
+                continue;
+            }
             new ServerImpl(api, guildJson);
         }
 
@@ -41,6 +72,9 @@ public class ReadyHandler extends PacketHandler {
         if (packet.has("private_channels")) {
             JsonNode privateChannels = packet.get("private_channels");
             for (JsonNode channelJson : privateChannels) {
+                if (reconcile && api.getChannelById(channelJson.get("id").asLong()).isPresent()) {
+                    continue;
+                }
                 switch (channelJson.get("type").asInt()) {
                     case 1:
                         new PrivateChannelImpl(api, channelJson);
@@ -14,6 +14,7 @@ import org.javacord.core.event.channel.user.PrivateChannelDeleteEventImpl;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.gateway.PacketHandler;
 import org.javacord.core.util.logging.LoggerUtil;
+import org.javacord.core.util.rest.RestEndpoint;
 
 import java.util.Collections;
 
@@ -33,6 +34,10 @@ public class ChannelDeleteHandler extends PacketHandler {
 
     @Override
     public void handle(JsonNode packet) {
+        long channelId = packet.get("id").asLong();
+        api.getRestResponseCache().invalidate(RestEndpoint.CHANNEL_WEBHOOK, channelId);
+        api.getRestResponseCache().invalidate(RestEndpoint.CHANNEL_INVITE, channelId);
+
         int type = packet.get("type").asInt();
         switch (type) {
             case 0:
@@ -24,6 +24,7 @@ import org.javacord.core.entity.channel.ServerChannelImpl;
 import org.javacord.core.entity.channel.ServerTextChannelImpl;
 import org.javacord.core.entity.channel.ServerVoiceChannelImpl;
 import org.javacord.core.entity.permission.PermissionsImpl;
+import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.event.channel.group.GroupChannelChangeNameEventImpl;
 import org.javacord.core.event.channel.server.ServerChannelChangeNameEventImpl;
 import org.javacord.core.event.channel.server.ServerChannelChangeNsfwFlagEventImpl;
@@ -120,6 +121,7 @@ public class ChannelUpdateHandler extends PacketHandler {
                     ((ServerVoiceChannelImpl) channel).setParentId(newCategory == null ? -1 : newCategory.getId());
                 }
                 channel.setPosition(newRawPosition);
+                ((ServerImpl) channel.getServer()).invalidateChannelOrder();
 
                 int newPosition = channel.getPosition();
 
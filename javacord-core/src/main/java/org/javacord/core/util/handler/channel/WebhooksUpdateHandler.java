@@ -6,6 +6,7 @@ import org.javacord.api.event.channel.server.text.WebhooksUpdateEvent;
 import org.javacord.core.event.channel.server.text.WebhooksUpdateEventImpl;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.gateway.PacketHandler;
+import org.javacord.core.util.rest.RestEndpoint;
 
 /**
  * Handles the webhooks update packet.
@@ -24,6 +25,10 @@ public class WebhooksUpdateHandler extends PacketHandler {
     @Override
     public void handle(JsonNode packet) {
         long channelId = packet.get("channel_id").asLong();
+        // We don't know which webhook changed
+        api.getRestResponseCache().invalidate(RestEndpoint.WEBHOOK);
+        api.getRestResponseCache().invalidate(RestEndpoint.CHANNEL_WEBHOOK, channelId);
+        api.getRestResponseCache().invalidate(RestEndpoint.SERVER_WEBHOOK, packet.get("guild_id").asLong());
         api.getServerTextChannelById(channelId).ifPresent(channel -> {
             WebhooksUpdateEvent event = new WebhooksUpdateEventImpl(channel);
 
@@ -7,6 +7,7 @@ import org.javacord.api.event.server.member.ServerMemberUnbanEvent;
 import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.event.server.member.ServerMemberUnbanEventImpl;
 import org.javacord.core.util.gateway.PacketHandler;
+import org.javacord.core.util.rest.RestEndpoint;
 
 /**
  * Handles the guild ban add packet.
@@ -24,6 +25,7 @@ public class GuildBanRemoveHandler extends PacketHandler {
 
     @Override
     public void handle(JsonNode packet) {
+        api.getRestResponseCache().invalidate(RestEndpoint.BAN, packet.get("guild_id").asLong());
         api.getPossiblyUnreadyServerById(packet.get("guild_id").asLong())
                 .map(server -> (ServerImpl) server)
                 .ifPresent(server -> {
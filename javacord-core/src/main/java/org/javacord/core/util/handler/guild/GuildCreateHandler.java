@@ -1,14 +1,28 @@
 package org.javacord.core.util.handler.guild;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.channel.ServerChannel;
+import org.javacord.api.entity.channel.ServerVoiceChannel;
+import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
 import org.javacord.api.event.server.ServerBecomesAvailableEvent;
 import org.javacord.api.event.server.ServerJoinEvent;
 import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.event.server.ServerBecomesAvailableEventImpl;
 import org.javacord.core.event.server.ServerJoinEventImpl;
+import org.javacord.core.util.gateway.DiscordWebSocketAdapter;
 import org.javacord.core.util.gateway.PacketHandler;
+import org.javacord.core.util.gateway.ServerIngestionStage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the guild create packet.
@@ -30,18 +44,183 @@ public class GuildCreateHandler extends PacketHandler {
             return;
         }
         long id = packet.get("id").asLong();
+        ServerIngestionStage ingestionStage = api.getServerIngestionStage();
+        if (api.isServerPendingReconciliation(id)) {
+            Optional<ServerImpl> cachedServer = api.getPossiblyUnreadyServerById(id).map(ServerImpl.class::cast);
+            if (cachedServer.isPresent()) {
+                ingestionStage.publishAll();
+                reconcileServer(cachedServer.get(), packet);
+                api.completeServerReconciliation(id);
+                return;
+            }
+        }
         if (api.getUnavailableServers().contains(id)) {
-            ServerImpl server = new ServerImpl(api, packet);
-            ServerBecomesAvailableEvent event = new ServerBecomesAvailableEventImpl(server);
+            ingestionStage.submit(packet, server -> {
+                ServerBecomesAvailableEvent event = new ServerBecomesAvailableEventImpl(server);
 
-            api.getEventDispatcher().dispatchServerBecomesAvailableEvent(server, event);
+                api.getEventDispatcher().dispatchServerBecomesAvailableEvent(server, event);
+            });
             return;
         }
 
-        ServerImpl server = new ServerImpl(api, packet);
-        ServerJoinEvent event = new ServerJoinEventImpl(server);
+        ingestionStage.submit(packet, server -> {
+            ServerJoinEvent event = new ServerJoinEventImpl(server);
+
+            api.getEventDispatcher().dispatchServerJoinEvent(server, event);
+        });
+    }
+
+    @Override
+    protected boolean awaitsServerIngestion() {
+        // The ingestion stage itself keeps the guild create packets in order
+        return false;
+    }
+
+    /**
+     * Reconciles the data of a guild create packet into a server that was kept on reconnect.
+     * The parts of the packet are handled by the regular update, create and delete handlers,
+     * so only actual changes are dispatched as events.
+     *
+     * @param server The cached server.
+     * @param packet The guild create packet.
+     */
+    private void reconcileServer(ServerImpl server, JsonNode packet) {
+        DiscordWebSocketAdapter adapter = api.getWebSocketAdapter();
+        String serverId = server.getIdAsString();
+
+        // Roles first, as members, channels and emojis reference them
+        Set<Long> roleIds = new HashSet<>();
+        if (packet.has("roles")) {
+            for (JsonNode roleJson : packet.get("roles")) {
+                long roleId = roleJson.get("id").asLong();
+                roleIds.add(roleId);
+                ObjectNode rolePacket = JsonNodeFactory.instance.objectNode().put("guild_id", serverId);
+                rolePacket.set("role", roleJson);
+                adapter.handlePacketInCurrentThread(
+                        server.getRoleById(roleId).isPresent() ? "GUILD_ROLE_UPDATE" : "GUILD_ROLE_CREATE",
+                        rolePacket);
+            }
+        }
+
+        // Members are complete for non-large servers only, so we can only detect leaving members there
+        Set<Long> memberIds = new HashSet<>();
+        if (packet.has("members")) {
+            for (JsonNode memberJson : packet.get("members")) {
+                ObjectNode memberPacket = ((ObjectNode) memberJson).put("guild_id", serverId);
+                long userId = memberJson.get("user").get("id").asLong();
+                memberIds.add(userId);
+                if (server.getMemberById(userId).isPresent()) {
+                    if (!memberPacket.has("nick")) {
+                        memberPacket.putNull("nick");
+                    }
+                    ObjectNode userPacket = JsonNodeFactory.instance.objectNode();
+                    userPacket.set("user", memberJson.get("user"));
+                    adapter.handlePacketInCurrentThread("PRESENCE_UPDATE", userPacket);
+                    adapter.handlePacketInCurrentThread("GUILD_MEMBER_UPDATE", memberPacket);
+                } else {
+                    adapter.handlePacketInCurrentThread("GUILD_MEMBER_ADD", memberPacket);
+                }
+            }
+        }
+
+        // Categories first, as other channels might be moved into them
+        Set<Long> channelIds = new HashSet<>();
+        if (packet.has("channels")) {
+            List<JsonNode> channels = new ArrayList<>();
+            packet.get("channels").forEach(channels::add);
+            channels.sort((left, right) ->
+                    Boolean.compare(right.get("type").asInt() == 4, left.get("type").asInt() == 4));
+            for (JsonNode channelJson : channels) {
+                ObjectNode channelPacket = ((ObjectNode) channelJson).put("guild_id", serverId);
+                long channelId = channelJson.get("id").asLong();
+                channelIds.add(channelId);
+                adapter.handlePacketInCurrentThread(
+                        server.getChannelById(channelId).isPresent() ? "CHANNEL_UPDATE" : "CHANNEL_CREATE",
+                        channelPacket);
+            }
+        }
+
+        adapter.handlePacketInCurrentThread("GUILD_UPDATE", packet);
+
+        for (ServerChannel channel : new ArrayList<>(server.getUnorderedChannels())) {
+            if (!channelIds.contains(channel.getId())) {
+                adapter.handlePacketInCurrentThread("CHANNEL_DELETE", JsonNodeFactory.instance.objectNode()
+                        .put("id", channel.getIdAsString())
+                        .put("type", channel.getType().getId())
+                        .put("guild_id", serverId));
+            }
+        }
+
+        for (Role role : server.getRoles()) {
+            if (!roleIds.contains(role.getId())) {
+                adapter.handlePacketInCurrentThread("GUILD_ROLE_DELETE", JsonNodeFactory.instance.objectNode()
+                        .put("guild_id", serverId)
+                        .put("role_id", role.getIdAsString()));
+            }
+        }
+
+        if (!server.isLarge()) {
+            for (User member : server.getMembers()) {
+                if (!memberIds.contains(member.getId())) {
+                    ObjectNode memberPacket = JsonNodeFactory.instance.objectNode().put("guild_id", serverId);
+                    memberPacket.putObject("user").put("id", member.getIdAsString());
+                    adapter.handlePacketInCurrentThread("GUILD_MEMBER_REMOVE", memberPacket);
+                }
+            }
+        }
+        server.setMemberCount(packet.get("member_count").asInt());
+        if (server.getMembers().size() < server.getMemberCount()) {
+            adapter.queueRequestGuildMembers(server);
+        }
+
+        if (packet.has("emojis")) {
+            ObjectNode emojisPacket = JsonNodeFactory.instance.objectNode().put("guild_id", serverId);
+            emojisPacket.set("emojis", packet.get("emojis"));
+            adapter.handlePacketInCurrentThread("GUILD_EMOJIS_UPDATE", emojisPacket);
+        }
 
-        api.getEventDispatcher().dispatchServerJoinEvent(server, event);
+        reconcileVoiceStates(server, packet);
+
+        if (packet.has("presences")) {
+            for (JsonNode presenceJson : packet.get("presences")) {
+                adapter.handlePacketInCurrentThread("PRESENCE_UPDATE", presenceJson);
+            }
+        }
+    }
+
+    /**
+     * Reconciles the voice states of a guild create packet into a server that was kept on reconnect.
+     *
+     * @param server The cached server.
+     * @param packet The guild create packet.
+     */
+    private void reconcileVoiceStates(Server server, JsonNode packet) {
+        DiscordWebSocketAdapter adapter = api.getWebSocketAdapter();
+        String serverId = server.getIdAsString();
+
+        Set<Long> connectedUserIds = new HashSet<>();
+        if (packet.hasNonNull("voice_states")) {
+            for (JsonNode voiceStateJson : packet.get("voice_states")) {
+                connectedUserIds.add(voiceStateJson.get("user_id").asLong());
+                adapter.handlePacketInCurrentThread(
+                        "VOICE_STATE_UPDATE", ((ObjectNode) voiceStateJson).put("guild_id", serverId));
+            }
+        }
+
+        for (ServerVoiceChannel channel : server.getVoiceChannels()) {
+            for (long userId : new ArrayList<>(channel.getConnectedUserIds())) {
+                if (!connectedUserIds.contains(userId)) {
+                    adapter.handlePacketInCurrentThread("VOICE_STATE_UPDATE", JsonNodeFactory.instance.objectNode()
+                            .put("guild_id", serverId)
+                            .put("user_id", Long.toUnsignedString(userId))
+                            .putNull("channel_id")
+                            .put("self_mute", false)
+                            .put("self_deaf", false)
+                            .put("mute", server.isMuted(userId))
+                            .put("deaf", server.isDeafened(userId)));
+                }
+            }
+        }
     }
 
 }
@@ -8,6 +8,7 @@ import org.javacord.core.event.server.ServerBecomesUnavailableEventImpl;
 import org.javacord.core.event.server.ServerLeaveEventImpl;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.gateway.PacketHandler;
+import org.javacord.core.util.rest.RestEndpoint;
 
 /**
  * Handles the guild delete packet.
@@ -43,6 +44,9 @@ public class GuildDeleteHandler extends PacketHandler {
             api.getEventDispatcher().dispatchServerLeaveEvent((DispatchQueueSelector) server, server, event);
         });
         api.removeServerFromCache(serverId);
+        api.getRestResponseCache().invalidate(RestEndpoint.SERVER_WEBHOOK, serverId);
+        api.getRestResponseCache().invalidate(RestEndpoint.SERVER_INVITE, serverId);
+        api.getRestResponseCache().invalidate(RestEndpoint.BAN, serverId);
     }
 
 }
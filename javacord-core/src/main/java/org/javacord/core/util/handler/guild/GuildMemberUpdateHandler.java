@@ -6,17 +6,21 @@ import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.user.User;
 import org.javacord.api.event.server.role.UserRoleAddEvent;
 import org.javacord.api.event.server.role.UserRoleRemoveEvent;
+import org.javacord.api.event.user.UserChangeNameEvent;
 import org.javacord.api.event.user.UserChangeNicknameEvent;
 import org.javacord.core.entity.permission.RoleImpl;
 import org.javacord.core.entity.server.ServerImpl;
+import org.javacord.core.entity.user.UserImpl;
 import org.javacord.core.event.server.role.UserRoleAddEventImpl;
 import org.javacord.core.event.server.role.UserRoleRemoveEventImpl;
+import org.javacord.core.event.user.UserChangeNameEventImpl;
 import org.javacord.core.event.user.UserChangeNicknameEventImpl;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.gateway.PacketHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 
@@ -39,6 +43,20 @@ public class GuildMemberUpdateHandler extends PacketHandler {
         api.getPossiblyUnreadyServerById(packet.get("guild_id").asLong()).map(server -> (ServerImpl) server)
                 .ifPresent(server -> {
                     User user = api.getOrCreateUser(packet.get("user"));
+                    if (packet.get("user").has("username")) {
+                        String newName = packet.get("user").get("username").asText();
+                        String oldName = user.getName();
+                        if (!oldName.equals(newName)) {
+                            // Also updates the name indexes of the user cache and the servers
+                            ((UserImpl) user).setName(newName);
+
+                            UserChangeNameEvent event = new UserChangeNameEventImpl(user, newName, oldName);
+
+                            api.getEventDispatcher().dispatchUserChangeNameEvent(
+                                    api, user.getMutualServers(), Collections.singleton(user), event);
+                        }
+                    }
+
                     if (packet.has("nick")) {
                         String newNickname = packet.get("nick").asText(null);
                         String oldNickname = server.getNickname(user).orElse(null);
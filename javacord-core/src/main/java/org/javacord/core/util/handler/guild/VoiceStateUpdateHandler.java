@@ -14,8 +14,8 @@ import org.javacord.api.event.user.UserChangeSelfDeafenedEvent;
 import org.javacord.api.event.user.UserChangeSelfMutedEvent;
 import org.javacord.core.entity.channel.GroupChannelImpl;
 import org.javacord.core.entity.channel.PrivateChannelImpl;
-import org.javacord.core.entity.channel.ServerVoiceChannelImpl;
 import org.javacord.core.entity.server.ServerImpl;
+import org.javacord.core.entity.server.VoiceState;
 import org.javacord.core.event.channel.server.voice.ServerVoiceChannelMemberJoinEventImpl;
 import org.javacord.core.event.channel.server.voice.ServerVoiceChannelMemberLeaveEventImpl;
 import org.javacord.core.event.user.UserChangeDeafenedEventImpl;
@@ -65,57 +65,41 @@ public class VoiceStateUpdateHandler extends PacketHandler {
     private void handleServerVoiceChannel(JsonNode packet, long userId) {
         api.getPossiblyUnreadyServerById(packet.get("guild_id").asLong())
                 .map(ServerImpl.class::cast).ifPresent(server -> {
-                    Optional<ServerVoiceChannelImpl> oldChannel = server
-                            .getConnectedVoiceChannel(userId)
-                            .map(ServerVoiceChannelImpl.class::cast);
-
-                    Optional<ServerVoiceChannelImpl> newChannel;
-                    if (packet.hasNonNull("channel_id")) {
-                        newChannel = server
-                                .getVoiceChannelById(packet.get("channel_id").asLong())
-                                .map(ServerVoiceChannelImpl.class::cast);
-                    } else {
-                        newChannel = Optional.empty();
+                    VoiceState newVoiceState = VoiceState.fromJson(packet);
+                    VoiceState oldVoiceState = server.setVoiceState(userId, newVoiceState);
+
+                    if (newVoiceState.getChannelId() != oldVoiceState.getChannelId()) {
+                        Optional<ServerVoiceChannel> oldChannel =
+                                server.getVoiceChannelById(oldVoiceState.getChannelId());
+                        Optional<ServerVoiceChannel> newChannel =
+                                server.getVoiceChannelById(newVoiceState.getChannelId());
+                        oldChannel.ifPresent(channel -> dispatchServerVoiceChannelMemberLeaveEvent(
+                                userId, newChannel.orElse(null), channel, server));
+                        newChannel.ifPresent(channel -> dispatchServerVoiceChannelMemberJoinEvent(
+                                userId, channel, oldChannel.orElse(null), server));
                     }
 
-                    if (!newChannel.equals(oldChannel)) {
-                        oldChannel.ifPresent(channel -> {
-                            channel.removeConnectedUser(userId);
-                            dispatchServerVoiceChannelMemberLeaveEvent(
-                                    userId, newChannel.orElse(null), channel, server);
-                        });
-
-                        newChannel.ifPresent(channel -> {
-                            channel.addConnectedUser(userId);
-                            dispatchServerVoiceChannelMemberJoinEvent(userId, channel, oldChannel.orElse(null), server);
-                        });
-                    }
-
-                    boolean newSelfMuted = packet.get("self_mute").asBoolean();
-                    boolean oldSelfMuted = server.isSelfMuted(userId);
+                    boolean newSelfMuted = newVoiceState.isSelfMuted();
+                    boolean oldSelfMuted = oldVoiceState.isSelfMuted();
                     if (newSelfMuted != oldSelfMuted) {
-                        server.setSelfMuted(userId, newSelfMuted);
                         dispatchUserChangeSelfMutedEvent(userId, server, newSelfMuted, oldSelfMuted);
                     }
 
-                    boolean newSelfDeafened = packet.get("self_deaf").asBoolean();
-                    boolean oldSelfDeafened = server.isSelfDeafened(userId);
+                    boolean newSelfDeafened = newVoiceState.isSelfDeafened();
+                    boolean oldSelfDeafened = oldVoiceState.isSelfDeafened();
                     if (newSelfDeafened != oldSelfDeafened) {
-                        server.setSelfDeafened(userId, newSelfDeafened);
                         dispatchUserChangeSelfDeafenedEvent(userId, server, newSelfDeafened, oldSelfDeafened);
                     }
 
-                    boolean newMuted = packet.get("mute").asBoolean();
-                    boolean oldMuted = server.isMuted(userId);
+                    boolean newMuted = newVoiceState.isMuted();
+                    boolean oldMuted = oldVoiceState.isMuted();
                     if (newMuted != oldMuted) {
-                        server.setMuted(userId, newMuted);
                         dispatchUserChangeMutedEvent(userId, server, newMuted, oldMuted);
                     }
 
-                    boolean newDeafened = packet.get("deaf").asBoolean();
-                    boolean oldDeafened = server.isDeafened(userId);
+                    boolean newDeafened = newVoiceState.isDeafened();
+                    boolean oldDeafened = oldVoiceState.isDeafened();
                     if (newDeafened != oldDeafened) {
-                        server.setDeafened(userId, newDeafened);
                         dispatchUserChangeDeafenedEvent(userId, server, newDeafened, oldDeafened);
                     }
                 });
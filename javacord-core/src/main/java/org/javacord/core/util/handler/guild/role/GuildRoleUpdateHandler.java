@@ -11,6 +11,7 @@ import org.javacord.api.event.server.role.RoleChangePermissionsEvent;
 import org.javacord.api.event.server.role.RoleChangePositionEvent;
 import org.javacord.core.entity.permission.PermissionsImpl;
 import org.javacord.core.entity.permission.RoleImpl;
+import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.event.server.role.RoleChangeColorEventImpl;
 import org.javacord.core.event.server.role.RoleChangeHoistEventImpl;
 import org.javacord.core.event.server.role.RoleChangeMentionableEventImpl;
@@ -103,6 +104,7 @@ public class GuildRoleUpdateHandler extends PacketHandler {
             int newPosition = roleJson.get("position").asInt();
             if (oldPosition != newPosition) {
                 role.setPosition(newPosition);
+                ((ServerImpl) role.getServer()).invalidateRoleOrder();
 
                 RoleChangePositionEvent event = new RoleChangePositionEventImpl(role, newPosition, oldPosition);
 
@@ -18,6 +18,7 @@ import org.javacord.core.event.user.UserChangeDiscriminatorEventImpl;
 import org.javacord.core.event.user.UserChangeNameEventImpl;
 import org.javacord.core.event.user.UserChangeStatusEventImpl;
 import org.javacord.core.util.gateway.PacketHandler;
+import org.javacord.core.util.rest.RestEndpoint;
 
 import java.util.Collections;
 import java.util.Objects;
@@ -41,6 +42,10 @@ public class PresenceUpdateHandler extends PacketHandler {
         // ignore the guild_id and send to all mutual servers instead or we must track the properties per server
         // or all packets after the first do not detect a change and will not send around an event for the server
         long userId = packet.get("user").get("id").asLong();
+        if (packet.get("user").size() > 1) {
+            // The packet contains more than the id of the user, i.e. the user itself changed
+            api.getRestResponseCache().invalidate(RestEndpoint.USER, userId);
+        }
         api.getCachedUserById(userId).map(UserImpl.class::cast).ifPresent(user -> {
             if (packet.has("game")) {
                 Activity newActivity = null;
@@ -2,8 +2,13 @@ package org.javacord.core.util.handler.user;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.event.user.UserChangeNameEvent;
+import org.javacord.core.entity.user.UserImpl;
+import org.javacord.core.event.user.UserChangeNameEventImpl;
 import org.javacord.core.util.gateway.PacketHandler;
 
+import java.util.Collections;
+
 /**
  * Handles the user update packet.
  */
@@ -20,7 +25,21 @@ public class UserUpdateHandler extends PacketHandler {
 
     @Override
     public void handle(JsonNode packet) {
-        // NOP
+        api.getCachedUserById(packet.get("id").asLong()).map(UserImpl.class::cast).ifPresent(user -> {
+            if (packet.has("username")) {
+                String newName = packet.get("username").asText();
+                String oldName = user.getName();
+                if (!oldName.equals(newName)) {
+                    // Also updates the name indexes of the user cache and the servers
+                    user.setName(newName);
+
+                    UserChangeNameEvent event = new UserChangeNameEventImpl(user, newName, oldName);
+
+                    api.getEventDispatcher().dispatchUserChangeNameEvent(
+                            api, user.getMutualServers(), Collections.singleton(user), event);
+                }
+            }
+        });
     }
 
-}
\ No newline at end of file
+}
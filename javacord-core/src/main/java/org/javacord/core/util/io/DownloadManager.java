@@ -0,0 +1,517 @@
+package org.javacord.core.util.io;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.Javacord;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.util.logging.LoggerUtil;
+import org.javacord.core.util.rest.HttpClientFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads files like attachments and icons from Discord's CDN.
+ *
+ * <p>Downloads share the connection pool of the api's http client and are limited to a maximum amount of concurrent
+ * downloads per host. Downloads that exceed the limit wait in a queue without blocking a thread.
+ *
+ * <p>If a cache directory is set, cacheable downloads are stored in it by the SHA-256 hash of their content, so
+ * repeated downloads of the same url and identical files of different urls are served from the disk.
+ */
+public class DownloadManager {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(DownloadManager.class);
+
+    /**
+     * The default maximum amount of concurrent downloads per host.
+     */
+    public static final int DEFAULT_MAX_DOWNLOADS_PER_HOST = 8;
+
+    /**
+     * The connect and read timeout of downloads in seconds.
+     */
+    private static final int TIMEOUT_SECONDS = 30;
+
+    /**
+     * The suffix of partially downloaded files that can be resumed.
+     */
+    private static final String PARTIAL_FILE_SUFFIX = ".part";
+
+    /**
+     * The suffix of the file next to a partially downloaded file that stores the entity tag or the last modification
+     * date of the content in the partial file.
+     */
+    private static final String VALIDATOR_FILE_SUFFIX = ".part.validator";
+
+    private final DiscordApiImpl api;
+    private final OkHttpClient httpClient;
+    private final Map<String, HostQueue> hostQueues = new ConcurrentHashMap<>();
+
+    private volatile int maxDownloadsPerHost = DEFAULT_MAX_DOWNLOADS_PER_HOST;
+    private volatile Path cacheDirectory = null;
+
+    /**
+     * Creates a new download manager.
+     *
+     * @param api The discord api instance.
+     */
+    public DownloadManager(DiscordApiImpl api) {
+        this.api = api;
+        // The logging interceptor of the rest client reads whole bodies into memory
+        httpClient = HttpClientFactory.removeLoggingInterceptor(api.getHttpClient().newBuilder())
+                .addInterceptor(chain -> chain.proceed(chain.request()
+                        .newBuilder()
+                        .header("User-Agent", Javacord.USER_AGENT)
+                        .build()))
+                .connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Sets the maximum amount of concurrent downloads per host.
+     *
+     * @param maxDownloadsPerHost The maximum amount of concurrent downloads per host. Must be positive.
+     */
+    public void setMaxDownloadsPerHost(int maxDownloadsPerHost) {
+        if (maxDownloadsPerHost <= 0) {
+            throw new IllegalArgumentException("The maximum amount of downloads per host must be positive");
+        }
+        this.maxDownloadsPerHost = maxDownloadsPerHost;
+        hostQueues.values().forEach(HostQueue::startDownloads);
+    }
+
+    /**
+     * Gets the maximum amount of concurrent downloads per host.
+     *
+     * @return The maximum amount of concurrent downloads per host.
+     */
+    public int getMaxDownloadsPerHost() {
+        return maxDownloadsPerHost;
+    }
+
+    /**
+     * Sets the directory of the download cache.
+     *
+     * @param cacheDirectory The directory of the download cache or {@code null} to disable the cache.
+     */
+    public void setCacheDirectory(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Gets the directory of the download cache.
+     *
+     * @return The directory of the download cache.
+     */
+    public Optional<Path> getCacheDirectory() {
+        return Optional.ofNullable(cacheDirectory);
+    }
+
+    /**
+     * Downloads the given url into a byte array.
+     *
+     * @param url The url to download.
+     * @param cacheable Whether the content of the url never changes, so it may be served from the cache.
+     * @return The content of the url.
+     */
+    public CompletableFuture<byte[]> downloadAsByteArray(URL url, boolean cacheable) {
+        return queueDownload(url, () -> {
+            Path cachedFile = downloadToCache(url, cacheable);
+            if (cachedFile != null) {
+                return Files.readAllBytes(cachedFile);
+            }
+            try (Response response = executeDownload(url, 0, null)) {
+                return response.body().bytes();
+            }
+        });
+    }
+
+    /**
+     * Downloads the given url as an input stream.
+     * The download only counts towards the concurrency limit until the response is received. The input stream must
+     * be closed by the caller.
+     *
+     * @param url The url to download.
+     * @param cacheable Whether the content of the url never changes, so it may be served from the cache.
+     * @return The content of the url.
+     */
+    public CompletableFuture<InputStream> downloadAsInputStream(URL url, boolean cacheable) {
+        return queueDownload(url, () -> {
+            Path cachedFile = downloadToCache(url, cacheable);
+            if (cachedFile != null) {
+                return Files.newInputStream(cachedFile);
+            }
+            return executeDownload(url, 0, null).body().byteStream();
+        });
+    }
+
+    /**
+     * Downloads the given url into a file.
+     * The content is transferred into the file without buffering it in the heap. While downloading, the content is
+     * written to a file with the suffix {@code .part} next to the target. If a download fails, the next download of
+     * the same target resumes where the failed one stopped, as long as the content did not change in the meantime.
+     *
+     * @param url The url to download.
+     * @param target The file to download to. It is replaced if it already exists.
+     * @param cacheable Whether the content of the url never changes, so it may be served from the cache.
+     * @return The target file.
+     */
+    public CompletableFuture<Path> downloadTo(URL url, Path target, boolean cacheable) {
+        return queueDownload(url, () -> {
+            Path cachedFile = downloadToCache(url, cacheable);
+            if (cachedFile != null) {
+                return Files.copy(cachedFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Path partialFile = target.resolveSibling(target.getFileName() + PARTIAL_FILE_SUFFIX);
+            Path validatorFile = target.resolveSibling(target.getFileName() + VALIDATOR_FILE_SUFFIX);
+            downloadToPartialFile(url, partialFile, validatorFile);
+            Files.deleteIfExists(validatorFile);
+            return Files.move(partialFile, target, StandardCopyOption.REPLACE_EXISTING);
+        });
+    }
+
+    /**
+     * Downloads the given url into a partial file or resumes the download of an existing partial file.
+     *
+     * <p>A partial file is only resumed if the validator of its content is known. The validator is sent as
+     * {@code If-Range} header, so the server sends the whole content again if it changed.
+     *
+     * @param url The url to download.
+     * @param partialFile The partial file.
+     * @param validatorFile The file that stores the validator of the partial file's content.
+     * @throws IOException If the download failed.
+     */
+    private void downloadToPartialFile(URL url, Path partialFile, Path validatorFile) throws IOException {
+        String validator = readValidator(partialFile, validatorFile);
+        long offset = validator == null ? 0 : Files.size(partialFile);
+        try (Response response = executeDownload(url, offset, validator)) {
+            if (response.code() == 416) {
+                // The partial file is complete if it has the length of the whole content
+                if (getContentRangeLength(response) == offset) {
+                    return;
+                }
+            } else if (response.code() != 206 || getContentRangeStart(response) == offset) {
+                boolean resumed = response.code() == 206;
+                if (offset > 0) {
+                    logger.debug("{} download of {} at byte {}", resumed ? "Resuming" : "Restarting", url, offset);
+                }
+                if (!resumed) {
+                    writeValidator(response, validatorFile);
+                }
+                transferToFile(response.body().byteStream(), partialFile, resumed ? offset : 0);
+                return;
+            }
+        }
+        logger.debug("Restarting download of {}, because the partial file does not match the content", url);
+        Files.delete(validatorFile);
+        downloadToPartialFile(url, partialFile, validatorFile);
+    }
+
+    /**
+     * Reads the validator of the given partial file.
+     *
+     * @param partialFile The partial file.
+     * @param validatorFile The file that stores the validator of the partial file's content.
+     * @return The validator or {@code null} if there is no partial file or its validator is unknown.
+     * @throws IOException If reading the validator failed.
+     */
+    private static String readValidator(Path partialFile, Path validatorFile) throws IOException {
+        if (!Files.exists(partialFile)) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(validatorFile), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the validator of the given response's content.
+     * Weak entity tags can not be used for range requests, so the last modification date is used instead.
+     *
+     * @param response The response.
+     * @param validatorFile The file that stores the validator.
+     * @throws IOException If writing the validator failed.
+     */
+    private static void writeValidator(Response response, Path validatorFile) throws IOException {
+        String validator = response.header("ETag");
+        if (validator == null || validator.startsWith("W/")) {
+            validator = response.header("Last-Modified");
+        }
+        if (validator == null) {
+            // A partial file without a validator can not be resumed
+            Files.deleteIfExists(validatorFile);
+        } else {
+            Files.write(validatorFile, validator.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Gets the first byte of a partial response from its {@code Content-Range} header, e.g. {@code bytes 100-999/1000}.
+     *
+     * @param response The response.
+     * @return The first byte or {@code -1} if the header is missing or invalid.
+     */
+    private static long getContentRangeStart(Response response) {
+        String contentRange = response.header("Content-Range");
+        if (contentRange == null || !contentRange.startsWith("bytes ") || contentRange.indexOf('-') < 0) {
+            return -1;
+        }
+        return parseLong(contentRange.substring("bytes ".length(), contentRange.indexOf('-')));
+    }
+
+    /**
+     * Gets the length of the whole content from the {@code Content-Range} header of a response, e.g.
+     * {@code bytes 100-999/1000}.
+     *
+     * @param response The response.
+     * @return The length of the whole content or {@code -1} if the header is missing, invalid or the length is
+     *         unknown.
+     */
+    private static long getContentRangeLength(Response response) {
+        String contentRange = response.header("Content-Range");
+        if (contentRange == null || contentRange.indexOf('/') < 0) {
+            return -1;
+        }
+        return parseLong(contentRange.substring(contentRange.indexOf('/') + 1));
+    }
+
+    /**
+     * Parses a non-negative number of a header.
+     *
+     * @param number The number.
+     * @return The number or {@code -1} if it is invalid.
+     */
+    private static long parseLong(String number) {
+        try {
+            return Long.parseLong(number.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Downloads the given url into the cache, if the cache is enabled and the url is cacheable.
+     *
+     * @param url The url to download.
+     * @param cacheable Whether the content of the url never changes.
+     * @return The cached file or {@code null} if the url is not cached.
+     * @throws IOException If the download or accessing the cache failed.
+     */
+    private Path downloadToCache(URL url, boolean cacheable) throws IOException {
+        Path cacheDirectory = this.cacheDirectory;
+        if (!cacheable || cacheDirectory == null) {
+            return null;
+        }
+        Path blobDirectory = cacheDirectory.resolve("blobs");
+        Path urlFile = cacheDirectory.resolve("urls").resolve(sha256(url.toString().getBytes(StandardCharsets.UTF_8)));
+        try {
+            Path cachedFile = blobDirectory.resolve(new String(Files.readAllBytes(urlFile), StandardCharsets.UTF_8));
+            if (Files.exists(cachedFile)) {
+                return cachedFile;
+            }
+        } catch (NoSuchFileException ignored) {
+            // Not cached yet
+        }
+
+        Files.createDirectories(blobDirectory);
+        Files.createDirectories(urlFile.getParent());
+        Path temporaryFile = Files.createTempFile(blobDirectory, "download", ".tmp");
+        try {
+            MessageDigest digest = createSha256Digest();
+            try (Response response = executeDownload(url, 0, null)) {
+                transferToFile(new DigestInputStream(response.body().byteStream(), digest), temporaryFile, 0);
+            }
+            String contentHash = toHex(digest.digest());
+            // Identical content has the same name, so replacing an existing file does not change it
+            Path cachedFile = Files.move(
+                    temporaryFile, blobDirectory.resolve(contentHash), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(urlFile, contentHash.getBytes(StandardCharsets.UTF_8));
+            return cachedFile;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Executes a download request.
+     *
+     * @param url The url to download.
+     * @param offset The byte to start at, {@code 0} to download the whole content.
+     * @param validator The entity tag or last modification date the content must have to only download the content
+     *                  after the offset. Ignored if the offset is {@code 0}.
+     * @return The response. A response with code {@code 206} only contains the content after the offset, and a
+     *         response with code {@code 416} means the content does not have more bytes than the offset.
+     * @throws IOException If the request failed.
+     */
+    private Response executeDownload(URL url, long offset, String validator) throws IOException {
+        Request.Builder requestBuilder = new Request.Builder().url(url);
+        if (offset > 0) {
+            requestBuilder.header("Range", "bytes=" + offset + "-").header("If-Range", validator);
+        }
+        logger.debug("Trying to download file from {}", url);
+        Response response = httpClient.newCall(requestBuilder.build()).execute();
+        if (!response.isSuccessful() && !(offset > 0 && response.code() == 416)) {
+            response.close();
+            throw new IOException("Download of " + url + " failed with status code " + response.code());
+        }
+        return response;
+    }
+
+    /**
+     * Transfers the given input stream into a file.
+     *
+     * @param inputStream The input stream.
+     * @param file The file.
+     * @param position The position in the file to start at. The file is truncated to this position.
+     * @throws IOException If the transfer failed.
+     */
+    private static void transferToFile(InputStream inputStream, Path file, long position) throws IOException {
+        try (
+                ReadableByteChannel source = Channels.newChannel(inputStream);
+                FileChannel target = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)
+        ) {
+            target.truncate(position);
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * Queues a download for the host of the given url.
+     *
+     * @param url The url to download.
+     * @param download The download.
+     * @param <T> The type of the download's result.
+     * @return The result of the download.
+     */
+    private <T> CompletableFuture<T> queueDownload(URL url, Callable<T> download) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        hostQueues.computeIfAbsent(url.getHost(), host -> new HostQueue()).queue(() -> {
+            try {
+                future.complete(download.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the given bytes.
+     *
+     * @param bytes The bytes.
+     * @return The hash as hex string.
+     */
+    private static String sha256(byte[] bytes) {
+        return toHex(createSha256Digest().digest(bytes));
+    }
+
+    /**
+     * Creates a new SHA-256 message digest.
+     *
+     * @return The message digest.
+     */
+    private static MessageDigest createSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converts the given bytes to a hex string.
+     *
+     * @param bytes The bytes.
+     * @return The hex string.
+     */
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The downloads of a single host.
+     */
+    private class HostQueue {
+
+        /**
+         * The downloads that wait until less than the maximum amount of downloads of the host are running.
+         */
+        private final Deque<Runnable> queuedDownloads = new ArrayDeque<>();
+        private int runningDownloads = 0;
+
+        /**
+         * Queues a download and starts it if there is a free slot.
+         *
+         * @param download The download.
+         */
+        private synchronized void queue(Runnable download) {
+            queuedDownloads.add(download);
+            startDownloads();
+        }
+
+        /**
+         * Starts queued downloads while there are free slots.
+         */
+        private synchronized void startDownloads() {
+            while (runningDownloads < maxDownloadsPerHost && !queuedDownloads.isEmpty()) {
+                Runnable download = queuedDownloads.poll();
+                runningDownloads++;
+                api.getThreadPool().getExecutorService().submit(() -> {
+                    try {
+                        download.run();
+                    } finally {
+                        finishDownload();
+                    }
+                });
+            }
+        }
+
+        /**
+         * Frees the slot of a finished download.
+         */
+        private synchronized void finishDownload() {
+            runningDownloads--;
+            startDownloads();
+        }
+
+    }
+
+}
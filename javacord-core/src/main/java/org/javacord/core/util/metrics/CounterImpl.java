@@ -0,0 +1,35 @@
+package org.javacord.core.util.metrics;
+
+import org.javacord.api.util.metrics.Counter;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The implementation of {@link Counter}.
+ */
+public class CounterImpl extends MeterImpl implements Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Creates a new counter.
+     *
+     * @param name The name of the counter.
+     * @param tags The tags of the counter.
+     */
+    public CounterImpl(String name, Map<String, String> tags) {
+        super(name, tags);
+    }
+
+    @Override
+    public void increment(long amount) {
+        count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+}
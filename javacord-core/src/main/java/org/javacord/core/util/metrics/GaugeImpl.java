@@ -0,0 +1,33 @@
+package org.javacord.core.util.metrics;
+
+import org.javacord.api.util.metrics.Gauge;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The implementation of {@link Gauge}.
+ */
+public class GaugeImpl extends MeterImpl implements Gauge {
+
+    private final Supplier<? extends Number> valueSupplier;
+
+    /**
+     * Creates a new gauge.
+     *
+     * @param name The name of the gauge.
+     * @param tags The tags of the gauge.
+     * @param valueSupplier The supplier of the value of the gauge.
+     */
+    public GaugeImpl(String name, Map<String, String> tags, Supplier<? extends Number> valueSupplier) {
+        super(name, tags);
+        this.valueSupplier = valueSupplier;
+    }
+
+    @Override
+    public double getValue() {
+        Number value = valueSupplier.get();
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+}
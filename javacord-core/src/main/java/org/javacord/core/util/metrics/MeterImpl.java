@@ -0,0 +1,42 @@
+package org.javacord.core.util.metrics;
+
+import org.javacord.api.util.metrics.Meter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The base class of all meters of the {@link MeterRegistryImpl}.
+ */
+public abstract class MeterImpl implements Meter {
+
+    private final String name;
+    private final Map<String, String> tags;
+
+    /**
+     * Creates a new meter.
+     *
+     * @param name The name of the meter.
+     * @param tags The tags of the meter.
+     */
+    protected MeterImpl(String name, Map<String, String> tags) {
+        this.name = name;
+        this.tags = Collections.unmodifiableMap(tags);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (name: %s, tags: %s)", getClass().getSimpleName(), getName(), getTags());
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.javacord.core.util.metrics;
+
+import org.javacord.api.util.metrics.Counter;
+import org.javacord.api.util.metrics.Gauge;
+import org.javacord.api.util.metrics.Meter;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.metrics.Timer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link MeterRegistry} which keeps all meters in memory.
+ */
+public class MeterRegistryImpl implements MeterRegistry {
+
+    /**
+     * All meters of the registry, mapped by their id.
+     */
+    private final Map<MeterId, Meter> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return getOrCreate(Counter.class, name, tags, tagMap -> new CounterImpl(name, tagMap));
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return getOrCreate(Timer.class, name, tags, tagMap -> new TimerImpl(name, tagMap));
+    }
+
+    @Override
+    public Gauge gauge(String name, Supplier<? extends Number> valueSupplier, String... tags) {
+        return getOrCreate(Gauge.class, name, tags, tagMap -> new GaugeImpl(name, tagMap, valueSupplier));
+    }
+
+    @Override
+    public void remove(Meter meter) {
+        meters.remove(new MeterId(meter.getName(), meter.getTags()), meter);
+    }
+
+    @Override
+    public Collection<Meter> getMeters() {
+        return Collections.unmodifiableCollection(meters.values());
+    }
+
+    /**
+     * Gets or creates a meter of the given type.
+     *
+     * @param type The type of the meter.
+     * @param name The name of the meter.
+     * @param tags The tags of the meter as alternating keys and values.
+     * @param meterFactory A function that creates the meter from its tags.
+     * @param <T> The type of the meter.
+     * @return The meter.
+     */
+    private <T extends Meter> T getOrCreate(
+            Class<T> type, String name, String[] tags, Function<Map<String, String>, ? extends T> meterFactory) {
+        Map<String, String> tagMap = toTagMap(tags);
+        Meter meter = meters.computeIfAbsent(new MeterId(name, tagMap), id -> meterFactory.apply(tagMap));
+        if (!type.isInstance(meter)) {
+            throw new IllegalArgumentException(String.format(
+                    "There is already a meter of a different type with the same name and tags! (%s)", meter));
+        }
+        return type.cast(meter);
+    }
+
+    /**
+     * Converts tags that are given as alternating keys and values to a map.
+     *
+     * @param tags The tags as alternating keys and values.
+     * @return The tags as a map, sorted by their keys.
+     */
+    public static Map<String, String> toTagMap(String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags must be given as alternating keys and values!");
+        }
+        Map<String, String> tagMap = new TreeMap<>();
+        for (int i = 0; i < tags.length; i += 2) {
+            tagMap.put(tags[i], tags[i + 1]);
+        }
+        return tagMap;
+    }
+
+    /**
+     * The identity of a meter.
+     */
+    private static class MeterId {
+
+        private final String name;
+        private final Map<String, String> tags;
+
+        /**
+         * Creates a new meter id.
+         *
+         * @param name The name of the meter.
+         * @param tags The tags of the meter.
+         */
+        private MeterId(String name, Map<String, String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof MeterId)) {
+                return false;
+            }
+            MeterId other = (MeterId) obj;
+            return name.equals(other.name) && tags.equals(other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, tags);
+        }
+
+    }
+
+}
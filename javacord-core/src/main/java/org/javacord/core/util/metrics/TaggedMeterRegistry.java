@@ -0,0 +1,90 @@
+package org.javacord.core.util.metrics;
+
+import org.javacord.api.util.metrics.Counter;
+import org.javacord.api.util.metrics.Gauge;
+import org.javacord.api.util.metrics.Meter;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.metrics.Timer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A meter registry which adds common tags to all meters and delegates to another registry.
+ * It is used to tell apart the meters of several shards that share the same registry.
+ */
+public class TaggedMeterRegistry implements MeterRegistry {
+
+    private final MeterRegistry delegate;
+    private final Map<String, String> commonTags;
+    private final String[] commonTagArray;
+
+    /**
+     * Creates a new tagged meter registry.
+     *
+     * @param delegate The registry to delegate to.
+     * @param commonTags The tags to add to all meters as alternating keys and values.
+     */
+    public TaggedMeterRegistry(MeterRegistry delegate, String... commonTags) {
+        this.delegate = delegate;
+        this.commonTags = MeterRegistryImpl.toTagMap(commonTags);
+        commonTagArray = commonTags.clone();
+    }
+
+    /**
+     * Gets the registry this registry delegates to.
+     *
+     * @return The registry this registry delegates to.
+     */
+    public MeterRegistry getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return delegate.counter(name, withCommonTags(tags));
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return delegate.timer(name, withCommonTags(tags));
+    }
+
+    @Override
+    public Gauge gauge(String name, Supplier<? extends Number> valueSupplier, String... tags) {
+        return delegate.gauge(name, valueSupplier, withCommonTags(tags));
+    }
+
+    @Override
+    public void remove(Meter meter) {
+        delegate.remove(meter);
+    }
+
+    /**
+     * Gets all meters of the delegate which have the common tags of this registry.
+     *
+     * @return All meters with the common tags of this registry.
+     */
+    @Override
+    public Collection<Meter> getMeters() {
+        return delegate.getMeters().stream()
+                .filter(meter -> meter.getTags().entrySet().containsAll(commonTags.entrySet()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Appends the common tags to the given tags.
+     *
+     * @param tags The tags as alternating keys and values.
+     * @return The tags with the common tags appended.
+     */
+    private String[] withCommonTags(String[] tags) {
+        String[] result = new String[tags.length + commonTagArray.length];
+        System.arraycopy(tags, 0, result, 0, tags.length);
+        System.arraycopy(commonTagArray, 0, result, tags.length, commonTagArray.length);
+        return result;
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.javacord.core.util.metrics;
+
+import org.javacord.api.util.metrics.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The implementation of {@link Timer}.
+ * The durations are recorded in a fixed-size histogram with four buckets per power of two nanoseconds, so the
+ * percentiles have a relative error of at most 25%.
+ */
+public class TimerImpl extends MeterImpl implements Timer {
+
+    /**
+     * The amount of buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 4;
+
+    /**
+     * The amount of bits that are needed to address the sub buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE * SUB_BUCKETS);
+
+    /**
+     * Creates a new timer.
+     *
+     * @param name The name of the timer.
+     * @param tags The tags of the timer.
+     */
+    public TimerImpl(String name, Map<String, String> tags) {
+        super(name, tags);
+    }
+
+    @Override
+    public void record(long amount, TimeUnit unit) {
+        long nanos = Math.max(0, unit.toNanos(amount));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        buckets.incrementAndGet(getBucketIndex(nanos));
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    @Override
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    @Override
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 1!");
+        }
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            total += buckets.get(i);
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(getBucketUpperBound(i), maxNanos.get()));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Gets the index of the bucket for the given duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The index of the bucket.
+     */
+    private static int getBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest duration that falls into the bucket with the given index.
+     *
+     * @param index The index of the bucket.
+     * @return The largest duration of the bucket in nanoseconds.
+     */
+    private static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
@@ -0,0 +1,203 @@
+package org.javacord.core.util.ratelimit;
+
+import org.javacord.api.util.rest.RatelimitCoordinator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A ratelimit coordinator that keeps the ratelimit information in memory.
+ *
+ * <p>Within a bucket's window, slots are handed out until the remaining requests of the bucket are used up. When the
+ * window is over or the bucket is not known yet, a single request is let through to learn the new ratelimit, and
+ * all others wait until it got released.
+ *
+ * <p>Buckets whose window is over and that have no request in flight are forgotten from time to time, as they are not
+ * different from unknown buckets.
+ */
+public class LocalRatelimitCoordinator implements RatelimitCoordinator {
+
+    /**
+     * The time after which an acquired slot of an unknown bucket counts as released, even if it never was.
+     */
+    private static final long PROBE_TIMEOUT_MILLIS = 10_000;
+
+    /**
+     * The time to wait for the release of a slot of an unknown bucket before trying again.
+     */
+    private static final long PROBE_RETRY_MILLIS = 50;
+
+    /**
+     * The interval in which expired buckets are removed.
+     */
+    static final long SWEEP_INTERVAL_MILLIS = 60_000;
+
+    /**
+     * The global ratelimit reset timestamps. The key is the account.
+     */
+    private final Map<String, Long> globalRatelimitResets = new ConcurrentHashMap<>();
+
+    /**
+     * The states of the buckets. The key is the account and the bucket.
+     */
+    private final Map<String, BucketState> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The source of the current timestamp in milliseconds.
+     */
+    private final LongSupplier currentTimeMillis;
+
+    /**
+     * The timestamp of the next removal of expired buckets.
+     */
+    private final AtomicLong nextSweep;
+
+    /**
+     * Creates a new local ratelimit coordinator.
+     */
+    public LocalRatelimitCoordinator() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a new local ratelimit coordinator with a custom time source.
+     *
+     * @param currentTimeMillis The source of the current timestamp in milliseconds.
+     */
+    LocalRatelimitCoordinator(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+        nextSweep = new AtomicLong(currentTimeMillis.getAsLong() + SWEEP_INTERVAL_MILLIS);
+    }
+
+    @Override
+    public Duration acquire(String account, String bucket) {
+        long now = currentTimeMillis.getAsLong();
+        long sweep = nextSweep.get();
+        if (now >= sweep && nextSweep.compareAndSet(sweep, now + SWEEP_INTERVAL_MILLIS)) {
+            removeExpiredBuckets(now);
+        }
+        long globalRatelimitReset = globalRatelimitResets.getOrDefault(account, 0L);
+        if (globalRatelimitReset > now) {
+            return Duration.ofMillis(globalRatelimitReset - now);
+        }
+        while (true) {
+            BucketState state = buckets.computeIfAbsent(account + ' ' + bucket, key -> new BucketState());
+            synchronized (state) {
+                // The state might have been removed after it was looked up
+                if (!state.removed) {
+                    return Duration.ofMillis(state.acquire(now));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void release(String account, String bucket, int remaining, Instant reset) {
+        BucketState state = buckets.get(account + ' ' + bucket);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.release(remaining, reset);
+        }
+    }
+
+    @Override
+    public void setGlobalRatelimitReset(String account, Instant reset) {
+        globalRatelimitResets.merge(account, reset.toEpochMilli(), Math::max);
+    }
+
+    /**
+     * Gets the amount of buckets whose state is currently kept.
+     *
+     * @return The amount of buckets.
+     */
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Removes the states of all buckets whose window is over and that have no request in flight.
+     *
+     * @param now The current timestamp.
+     */
+    private void removeExpiredBuckets(long now) {
+        globalRatelimitResets.values().removeIf(reset -> reset <= now);
+        buckets.values().removeIf(state -> {
+            synchronized (state) {
+                state.removed = state.isExpired(now);
+                return state.removed;
+            }
+        });
+    }
+
+    /**
+     * The state of a single bucket. All methods must be called while the state is locked.
+     */
+    private static class BucketState {
+
+        private int remaining = 0;
+        private long reset = 0;
+        private long probeDeadline = 0;
+        private boolean removed = false;
+
+        /**
+         * Tries to acquire a slot.
+         *
+         * @param now The current timestamp.
+         * @return The time in milliseconds to wait before trying again, or zero if the slot was acquired.
+         */
+        private long acquire(long now) {
+            if (reset > now) {
+                if (remaining > 0) {
+                    remaining--;
+                    return 0;
+                }
+                return reset - now;
+            }
+            // The window is over, only let a single request through to learn the new ratelimit
+            if (probeDeadline > now) {
+                return Math.min(PROBE_RETRY_MILLIS, probeDeadline - now);
+            }
+            probeDeadline = now + PROBE_TIMEOUT_MILLIS;
+            return 0;
+        }
+
+        /**
+         * Checks if the window of the bucket is over and no request is in flight to learn the new ratelimit.
+         *
+         * @param now The current timestamp.
+         * @return Whether the state is expired.
+         */
+        private boolean isExpired(long now) {
+            return reset <= now && probeDeadline <= now;
+        }
+
+        /**
+         * Releases a slot.
+         *
+         * @param remaining The remaining requests reported by the response.
+         * @param reset The reset time reported by the response. May be {@code null}.
+         */
+        private void release(int remaining, Instant reset) {
+            probeDeadline = 0;
+            if (reset == null) {
+                return;
+            }
+            long resetTimestamp = reset.toEpochMilli();
+            if (resetTimestamp == this.reset) {
+                // Other processes might have acquired slots of the same window in the meantime
+                this.remaining = Math.min(this.remaining, remaining);
+            } else {
+                this.remaining = remaining;
+                this.reset = resetTimestamp;
+            }
+        }
+
+    }
+
+}
@@ -1,22 +1,43 @@
 package org.javacord.core.util.ratelimit;
 
 import org.javacord.api.DiscordApi;
+import org.javacord.api.util.rest.RestRequestPriority;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestRequest;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class RatelimitBucket {
 
+    /**
+     * The default amount of requests per second for the global ratelimit.
+     */
+    public static final int DEFAULT_GLOBAL_REQUESTS_PER_SECOND = 50;
+
     // The key is the token, as global ratelimits are shared across the same account.
-    private static final Map<String, Long> globalRatelimitResetTimestamp = new ConcurrentHashMap<>();
+    private static final Map<String, TokenBucket> globalTokenBuckets = new ConcurrentHashMap<>();
+
+    // The key is the token, as global ratelimits are shared across the same account.
+    private static final Map<String, TokenBucket> backgroundTokenBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of interactive requests that are sent in a row while background requests of the same bucket wait.
+     */
+    private static final int MAX_INTERACTIVE_STREAK = 4;
 
     private final DiscordApiImpl api;
 
     private final ConcurrentLinkedQueue<RestRequest<?>> requestQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<RestRequest<?>> backgroundRequestQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The amount of interactive requests that were sent in a row while background requests were waiting.
+     */
+    private volatile int interactiveStreak = 0;
 
     private final RestEndpoint endpoint;
     private final String majorUrlParameter;
@@ -24,6 +45,11 @@ public class RatelimitBucket {
     private volatile long ratelimitResetTimestamp = 0;
     private volatile int ratelimitRemaining = 1;
 
+    /**
+     * The timestamp of the last request of this bucket, in the same time scale as the ratelimit reset timestamp.
+     */
+    private volatile long lastRequestTimestamp = 0;
+
     /**
      * Creates a RatelimitBucket for the given endpoint / parameter combination.
      *
@@ -51,13 +77,87 @@ public class RatelimitBucket {
     }
 
     /**
-     * Sets a global ratelimit.
+     * Sets the amount of requests per second for the global ratelimit of the given api's account.
      *
      * @param api A discord api instance.
-     * @param resetTimestamp The reset timestamp of the global ratelimit.
+     * @param requestsPerSecond The amount of requests per second.
      */
-    public static void setGlobalRatelimitResetTimestamp(DiscordApi api, long resetTimestamp) {
-        globalRatelimitResetTimestamp.put(api.getToken(), resetTimestamp);
+    public static void setGlobalRequestsPerSecond(DiscordApi api, int requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("The amount of requests per second must be positive!");
+        }
+        globalTokenBuckets.compute(api.getToken(), (token, tokenBucket) -> {
+            if (tokenBucket == null) {
+                return new TokenBucket(requestsPerSecond);
+            }
+            tokenBucket.setRequestsPerSecond(requestsPerSecond);
+            return tokenBucket;
+        });
+        getBackgroundTokenBucket(api).setRequestsPerSecond(getBackgroundRequestsPerSecond(requestsPerSecond));
+    }
+
+    /**
+     * Gets the amount of requests per second for the global ratelimit of the given api's account.
+     *
+     * @param api A discord api instance.
+     * @return The amount of requests per second.
+     */
+    public static int getGlobalRequestsPerSecond(DiscordApi api) {
+        return getGlobalTokenBucket(api).getRequestsPerSecond();
+    }
+
+    /**
+     * Reserves a request of the global ratelimit of the given api's account.
+     *
+     * @param api A discord api instance.
+     * @return The time in nanoseconds to wait before the request may be sent.
+     */
+    public static long reserveGlobalRequest(DiscordApi api) {
+        return getGlobalTokenBucket(api).reserve();
+    }
+
+    /**
+     * Reserves a share of the global ratelimit of the given api's account for a background request.
+     * Background requests may only use half of the global budget, the rest is left for interactive requests.
+     * The request must still reserve a request of the global ratelimit afterwards.
+     *
+     * @param api A discord api instance.
+     * @return The time in nanoseconds to wait before the global request may be reserved.
+     */
+    public static long reserveBackgroundRequest(DiscordApi api) {
+        return getBackgroundTokenBucket(api).reserve();
+    }
+
+    /**
+     * Gets the token bucket for the global ratelimit of the given api's account.
+     *
+     * @param api A discord api instance.
+     * @return The token bucket.
+     */
+    private static TokenBucket getGlobalTokenBucket(DiscordApi api) {
+        return globalTokenBuckets.computeIfAbsent(
+                api.getToken(), token -> new TokenBucket(DEFAULT_GLOBAL_REQUESTS_PER_SECOND));
+    }
+
+    /**
+     * Gets the token bucket for the share of background requests of the given api's account.
+     *
+     * @param api A discord api instance.
+     * @return The token bucket.
+     */
+    private static TokenBucket getBackgroundTokenBucket(DiscordApi api) {
+        return backgroundTokenBuckets.computeIfAbsent(api.getToken(), token -> new TokenBucket(
+                getBackgroundRequestsPerSecond(getGlobalTokenBucket(api).getRequestsPerSecond())));
+    }
+
+    /**
+     * Gets the share of background requests of the global ratelimit.
+     *
+     * @param requestsPerSecond The amount of requests per second of the global ratelimit.
+     * @return The amount of background requests per second.
+     */
+    private static int getBackgroundRequestsPerSecond(int requestsPerSecond) {
+        return Math.max(1, requestsPerSecond / 2);
     }
 
     /**
@@ -66,25 +166,100 @@ public class RatelimitBucket {
      * @param request The request to add.
      */
     public void addRequestToQueue(RestRequest<?> request) {
-        requestQueue.add(request);
+        if (request.getPriority() == RestRequestPriority.BACKGROUND) {
+            backgroundRequestQueue.add(request);
+        } else {
+            requestQueue.add(request);
+        }
     }
 
     /**
-     * Polls a request from the bucket's queue.
+     * Removes the given request from the bucket's queue after it was sent.
      *
-     * @return The polled request.
+     * @param request The request to remove.
      */
-    public RestRequest<?> pollRequestFromQueue() {
-        return requestQueue.poll();
+    public void removeRequestFromQueue(RestRequest<?> request) {
+        if (request.getPriority() == RestRequestPriority.BACKGROUND) {
+            backgroundRequestQueue.remove(request);
+            interactiveStreak = 0;
+        } else {
+            requestQueue.remove(request);
+            if (!backgroundRequestQueue.isEmpty()) {
+                interactiveStreak++;
+            }
+        }
     }
 
     /**
-     * Peeks a request from the bucket's queue.
+     * Peeks the request from the bucket's queue that should be sent next.
+     * Interactive requests are preferred, but after a few of them in a row a waiting background request gets its
+     * turn, so background requests do not starve.
      *
      * @return The peeked request.
      */
     public RestRequest<?> peekRequestFromQueue() {
-        return requestQueue.peek();
+        RestRequest<?> request = requestQueue.peek();
+        if (request == null || interactiveStreak >= MAX_INTERACTIVE_STREAK) {
+            RestRequest<?> backgroundRequest = backgroundRequestQueue.peek();
+            if (backgroundRequest != null) {
+                return backgroundRequest;
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Peeks the request from the bucket's queue that waits the longest.
+     *
+     * @return The peeked request.
+     */
+    public RestRequest<?> peekOldestRequestFromQueue() {
+        RestRequest<?> request = requestQueue.peek();
+        RestRequest<?> backgroundRequest = backgroundRequestQueue.peek();
+        if (request == null) {
+            return backgroundRequest;
+        }
+        if (backgroundRequest == null) {
+            return request;
+        }
+        return backgroundRequest.getQueueTimestamp() - request.getQueueTimestamp() < 0 ? backgroundRequest : request;
+    }
+
+    /**
+     * Gets the amount of requests in the bucket's queue.
+     *
+     * @return The amount of requests in the bucket's queue.
+     */
+    public int getQueueSize() {
+        return requestQueue.size() + backgroundRequestQueue.size();
+    }
+
+    /**
+     * Gets the endpoint of the bucket.
+     * The endpoint is not present for the bucket that is shared by all endpoints without a dedicated ratelimit.
+     *
+     * @return The endpoint of the bucket.
+     */
+    public Optional<RestEndpoint> getEndpoint() {
+        return Optional.ofNullable(endpoint);
+    }
+
+    /**
+     * Gets the major url parameter of the bucket.
+     *
+     * @return The major url parameter of the bucket.
+     */
+    public Optional<String> getMajorUrlParameter() {
+        return Optional.ofNullable(majorUrlParameter);
+    }
+
+    /**
+     * Gets the remaining requests till ratelimit.
+     *
+     * @return The remaining requests till ratelimit.
+     */
+    public int getRatelimitRemaining() {
+        return ratelimitRemaining;
     }
 
     /**
@@ -106,18 +281,63 @@ public class RatelimitBucket {
     }
 
     /**
-     * Gets the time in seconds how long you have to wait till there's space in the bucket again.
+     * Marks that a request of this bucket is sent now.
+     */
+    public void markRequestSent() {
+        lastRequestTimestamp = getCurrentTimestamp();
+    }
+
+    /**
+     * Gets the time in milliseconds how long you have to wait till there's space in the bucket again.
+     *
+     * <p>If more requests are queued than the bucket has remaining, the remaining requests are spread evenly across
+     * the rest of the bucket's window instead of being sent in a burst that is followed by a long pause.
      *
-     * @return The time in seconds how long you have to wait till there's space in the bucket again.
+     * @return The time in milliseconds how long you have to wait till there's space in the bucket again.
      */
     public int getTimeTillSpaceGetsAvailable() {
-        long globalRatelimitResetTimestamp =
-                RatelimitBucket.globalRatelimitResetTimestamp.getOrDefault(api.getToken(), 0L);
-        long timestamp = System.currentTimeMillis() + (api.getTimeOffset() == null ? 0 : api.getTimeOffset());
-        if (ratelimitRemaining > 0 && (globalRatelimitResetTimestamp - timestamp) <= 0) {
+        long timestamp = getCurrentTimestamp();
+        if (ratelimitRemaining > 0) {
+            return getPacingDelay(timestamp);
+        }
+        return (int) (ratelimitResetTimestamp - timestamp);
+    }
+
+    /**
+     * Gets the time in milliseconds to wait to spread the remaining requests evenly across the bucket's window.
+     *
+     * @param timestamp The current timestamp.
+     * @return The time in milliseconds to wait.
+     */
+    private int getPacingDelay(long timestamp) {
+        int remaining = ratelimitRemaining;
+        long timeTillReset = ratelimitResetTimestamp - timestamp;
+        // The queue size includes the request that is about to be sent
+        if (timeTillReset <= 0 || getQueueSize() <= remaining) {
             return 0;
         }
-        return (int) (Math.max(ratelimitResetTimestamp, globalRatelimitResetTimestamp) - timestamp);
+        long interval = timeTillReset / remaining;
+        return (int) Math.max(0, lastRequestTimestamp + interval - timestamp);
+    }
+
+    /**
+     * Gets the current timestamp, adjusted by the offset to Discord's time.
+     *
+     * @return The current timestamp.
+     */
+    private long getCurrentTimestamp() {
+        Long timeOffset = api.getTimeOffset();
+        return System.currentTimeMillis() + (timeOffset == null ? 0 : timeOffset);
+    }
+
+    /**
+     * Gets the key of this bucket that is shared with the {@link org.javacord.api.util.rest.RatelimitCoordinator}.
+     *
+     * @return The key of this bucket.
+     */
+    public String getCoordinatorKey() {
+        String key = (endpoint == null) ? "SHARED" : endpoint.name();
+        return (majorUrlParameter == null) ? key : key + "/" + majorUrlParameter;
     }
 
     /**
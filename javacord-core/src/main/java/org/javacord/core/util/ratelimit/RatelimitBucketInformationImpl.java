@@ -0,0 +1,84 @@
+package org.javacord.core.util.ratelimit;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.util.rest.RatelimitBucketInformation;
+import org.javacord.core.util.rest.RestEndpoint;
+import org.javacord.core.util.rest.RestRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The implementation of {@link RatelimitBucketInformation}.
+ */
+public class RatelimitBucketInformationImpl implements RatelimitBucketInformation {
+
+    private final DiscordApi api;
+    private final String endpointUrl;
+    private final String majorUrlParameter;
+    private final int queueSize;
+    private final int remaining;
+    private final Duration timeUntilAvailable;
+    private final Duration oldestRequestWaitTime;
+
+    /**
+     * Creates a new snapshot of the given bucket.
+     *
+     * @param api The discord api instance the bucket belongs to.
+     * @param bucket The bucket.
+     */
+    public RatelimitBucketInformationImpl(DiscordApi api, RatelimitBucket bucket) {
+        this.api = api;
+        endpointUrl = bucket.getEndpoint().map(RestEndpoint::getEndpointUrl).orElse(null);
+        majorUrlParameter = bucket.getMajorUrlParameter().orElse(null);
+        queueSize = bucket.getQueueSize();
+        remaining = bucket.getRatelimitRemaining();
+        timeUntilAvailable = Duration.ofMillis(Math.max(0, bucket.getTimeTillSpaceGetsAvailable()));
+        RestRequest<?> oldestRequest = bucket.peekOldestRequestFromQueue();
+        oldestRequestWaitTime = (oldestRequest == null || oldestRequest.getQueueTimestamp() == -1)
+                ? null
+                : Duration.ofNanos(System.nanoTime() - oldestRequest.getQueueTimestamp());
+    }
+
+    @Override
+    public DiscordApi getApi() {
+        return api;
+    }
+
+    @Override
+    public Optional<String> getEndpointUrl() {
+        return Optional.ofNullable(endpointUrl);
+    }
+
+    @Override
+    public Optional<String> getMajorUrlParameter() {
+        return Optional.ofNullable(majorUrlParameter);
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    @Override
+    public int getRemaining() {
+        return remaining;
+    }
+
+    @Override
+    public Duration getTimeUntilAvailable() {
+        return timeUntilAvailable;
+    }
+
+    @Override
+    public Optional<Duration> getOldestRequestWaitTime() {
+        return Optional.ofNullable(oldestRequestWaitTime);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RatelimitBucketInformation (endpoint: %s, major url parameter: %s, queue size: %d)",
+                getEndpointUrl().orElse("global"), getMajorUrlParameter().orElse("none"), getQueueSize());
+    }
+
+}
@@ -2,19 +2,38 @@ package org.javacord.core.util.ratelimit;
 
 import okhttp3.Response;
 import org.apache.logging.log4j.Logger;
+import org.javacord.api.event.rest.RatelimitDelayEvent;
+import org.javacord.api.event.rest.RatelimitHitEvent;
 import org.javacord.api.exception.DiscordException;
+import org.javacord.api.util.metrics.Counter;
+import org.javacord.api.util.metrics.MeterRegistry;
+import org.javacord.api.util.metrics.Timer;
+import org.javacord.api.util.rest.RatelimitBucketInformation;
+import org.javacord.api.util.rest.RatelimitCoordinator;
+import org.javacord.api.util.rest.RestRequestPriority;
 import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.event.rest.RatelimitDelayEventImpl;
+import org.javacord.core.event.rest.RatelimitHitEventImpl;
 import org.javacord.core.util.logging.LoggerUtil;
+import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestRequest;
 import org.javacord.core.util.rest.RestRequestResponseInformationImpl;
 import org.javacord.core.util.rest.RestRequestResult;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This class manages ratelimits and keeps track of them.
@@ -26,23 +45,89 @@ public class RatelimitManager {
      */
     private static final Logger logger = LoggerUtil.getLogger(RatelimitManager.class);
 
+    /**
+     * The ratelimit coordinator that is shared by all shards of this JVM, unless a different one is configured.
+     */
+    public static final RatelimitCoordinator DEFAULT_COORDINATOR = new LocalRatelimitCoordinator();
+
     /**
      * The discord api instance for this ratelimit manager.
      */
     private final DiscordApiImpl api;
 
+    /**
+     * The coordinator that shares ratelimit information with other processes.
+     */
+    private final RatelimitCoordinator coordinator;
+
+    /**
+     * The account as identified to the coordinator, a hash of the token.
+     */
+    private final String coordinatorAccount;
+
     /**
      * A set with all buckets.
      */
     private final Set<RatelimitBucket> buckets = new HashSet<>();
 
+    /**
+     * The amount of requests that are currently executed.
+     */
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+
+    /**
+     * The meter registry of the shard.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The meters of the endpoints, so they are not looked up for every request.
+     */
+    private final Map<RestEndpoint, Counter> retryCounters = new ConcurrentHashMap<>();
+    private final Map<RestEndpoint, Timer> queueWaitTimers = new ConcurrentHashMap<>();
+
     /**
      * Creates a new ratelimit manager.
      *
      * @param api The discord api instance for this ratelimit manager.
+     * @param coordinator The coordinator that shares ratelimit information with other processes.
      */
-    public RatelimitManager(DiscordApiImpl api) {
+    public RatelimitManager(DiscordApiImpl api, RatelimitCoordinator coordinator) {
         this.api = api;
+        this.coordinator = coordinator;
+        this.coordinatorAccount = api.getTokenHash();
+        meterRegistry = api.getShardMeterRegistry();
+        meterRegistry.gauge("javacord.rest.requests.queued", this::getQueuedRequestCount);
+        meterRegistry.gauge("javacord.rest.requests.inflight", requestsInFlight::get);
+        meterRegistry.gauge("javacord.rest.buckets.active", () -> {
+            synchronized (buckets) {
+                return buckets.size();
+            }
+        });
+    }
+
+    /**
+     * Gets a snapshot of all buckets which currently have queued requests.
+     *
+     * @return A snapshot of all buckets with queued requests.
+     */
+    public Collection<RatelimitBucketInformation> getBucketInformation() {
+        synchronized (buckets) {
+            return buckets.stream()
+                    .map(bucket -> new RatelimitBucketInformationImpl(api, bucket))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Gets the amount of queued requests in all buckets.
+     *
+     * @return The amount of queued requests.
+     */
+    public int getQueuedRequestCount() {
+        synchronized (buckets) {
+            return buckets.stream().mapToInt(RatelimitBucket::getQueueSize).sum();
+        }
     }
 
     /**
@@ -69,6 +154,7 @@ public class RatelimitManager {
             buckets.add(bucket);
 
             // Add the request to the bucket's queue
+            request.setQueueTimestamp(System.nanoTime());
             bucket.addRequestToQueue(request);
         }
 
@@ -82,12 +168,20 @@ public class RatelimitManager {
             RestRequest<?> currentRequest = bucket.peekRequestFromQueue();
             RestRequestResult result = null;
             long responseTimestamp = System.currentTimeMillis();
+            boolean retry = false;
             while (currentRequest != null) {
+                result = null;
+                boolean slotAcquired = false;
                 try {
                     int sleepTime = bucket.getTimeTillSpaceGetsAvailable();
                     if (sleepTime > 0) {
                         logger.debug("Delaying requests to {} for {}ms to prevent hitting ratelimits",
                                 bucket, sleepTime);
+                        RatelimitDelayEvent event = new RatelimitDelayEventImpl(
+                                currentRequest.asRestRequestInformation(),
+                                new RatelimitBucketInformationImpl(api, bucket),
+                                Duration.ofMillis(sleepTime));
+                        api.getEventDispatcher().dispatchRatelimitDelayEvent(api, event);
                     }
 
                     // Sleep until space is available
@@ -101,8 +195,34 @@ public class RatelimitManager {
                         sleepTime = bucket.getTimeTillSpaceGetsAvailable();
                     }
 
+                    // Wait for other processes that send requests with the same token
+                    acquireCoordinatorSlot(currentRequest, bucket);
+                    slotAcquired = true;
+
+                    // Pace the requests of all buckets to stay below the global ratelimit
+                    if (currentRequest.getPriority() == RestRequestPriority.BACKGROUND) {
+                        sleepForGlobalRatelimit(RatelimitBucket.reserveBackgroundRequest(api));
+                    }
+                    sleepForGlobalRatelimit(RatelimitBucket.reserveGlobalRequest(api));
+
+                    if (retry) {
+                        retryCounters.computeIfAbsent(currentRequest.getEndpoint(), endpoint ->
+                                meterRegistry.counter("javacord.rest.retries", "endpoint", endpoint.name()))
+                                .increment();
+                    } else {
+                        queueWaitTimers.computeIfAbsent(currentRequest.getEndpoint(), endpoint ->
+                                meterRegistry.timer("javacord.rest.queue.wait", "endpoint", endpoint.name()))
+                                .record(System.nanoTime() - currentRequest.getQueueTimestamp(), TimeUnit.NANOSECONDS);
+                    }
+
                     // Execute the request
-                    result = currentRequest.executeBlocking();
+                    bucket.markRequestSent();
+                    requestsInFlight.incrementAndGet();
+                    try {
+                        result = currentRequest.executeBlocking();
+                    } finally {
+                        requestsInFlight.decrementAndGet();
+                    }
 
                     // Calculate the time offset, if it wasn't done before
                     responseTimestamp = System.currentTimeMillis();
@@ -122,23 +242,30 @@ public class RatelimitManager {
                     // Complete the request
                     currentRequest.getResult().completeExceptionally(t);
                 } finally {
+                    boolean slotReleased = false;
                     try {
                         // Calculate offset
                         calculateOffset(responseTimestamp, result);
                         // Handle the response
-                        handleResponse(currentRequest, result, bucket, responseTimestamp);
+                        slotReleased = handleResponse(currentRequest, result, bucket, responseTimestamp, slotAcquired);
                     } catch (Throwable t) {
                         logger.warn("Encountered unexpected exception.", t);
+                    } finally {
+                        // Other requests to the bucket wait for the slot until it is released
+                        if (slotAcquired && !slotReleased) {
+                            releaseCoordinatorSlot(bucket, 0, -1);
+                        }
                     }
 
                     // The request didn't finish, so let's try again
-                    if (!currentRequest.getResult().isDone()) {
+                    retry = !currentRequest.getResult().isDone();
+                    if (retry) {
                         continue;
                     }
 
                     // Poll a new quest
                     synchronized (buckets) {
-                        bucket.pollRequestFromQueue();
+                        bucket.removeRequestFromQueue(currentRequest);
                         currentRequest = bucket.peekRequestFromQueue();
                         if (currentRequest == null) {
                             buckets.remove(bucket);
@@ -149,6 +276,60 @@ public class RatelimitManager {
         });
     }
 
+    /**
+     * Waits until the coordinator hands out a slot for the given request.
+     *
+     * @param request The request.
+     * @param bucket The bucket of the request.
+     */
+    private void acquireCoordinatorSlot(RestRequest<?> request, RatelimitBucket bucket) {
+        Duration delay = coordinator.acquire(coordinatorAccount, bucket.getCoordinatorKey());
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        logger.debug("Delaying requests to {} for {}ms as told by the ratelimit coordinator",
+                bucket, delay.toMillis());
+        RatelimitDelayEvent event = new RatelimitDelayEventImpl(
+                request.asRestRequestInformation(), new RatelimitBucketInformationImpl(api, bucket), delay);
+        api.getEventDispatcher().dispatchRatelimitDelayEvent(api, event);
+        while (!delay.isZero() && !delay.isNegative()) {
+            try {
+                Thread.sleep(delay.toMillis(), delay.getNano() % 1_000_000);
+            } catch (InterruptedException e) {
+                logger.warn("We got interrupted while waiting for a rate limit!", e);
+            }
+            delay = coordinator.acquire(coordinatorAccount, bucket.getCoordinatorKey());
+        }
+    }
+
+    /**
+     * Releases a slot of the coordinator.
+     *
+     * @param bucket The bucket of the request.
+     * @param remaining The remaining requests of the bucket.
+     * @param resetTimestamp The local timestamp the bucket resets, or {@code -1} if unknown.
+     */
+    private void releaseCoordinatorSlot(RatelimitBucket bucket, int remaining, long resetTimestamp) {
+        coordinator.release(coordinatorAccount, bucket.getCoordinatorKey(), remaining,
+                resetTimestamp == -1 ? null : Instant.ofEpochMilli(resetTimestamp));
+    }
+
+    /**
+     * Sleeps for the time that was reserved for the global ratelimit.
+     *
+     * @param delay The time to sleep in nanoseconds.
+     */
+    private void sleepForGlobalRatelimit(long delay) {
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            logger.warn("We got interrupted while waiting for the global rate limit!", e);
+        }
+    }
+
     /**
      * Updates the ratelimit information and sets the result if the request was successful.
      *
@@ -156,11 +337,13 @@ public class RatelimitManager {
      * @param result The result of the request.
      * @param bucket The bucket the request belongs to.
      * @param responseTimestamp The timestamp directly after the response finished.
+     * @param slotAcquired Whether a slot of the coordinator was acquired for the request.
+     * @return Whether the slot of the coordinator was released.
      */
-    private void handleResponse(
-            RestRequest<?> request, RestRequestResult result, RatelimitBucket bucket, long responseTimestamp) {
+    private boolean handleResponse(RestRequest<?> request, RestRequestResult result, RatelimitBucket bucket,
+                                   long responseTimestamp, boolean slotAcquired) {
         if (result == null) {
-            return;
+            return false;
         }
         Response response = result.getResponse();
         boolean global = response.header("X-RateLimit-Global", "false").equalsIgnoreCase("true");
@@ -176,11 +359,21 @@ public class RatelimitManager {
             int retryAfter =
                     result.getJsonBody().isNull() ? 0 : result.getJsonBody().get("retry_after").asInt();
 
+            api.getShardMeterRegistry()
+                    .counter("javacord.rest.ratelimits", "scope", global ? "global" : "bucket",
+                             "endpoint", request.getEndpoint().name())
+                    .increment();
+            RatelimitHitEvent event = new RatelimitHitEventImpl(
+                    request.asRestRequestInformation(), global, Duration.ofMillis(retryAfter));
+            api.getEventDispatcher().dispatchRatelimitHitEvent(api, event);
+
             if (global) {
                 // We hit a global ratelimit. Time to panic!
                 logger.warn("Hit a global ratelimit! This means you were sending a very large "
                         + "amount within a very short time frame.");
-                RatelimitBucket.setGlobalRatelimitResetTimestamp(api, responseTimestamp + retryAfter);
+                coordinator.setGlobalRatelimitReset(
+                        coordinatorAccount, Instant.ofEpochMilli(responseTimestamp + retryAfter));
+                return false;
             } else {
                 logger.debug("Received a 429 response from Discord! Recalculating time offset...");
                 // Setting the offset to null causes a recalculate for the next request
@@ -189,6 +382,10 @@ public class RatelimitManager {
                 // Update the bucket information
                 bucket.setRatelimitRemaining(0);
                 bucket.setRatelimitResetTimestamp(responseTimestamp + retryAfter);
+                if (slotAcquired) {
+                    releaseCoordinatorSlot(bucket, 0, responseTimestamp + retryAfter);
+                }
+                return slotAcquired;
             }
         } else {
             // Check if we didn't already complete it exceptionally.
@@ -200,6 +397,13 @@ public class RatelimitManager {
             // Update bucket information
             bucket.setRatelimitRemaining(remaining);
             bucket.setRatelimitResetTimestamp(reset);
+            if (slotAcquired) {
+                // The coordinator uses local timestamps
+                Long timeOffset = api.getTimeOffset();
+                long localReset = reset - (timeOffset == null ? 0 : timeOffset);
+                releaseCoordinatorSlot(bucket, remaining, reset <= 0 ? -1 : localReset);
+            }
+            return slotAcquired;
         }
     }
 
@@ -207,11 +411,11 @@ public class RatelimitManager {
      * Calculates the offset of the local time and discord's time.
      *
      * @param currentTime The current time.
-     * @param result The result of the rest request.
+     * @param result The result of the rest request. May be {@code null} if the request failed without a response.
      */
     private void calculateOffset(long currentTime, RestRequestResult result) {
         // Double-checked locking for better performance
-        if (api.getTimeOffset() != null) {
+        if (result == null || api.getTimeOffset() != null) {
             return;
         }
         synchronized (api) {
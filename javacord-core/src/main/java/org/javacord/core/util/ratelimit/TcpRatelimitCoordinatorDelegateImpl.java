@@ -0,0 +1,240 @@
+package org.javacord.core.util.ratelimit;
+
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorDelegate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The implementation of {@link TcpRatelimitCoordinatorDelegate}.
+ *
+ * <p>All commands share a single connection. Only one thread at a time connects, while the others fail open instead of
+ * waiting for it. After the connection failed, no new connection is attempted for a cooldown that doubles with every
+ * failed attempt, so an unreachable server does not slow down the requests of the bot.
+ */
+public class TcpRatelimitCoordinatorDelegateImpl implements TcpRatelimitCoordinatorDelegate {
+
+    /**
+     * The timeout for connecting to the server in milliseconds.
+     */
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * The timeout for waiting for a response of the server in milliseconds.
+     * Other commands wait for the response, so it is a lot shorter than the connect timeout.
+     */
+    private static final int READ_TIMEOUT_MILLIS = 1_000;
+
+    /**
+     * The cooldown after the first failure, before a new connection is attempted.
+     */
+    private static final long MIN_RECONNECT_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The maximum cooldown before a new connection is attempted.
+     */
+    private static final long MAX_RECONNECT_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final String host;
+    private final int port;
+
+    private final AtomicReference<Connection> connection = new AtomicReference<>();
+    private final AtomicBoolean connecting = new AtomicBoolean();
+
+    /**
+     * The {@link System#nanoTime()} before which no new connection is attempted.
+     */
+    private volatile long reconnectNotBefore = System.nanoTime();
+
+    /**
+     * The current reconnect cooldown, or {@code 0} if the last connection attempt did not fail.
+     */
+    private volatile long reconnectCooldownNanos = 0;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new tcp ratelimit coordinator delegate.
+     * The connection is established lazily with the first request.
+     *
+     * @param host The host of the server.
+     * @param port The port of the server.
+     */
+    public TcpRatelimitCoordinatorDelegateImpl(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public Duration acquire(String account, String bucket) {
+        try {
+            return Duration.ofMillis(Long.parseLong(send("ACQUIRE " + account + " " + bucket)));
+        } catch (IOException | NumberFormatException e) {
+            return Duration.ZERO;
+        }
+    }
+
+    @Override
+    public void release(String account, String bucket, int remaining, Instant reset) {
+        try {
+            long resetTimestamp = (reset == null) ? -1 : reset.toEpochMilli();
+            send("RELEASE " + account + " " + bucket + " " + remaining + " " + resetTimestamp);
+        } catch (IOException ignored) {
+            // The slot of an unknown bucket expires on the server
+        }
+    }
+
+    @Override
+    public void setGlobalRatelimitReset(String account, Instant reset) {
+        try {
+            send("GLOBAL " + account + " " + reset.toEpochMilli());
+        } catch (IOException ignored) {
+            // Other processes will hit the global ratelimit themselves
+        }
+    }
+
+    /**
+     * Sends a command to the server and waits for the response.
+     *
+     * @param command The command.
+     * @return The response of the server.
+     * @throws IOException If there is no connection to the server or the communication with the server failed.
+     */
+    private String send(String command) throws IOException {
+        Connection currentConnection = getConnection();
+        try {
+            return currentConnection.send(command);
+        } catch (IOException e) {
+            if (connection.compareAndSet(currentConnection, null)) {
+                currentConnection.close();
+                startCooldown();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the current connection or establishes a new one, unless another thread is already connecting or a new
+     * connection is not allowed yet.
+     *
+     * @return The connection.
+     * @throws IOException If there is no connection to the server.
+     */
+    private Connection getConnection() throws IOException {
+        Connection currentConnection = connection.get();
+        if (currentConnection != null) {
+            return currentConnection;
+        }
+        if (closed) {
+            throw new IOException("The ratelimit coordinator was closed");
+        }
+        if (System.nanoTime() - reconnectNotBefore < 0 || !connecting.compareAndSet(false, true)) {
+            throw new IOException("Not connected to the ratelimit coordinator server");
+        }
+        try {
+            Socket socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+                socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+                socket.setTcpNoDelay(true);
+                currentConnection = new Connection(socket);
+            } catch (IOException e) {
+                socket.close();
+                startCooldown();
+                throw e;
+            }
+            reconnectCooldownNanos = 0;
+            connection.set(currentConnection);
+            if (closed && connection.compareAndSet(currentConnection, null)) {
+                // Got closed while connecting
+                currentConnection.close();
+            }
+            return currentConnection;
+        } finally {
+            connecting.set(false);
+        }
+    }
+
+    /**
+     * Prevents new connection attempts for a cooldown that doubles with every consecutive failure.
+     */
+    private void startCooldown() {
+        long cooldown = Math.min(MAX_RECONNECT_COOLDOWN_NANOS,
+                Math.max(MIN_RECONNECT_COOLDOWN_NANOS, reconnectCooldownNanos * 2));
+        reconnectCooldownNanos = cooldown;
+        reconnectNotBefore = System.nanoTime() + cooldown;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Connection currentConnection = connection.getAndSet(null);
+        if (currentConnection != null) {
+            currentConnection.close();
+        }
+    }
+
+    /**
+     * A connection to the server.
+     */
+    private static class Connection {
+
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final Writer writer;
+
+        /**
+         * Creates a new connection.
+         *
+         * @param socket The connected socket.
+         * @throws IOException If the streams of the socket could not be opened.
+         */
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Sends a command and waits for the response.
+         * Commands of several threads are sent one after another, as each response is a single line.
+         *
+         * @param command The command.
+         * @return The response of the server.
+         * @throws IOException If the communication with the server failed.
+         */
+        private synchronized String send(String command) throws IOException {
+            writer.write(command + "\n");
+            writer.flush();
+            String response = reader.readLine();
+            if (response == null) {
+                throw new IOException("The ratelimit coordinator server closed the connection");
+            }
+            return response;
+        }
+
+        /**
+         * Closes the connection.
+         */
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // The socket is gone anyways
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.javacord.core.util.ratelimit;
+
+import org.javacord.api.util.rest.internal.TcpRatelimitCoordinatorServerDelegate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The implementation of {@link TcpRatelimitCoordinatorServerDelegate}.
+ * Every connection is handled by its own daemon thread.
+ */
+public class TcpRatelimitCoordinatorServerDelegateImpl implements TcpRatelimitCoordinatorServerDelegate {
+
+    private final LocalRatelimitCoordinator coordinator = new LocalRatelimitCoordinator();
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates and starts a new tcp ratelimit coordinator server delegate.
+     *
+     * @param port The port to listen on, or {@code 0} to pick a free port.
+     * @throws IOException If the server socket could not be opened.
+     */
+    public TcpRatelimitCoordinatorServerDelegateImpl(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptConnections, "Javacord - Ratelimit Coordinator Server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @Override
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed.
+     */
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                if (serverSocket.isClosed()) {
+                    // The server socket might still accept a connection while it is closed by another thread
+                    connections.remove(socket);
+                    socket.close();
+                    break;
+                }
+                Thread connectionThread = new Thread(
+                        () -> handleConnection(socket), "Javacord - Ratelimit Coordinator Connection");
+                connectionThread.setDaemon(true);
+                connectionThread.start();
+            } catch (IOException ignored) {
+                // The server got closed or the connection failed
+            }
+        }
+    }
+
+    /**
+     * Answers the commands of a connection until it is closed.
+     *
+     * @param socket The socket of the connection.
+     */
+    private void handleConnection(Socket socket) {
+        try (Socket closedSocket = socket) {
+            BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(closedSocket.getInputStream(), StandardCharsets.UTF_8));
+            Writer writer = new OutputStreamWriter(closedSocket.getOutputStream(), StandardCharsets.UTF_8);
+            String command;
+            while ((command = reader.readLine()) != null) {
+                writer.write(handleCommand(command) + "\n");
+                writer.flush();
+            }
+        } catch (IOException ignored) {
+            // The client disconnected
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * Executes a single command.
+     *
+     * @param command The command.
+     * @return The response to the command.
+     */
+    private String handleCommand(String command) {
+        String[] parts = command.split(" ");
+        try {
+            switch (parts[0]) {
+                case "ACQUIRE":
+                    if (parts.length == 3) {
+                        return String.valueOf(coordinator.acquire(parts[1], parts[2]).toMillis());
+                    }
+                    break;
+                case "RELEASE":
+                    if (parts.length == 5) {
+                        long reset = Long.parseLong(parts[4]);
+                        coordinator.release(parts[1], parts[2], Integer.parseInt(parts[3]),
+                                reset == -1 ? null : Instant.ofEpochMilli(reset));
+                        return "OK";
+                    }
+                    break;
+                case "GLOBAL":
+                    if (parts.length == 3) {
+                        coordinator.setGlobalRatelimitReset(parts[1], Instant.ofEpochMilli(Long.parseLong(parts[2])));
+                        return "OK";
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (NumberFormatException ignored) {
+            // Answered as malformed command
+        }
+        return "ERROR";
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // The server socket is gone anyways
+        }
+        connections.forEach(socket -> {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // The socket is gone anyways
+            }
+        });
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.javacord.core.util.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket that paces requests to a fixed rate.
+ *
+ * <p>The bucket holds at most as many tokens as requests are allowed per second and refills them continuously.
+ * Callers reserve a token before they send a request and wait for the returned time. Reservations can go into debt,
+ * so concurrent callers are spread evenly instead of all waking up at the same time.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The source of the current time in nanoseconds.
+     */
+    private final LongSupplier nanoTime;
+
+    private int requestsPerSecond;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Creates a new full token bucket.
+     *
+     * @param requestsPerSecond The amount of requests that are allowed per second.
+     */
+    public TokenBucket(int requestsPerSecond) {
+        this(requestsPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Creates a new full token bucket with a custom time source.
+     *
+     * @param requestsPerSecond The amount of requests that are allowed per second.
+     * @param nanoTime The source of the current time in nanoseconds.
+     */
+    TokenBucket(int requestsPerSecond, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        setRequestsPerSecond(requestsPerSecond);
+        this.tokens = requestsPerSecond;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    /**
+     * Sets the amount of requests that are allowed per second.
+     *
+     * @param requestsPerSecond The amount of requests that are allowed per second.
+     */
+    public synchronized void setRequestsPerSecond(int requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("The amount of requests per second must be positive!");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        tokens = Math.min(tokens, requestsPerSecond);
+    }
+
+    /**
+     * Gets the amount of requests that are allowed per second.
+     *
+     * @return The amount of requests that are allowed per second.
+     */
+    public synchronized int getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Reserves a token for a single request.
+     *
+     * @return The time in nanoseconds the caller has to wait before it may send the request.
+     */
+    public synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        double refilledTokens = (double) (now - lastRefill) * requestsPerSecond / NANOS_PER_SECOND;
+        tokens = Math.min(requestsPerSecond, tokens + refilledTokens);
+        lastRefill = now;
+        tokens--;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) (-tokens * NANOS_PER_SECOND / requestsPerSecond);
+    }
+
+}
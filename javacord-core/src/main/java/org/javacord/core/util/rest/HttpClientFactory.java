@@ -0,0 +1,140 @@
+package org.javacord.core.util.rest;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.MultipartBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.logging.HttpLoggingInterceptor;
+import okhttp3.logging.HttpLoggingInterceptor.Level;
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.Javacord;
+import org.javacord.api.util.rest.RestTransportConfiguration;
+import org.javacord.core.util.logging.LoggerUtil;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the HTTP clients that send the REST requests.
+ */
+public class HttpClientFactory {
+
+    private HttpClientFactory() {
+        throw new UnsupportedOperationException("You cannot create an instance of this class");
+    }
+
+    /**
+     * Checks whether the client created for the given configuration belongs to the api instance and has to be shut
+     * down when it disconnects.
+     *
+     * @param configuration The transport configuration.
+     * @return Whether the client has to be shut down by the api instance.
+     */
+    public static boolean isOwnClient(RestTransportConfiguration configuration) {
+        return configuration.getHttpClient() == null;
+    }
+
+    /**
+     * Creates a new HTTP client for the given configuration.
+     *
+     * @param configuration The transport configuration.
+     * @return The new HTTP client.
+     */
+    public static OkHttpClient create(RestTransportConfiguration configuration) {
+        return create(configuration, LoggerUtil.getLogger(OkHttpClient.class));
+    }
+
+    /**
+     * Creates a new HTTP client for the given configuration.
+     *
+     * @param configuration The transport configuration.
+     * @param logger The logger for the requests and responses.
+     * @return The new HTTP client.
+     */
+    static OkHttpClient create(RestTransportConfiguration configuration, Logger logger) {
+        Object baseClient = configuration.getHttpClient();
+        if (baseClient != null && !(baseClient instanceof OkHttpClient)) {
+            throw new IllegalArgumentException("The http client must be an OkHttpClient, but it is a "
+                    + baseClient.getClass().getName());
+        }
+        OkHttpClient.Builder builder = baseClient == null
+                ? new OkHttpClient.Builder()
+                : ((OkHttpClient) baseClient).newBuilder();
+
+        // The dispatcher and the pool of a user-supplied client are kept, so they can be shared with other clients
+        if (baseClient == null) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(configuration.getMaxConcurrentRequests());
+            dispatcher.setMaxRequestsPerHost(configuration.getMaxConcurrentRequestsPerHost());
+            builder.dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(),
+                            configuration.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS));
+        }
+
+        return builder
+                .protocols(configuration.isPreferHttp2()
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1))
+                .connectTimeout(configuration.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(configuration.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(configuration.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .addInterceptor(chain -> chain.proceed(chain.request()
+                        .newBuilder()
+                        .addHeader("User-Agent", Javacord.USER_AGENT)
+                        .build()))
+                .addInterceptor(new LoggingInterceptor(logger))
+                .build();
+    }
+
+    /**
+     * Removes the logging interceptor that was added by {@link #create(RestTransportConfiguration)}.
+     * Other interceptors, e.g. the ones of a user-supplied client, are kept.
+     *
+     * @param builder The builder of a client that was created by this factory.
+     * @return The builder.
+     */
+    public static OkHttpClient.Builder removeLoggingInterceptor(OkHttpClient.Builder builder) {
+        builder.interceptors().removeIf(interceptor -> interceptor instanceof LoggingInterceptor);
+        return builder;
+    }
+
+    /**
+     * Logs the requests and responses, if trace logging is enabled.
+     */
+    private static class LoggingInterceptor implements Interceptor {
+
+        private final Logger logger;
+        private final HttpLoggingInterceptor bodyLogger;
+        private final HttpLoggingInterceptor headersLogger;
+
+        /**
+         * Creates a new logging interceptor.
+         *
+         * @param logger The logger for the requests and responses.
+         */
+        private LoggingInterceptor(Logger logger) {
+            this.logger = logger;
+            bodyLogger = new HttpLoggingInterceptor(logger::trace).setLevel(Level.BODY);
+            headersLogger = new HttpLoggingInterceptor(logger::trace).setLevel(Level.HEADERS);
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            // The logging interceptor copies the whole bodies into a buffer, even if nothing gets logged
+            if (!logger.isTraceEnabled()) {
+                return chain.proceed(chain.request());
+            }
+            // Uploaded files are not worth logging and would be read an additional time
+            return chain.request().body() instanceof MultipartBody
+                    ? headersLogger.intercept(chain)
+                    : bodyLogger.intercept(chain);
+        }
+
+    }
+
+}
@@ -7,20 +7,28 @@ import okhttp3.MultipartBody;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.exception.DiscordException;
+import org.javacord.api.util.NonThrowingAutoCloseable;
+import org.javacord.api.util.metrics.MeterRegistry;
 import org.javacord.api.util.rest.RestRequestInformation;
+import org.javacord.api.util.rest.RestRequestPriority;
 import org.javacord.api.util.rest.RestRequestResponseInformation;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.logging.LoggerUtil;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -33,6 +41,17 @@ public class RestRequest<T> {
      */
     private static final Logger logger = LoggerUtil.getLogger(RestRequest.class);
 
+    /**
+     * The priority of requests that are created by the current thread.
+     */
+    private static final ThreadLocal<RestRequestPriority> scopedPriority =
+            ThreadLocal.withInitial(() -> RestRequestPriority.INTERACTIVE);
+
+    /**
+     * The media type of json bodies.
+     */
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json");
+
     private final DiscordApiImpl api;
     private final RestMethod method;
     private final RestEndpoint endpoint;
@@ -43,6 +62,11 @@ public class RestRequest<T> {
     private final Map<String, String> headers = new HashMap<>();
     private volatile String body = null;
 
+    /**
+     * The already encoded json body of the request. Used instead of {@link #body} if set.
+     */
+    private volatile byte[] encodedBody = null;
+
     private final CompletableFuture<RestRequestResult> result = new CompletableFuture<>();
 
     /**
@@ -55,6 +79,16 @@ public class RestRequest<T> {
      */
     private String customMajorParam = null;
 
+    /**
+     * The time the request was queued in nanoseconds, as returned by {@link System#nanoTime()}.
+     */
+    private volatile long queueTimestamp = -1;
+
+    /**
+     * The priority of the request.
+     */
+    private volatile RestRequestPriority priority = scopedPriority.get();
+
     /**
      * The origin of the rest request.
      */
@@ -75,6 +109,20 @@ public class RestRequest<T> {
         this.origin = new Exception("origin of RestRequest call");
     }
 
+    /**
+     * Sets the priority of all requests that are created by the current thread until the returned auto-closeable is
+     * closed.
+     *
+     * @param priority The priority.
+     * @return An auto-closeable that restores the previous priority.
+     */
+    public static NonThrowingAutoCloseable usePriority(RestRequestPriority priority) {
+        Objects.requireNonNull(priority, "The priority must not be null!");
+        RestRequestPriority previousPriority = scopedPriority.get();
+        scopedPriority.set(priority);
+        return () -> scopedPriority.set(previousPriority);
+    }
+
     /**
      * Gets the api which is used for this request.
      *
@@ -111,12 +159,34 @@ public class RestRequest<T> {
         return urlParameters;
     }
 
+    /**
+     * Gets the query parameters of this request.
+     *
+     * @return The query parameters of this request.
+     */
+    public Map<String, String> getQueryParameters() {
+        return Collections.unmodifiableMap(queryParameters);
+    }
+
+    /**
+     * Checks if an authorization header is included in this request.
+     *
+     * @return Whether an authorization header is included in this request.
+     */
+    public boolean isAuthorizationHeaderIncluded() {
+        return includeAuthorizationHeader;
+    }
+
     /**
      * Gets the body of this request.
      *
      * @return The body of this request.
      */
     public Optional<String> getBody() {
+        byte[] encodedBody = this.encodedBody;
+        if (encodedBody != null) {
+            return Optional.of(new String(encodedBody, StandardCharsets.UTF_8));
+        }
         return Optional.ofNullable(body);
     }
 
@@ -238,6 +308,21 @@ public class RestRequest<T> {
      */
     public RestRequest<T> setBody(String body) {
         this.body = body;
+        this.encodedBody = null;
+        return this;
+    }
+
+    /**
+     * Sets the body of the request to already encoded json.
+     * The array is used as it is, so it must not be modified afterwards. This allows many requests to share the same
+     * body without encoding it again for every request.
+     *
+     * @param body The UTF-8 encoded json body of the request.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestRequest<T> setBody(byte[] body) {
+        this.body = null;
+        this.encodedBody = body;
         return this;
     }
 
@@ -252,6 +337,46 @@ public class RestRequest<T> {
         return this;
     }
 
+    /**
+     * Sets the priority of the request.
+     * By default, requests get the priority of the current thread, see {@link #usePriority(RestRequestPriority)}.
+     *
+     * @param priority The priority of the request.
+     * @return The current instance in order to chain call methods.
+     */
+    public RestRequest<T> setPriority(RestRequestPriority priority) {
+        this.priority = Objects.requireNonNull(priority, "The priority must not be null!");
+        return this;
+    }
+
+    /**
+     * Gets the priority of the request.
+     *
+     * @return The priority of the request.
+     */
+    public RestRequestPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the time the request was queued.
+     *
+     * @param queueTimestamp The time the request was queued in nanoseconds, as returned by {@link System#nanoTime()}.
+     */
+    public void setQueueTimestamp(long queueTimestamp) {
+        this.queueTimestamp = queueTimestamp;
+    }
+
+    /**
+     * Gets the time the request was queued.
+     *
+     * @return The time the request was queued in nanoseconds, as returned by {@link System#nanoTime()}, or
+     *         {@code -1} if it was not queued yet.
+     */
+    public long getQueueTimestamp() {
+        return queueTimestamp;
+    }
+
     /**
      * Executes the request. This will automatically retry if we hit a ratelimit.
      *
@@ -259,9 +384,8 @@ public class RestRequest<T> {
      * @return A future which will contain the output of the function.
      */
     public CompletableFuture<T> execute(Function<RestRequestResult, T> function) {
-        api.getRatelimitManager().queueRequest(this);
         CompletableFuture<T> future = new CompletableFuture<>();
-        result.whenComplete((result, throwable) -> {
+        api.getRestResponseCache().queueRequest(this).whenComplete((result, throwable) -> {
             if (throwable != null) {
                 future.completeExceptionally(throwable);
                 return;
@@ -292,7 +416,7 @@ public class RestRequest<T> {
     public RestRequestInformation asRestRequestInformation() {
         try {
             return new RestRequestInformationImpl(
-                    api, new URL(endpoint.getFullUrl(urlParameters)), queryParameters, headers, body);
+                    api, new URL(endpoint.getFullUrl(urlParameters)), queryParameters, headers, getBody().orElse(null));
         } catch (MalformedURLException e) {
             throw new AssertionError(e);
         }
@@ -313,8 +437,10 @@ public class RestRequest<T> {
         RequestBody requestBody;
         if (multipartBody != null) {
             requestBody = multipartBody;
+        } else if (encodedBody != null) {
+            requestBody = RequestBody.create(JSON_MEDIA_TYPE, encodedBody);
         } else if (body != null) {
-            requestBody = RequestBody.create(MediaType.parse("application/json"), body);
+            requestBody = RequestBody.create(JSON_MEDIA_TYPE, body);
         } else {
             requestBody = RequestBody.create(null, new byte[0]);
         }
@@ -342,11 +468,28 @@ public class RestRequest<T> {
             requestBuilder.addHeader("authorization", api.getPrefixedToken());
         }
         headers.forEach(requestBuilder::addHeader);
-        logger.debug("Trying to send {} request to {}{}",
-                method::name, () -> endpoint.getFullUrl(urlParameters), () -> body != null ? " with body " + body : "");
+        logger.debug("Trying to send {} request to {}{}", method::name, () -> endpoint.getFullUrl(urlParameters),
+                () -> getBody().map(content -> " with body " + content).orElse(""));
 
+        MeterRegistry meterRegistry = api.getShardMeterRegistry();
+        long requestBodyLength = requestBody.contentLength();
+        if (requestBodyLength > 0) {
+            meterRegistry.counter("javacord.rest.bytes.sent").increment(requestBodyLength);
+        }
+        long requestStart = System.nanoTime();
         try (Response response = getApi().getHttpClient().newCall(requestBuilder.build()).execute()) {
             RestRequestResult result = new RestRequestResult(this, response);
+            meterRegistry.timer("javacord.rest.latency", "endpoint", endpoint.name())
+                    .record(System.nanoTime() - requestStart, TimeUnit.NANOSECONDS);
+            long responseBodyLength = result.getBody()
+                    .map(ResponseBody::contentLength)
+                    .filter(length -> length >= 0)
+                    // Chunked responses have no content length, so the decoded body is encoded again to count its bytes
+                    .orElseGet(() -> result.getStringBody()
+                            .map(body -> body.getBytes(StandardCharsets.UTF_8).length)
+                            .orElse(0)
+                            .longValue());
+            meterRegistry.counter("javacord.rest.bytes.received").increment(responseBodyLength);
             logger.debug("Sent {} request to {} and received status code {} with{} body{}",
                     method::name, () -> endpoint.getFullUrl(urlParameters), response::code,
                     () -> result.getBody().map(b -> "").orElse(" empty"),
@@ -0,0 +1,298 @@
+package org.javacord.core.util.rest;
+
+import org.javacord.api.util.rest.CachedRestResource;
+import org.javacord.core.DiscordApiImpl;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class sits in front of the {@link org.javacord.core.util.ratelimit.RatelimitManager} and caches the responses
+ * of GET requests to the endpoints of {@link CachedRestResource}s.
+ *
+ * <p>Identical requests that are in flight at the same time share a single request. Completed responses are kept
+ * for the configured duration of their resource, unless they get invalidated earlier. Responses are invalidated by
+ * requests of this api instance that modify the resource, and by gateway packets that tell us about a change.
+ */
+public class RestResponseCache {
+
+    /**
+     * The resources of the cacheable endpoints.
+     */
+    private static final Map<RestEndpoint, CachedRestResource> RESOURCES = new EnumMap<>(RestEndpoint.class);
+
+    /**
+     * The endpoints whose responses become outdated when a resource of another endpoint is modified.
+     */
+    private static final Map<RestEndpoint, Set<RestEndpoint>> DEPENDENT_ENDPOINTS = new EnumMap<>(RestEndpoint.class);
+
+    static {
+        RESOURCES.put(RestEndpoint.USER, CachedRestResource.USER);
+        RESOURCES.put(RestEndpoint.INVITE, CachedRestResource.INVITE);
+        RESOURCES.put(RestEndpoint.WEBHOOK, CachedRestResource.WEBHOOK);
+        RESOURCES.put(RestEndpoint.SERVER_WEBHOOK, CachedRestResource.SERVER_WEBHOOKS);
+        RESOURCES.put(RestEndpoint.CHANNEL_WEBHOOK, CachedRestResource.CHANNEL_WEBHOOKS);
+        RESOURCES.put(RestEndpoint.SERVER_INVITE, CachedRestResource.SERVER_INVITES);
+        RESOURCES.put(RestEndpoint.CHANNEL_INVITE, CachedRestResource.CHANNEL_INVITES);
+        RESOURCES.put(RestEndpoint.BAN, CachedRestResource.BANS);
+        RESOURCES.put(RestEndpoint.SELF_INFO, CachedRestResource.APPLICATION_INFO);
+
+        // The lists of servers contain the resources of channels, and single resources are part of lists
+        DEPENDENT_ENDPOINTS.put(RestEndpoint.WEBHOOK,
+                EnumSet.of(RestEndpoint.CHANNEL_WEBHOOK, RestEndpoint.SERVER_WEBHOOK));
+        DEPENDENT_ENDPOINTS.put(RestEndpoint.CHANNEL_WEBHOOK, EnumSet.of(RestEndpoint.SERVER_WEBHOOK));
+        DEPENDENT_ENDPOINTS.put(RestEndpoint.INVITE,
+                EnumSet.of(RestEndpoint.CHANNEL_INVITE, RestEndpoint.SERVER_INVITE));
+        DEPENDENT_ENDPOINTS.put(RestEndpoint.CHANNEL_INVITE, EnumSet.of(RestEndpoint.SERVER_INVITE));
+    }
+
+    /**
+     * The discord api instance.
+     */
+    private final DiscordApiImpl api;
+
+    /**
+     * The durations how long the responses of a resource are cached.
+     */
+    private final Map<CachedRestResource, Duration> durations =
+            Collections.synchronizedMap(new EnumMap<>(CachedRestResource.class));
+
+    /**
+     * The cached and in-flight responses. The key is built from the request.
+     */
+    private final ConcurrentHashMap<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new rest response cache.
+     *
+     * @param api The discord api instance.
+     */
+    public RestResponseCache(DiscordApiImpl api) {
+        this.api = api;
+        for (CachedRestResource resource : CachedRestResource.values()) {
+            durations.put(resource, Duration.ZERO);
+        }
+    }
+
+    /**
+     * Sets how long the responses of the given resource are cached.
+     *
+     * @param resource The resource.
+     * @param duration How long the responses of the resource are cached.
+     */
+    public void setDuration(CachedRestResource resource, Duration duration) {
+        Objects.requireNonNull(resource, "The resource must not be null!");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("The duration must not be negative!");
+        }
+        durations.put(resource, duration);
+        if (duration.isZero()) {
+            RESOURCES.forEach((endpoint, endpointResource) -> {
+                if (endpointResource == resource) {
+                    invalidate(endpoint);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets how long the responses of the given resource are cached.
+     *
+     * @param resource The resource.
+     * @return How long the responses of the resource are cached.
+     */
+    public Duration getDuration(CachedRestResource resource) {
+        return durations.get(resource);
+    }
+
+    /**
+     * Queues the given request, unless an identical request is cached or in flight.
+     *
+     * @param request The request.
+     * @return A future which completes with the result of the request or the identical request.
+     */
+    public CompletableFuture<RestRequestResult> queueRequest(RestRequest<?> request) {
+        RestEndpoint endpoint = request.getEndpoint();
+        if (request.getMethod() != RestMethod.GET) {
+            api.getRatelimitManager().queueRequest(request);
+            if (RESOURCES.containsKey(endpoint) || DEPENDENT_ENDPOINTS.containsKey(endpoint)) {
+                // The request modifies a cached resource
+                request.getResult().thenRun(() -> invalidateModified(request));
+            }
+            return request.getResult();
+        }
+        CachedRestResource resource = RESOURCES.get(endpoint);
+        if (resource == null) {
+            api.getRatelimitManager().queueRequest(request);
+            return request.getResult();
+        }
+
+        String key = getKey(request);
+        CachedResponse cachedResponse = new CachedResponse(endpoint, getResourceId(request), request.getResult());
+        while (true) {
+            CachedResponse existingResponse = responses.putIfAbsent(key, cachedResponse);
+            if (existingResponse == null) {
+                break;
+            }
+            if (!existingResponse.isExpired()) {
+                api.getShardMeterRegistry().counter("javacord.rest.cache.hits", "endpoint", endpoint.name())
+                        .increment();
+                return existingResponse.result;
+            }
+            responses.remove(key, existingResponse);
+        }
+
+        api.getRatelimitManager().queueRequest(request);
+        request.getResult().whenComplete((result, throwable) -> {
+            Duration duration = durations.get(resource);
+            if (throwable != null || duration.isZero()) {
+                responses.remove(key, cachedResponse);
+                return;
+            }
+            cachedResponse.expire(duration);
+            try {
+                api.getThreadPool().getScheduler().schedule(
+                        () -> responses.remove(key, cachedResponse), duration.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException ignored) {
+                // The api got disconnected in the meantime
+            }
+        });
+        return request.getResult();
+    }
+
+    /**
+     * Invalidates all responses of the given endpoint.
+     *
+     * @param endpoint The endpoint.
+     */
+    public void invalidate(RestEndpoint endpoint) {
+        responses.values().removeIf(response -> response.endpoint == endpoint);
+    }
+
+    /**
+     * Invalidates all responses of the given endpoint for the given resource.
+     *
+     * @param endpoint The endpoint.
+     * @param resourceId The id of the resource, i.e. the first url parameter of the endpoint.
+     */
+    public void invalidate(RestEndpoint endpoint, String resourceId) {
+        responses.values().removeIf(
+                response -> response.endpoint == endpoint && Objects.equals(response.resourceId, resourceId));
+    }
+
+    /**
+     * Invalidates all responses of the given endpoint for the resource with the given id.
+     *
+     * @param endpoint The endpoint.
+     * @param resourceId The id of the resource, i.e. the first url parameter of the endpoint.
+     */
+    public void invalidate(RestEndpoint endpoint, long resourceId) {
+        invalidate(endpoint, Long.toUnsignedString(resourceId));
+    }
+
+    /**
+     * Invalidates all responses that might be outdated after the given request modified a resource.
+     *
+     * @param request The modifying request.
+     */
+    private void invalidateModified(RestRequest<?> request) {
+        if (RESOURCES.containsKey(request.getEndpoint())) {
+            invalidate(request.getEndpoint(), getResourceId(request));
+        }
+        DEPENDENT_ENDPOINTS.getOrDefault(request.getEndpoint(), Collections.emptySet()).forEach(this::invalidate);
+    }
+
+    /**
+     * Gets the id of the resource of the given request, i.e. the first url parameter.
+     *
+     * @param request The request.
+     * @return The id of the resource or {@code null} if the endpoint has no url parameters.
+     */
+    private static String getResourceId(RestRequest<?> request) {
+        String[] urlParameters = request.getUrlParameters();
+        return (urlParameters.length == 0) ? null : urlParameters[0];
+    }
+
+    /**
+     * Gets the key of the given request. Requests with the same key get the same response.
+     *
+     * @param request The request.
+     * @return The key of the request.
+     */
+    private static String getKey(RestRequest<?> request) {
+        return request.getEndpoint().name()
+                + ':' + String.join("/", request.getUrlParameters())
+                + '?' + new TreeMap<>(request.getQueryParameters())
+                + (request.isAuthorizationHeaderIncluded() ? "" : "#unauthorized");
+    }
+
+    /**
+     * A cached or in-flight response.
+     * Invalidating a response removes it from the cache, even if it is still in flight. Callers that already wait for
+     * it still get it, but new callers send a new request.
+     */
+    private static class CachedResponse {
+
+        /**
+         * The value of {@link #expiresAt} as long as the expiration time is not known yet.
+         */
+        private static final long UNKNOWN_EXPIRATION = Long.MIN_VALUE;
+
+        private final RestEndpoint endpoint;
+        private final String resourceId;
+        private final CompletableFuture<RestRequestResult> result;
+
+        /**
+         * The time the response expires in nanoseconds, as returned by {@link System#nanoTime()}.
+         */
+        private volatile long expiresAt = UNKNOWN_EXPIRATION;
+
+        /**
+         * Creates a new cached response.
+         *
+         * @param endpoint The endpoint of the request.
+         * @param resourceId The id of the requested resource.
+         * @param result The result of the request.
+         */
+        private CachedResponse(RestEndpoint endpoint, String resourceId, CompletableFuture<RestRequestResult> result) {
+            this.endpoint = endpoint;
+            this.resourceId = resourceId;
+            this.result = result;
+        }
+
+        /**
+         * Sets the time the response expires, starting now.
+         *
+         * @param duration The duration until the response expires.
+         */
+        private void expire(Duration duration) {
+            expiresAt = System.nanoTime() + duration.toNanos();
+        }
+
+        /**
+         * Checks if the response expired.
+         *
+         * @return Whether the response expired.
+         */
+        private boolean isExpired() {
+            if (result.isCompletedExceptionally()) {
+                return true;
+            }
+            long expiresAt = this.expiresAt;
+            // Responses are in flight or just completed while their expiration is unknown
+            return (expiresAt != UNKNOWN_EXPIRATION) && (System.nanoTime() - expiresAt >= 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.javacord.core.entity.server
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.javacord.api.entity.user.UserStatus
+import org.javacord.core.DiscordApiImpl
+import org.javacord.core.entity.user.UserImpl
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(ServerImpl)
+class ServerImplTest extends Specification {
+
+    def api = new DiscordApiImpl(null)
+
+    def objectMapper = new ObjectMapper()
+
+    def userJson = objectMapper.readTree('{"id": "2", "username": "Bastian", "discriminator": "0001"}')
+
+    def serverJson = objectMapper.readTree('''{
+        "id": "1",
+        "name": "Javacord",
+        "region": "eu-central",
+        "large": false,
+        "member_count": 1,
+        "owner_id": "2",
+        "verification_level": 0,
+        "explicit_content_filter": 0,
+        "default_message_notifications": 0,
+        "mfa_level": 0,
+        "roles": [{"id": "1", "name": "@everyone", "position": 0, "color": 0, "hoist": false,
+                   "mentionable": false, "permissions": 0, "managed": false}],
+        "members": [{"user": {"id": "2", "username": "Bastian", "discriminator": "0001"},
+                     "nick": "Bast", "roles": [], "joined_at": "2018-01-01T00:00:00+00:00"}],
+        "emojis": [{"id": "3", "name": "javacord", "animated": false, "managed": false, "roles": []}],
+        "presences": [{"user": {"id": "2"}, "status": "online"}]
+    }''')
+
+    def 'members, emojis and presences are only visible once the server was added to the cache'() {
+        when:
+            def server = new ServerImpl(api, serverJson, false)
+
+        then:
+            api.cachedUsers.empty
+            api.customEmojis.empty
+            !api.getServerById(1).present
+
+        when:
+            server.addToCache()
+
+        then:
+            api.getServerById(1).get().is(server)
+            api.getCachedUserById(2).get().is(server.getMemberById(2).get())
+            api.customEmojis*.id == [3L]
+            server.customEmojis*.id == [3L]
+            api.getCachedUserById(2).get().status == UserStatus.ONLINE
+    }
+
+    def 'the presence of a cached user is only changed once the server was added to the cache'() {
+        given:
+            def user = new UserImpl(api, userJson)
+            user.status = UserStatus.DO_NOT_DISTURB
+
+        when:
+            def server = new ServerImpl(api, serverJson, false)
+
+        then:
+            user.status == UserStatus.DO_NOT_DISTURB
+            !user.getNickname(server).present
+
+        when:
+            server.addToCache()
+
+        then:
+            server.getMemberById(2).get().is(user)
+            user.status == UserStatus.ONLINE
+            user.getNickname(server).get() == 'Bast'
+    }
+
+    def 'a server that is created with the cache flag is added to the cache immediately'() {
+        when:
+            def server = new ServerImpl(api, serverJson, true)
+
+        then:
+            api.getServerById(1).get().is(server)
+            server.getMemberById(2).present
+            api.customEmojis*.id == [3L]
+    }
+
+}
@@ -1,9 +1,22 @@
 package org.javacord.core.util
 
+import com.sun.net.httpserver.HttpServer
+import okhttp3.MediaType
+import okhttp3.MultipartBody
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okio.Buffer
+import okio.ForwardingSink
+import okio.Okio
+import org.apache.logging.log4j.Logger
+import org.javacord.api.util.rest.RestTransportConfiguration
+import org.javacord.core.util.rest.HttpClientFactory
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.Unroll
 
 import java.awt.image.BufferedImage
+import java.nio.file.Files
 
 @Subject(FileContainer)
 class FileContainerTest extends Specification {
@@ -38,4 +51,122 @@ class FileContainerTest extends Specification {
             iae.message == 'No image writer found for format "txt"'
     }
 
+    @Unroll
+    def 'an input stream is uploaded completely by every attempt of a request with trace logging #traceLogging'() {
+        given:
+            def content = new byte[100_000]
+            new Random(42).nextBytes(content)
+            def fileContainer = new FileContainer(new ByteArrayInputStream(content), 'file.bin')
+
+        and: 'a server that collects the uploads'
+            def uploads = []
+            def server = HttpServer.create(new InetSocketAddress(InetAddress.loopbackAddress, 0), 0)
+            server.createContext('/') { exchange ->
+                uploads << exchange.requestBody.bytes
+                exchange.sendResponseHeaders(200, -1)
+                exchange.close()
+            }
+            server.start()
+
+        and:
+            def logger = Stub(Logger) {
+                isTraceEnabled() >> traceLogging
+            }
+            OkHttpClient client = HttpClientFactory.create(new RestTransportConfiguration(), logger)
+            def body = new MultipartBody.Builder()
+                    .setType(MultipartBody.FORM)
+                    .addFormDataPart('file', 'file.bin',
+                            fileContainer.asRequestBody(null, MediaType.parse('application/octet-stream')).join())
+                    .build()
+            def request = new Request.Builder()
+                    .url("http://${InetAddress.loopbackAddress.hostAddress}:${server.address.port}/")
+                    .post(body)
+                    .build()
+
+        when:
+            def responseCodes = (1..2).collect {
+                def response = client.newCall(request).execute()
+                response.close()
+                response.code()
+            }
+
+        then:
+            responseCodes == [200, 200]
+            uploads.size() == 2
+            uploads.every { containsContent it, content }
+
+        cleanup:
+            server?.stop 0
+            client?.dispatcher()?.executorService()?.shutdown()
+            client?.connectionPool()?.evictAll()
+
+        where:
+            traceLogging << [true, false]
+    }
+
+    def 'an input stream is written again after a failed write'() {
+        given:
+            def content = new byte[100_000]
+            new Random(42).nextBytes(content)
+            def body = new FileContainer(new ByteArrayInputStream(content), 'file.bin')
+                    .asRequestBody(null, MediaType.parse('application/octet-stream')).join()
+
+        and: 'a sink that fails after some bytes'
+            def failingSink = Okio.buffer(new ForwardingSink(Okio.blackhole()) {
+                long written = 0
+
+                @Override
+                void write(Buffer source, long byteCount) throws IOException {
+                    written += byteCount
+                    if (written > 30_000) {
+                        throw new IOException('Connection reset')
+                    }
+                    super.write(source, byteCount)
+                }
+            })
+
+        when:
+            body.writeTo failingSink
+
+        then:
+            thrown(IOException)
+
+        when:
+            def buffer = new Buffer()
+            body.writeTo buffer
+
+        then:
+            buffer.readByteArray() == content
+            body.contentLength() == content.length
+    }
+
+    def 'a file input stream is uploaded with a known content length'() {
+        given:
+            def file = Files.createTempFile('javacord', '.bin')
+            Files.write file, new byte[1000]
+            def inputStream = new FileInputStream(file.toFile())
+            inputStream.skip 200
+            def body = new FileContainer(inputStream, 'file.bin')
+                    .asRequestBody(null, MediaType.parse('application/octet-stream')).join()
+
+        expect:
+            body.contentLength() == 800
+
+        when:
+            def buffer = new Buffer()
+            body.writeTo buffer
+
+        then:
+            buffer.size() == 800
+            body.contentLength() == 800
+
+        cleanup:
+            inputStream?.close()
+            Files.deleteIfExists file
+    }
+
+    private static boolean containsContent(byte[] upload, byte[] content) {
+        Collections.indexOfSubList(upload as List, content as List) >= 0
+    }
+
 }
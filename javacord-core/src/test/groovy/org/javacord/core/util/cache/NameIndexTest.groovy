@@ -0,0 +1,133 @@
+package org.javacord.core.util.cache
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+class NameIndexTest extends Specification {
+
+    @Subject
+    def nameIndex = new NameIndex()
+
+    @Unroll
+    def 'folding "#first" and "#second" matches equalsIgnoreCase'() {
+        expect:
+            (NameIndex.fold(first) == NameIndex.fold(second)) == first.equalsIgnoreCase(second)
+
+        where:
+            first                                 | second
+            'Javacord'                            | 'jAVACORD'
+            'Javacord'                            | 'Javacord2'
+            'ß'                                   | 'SS'
+            'ſ'                                   | 'S'
+            'İ'                                   | 'i'
+            'ı'                                   | 'I'
+            'Σ'                                   | 'ς'
+            'ǅ'                                   | 'ǆ'
+            'K'                                   | 'k'
+            new String(Character.toChars(0x10400)) | new String(Character.toChars(0x10428))
+    }
+
+    def 'folding every code point and its case variants matches equalsIgnoreCase'() {
+        given:
+            def mismatches = []
+
+        when:
+            for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+                if (Character.isSurrogate(codePoint as char) && codePoint <= Character.MAX_VALUE) {
+                    continue
+                }
+                def name = new String(Character.toChars(codePoint))
+                [Character.toUpperCase(codePoint), Character.toLowerCase(codePoint), Character.toTitleCase(codePoint)]
+                        .collect { new String(Character.toChars(it)) }
+                        .findAll { (NameIndex.fold(name) == NameIndex.fold(it)) != name.equalsIgnoreCase(it) }
+                        .each { mismatches << "$name / $it" }
+            }
+
+        then:
+            mismatches.empty
+    }
+
+    def 'entities are found by their name, ignoring the case'() {
+        given:
+            nameIndex.put 1, 'Javacord'
+            nameIndex.put 2, 'javacord'
+            nameIndex.put 3, 'Javacord Bot'
+
+        expect:
+            nameIndex.get('JAVACORD') == [1L, 2L]
+            nameIndex.get('Bot').empty
+            nameIndex.get(null).empty
+    }
+
+    def 'a renamed entity is only found by its new name'() {
+        given:
+            nameIndex.put 1, 'Old'
+            nameIndex.put 2, 'Old'
+
+        when:
+            nameIndex.put 1, 'New'
+
+        then:
+            nameIndex.get('old') == [2L]
+            nameIndex.get('new') == [1L]
+    }
+
+    def 'an entity without a name is removed from the index'() {
+        given:
+            nameIndex.put 1, 'Javacord'
+            nameIndex.put 2, 'Other'
+
+        when:
+            nameIndex.put 1, null
+            nameIndex.remove 2
+
+        then:
+            nameIndex.get('Javacord').empty
+            nameIndex.get('Other').empty
+            nameIndex.getByPrefix('').empty
+    }
+
+    def 'the prefix range contains exactly the names that start with the prefix'() {
+        given:
+            nameIndex.put 1, 'abc'
+            nameIndex.put 2, 'ABD'
+            nameIndex.put 3, 'ab'
+            nameIndex.put 4, 'a'
+            nameIndex.put 5, 'ac'
+            nameIndex.put 6, 'Zab'
+            nameIndex.put 7, 'ab\uffff'
+
+        expect: 'the ids are sorted by the folded names'
+            nameIndex.getByPrefix('aB') == [3L, 1L, 2L, 7L]
+            nameIndex.getByPrefix('a') == [4L, 3L, 1L, 2L, 7L, 5L]
+            nameIndex.getByPrefix('abc') == [1L]
+            nameIndex.getByPrefix('b').empty
+            nameIndex.getByPrefix('').size() == 7
+            nameIndex.getByPrefix(null).empty
+    }
+
+    def 'prefixes are folded like the names'() {
+        given:
+            nameIndex.put 1, 'ſtraße'
+            nameIndex.put 2, 'Straße'
+            nameIndex.put 3, 'Strand'
+
+        expect:
+            nameIndex.getByPrefix('STRAẞ') == [1L, 2L]
+            nameIndex.getByPrefix('s') == [3L, 1L, 2L]
+    }
+
+    def 'clearing the index removes all entities'() {
+        given:
+            nameIndex.put 1, 'Javacord'
+
+        when:
+            nameIndex.clear()
+
+        then:
+            nameIndex.get('Javacord').empty
+            nameIndex.getByPrefix('').empty
+    }
+
+}
@@ -0,0 +1,218 @@
+package org.javacord.core.util.concurrent
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+class BatchQueueTest extends Specification {
+
+    def scheduler = Executors.newSingleThreadScheduledExecutor()
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    /**
+     * The parts of the sent batches.
+     */
+    def sentBatches = new CopyOnWriteArrayList<List<String>>()
+
+    /**
+     * The results of the sent batches, completed by the tests.
+     */
+    def batchResults = new CopyOnWriteArrayList<CompletableFuture<String>>()
+
+    def batchFactory = { new TestBatch(3) }
+
+    def cleanup() {
+        scheduler.shutdownNow()
+    }
+
+    def 'parts are sent immediately while no batch is being sent'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory)
+
+        when:
+            def future = queue.queue('a')
+
+        then:
+            sentBatches == [['a']]
+
+        when:
+            batchResults[0].complete 'first'
+
+        then:
+            future.join() == 'first'
+    }
+
+    def 'parts that are queued while a batch is being sent are collected for the next batches'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory)
+            queue.queue 'a'
+
+        when:
+            def futures = ('b'..'f').collect { queue.queue it }
+
+        then:
+            sentBatches == [['a']]
+
+        when:
+            batchResults[0].complete 'first'
+
+        then:
+            sentBatches == [['a'], ['b', 'c', 'd']]
+            futures.every { !it.done }
+
+        when:
+            batchResults[1].complete 'second'
+            batchResults[2].complete 'third'
+
+        then:
+            sentBatches == [['a'], ['b', 'c', 'd'], ['e', 'f']]
+            futures*.join() == ['second'] * 3 + ['third'] * 2
+    }
+
+    def 'parts are held back for the window'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory, scheduler, Duration.ofMillis(200))
+
+        when:
+            queue.queue 'a'
+            queue.queue 'b'
+
+        then:
+            sentBatches.empty
+            conditions.eventually {
+                assert sentBatches == [['a', 'b']]
+            }
+    }
+
+    def 'a full batch is sent before the window ended'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory, scheduler, Duration.ofMinutes(1))
+
+        when:
+            ('a'..'c').each { queue.queue it }
+
+        then:
+            sentBatches.empty
+
+        when: 'a part does not fit into the batch anymore'
+            queue.queue 'd'
+
+        then:
+            sentBatches == [['a', 'b', 'c']]
+    }
+
+    def 'flushing sends the parts without waiting for the window'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory, scheduler, Duration.ofMinutes(1))
+            queue.queue 'a'
+
+        when:
+            queue.flush()
+
+        then:
+            sentBatches == [['a']]
+    }
+
+    def 'a failed batch fails the futures of all its parts'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory)
+            def first = queue.queue('a')
+            def second = queue.queue('b')
+            def third = queue.queue('c')
+            batchResults[0].complete 'first'
+
+        when:
+            batchResults[1].completeExceptionally new IllegalStateException('failed')
+
+        then:
+            first.join() == 'first'
+            [second, third].every { it.completedExceptionally }
+
+        when:
+            second.join()
+
+        then:
+            CompletionException e = thrown()
+            e.cause instanceof IllegalStateException
+    }
+
+    def 'closing the queue completes once all queued parts were sent'() {
+        given:
+            def queue = new BatchQueue<String, String>(batchFactory)
+            queue.queue 'a'
+            queue.queue 'b'
+
+        when:
+            def closeFuture = queue.close()
+            batchResults[0].complete 'first'
+
+        then:
+            !closeFuture.done
+
+        when:
+            queue.queue 'c'
+
+        then:
+            IllegalStateException e = thrown()
+            e.message == 'The queue is closed'
+
+        when:
+            batchResults[1].complete 'second'
+
+        then:
+            closeFuture.done
+            sentBatches == [['a'], ['b']]
+    }
+
+    def 'an idle queue is closed immediately'() {
+        expect:
+            new BatchQueue<String, String>(batchFactory).close().done
+    }
+
+    def 'a negative window throws an exception'() {
+        when:
+            new BatchQueue<String, String>(batchFactory, scheduler, Duration.ofMillis(-1))
+
+        then:
+            IllegalArgumentException e = thrown()
+            e.message == 'The window must not be negative'
+    }
+
+    /**
+     * A batch with a maximum amount of parts.
+     */
+    private class TestBatch implements BatchQueue.Batch<String, String> {
+
+        private final int capacity
+        private final List<String> parts = []
+
+        TestBatch(int capacity) {
+            this.capacity = capacity
+        }
+
+        @Override
+        boolean add(String part) {
+            if (parts.size() >= capacity) {
+                return false
+            }
+            parts << part
+            return true
+        }
+
+        @Override
+        CompletableFuture<String> send() {
+            def result = new CompletableFuture<String>()
+            sentBatches << parts
+            batchResults << result
+            return result
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package org.javacord.core.util.gateway
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.channels.FileChannel
+import java.nio.channels.OverlappingFileLockException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+class FileIdentifySchedulerDelegateImplTest extends Specification {
+
+    Path directory = Files.createTempDirectory('identify')
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    def cleanup() {
+        directory.toFile().deleteDir()
+    }
+
+    def 'schedulers of the same JVM that share a directory wait for each other'() {
+        given:
+            def scheduler = new FileIdentifySchedulerDelegateImpl(directory)
+            def otherScheduler = new FileIdentifySchedulerDelegateImpl(directory.resolve('.'))
+            scheduler.awaitIdentify 'account', 0, 1
+
+        when:
+            def otherShard = Thread.start {
+                otherScheduler.awaitIdentify 'account', 1, 1
+            }
+            otherShard.join 200
+
+        then:
+            otherShard.alive
+
+        when:
+            scheduler.cancelled 'account', 0, 1
+            otherShard.join 5000
+
+        then:
+            !otherShard.alive
+            isLocked()
+
+        cleanup:
+            otherScheduler.cancelled 'account', 1, 1
+    }
+
+    def 'a shard whose reservation timed out does not release the lock of the next shard'() {
+        given:
+            def scheduler = new FileIdentifySchedulerDelegateImpl(directory, new LocalIdentifyScheduler(100))
+            scheduler.awaitIdentify 'account', 0, 1
+
+        when: 'the next shard takes over after the reservation timed out'
+            def nextShard = Thread.start {
+                scheduler.awaitIdentify 'account', 1, 1
+            }
+            nextShard.join 5000
+
+        then:
+            !nextShard.alive
+            isLocked()
+
+        when:
+            scheduler.identified 'account', 0, 1
+
+        then:
+            isLocked()
+
+        when:
+            scheduler.cancelled 'account', 1, 1
+
+        then:
+            !isLocked()
+    }
+
+    def 'an identify stores its time for the next shard of the bucket'() {
+        given:
+            def scheduler = new FileIdentifySchedulerDelegateImpl(directory)
+            scheduler.awaitIdentify 'account', 0, 2
+            scheduler.identified 'account', 0, 2
+
+            def otherProcessScheduler = new FileIdentifySchedulerDelegateImpl(directory, new LocalIdentifyScheduler())
+
+        when:
+            def nextShard = Thread.start {
+                otherProcessScheduler.awaitIdentify 'account', 2, 2
+            }
+            nextShard.join 1000
+
+        then: 'the next shard waits for the identify window, even though it does not share the local scheduler'
+            nextShard.alive
+            Files.size(directory.resolve('account-0.lock')) == Long.BYTES
+
+        cleanup:
+            nextShard?.interrupt()
+            nextShard?.join()
+            otherProcessScheduler?.cancelled 'account', 2, 2
+    }
+
+    /**
+     * Checks whether the lock file of the bucket 0 is locked by this JVM.
+     *
+     * @return Whether the lock file is locked.
+     */
+    def isLocked() {
+        FileChannel.open(directory.resolve('account-0.lock'), StandardOpenOption.WRITE).withCloseable { channel ->
+            try {
+                channel.tryLock().release()
+                false
+            } catch (OverlappingFileLockException ignored) {
+                true
+            }
+        }
+    }
+
+}
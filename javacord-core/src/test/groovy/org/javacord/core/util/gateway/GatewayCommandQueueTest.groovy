@@ -0,0 +1,148 @@
+package org.javacord.core.util.gateway
+
+import org.javacord.core.util.metrics.MeterRegistryImpl
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+class GatewayCommandQueueTest extends Specification {
+
+    def executorService = Executors.newSingleThreadExecutor()
+
+    def meterRegistry = new MeterRegistryImpl()
+
+    def sent = new CopyOnWriteArrayList<String>()
+
+    @Subject
+    def queue = new GatewayCommandQueue(executorService, meterRegistry, { sent << it })
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    def cleanup() {
+        executorService.shutdownNow()
+    }
+
+    def 'commands are held until the session is ready'() {
+        when:
+            queue.queue GatewayOpcode.STATUS_UPDATE, null, 'first'
+            queue.queue GatewayOpcode.REQUEST_GUILD_MEMBERS, null, 'second'
+            Thread.sleep 200
+
+        then:
+            sent.empty
+            queue.queuedCommandCount == 2
+
+        when:
+            queue.sessionReady = true
+
+        then:
+            conditions.eventually {
+                assert sent == ['first', 'second']
+            }
+            queue.queuedCommandCount == 0
+    }
+
+    def 'commands are held again while the session is not ready'() {
+        given:
+            queue.sessionReady = true
+            queue.sessionReady = false
+
+        when:
+            queue.queue GatewayOpcode.STATUS_UPDATE, null, 'command'
+            Thread.sleep 200
+
+        then:
+            sent.empty
+    }
+
+    def 'a burst of 15 commands is sent at once and further commands are paced'() {
+        given:
+            queue.sessionReady = true
+
+        when:
+            (1..17).each { queue.queue GatewayOpcode.REQUEST_GUILD_MEMBERS, null, "command $it" }
+
+        then:
+            conditions.eventually {
+                assert sent.size() == 15
+            }
+
+        when:
+            Thread.sleep 200
+
+        then: 'one command is earned every 600 ms'
+            sent.size() == 15
+            conditions.eventually {
+                assert sent.size() == 17
+            }
+            sent == (1..17).collect { "command $it".toString() }
+    }
+
+    def 'commands that bypass the queue are taken from the budget'() {
+        given:
+            queue.sessionReady = true
+            15.times { queue.sendImmediately GatewayOpcode.HEARTBEAT, {} }
+
+        when:
+            queue.queue GatewayOpcode.STATUS_UPDATE, null, 'command'
+            Thread.sleep 200
+
+        then:
+            sent.empty
+            conditions.eventually {
+                assert sent == ['command']
+            }
+    }
+
+    def 'resetting the budget allows a new burst'() {
+        given:
+            queue.sessionReady = true
+            15.times { queue.sendImmediately GatewayOpcode.HEARTBEAT, {} }
+
+        when:
+            queue.resetBudget()
+            (1..15).each { queue.queue GatewayOpcode.REQUEST_GUILD_MEMBERS, null, "command $it" }
+
+        then:
+            conditions.within(0.5) {
+                assert sent.size() == 15
+            }
+    }
+
+    def 'a command supersedes a queued command with the same coalescing key and keeps its position'() {
+        when:
+            queue.queue GatewayOpcode.STATUS_UPDATE, 'status', 'online'
+            queue.queue GatewayOpcode.REQUEST_GUILD_MEMBERS, null, 'members'
+            queue.queue GatewayOpcode.STATUS_UPDATE, 'status', 'idle'
+            queue.queue GatewayOpcode.VOICE_STATE_UPDATE, 'voice', 'voice'
+            queue.sessionReady = true
+
+        then:
+            conditions.eventually {
+                assert sent == ['idle', 'members', 'voice']
+            }
+            meterRegistry.counter('javacord.gateway.commands.coalesced').count == 1
+            meterRegistry.counter('javacord.gateway.commands.sent', 'opcode', 'status_update').count == 1
+    }
+
+    def 'a command with the coalescing key of an already sent command is sent again'() {
+        given:
+            queue.sessionReady = true
+            queue.queue GatewayOpcode.STATUS_UPDATE, 'status', 'online'
+            conditions.eventually {
+                assert sent == ['online']
+            }
+
+        when:
+            queue.queue GatewayOpcode.STATUS_UPDATE, 'status', 'idle'
+
+        then:
+            conditions.eventually {
+                assert sent == ['online', 'idle']
+            }
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.javacord.core.util.gateway
+
+import org.javacord.api.util.metrics.Timer
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class HeartbeatLatencyTest extends Specification {
+
+    def latencyTimer = Mock(Timer)
+
+    long nanoTime = 0
+
+    @Subject
+    def heartbeatLatency = new HeartbeatLatency(latencyTimer, { nanoTime })
+
+    def 'the round-trip time of an acknowledged heartbeat is measured'() {
+        given:
+            nanoTime = 100
+            heartbeatLatency.heartbeatSent()
+
+        when:
+            nanoTime = 150
+            heartbeatLatency.heartbeatAcknowledged()
+
+        then:
+            1 * latencyTimer.record(50, TimeUnit.NANOSECONDS)
+            heartbeatLatency.latestLatency.get() == Duration.ofNanos(50)
+    }
+
+    def 'a late second acknowledgement is not measured against the acknowledged heartbeat'() {
+        given:
+            nanoTime = 100
+            heartbeatLatency.heartbeatSent()
+            nanoTime = 150
+            heartbeatLatency.heartbeatAcknowledged()
+
+        when:
+            nanoTime = 5000
+            heartbeatLatency.heartbeatAcknowledged()
+
+        then:
+            0 * latencyTimer._
+            heartbeatLatency.latestLatency.get() == Duration.ofNanos(50)
+    }
+
+    def 'an acknowledgement before the first heartbeat is not measured'() {
+        when:
+            heartbeatLatency.heartbeatAcknowledged()
+
+        then:
+            0 * latencyTimer._
+            !heartbeatLatency.latestLatency.present
+    }
+
+}
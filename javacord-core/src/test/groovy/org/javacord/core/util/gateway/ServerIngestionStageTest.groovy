@@ -0,0 +1,188 @@
+package org.javacord.core.util.gateway
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.javacord.api.util.concurrent.ThreadPool
+import org.javacord.core.DiscordApiImpl
+import org.javacord.core.entity.server.ServerImpl
+import org.javacord.core.util.metrics.MeterRegistryImpl
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+
+@Subject(ServerIngestionStage)
+class ServerIngestionStageTest extends Specification {
+
+    def handlersProcessor = Executors.newSingleThreadExecutor()
+
+    def api = Stub(DiscordApiImpl) {
+        getThreadPool() >> Stub(ThreadPool) {
+            getSingleThreadExecutorService(_) >> handlersProcessor
+        }
+        getShardMeterRegistry() >> new MeterRegistryImpl()
+    }
+
+    def servers = (1L..5L).collectEntries { id -> [(id): Stub(ServerImpl) { getId() >> id }] }
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    def built = new CopyOnWriteArrayList<Long>()
+
+    def published = new CopyOnWriteArrayList<Object>()
+
+    def publisher = { ServerImpl server -> published << server.id }
+
+    def cleanup() {
+        handlersProcessor.shutdownNow()
+    }
+
+    def 'servers are published in the order their packets were received'() {
+        given:
+            def firstServerReleased = new CountDownLatch(1)
+            def stage = new ServerIngestionStage(api, 2, serverFactory([1L: firstServerReleased]))
+
+        when:
+            onHandlersProcessor {
+                stage.submit packet(1), publisher
+                stage.submit packet(2), publisher
+            }
+
+        then: 'the second server is built first, but not published'
+            conditions.eventually {
+                assert built == [2L]
+            }
+            published.empty
+
+        when:
+            firstServerReleased.countDown()
+
+        then:
+            conditions.eventually {
+                assert published == [1L, 2L]
+            }
+    }
+
+    def 'submitting more than twice the parallelism waits for the oldest server to be published'() {
+        given:
+            def firstServerReleased = new CountDownLatch(1)
+            def stage = new ServerIngestionStage(api, 2, serverFactory([1L: firstServerReleased]))
+
+        when:
+            def submitted = handlersProcessor.submit {
+                (1..5).each { stage.submit packet(it), publisher }
+            }
+
+        then:
+            conditions.eventually {
+                assert built == [2L, 3L, 4L, 5L]
+            }
+            !submitted.done
+            published.empty
+
+        when:
+            firstServerReleased.countDown()
+            submitted.get()
+
+        then: 'the fifth submit published the first server itself'
+            published.first() == 1L
+            conditions.eventually {
+                assert published == [1L, 2L, 3L, 4L, 5L]
+            }
+    }
+
+    def 'with a parallelism of 1 servers are built and published in the calling thread'() {
+        given:
+            def buildingThreads = []
+            def stage = new ServerIngestionStage(api, 1, { JsonNode packet ->
+                buildingThreads << Thread.currentThread()
+                server(packet)
+            })
+
+        when:
+            stage.submit packet(1), publisher
+            stage.submit packet(2), publisher
+
+        then:
+            published == [1L, 2L]
+            buildingThreads == [Thread.currentThread()] * 2
+    }
+
+    def 'publishAll waits for all submitted servers'() {
+        given:
+            def firstServerReleased = new CountDownLatch(1)
+            def stage = new ServerIngestionStage(api, 2, serverFactory([1L: firstServerReleased]))
+
+        when:
+            def publishedAll = handlersProcessor.submit({
+                (1..3).each { stage.submit packet(it), publisher }
+                stage.publishAll()
+                new ArrayList(published)
+            } as Callable)
+            firstServerReleased.countDown()
+
+        then:
+            publishedAll.get() == [1L, 2L, 3L]
+    }
+
+    def 'other packets are handled after all previously received servers were published'() {
+        given:
+            def firstServerReleased = new CountDownLatch(1)
+            def stage = new ServerIngestionStage(api, 2, serverFactory([1L: firstServerReleased]))
+            api.getServerIngestionStage() >> stage
+            def handler = new PacketHandler(api, true, 'TEST') {
+                @Override
+                protected void handle(JsonNode packet) {
+                    published << 'packet'
+                }
+            }
+
+        when:
+            onHandlersProcessor {
+                stage.submit packet(1), publisher
+            }
+            handler.handlePacket packet(2)
+
+        then:
+            !published.contains('packet')
+
+        when:
+            firstServerReleased.countDown()
+
+        then:
+            conditions.eventually {
+                assert published == [1L, 'packet']
+            }
+    }
+
+    /**
+     * Creates a server factory that records the ids of the built servers.
+     *
+     * @param latches Latches by server id that the factory waits for before it builds the server.
+     * @return The server factory.
+     */
+    def serverFactory(Map<Long, CountDownLatch> latches) {
+        return { JsonNode packet ->
+            latches[packet.get('id').asLong()]?.await()
+            built << packet.get('id').asLong()
+            server(packet)
+        }
+    }
+
+    def server(JsonNode packet) {
+        servers[packet.get('id').asLong()]
+    }
+
+    static packet(long id) {
+        new ObjectMapper().createObjectNode().put('id', id)
+    }
+
+    def onHandlersProcessor(Closure action) {
+        handlersProcessor.submit(action as Runnable).get()
+    }
+
+}
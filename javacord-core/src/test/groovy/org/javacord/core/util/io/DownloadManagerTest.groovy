@@ -0,0 +1,205 @@
+package org.javacord.core.util.io
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import okhttp3.Interceptor
+import okhttp3.OkHttpClient
+import org.javacord.api.util.concurrent.ThreadPool
+import org.javacord.api.util.rest.RestTransportConfiguration
+import org.javacord.core.DiscordApiImpl
+import org.javacord.core.util.rest.HttpClientFactory
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.file.Files
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+class DownloadManagerTest extends Specification {
+
+    def executorService = Executors.newCachedThreadPool()
+
+    /**
+     * A user-supplied client with an interceptor that authenticates at a proxy.
+     */
+    def userClient = new OkHttpClient.Builder()
+            .addInterceptor({ chain ->
+                chain.proceed chain.request().newBuilder().header('Proxy-Authorization', 'secret').build()
+            } as Interceptor)
+            .build()
+
+    def httpClient = HttpClientFactory.create(new RestTransportConfiguration().setHttpClient(userClient))
+
+    def api = Stub(DiscordApiImpl) {
+        getHttpClient() >> httpClient
+        getThreadPool() >> Stub(ThreadPool) {
+            getExecutorService() >> executorService
+        }
+    }
+
+    @Subject
+    def downloadManager = new DownloadManager(api)
+
+    def content = new byte[1000]
+
+    def etag = '"v1"'
+
+    def interruptNextResponseAt = -1
+
+    def requests = new CopyOnWriteArrayList<Map<String, String>>()
+
+    def proxyAuthorizations = new CopyOnWriteArrayList<String>()
+
+    def server = HttpServer.create(new InetSocketAddress(InetAddress.loopbackAddress, 0), 0)
+
+    def directory = Files.createTempDirectory('javacord')
+
+    def target = directory.resolve('file.bin')
+
+    def partialFile = directory.resolve('file.bin.part')
+
+    def validatorFile = directory.resolve('file.bin.part.validator')
+
+    def url = new URL("http://${InetAddress.loopbackAddress.hostAddress}:${server.address.port}/file.bin")
+
+    def setup() {
+        new Random(42).nextBytes(content)
+        server.createContext('/') { exchange -> serve exchange }
+        server.start()
+    }
+
+    def cleanup() {
+        server.stop 0
+        executorService.shutdownNow()
+        httpClient.dispatcher().executorService().shutdown()
+        httpClient.connectionPool().evictAll()
+        directory.toFile().deleteDir()
+    }
+
+    def 'a download that failed is resumed after the content that was already downloaded'() {
+        given:
+            interruptNextResponseAt = 400
+
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            thrown(CompletionException)
+            Files.size(partialFile) == 400
+            new String(Files.readAllBytes(validatorFile), 'UTF-8') == etag
+
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            requests[1] == [range: 'bytes=400-', ifRange: etag]
+            Files.readAllBytes(target) == content
+            !Files.exists(partialFile)
+            !Files.exists(validatorFile)
+    }
+
+    def 'a partial file of content that changed is downloaded again'() {
+        given:
+            Files.write partialFile, new byte[400]
+            Files.write validatorFile, '"v0"'.bytes
+
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            requests == [[range: 'bytes=400-', ifRange: '"v0"']]
+            Files.readAllBytes(target) == content
+            !Files.exists(validatorFile)
+    }
+
+    def 'a partial file without validator is downloaded again'() {
+        given:
+            Files.write partialFile, Arrays.copyOf(content, 400)
+
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            requests == [[range: null, ifRange: null]]
+            Files.readAllBytes(target) == content
+    }
+
+    def 'a partial file that is already complete is moved to the target'() {
+        given:
+            Files.write partialFile, content
+            Files.write validatorFile, etag.bytes
+
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            requests == [[range: 'bytes=1000-', ifRange: etag]]
+            Files.readAllBytes(target) == content
+            !Files.exists(validatorFile)
+    }
+
+    def 'a partial file that is longer than the content is downloaded again'() {
+        given:
+            Files.write partialFile, new byte[1200]
+            Files.write validatorFile, etag.bytes
+
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            requests == [[range: 'bytes=1200-', ifRange: etag], [range: null, ifRange: null]]
+            Files.readAllBytes(target) == content
+    }
+
+    def 'only the logging interceptor of the rest client is removed'() {
+        when:
+            downloadManager.downloadTo(url, target, false).join()
+
+        then:
+            proxyAuthorizations == ['secret']
+            httpClient.interceptors().size() == userClient.interceptors().size() + 2
+            downloadManager.@httpClient.interceptors().size() == httpClient.interceptors().size()
+            !downloadManager.@httpClient.interceptors().any { it.class.simpleName == 'LoggingInterceptor' }
+    }
+
+    /**
+     * Serves the content with support for range requests.
+     *
+     * @param exchange The exchange.
+     */
+    private void serve(HttpExchange exchange) {
+        def range = exchange.requestHeaders.getFirst('Range')
+        def ifRange = exchange.requestHeaders.getFirst('If-Range')
+        requests << [range: range, ifRange: ifRange]
+        proxyAuthorizations << exchange.requestHeaders.getFirst('Proxy-Authorization')
+        exchange.responseHeaders.set 'ETag', etag
+        def start = 0
+        if (range && (!ifRange || ifRange == etag)) {
+            start = (range - 'bytes=' - '-') as int
+            if (start >= content.length) {
+                exchange.responseHeaders.set 'Content-Range', "bytes */$content.length"
+                exchange.sendResponseHeaders 416, -1
+                exchange.close()
+                return
+            }
+            exchange.responseHeaders.set 'Content-Range', "bytes $start-${content.length - 1}/$content.length"
+            exchange.sendResponseHeaders 206, content.length - start
+        } else {
+            exchange.sendResponseHeaders 200, content.length
+        }
+        if (interruptNextResponseAt >= 0) {
+            exchange.responseBody.write content, start, interruptNextResponseAt - start
+            interruptNextResponseAt = -1
+            try {
+                // Closes the connection, because the stream has less bytes than announced
+                exchange.responseBody.close()
+            } catch (IOException ignored) {
+            }
+            return
+        }
+        exchange.responseBody.write content, start, content.length - start
+        exchange.close()
+    }
+
+}
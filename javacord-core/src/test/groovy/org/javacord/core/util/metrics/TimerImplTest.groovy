@@ -0,0 +1,101 @@
+package org.javacord.core.util.metrics
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class TimerImplTest extends Specification {
+
+    @Subject
+    def timer = new TimerImpl('test', [:])
+
+    def 'an empty timer has zero percentiles'() {
+        expect:
+            timer.getPercentile(0.5) == Duration.ZERO
+            timer.count == 0
+            timer.max == Duration.ZERO
+    }
+
+    def 'count, total and max are exact'() {
+        when:
+            timer.record 3, TimeUnit.MILLISECONDS
+            timer.record 1, TimeUnit.SECONDS
+            timer.record 7, TimeUnit.NANOSECONDS
+
+        then:
+            timer.count == 3
+            timer.totalTime == Duration.ofSeconds(1).plusMillis(3).plusNanos(7)
+            timer.max == Duration.ofSeconds(1)
+    }
+
+    def 'negative durations are recorded as zero'() {
+        when:
+            timer.record(-5, TimeUnit.SECONDS)
+
+        then:
+            timer.count == 1
+            timer.totalTime == Duration.ZERO
+            timer.getPercentile(1) == Duration.ZERO
+    }
+
+    def 'durations of up to 7 nanoseconds are exact'() {
+        when:
+            (0..7).each { timer.record it, TimeUnit.NANOSECONDS }
+
+        then:
+            (0..7).every { timer.getPercentile((it + 1) / 8) == Duration.ofNanos(it) }
+    }
+
+    def 'the percentiles of a single duration are the duration itself'() {
+        when:
+            timer.record 123456789, TimeUnit.NANOSECONDS
+
+        then:
+            timer.getPercentile(0) == Duration.ofNanos(123456789)
+            timer.getPercentile(0.5) == Duration.ofNanos(123456789)
+            timer.getPercentile(1) == Duration.ofNanos(123456789)
+    }
+
+    @Unroll
+    def 'the #percentile percentile of 1 to 1000 ms is at most 25% above the exact value'() {
+        given:
+            (1..1000).each { timer.record it, TimeUnit.MILLISECONDS }
+            def exact = Duration.ofMillis((long) Math.ceil(percentile * 1000))
+
+        when:
+            def estimate = timer.getPercentile(percentile)
+
+        then:
+            estimate >= exact
+            estimate.toNanos() <= exact.toNanos() * 1.25
+
+        where:
+            percentile << [0.001, 0.1, 0.5, 0.9, 0.99, 0.999, 1]
+    }
+
+    def 'the highest percentile is limited by the max'() {
+        when:
+            timer.record 1000, TimeUnit.NANOSECONDS
+            timer.record 1025, TimeUnit.NANOSECONDS
+
+        then:
+            timer.getPercentile(1) == Duration.ofNanos(1025)
+    }
+
+    @Unroll
+    def 'a percentile of #percentile throws an exception'() {
+        when:
+            timer.getPercentile(percentile)
+
+        then:
+            IllegalArgumentException iae = thrown()
+            iae.message == 'The percentile must be between 0 and 1!'
+
+        where:
+            percentile << [-0.1, 1.1]
+    }
+
+}
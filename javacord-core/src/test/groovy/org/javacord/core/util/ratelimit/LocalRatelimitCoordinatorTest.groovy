@@ -0,0 +1,152 @@
+package org.javacord.core.util.ratelimit
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.time.Instant
+import java.util.function.LongSupplier
+
+class LocalRatelimitCoordinatorTest extends Specification {
+
+    long now = 1_000_000
+
+    @Subject
+    def coordinator = new LocalRatelimitCoordinator({ now } as LongSupplier)
+
+    def 'slots of a known window are handed out until the remaining requests are used up'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+            coordinator.release 'account', 'bucket', 2, Instant.ofEpochMilli(now + 1000)
+
+        expect:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(1000)
+    }
+
+    def 'a release of the same window does not hand out slots that other processes already used'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+            coordinator.release 'account', 'bucket', 1, Instant.ofEpochMilli(now + 1000)
+            coordinator.acquire 'account', 'bucket'
+
+        when: 'a request of the same window that was sent before reports more remaining requests'
+            coordinator.release 'account', 'bucket', 3, Instant.ofEpochMilli(now + 1000)
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(1000)
+    }
+
+    def 'only a single request of an unknown bucket is let through'() {
+        expect:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(50)
+            coordinator.acquire('account', 'other bucket') == Duration.ZERO
+            coordinator.acquire('other account', 'bucket') == Duration.ZERO
+    }
+
+    def 'only a single request is let through after a window ended'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+            coordinator.release 'account', 'bucket', 5, Instant.ofEpochMilli(now + 1000)
+
+        when:
+            now += 1000
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(50)
+
+        when:
+            coordinator.release 'account', 'bucket', 1, Instant.ofEpochMilli(now + 1000)
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(1000)
+    }
+
+    def 'a release without ratelimit information lets the next single request through'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+
+        when:
+            coordinator.release 'account', 'bucket', 0, null
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(50)
+    }
+
+    def 'a single request that is never released times out after 10 seconds'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+
+        when:
+            now += 9_980
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(20)
+
+        when:
+            now += 20
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(50)
+    }
+
+    def 'the global ratelimit of an account delays all its buckets'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+            coordinator.release 'account', 'bucket', 5, Instant.ofEpochMilli(now + 10_000)
+
+        when:
+            coordinator.setGlobalRatelimitReset 'account', Instant.ofEpochMilli(now + 2000)
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(2000)
+            coordinator.acquire('account', 'other bucket') == Duration.ofMillis(2000)
+            coordinator.acquire('other account', 'bucket') == Duration.ZERO
+
+        when: 'an earlier reset is published later'
+            coordinator.setGlobalRatelimitReset 'account', Instant.ofEpochMilli(now + 1000)
+            now += 1500
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ofMillis(500)
+
+        when:
+            now += 500
+
+        then:
+            coordinator.acquire('account', 'bucket') == Duration.ZERO
+    }
+
+    def 'buckets are removed after their window is over'() {
+        given:
+            coordinator.acquire 'account', 'bucket'
+            coordinator.release 'account', 'bucket', 5, Instant.ofEpochMilli(now + 1000)
+            now += LocalRatelimitCoordinator.SWEEP_INTERVAL_MILLIS - 1
+
+        expect:
+            coordinator.acquire('account', 'probing bucket') == Duration.ZERO
+            coordinator.bucketCount == 2
+
+        when:
+            now += 1
+            coordinator.acquire 'account', 'other bucket'
+
+        then: 'only the bucket that is still probing is kept'
+            coordinator.bucketCount == 2
+            coordinator.acquire('account', 'other bucket') == Duration.ofMillis(50)
+
+        when: 'the probe timed out'
+            now += LocalRatelimitCoordinator.SWEEP_INTERVAL_MILLIS
+            coordinator.acquire 'account', 'bucket'
+
+        then:
+            coordinator.bucketCount == 1
+    }
+
+}
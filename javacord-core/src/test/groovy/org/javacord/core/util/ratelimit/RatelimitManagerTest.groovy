@@ -0,0 +1,86 @@
+package org.javacord.core.util.ratelimit
+
+import org.javacord.api.util.concurrent.ThreadPool
+import org.javacord.core.DiscordApiImpl
+import org.javacord.core.util.metrics.MeterRegistryImpl
+import org.javacord.core.util.rest.RestEndpoint
+import org.javacord.core.util.rest.RestMethod
+import org.javacord.core.util.rest.RestRequest
+import org.javacord.core.util.rest.RestRequestResult
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+class RatelimitManagerTest extends Specification {
+
+    def executorService = Executors.newCachedThreadPool()
+
+    def api = Stub(DiscordApiImpl) {
+        getThreadPool() >> Stub(ThreadPool) {
+            getExecutorService() >> executorService
+        }
+        getShardMeterRegistry() >> new MeterRegistryImpl()
+        getToken() >> 'token'
+        getTokenHash() >> 'account'
+        // The time offset is unknown until the first response arrived
+        getTimeOffset() >> null
+    }
+
+    def coordinator = new LocalRatelimitCoordinator()
+
+    @Subject
+    def ratelimitManager = new RatelimitManager(api, coordinator)
+
+    def conditions = new PollingConditions(timeout: 2)
+
+    /**
+     * The ids of the requests in the order they were sent.
+     */
+    def sentRequests = new CopyOnWriteArrayList<Integer>()
+
+    def cleanup() {
+        executorService.shutdownNow()
+    }
+
+    def 'a request that fails without a response releases its coordinator slot'() {
+        given:
+            def first = new FailingRequest(api, 1)
+            def second = new FailingRequest(api, 2)
+
+        when:
+            ratelimitManager.queueRequest first
+            ratelimitManager.queueRequest second
+
+        then: 'the second request does not wait for the slot of the first one to time out'
+            conditions.eventually {
+                assert sentRequests == [1, 2]
+                assert first.result.completedExceptionally
+                assert second.result.completedExceptionally
+            }
+    }
+
+    /**
+     * A request that fails before any response arrives, e.g. because the connection was refused.
+     */
+    private class FailingRequest extends RestRequest<Void> {
+
+        private final int id
+
+        FailingRequest(DiscordApiImpl api, int id) {
+            super(api, RestMethod.GET, RestEndpoint.CHANNEL)
+            this.id = id
+            setUrlParameters '123'
+        }
+
+        @Override
+        RestRequestResult executeBlocking() throws Exception {
+            sentRequests << id
+            throw new IOException('Connection refused')
+        }
+
+    }
+
+}
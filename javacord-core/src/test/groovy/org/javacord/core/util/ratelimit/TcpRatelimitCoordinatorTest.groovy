@@ -0,0 +1,159 @@
+package org.javacord.core.util.ratelimit
+
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.TimeUnit
+
+class TcpRatelimitCoordinatorTest extends Specification {
+
+    static final String LOOPBACK = InetAddress.loopbackAddress.hostAddress
+
+    @AutoCleanup
+    def server = new TcpRatelimitCoordinatorServerDelegateImpl(0)
+
+    @AutoCleanup
+    def client = new TcpRatelimitCoordinatorDelegateImpl(LOOPBACK, server.port)
+
+    @AutoCleanup
+    def otherClient = new TcpRatelimitCoordinatorDelegateImpl(LOOPBACK, server.port)
+
+    def 'clients share the ratelimit information through the server'() {
+        expect: 'only a single request of an unknown bucket is let through'
+            client.acquire('account', 'bucket') == Duration.ZERO
+            otherClient.acquire('account', 'bucket') == Duration.ofMillis(50)
+
+        when:
+            client.release 'account', 'bucket', 1, Instant.now().plusSeconds(60)
+
+        then:
+            otherClient.acquire('account', 'bucket') == Duration.ZERO
+            client.acquire('account', 'bucket') > Duration.ofSeconds(50)
+    }
+
+    def 'a release without ratelimit information lets the next request through'() {
+        given:
+            client.acquire 'account', 'bucket'
+
+        when:
+            client.release 'account', 'bucket', 0, null
+
+        then:
+            otherClient.acquire('account', 'bucket') == Duration.ZERO
+    }
+
+    def 'a global ratelimit delays the requests of all clients'() {
+        when:
+            client.setGlobalRatelimitReset 'account', Instant.now().plusSeconds(60)
+
+        then:
+            otherClient.acquire('account', 'bucket') > Duration.ofSeconds(50)
+            otherClient.acquire('other account', 'bucket') == Duration.ZERO
+    }
+
+    @Unroll
+    def 'the server answers "#command" with #response'() {
+        given:
+            def socket = new Socket(LOOPBACK, server.port)
+            socket.soTimeout = 5000
+            def reader = new BufferedReader(new InputStreamReader(socket.inputStream, StandardCharsets.UTF_8))
+            def writer = new OutputStreamWriter(socket.outputStream, StandardCharsets.UTF_8)
+
+        when:
+            writer.write "$command\n"
+            writer.flush()
+
+        then:
+            reader.readLine() == response
+
+        cleanup:
+            socket?.close()
+
+        where:
+            command                        | response
+            'ACQUIRE account bucket'       | '0'
+            'RELEASE account bucket 1 -1'  | 'OK'
+            'GLOBAL account 0'             | 'OK'
+            'ACQUIRE account'              | 'ERROR'
+            'RELEASE account bucket one 0' | 'ERROR'
+            'GLOBAL account soon'          | 'ERROR'
+            'UNKNOWN account bucket'       | 'ERROR'
+            ''                             | 'ERROR'
+    }
+
+    def 'requests are not coordinated while the server is down and reconnects after a cooldown'() {
+        given:
+            def port = server.port
+            server.close()
+
+        expect: 'the client fails open'
+            client.acquire('account', 'bucket') == Duration.ZERO
+
+        when:
+            server = new TcpRatelimitCoordinatorServerDelegateImpl(port)
+
+        then: 'no new connection is attempted during the cooldown'
+            client.acquire('account', 'bucket') == Duration.ZERO
+            client.acquire('account', 'bucket') == Duration.ZERO
+
+        when:
+            Thread.sleep 1100
+
+        then:
+            client.acquire('account', 'bucket') == Duration.ZERO
+            client.acquire('account', 'bucket') == Duration.ofMillis(50)
+    }
+
+    def 'a server that does not answer only delays the first request'() {
+        given:
+            def silentServer = new ServerSocket(0, 50, InetAddress.loopbackAddress)
+            def connections = []
+            def acceptor = Thread.start {
+                while (!silentServer.closed) {
+                    try {
+                        connections << silentServer.accept()
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+            def silentClient = new TcpRatelimitCoordinatorDelegateImpl(LOOPBACK, silentServer.localPort)
+
+        when:
+            def firstStart = System.nanoTime()
+            def firstResult = silentClient.acquire('account', 'bucket')
+            def firstDuration = System.nanoTime() - firstStart
+            def secondStart = System.nanoTime()
+            def secondResult = silentClient.acquire('account', 'bucket')
+            def secondDuration = System.nanoTime() - secondStart
+
+        then:
+            firstResult == Duration.ZERO
+            firstDuration >= TimeUnit.MILLISECONDS.toNanos(900)
+            secondResult == Duration.ZERO
+            secondDuration < TimeUnit.MILLISECONDS.toNanos(500)
+            connections.size() == 1
+
+        cleanup:
+            silentClient?.close()
+            silentServer?.close()
+            acceptor?.join()
+            connections*.close()
+    }
+
+    def 'a closed client does not connect again'() {
+        given:
+            client.acquire 'account', 'bucket'
+
+        when:
+            client.close()
+
+        then:
+            client.acquire('account', 'bucket') == Duration.ZERO
+            client.acquire('account', 'bucket') == Duration.ZERO
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.javacord.core.util.ratelimit
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+import java.util.concurrent.TimeUnit
+import java.util.function.LongSupplier
+
+class TokenBucketTest extends Specification {
+
+    long now = 0
+
+    @Subject
+    def tokenBucket = new TokenBucket(10, { now } as LongSupplier)
+
+    def 'a full bucket lets a whole second of requests through without waiting'() {
+        expect:
+            (1..10).collect { tokenBucket.reserve() } == [0L] * 10
+    }
+
+    def 'reservations of an empty bucket are spread at the rate of the bucket'() {
+        given:
+            10.times { tokenBucket.reserve() }
+
+        expect:
+            (1..3).collect { tokenBucket.reserve() } == [100, 200, 300].collect { TimeUnit.MILLISECONDS.toNanos(it) }
+    }
+
+    def 'the bucket refills continuously'() {
+        given:
+            10.times { tokenBucket.reserve() }
+
+        when:
+            now += TimeUnit.MILLISECONDS.toNanos(250)
+
+        then:
+            (1..3).collect { tokenBucket.reserve() } == [0L, 0L, TimeUnit.MILLISECONDS.toNanos(50)]
+    }
+
+    def 'the bucket pays back debt before it lets requests through again'() {
+        given:
+            15.times { tokenBucket.reserve() }
+
+        when:
+            now += TimeUnit.MILLISECONDS.toNanos(500)
+
+        then:
+            tokenBucket.reserve() == TimeUnit.MILLISECONDS.toNanos(100)
+    }
+
+    def 'the bucket does not hold more tokens than requests are allowed per second'() {
+        when:
+            now += TimeUnit.MINUTES.toNanos(1)
+
+        then:
+            (1..11).collect { tokenBucket.reserve() } == [0L] * 10 + [TimeUnit.MILLISECONDS.toNanos(100)]
+    }
+
+    def 'lowering the rate drops the tokens above the new rate'() {
+        when:
+            tokenBucket.requestsPerSecond = 2
+
+        then:
+            tokenBucket.requestsPerSecond == 2
+            (1..3).collect { tokenBucket.reserve() } == [0L, 0L, TimeUnit.MILLISECONDS.toNanos(500)]
+    }
+
+    @Unroll
+    def 'a rate of #requestsPerSecond requests per second throws an exception'() {
+        when:
+            tokenBucket.requestsPerSecond = requestsPerSecond
+
+        then:
+            IllegalArgumentException iae = thrown()
+            iae.message == 'The amount of requests per second must be positive!'
+
+        where:
+            requestsPerSecond << [0, -1]
+    }
+
+}
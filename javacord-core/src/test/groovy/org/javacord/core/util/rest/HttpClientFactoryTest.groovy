@@ -0,0 +1,192 @@
+package org.javacord.core.util.rest
+
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Request
+import org.javacord.api.util.rest.RestTransportConfiguration
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+import spock.util.concurrent.PollingConditions
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.Callable
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+@Subject(HttpClientFactory)
+class HttpClientFactoryTest extends Specification {
+
+    /**
+     * The amount of ratelimit buckets that send a request at the same time.
+     */
+    static final int BUCKETS = 24
+
+    /**
+     * The amount of bursts in which every bucket sends a request.
+     */
+    static final int BURSTS = 30
+
+    @AutoCleanup
+    def server = new StandInServer(BUCKETS)
+
+    def buckets = Executors.newFixedThreadPool(BUCKETS)
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    def cleanup() {
+        buckets.shutdownNow()
+    }
+
+    def 'the dispatcher and the pool are configured for an own client'() {
+        given:
+            def configuration = new RestTransportConfiguration()
+                    .setMaxConcurrentRequests(10)
+                    .setMaxConcurrentRequestsPerHost(5)
+
+        when:
+            def client = HttpClientFactory.create(configuration)
+
+        then:
+            HttpClientFactory.isOwnClient(configuration)
+            client.dispatcher().maxRequests == 10
+            client.dispatcher().maxRequestsPerHost == 5
+            client.protocols() == [Protocol.HTTP_2, Protocol.HTTP_1_1]
+    }
+
+    def 'the dispatcher and the pool of a user-supplied client are kept'() {
+        given:
+            def baseClient = new OkHttpClient()
+            def configuration = new RestTransportConfiguration()
+                    .setHttpClient(baseClient)
+                    .setPreferHttp2(false)
+
+        when:
+            def client = HttpClientFactory.create(configuration)
+
+        then:
+            !HttpClientFactory.isOwnClient(configuration)
+            client.dispatcher().is(baseClient.dispatcher())
+            client.connectionPool().is(baseClient.connectionPool())
+            client.protocols() == [Protocol.HTTP_1_1]
+    }
+
+    def 'a user-supplied client that is not an OkHttpClient throws an exception'() {
+        when:
+            HttpClientFactory.create(new RestTransportConfiguration().setHttpClient('client'))
+
+        then:
+            IllegalArgumentException e = thrown()
+            e.message == 'The http client must be an OkHttpClient, but it is a java.lang.String'
+    }
+
+    /**
+     * A load benchmark against a local stand-in server that counts the connections the buckets open.
+     * Every burst sends one request per bucket, and the server only answers once all of them arrived, so every
+     * request of a burst needs its own connection. Connections that the pool does not keep between the bursts have
+     * to be opened again, which is a new TLS handshake with Discord.
+     *
+     * <p>The stand-in server only speaks plain HTTP/1.1, so HTTP/2 is not negotiated even if it is preferred. With
+     * Discord, HTTP/2 is negotiated via ALPN over TLS and all buckets share a single connection.
+     */
+    @Unroll
+    def 'concurrent buckets open #expectedConnections connections with #maxIdleConnections idle connections'() {
+        given:
+            def client = HttpClientFactory.create(new RestTransportConfiguration()
+                    .setMaxIdleConnections(maxIdleConnections))
+            def request = new Request.Builder().url("http://$server.address/").build()
+
+        when:
+            def protocols = [] as Set
+            BURSTS.times {
+                def responses = buckets.invokeAll((1..BUCKETS).collect {
+                    ({ ->
+                        def response = client.newCall(request).execute()
+                        response.body().string()
+                        response.protocol()
+                    } as Callable)
+                })
+                protocols.addAll responses*.get()
+                // The pool evicts surplus connections in the background
+                conditions.eventually {
+                    assert client.connectionPool().idleConnectionCount() == Math.min(BUCKETS, maxIdleConnections)
+                }
+            }
+
+        then:
+            protocols == [Protocol.HTTP_1_1] as Set
+            server.acceptedConnections == expectedConnections
+
+        cleanup:
+            client?.connectionPool()?.evictAll()
+
+        where:
+            maxIdleConnections || expectedConnections
+            5                  || BUCKETS + (BURSTS - 1) * (BUCKETS - 5)
+            16                 || BUCKETS + (BURSTS - 1) * (BUCKETS - 16)
+            32                 || BUCKETS
+    }
+
+    /**
+     * A minimal HTTP/1.1 server with keep-alive that answers a burst of requests once all of them arrived.
+     */
+    static class StandInServer implements Closeable {
+
+        private final ServerSocket serverSocket = new ServerSocket(0, 100, InetAddress.loopbackAddress)
+        private final CyclicBarrier burst
+        private final AtomicInteger connectionCounter = new AtomicInteger()
+        private final List<Socket> sockets = [].asSynchronized()
+
+        StandInServer(int burstSize) {
+            burst = new CyclicBarrier(burstSize)
+            Thread.start {
+                while (!serverSocket.closed) {
+                    try {
+                        def socket = serverSocket.accept()
+                        connectionCounter.incrementAndGet()
+                        sockets << socket
+                        Thread.start { serve socket }
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        String getAddress() {
+            "${InetAddress.loopbackAddress.hostAddress}:$serverSocket.localPort"
+        }
+
+        int getAcceptedConnections() {
+            connectionCounter.get()
+        }
+
+        private void serve(Socket socket) {
+            try {
+                def reader = new BufferedReader(new InputStreamReader(socket.inputStream, StandardCharsets.US_ASCII))
+                def output = socket.outputStream
+                while (reader.readLine()) {
+                    // Skip the headers of the request
+                    while (reader.readLine()) {
+                    }
+                    burst.await 5, TimeUnit.SECONDS
+                    output.write('HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\n{}'.getBytes(StandardCharsets.US_ASCII))
+                    output.flush()
+                }
+            } catch (Exception ignored) {
+            } finally {
+                socket.close()
+            }
+        }
+
+        @Override
+        void close() {
+            serverSocket.close()
+            sockets*.close()
+        }
+
+    }
+
+}
@@ -0,0 +1,258 @@
+package org.javacord.core.util.rest
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.javacord.api.util.concurrent.ThreadPool
+import org.javacord.api.util.rest.CachedRestResource
+import org.javacord.core.DiscordApiImpl
+import org.javacord.core.util.handler.channel.ChannelDeleteHandler
+import org.javacord.core.util.handler.channel.WebhooksUpdateHandler
+import org.javacord.core.util.handler.guild.GuildBanAddHandler
+import org.javacord.core.util.handler.guild.GuildBanRemoveHandler
+import org.javacord.core.util.handler.guild.GuildDeleteHandler
+import org.javacord.core.util.handler.user.PresenceUpdateHandler
+import org.javacord.core.util.metrics.MeterRegistryImpl
+import org.javacord.core.util.ratelimit.RatelimitManager
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+class RestResponseCacheTest extends Specification {
+
+    def scheduler = Executors.newSingleThreadScheduledExecutor()
+
+    /**
+     * The requests that were passed on to the ratelimit manager, completed by the tests.
+     */
+    def sentRequests = new CopyOnWriteArrayList<RestRequest<?>>()
+
+    def api = Stub(DiscordApiImpl) {
+        getRatelimitManager() >> Stub(RatelimitManager) {
+            queueRequest(_) >> { RestRequest<?> request -> sentRequests << request }
+        }
+        getThreadPool() >> Stub(ThreadPool) {
+            getScheduler() >> scheduler
+        }
+        getShardMeterRegistry() >> new MeterRegistryImpl()
+        getRestResponseCache() >> { cache }
+    }
+
+    @Subject
+    def cache = new RestResponseCache(api)
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    def setup() {
+        CachedRestResource.values().each { cache.setDuration it, Duration.ofMinutes(1) }
+    }
+
+    def cleanup() {
+        scheduler.shutdownNow()
+    }
+
+    def 'identical requests that are in flight at the same time share a single request'() {
+        when:
+            def first = get(RestEndpoint.USER, '1')
+            def second = get(RestEndpoint.USER, '1')
+            def other = get(RestEndpoint.USER, '2')
+
+        then:
+            sentRequests.size() == 2
+            first.is(second)
+            !first.is(other)
+
+        when:
+            def result = respond(0)
+
+        then:
+            first.join().is(result)
+            second.join().is(result)
+    }
+
+    def 'completed responses are cached until their duration is over'() {
+        given:
+            cache.setDuration CachedRestResource.USER, Duration.ofMillis(200)
+            get RestEndpoint.USER, '1'
+            respond 0
+
+        when:
+            get RestEndpoint.USER, '1'
+
+        then:
+            sentRequests.size() == 1
+
+        when:
+            Thread.sleep 300
+            get RestEndpoint.USER, '1'
+
+        then:
+            sentRequests.size() == 2
+    }
+
+    def 'completed responses are not cached with a duration of zero'() {
+        given:
+            cache.setDuration CachedRestResource.USER, Duration.ZERO
+            get RestEndpoint.USER, '1'
+
+        expect: 'requests in flight are still shared'
+            get RestEndpoint.USER, '1'
+            sentRequests.size() == 1
+
+        when:
+            respond 0
+            get RestEndpoint.USER, '1'
+
+        then:
+            sentRequests.size() == 2
+    }
+
+    def 'a failed request is not served from the cache'() {
+        given:
+            def failed = get(RestEndpoint.USER, '1')
+
+        when:
+            sentRequests[0].result.completeExceptionally new IOException('Connection reset')
+            def retried = get(RestEndpoint.USER, '1')
+
+        then:
+            failed.completedExceptionally
+            sentRequests.size() == 2
+            !retried.done
+    }
+
+    def 'requests of endpoints without a cached resource are always sent'() {
+        when:
+            get RestEndpoint.CHANNEL, '1'
+            get RestEndpoint.CHANNEL, '1'
+
+        then:
+            sentRequests.size() == 2
+    }
+
+    def 'a modifying request invalidates its resource and the endpoints that depend on it'() {
+        given:
+            [[RestEndpoint.WEBHOOK, '1'], [RestEndpoint.WEBHOOK, '2'],
+             [RestEndpoint.CHANNEL_WEBHOOK, '3'], [RestEndpoint.SERVER_WEBHOOK, '4']].each { endpoint, id ->
+                get endpoint, id
+                respond sentRequests.size() - 1
+            }
+
+        when:
+            def modifying = new RestRequest<Void>(api, RestMethod.PATCH, RestEndpoint.WEBHOOK).setUrlParameters('1')
+            cache.queueRequest modifying
+
+        then: 'responses are only invalidated once the modification is done'
+            isCached RestEndpoint.WEBHOOK, '1'
+
+        when:
+            respond sentRequests.indexOf(modifying)
+
+        then:
+            !isCached(RestEndpoint.WEBHOOK, '1')
+            isCached RestEndpoint.WEBHOOK, '2'
+            !isCached(RestEndpoint.CHANNEL_WEBHOOK, '3')
+            !isCached(RestEndpoint.SERVER_WEBHOOK, '4')
+    }
+
+    def 'scheduled removals keep the cache small'() {
+        given:
+            cache.setDuration CachedRestResource.USER, Duration.ofMillis(100)
+            get RestEndpoint.USER, '1'
+
+        when:
+            respond 0
+
+        then:
+            conditions.eventually {
+                assert cache.@responses.isEmpty()
+            }
+    }
+
+    @Unroll
+    def 'a #handler.simpleName packet invalidates #endpoint responses'() {
+        given:
+            get endpoint, id
+            respond 0
+            get RestEndpoint.USER, '999'
+            respond 1
+
+        when:
+            handler.newInstance(api).handle new ObjectMapper().readTree(packet)
+
+        then:
+            !isCached(endpoint, id)
+            isCached RestEndpoint.USER, '999'
+
+        where:
+            handler               | packet                                         | endpoint                     | id
+            ChannelDeleteHandler  | '{"id": "2", "type": 0, "guild_id": "1"}'      | RestEndpoint.CHANNEL_WEBHOOK | '2'
+            ChannelDeleteHandler  | '{"id": "2", "type": 0, "guild_id": "1"}'      | RestEndpoint.CHANNEL_INVITE  | '2'
+            WebhooksUpdateHandler | '{"channel_id": "2", "guild_id": "1"}'         | RestEndpoint.WEBHOOK         | '3'
+            WebhooksUpdateHandler | '{"channel_id": "2", "guild_id": "1"}'         | RestEndpoint.CHANNEL_WEBHOOK | '2'
+            WebhooksUpdateHandler | '{"channel_id": "2", "guild_id": "1"}'         | RestEndpoint.SERVER_WEBHOOK  | '1'
+            GuildBanAddHandler    | '{"guild_id": "1", "user": {"id": "4"}}'       | RestEndpoint.BAN             | '1'
+            GuildBanRemoveHandler | '{"guild_id": "1", "user": {"id": "4"}}'       | RestEndpoint.BAN             | '1'
+            GuildDeleteHandler    | '{"id": "1"}'                                  | RestEndpoint.SERVER_WEBHOOK  | '1'
+            GuildDeleteHandler    | '{"id": "1"}'                                  | RestEndpoint.SERVER_INVITE   | '1'
+            GuildDeleteHandler    | '{"id": "1"}'                                  | RestEndpoint.BAN             | '1'
+            PresenceUpdateHandler | '{"user": {"id": "4", "username": "Bastian"}}' | RestEndpoint.USER            | '4'
+    }
+
+    def 'a presence update without changes of the user does not invalidate it'() {
+        given:
+            get RestEndpoint.USER, '4'
+            respond 0
+
+        when:
+            new PresenceUpdateHandler(api).handle new ObjectMapper().readTree('{"user": {"id": "4"}}')
+
+        then:
+            isCached RestEndpoint.USER, '4'
+    }
+
+    /**
+     * Sends a GET request through the cache.
+     *
+     * @param endpoint The endpoint.
+     * @param urlParameters The url parameters.
+     * @return The result of the request.
+     */
+    def get(RestEndpoint endpoint, String... urlParameters) {
+        cache.queueRequest new RestRequest<Void>(api, RestMethod.GET, endpoint).setUrlParameters(urlParameters)
+    }
+
+    /**
+     * Checks if a GET request is answered from the cache, without sending it.
+     *
+     * @param endpoint The endpoint.
+     * @param urlParameters The url parameters.
+     * @return Whether the request was answered from the cache.
+     */
+    def isCached(RestEndpoint endpoint, String... urlParameters) {
+        def sentRequestCount = sentRequests.size()
+        get endpoint, urlParameters
+        if (sentRequests.size() == sentRequestCount) {
+            return true
+        }
+        // Complete the request, so it does not stay in flight
+        respond sentRequestCount
+        return false
+    }
+
+    /**
+     * Completes a sent request successfully.
+     *
+     * @param index The index of the sent request.
+     * @return The result of the request.
+     */
+    def respond(int index) {
+        def result = Stub(RestRequestResult)
+        sentRequests[index].result.complete result
+        return result
+    }
+
+}